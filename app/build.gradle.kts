@@ -68,6 +68,10 @@ dependencies {
     implementation("com.google.firebase:firebase-auth")
     implementation(libs.zxing.android.embedded)
     implementation("com.github.bumptech.glide:glide:4.16.0")
+    implementation("com.github.bumptech.glide:recyclerview-integration:4.16.0") {
+        isTransitive = false
+    }
+    annotationProcessor("com.github.bumptech.glide:compiler:4.16.0")
     implementation("androidx.viewpager2:viewpager2:1.0.0")
     implementation("com.google.android.material:material:1.9.0")
     implementation("com.google.android.gms:play-services-maps:18.2.0")
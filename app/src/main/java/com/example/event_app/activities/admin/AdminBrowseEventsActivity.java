@@ -10,6 +10,7 @@ import android.widget.LinearLayout;
 import android.widget.TextView;
 import android.widget.Toast;
 
+import androidx.annotation.NonNull;
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.recyclerview.widget.LinearLayoutManager;
@@ -17,12 +18,18 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.event_app.R;
 import com.example.event_app.adapters.AdminEventAdapter;
-import com.example.event_app.models.Event;
+import com.example.event_app.models.EventSummary;
+import com.example.event_app.services.EventStatsService;
 import com.example.event_app.utils.AccessibilityHelper;
+import com.example.event_app.utils.FirestoreProvider;
 import com.google.android.material.chip.Chip;
 import com.google.android.material.chip.ChipGroup;
 import com.google.android.material.textfield.TextInputEditText;
+import com.google.firebase.firestore.AggregateSource;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldPath;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
 import com.google.firebase.firestore.QueryDocumentSnapshot;
 
 import java.util.ArrayList;
@@ -41,12 +48,18 @@ import java.util.List;
  *     <li>Status filtering using Material Design chips</li>
  *     <li>Sorting by name, date, and entrant count</li>
  *     <li>Viewing event details through the admin event details screen</li>
+ *     <li>Paged, server-side listing of flagged (high cancellation) events</li>
  * </ul>
  *
  * <p>This activity fulfills US 03.04.01 — administrators can browse all created events.</p>
  */
 public class AdminBrowseEventsActivity extends AppCompatActivity {
 
+    public static final String EXTRA_SHOW_FLAGGED_ONLY = "showFlaggedOnly";
+
+    // Flagged events are paged from the server instead of filtered in memory
+    private static final int FLAGGED_PAGE_SIZE = 25;
+
     // Sort options
     private enum SortOption {
         NAME_ASC("Name (A-Z)"),
@@ -79,14 +92,21 @@ public class AdminBrowseEventsActivity extends AppCompatActivity {
     private FirebaseFirestore db;
 
     // Data
-    private final List<Event> allEvents = new ArrayList<>();
-    private final List<Event> filteredEvents = new ArrayList<>();
+    private final List<EventSummary> allEvents = new ArrayList<>();
+    private final List<EventSummary> filteredEvents = new ArrayList<>();
 
     // Current filters and sort
     private String currentSearchQuery = "";
     private String currentStatusFilter = "all";
     private SortOption currentSort = SortOption.NAME_ASC;
 
+    // Flagged paging state
+    private DocumentSnapshot lastFlaggedDocument;
+    private boolean isLoadingFlagged = false;
+    private boolean hasMoreFlagged = true;
+    private long flaggedTotalCount = -1;
+    private int flaggedQueryGeneration = 0;
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -99,7 +119,7 @@ public class AdminBrowseEventsActivity extends AppCompatActivity {
             getSupportActionBar().setDisplayHomeAsUpEnabled(true);
         }
         // Initialize Firebase
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
         // Initialize views
         initViews();
         // Set up RecyclerView
@@ -110,6 +130,10 @@ public class AdminBrowseEventsActivity extends AppCompatActivity {
         setupFilters();
         // Set up sort
         setupSort();
+        // Open directly on flagged events when launched from the dashboard
+        if (getIntent().getBooleanExtra(EXTRA_SHOW_FLAGGED_ONLY, false) && chipFlagged != null) {
+            chipFlagged.setChecked(true);
+        }
         // Load events
         loadEvents();
     }
@@ -144,12 +168,21 @@ public class AdminBrowseEventsActivity extends AppCompatActivity {
         eventAdapter.setOnEventClickListener(event -> {
             // Open event details activity
             Intent intent = new Intent(this, AdminEventDetailsActivity.class);
-            intent.putExtra(AdminEventDetailsActivity.EXTRA_EVENT_ID, event.getEventId());
+            intent.putExtra(AdminEventDetailsActivity.EXTRA_EVENT_ID, event.getId());
             startActivity(intent);
         });
         // Set layout manager and adapter
         recyclerViewEvents.setLayoutManager(new LinearLayoutManager(this));
         recyclerViewEvents.setAdapter(eventAdapter);
+        // Fetch the next page of flagged events when the list bottom is reached
+        recyclerViewEvents.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                if (dy > 0 && isFlaggedMode() && !recyclerView.canScrollVertically(1)) {
+                    loadFlaggedEvents(false);
+                }
+            }
+        });
     }
 
     /**
@@ -191,6 +224,7 @@ public class AdminBrowseEventsActivity extends AppCompatActivity {
             }
 
             int checkedId = checkedIds.get(0);
+            boolean wasFlaggedMode = isFlaggedMode();
 
             if (checkedId == R.id.chipAll) {
                 currentStatusFilter = "all";
@@ -205,7 +239,13 @@ public class AdminBrowseEventsActivity extends AppCompatActivity {
             } else if (checkedId == R.id.chipFlagged) {
                 currentStatusFilter = "flagged";
             }
-            applyFiltersAndSort();
+
+            // Switching in or out of flagged mode changes the data source
+            if (wasFlaggedMode != isFlaggedMode()) {
+                loadEvents();
+            } else {
+                applyFiltersAndSort();
+            }
         });
     }
 
@@ -246,20 +286,27 @@ public class AdminBrowseEventsActivity extends AppCompatActivity {
     }
 
     /**
-     * Loads all event documents from Firestore, converts them to Event objects,
+     * Loads all event summaries from Firestore, converts them to EventSummary objects,
      * stores them in memory, and applies search, filter, and sort operations.
      *
-     * <p>Displays an error message if Firebase retrieval fails.</p>
+     * <p>Flagged mode instead pages through flagged events only.
+     * Displays an error message if Firebase retrieval fails.</p>
      */
     private void loadEvents() {
-        db.collection("events")
+        if (isFlaggedMode()) {
+            loadFlaggedEvents(true);
+            return;
+        }
+
+        db.collection(EventSummary.COLLECTION)
                 .get()
                 .addOnSuccessListener(queryDocumentSnapshots -> {
                     allEvents.clear();
 
                     for (QueryDocumentSnapshot document : queryDocumentSnapshots) {
-                        Event event = document.toObject(Event.class);
-                        event.setEventId(document.getId());
+                        EventSummary event = document.toObject(EventSummary.class);
+                        if (event.isDeleted()) continue;
+                        event.setId(document.getId());
                         allEvents.add(event);
                     }
                     applyFiltersAndSort();
@@ -271,6 +318,86 @@ public class AdminBrowseEventsActivity extends AppCompatActivity {
                 });
     }
 
+    /**
+     * Loads one page of flagged events using the indexed "flagged" field,
+     * ordered by document ID so a cursor can continue where the last page ended.
+     *
+     * @param reset true to discard loaded pages and start from the first page
+     */
+    private void loadFlaggedEvents(boolean reset) {
+        if (reset) {
+            flaggedQueryGeneration++;
+            lastFlaggedDocument = null;
+            hasMoreFlagged = true;
+            isLoadingFlagged = false;
+            loadFlaggedCount();
+        }
+        if (isLoadingFlagged || !hasMoreFlagged) {
+            return;
+        }
+        isLoadingFlagged = true;
+        int generation = flaggedQueryGeneration;
+
+        Query query = db.collection(EventSummary.COLLECTION)
+                .whereEqualTo(EventStatsService.FIELD_FLAGGED, true)
+                .orderBy(FieldPath.documentId())
+                .limit(FLAGGED_PAGE_SIZE);
+        if (lastFlaggedDocument != null) {
+            query = query.startAfter(lastFlaggedDocument);
+        }
+
+        query.get()
+                .addOnSuccessListener(queryDocumentSnapshots -> {
+                    if (generation != flaggedQueryGeneration) return;
+                    isLoadingFlagged = false;
+
+                    if (reset) {
+                        allEvents.clear();
+                    }
+                    for (QueryDocumentSnapshot document : queryDocumentSnapshots) {
+                        EventSummary event = document.toObject(EventSummary.class);
+                        event.setId(document.getId());
+                        allEvents.add(event);
+                    }
+
+                    hasMoreFlagged = queryDocumentSnapshots.size() == FLAGGED_PAGE_SIZE;
+                    if (!queryDocumentSnapshots.isEmpty()) {
+                        lastFlaggedDocument = queryDocumentSnapshots.getDocuments()
+                                .get(queryDocumentSnapshots.size() - 1);
+                    }
+                    applyFiltersAndSort();
+                })
+                .addOnFailureListener(e -> {
+                    if (generation != flaggedQueryGeneration) return;
+                    isLoadingFlagged = false;
+                    Toast.makeText(this, "Error loading flagged events: " + e.getMessage(),
+                            Toast.LENGTH_SHORT).show();
+                    updateUI(true);
+                });
+    }
+
+    /**
+     * Counts all flagged events with a count() aggregation so the results
+     * header can show the total before every page has been loaded.
+     */
+    private void loadFlaggedCount() {
+        flaggedTotalCount = -1;
+        db.collection(EventSummary.COLLECTION)
+                .whereEqualTo(EventStatsService.FIELD_FLAGGED, true)
+                .count()
+                .get(AggregateSource.SERVER)
+                .addOnSuccessListener(snapshot -> {
+                    flaggedTotalCount = snapshot.getCount();
+                    if (isFlaggedMode()) {
+                        updateUI(false);
+                    }
+                });
+    }
+
+    private boolean isFlaggedMode() {
+        return "flagged".equals(currentStatusFilter);
+    }
+
     /**
      * Applies the current search query, status filter, and selected sort option
      * to the list of all events. The resulting list is displayed through the adapter.
@@ -280,7 +407,7 @@ public class AdminBrowseEventsActivity extends AppCompatActivity {
         filteredEvents.clear();
 
         // Step 1: Apply filters
-        for (Event event : allEvents) {
+        for (EventSummary event : allEvents) {
             if (!matchesStatusFilter(event)) {
                 continue;
             }
@@ -303,7 +430,7 @@ public class AdminBrowseEventsActivity extends AppCompatActivity {
      *
      * @param events the list of events to be sorted
      */
-    private void sortEvents(List<Event> events) {
+    private void sortEvents(List<EventSummary> events) {
         switch (currentSort) {
             case NAME_ASC:
                 Collections.sort(events, (e1, e2) -> {
@@ -364,13 +491,13 @@ public class AdminBrowseEventsActivity extends AppCompatActivity {
      * @param event the event to evaluate
      * @return true if the event should be included in results
      */
-    private boolean matchesStatusFilter(Event event) {
+    private boolean matchesStatusFilter(EventSummary event) {
         if ("all".equals(currentStatusFilter)) {
             return true;
         }
 
         if ("flagged".equals(currentStatusFilter)) {
-            return event.hasHighCancellationRate();
+            return event.isFlagged();
         }
 
         String eventStatus = event.getStatus();
@@ -389,7 +516,7 @@ public class AdminBrowseEventsActivity extends AppCompatActivity {
      * @param query lowercase trimmed search query
      * @return true if the event name or organizer name contains the query
      */
-    private boolean matchesSearchQuery(Event event, String query) {
+    private boolean matchesSearchQuery(EventSummary event, String query) {
         boolean matchesName = event.getName() != null &&
                 event.getName().toLowerCase().contains(query);
 
@@ -423,9 +550,15 @@ public class AdminBrowseEventsActivity extends AppCompatActivity {
             emptyStateLayout.setVisibility(View.GONE);
 
             tvResultsCount.setVisibility(View.VISIBLE);
-            String countText = filteredEvents.size() == 1
-                    ? "Showing 1 event"
-                    : "Showing " + filteredEvents.size() + " events";
+            String countText;
+            if (isFlaggedMode() && flaggedTotalCount >= 0) {
+                countText = "Showing " + filteredEvents.size() + " of "
+                        + flaggedTotalCount + " flagged events";
+            } else {
+                countText = filteredEvents.size() == 1
+                        ? "Showing 1 event"
+                        : "Showing " + filteredEvents.size() + " events";
+            }
             tvResultsCount.setText(countText);
 
             eventAdapter.setEvents(filteredEvents);
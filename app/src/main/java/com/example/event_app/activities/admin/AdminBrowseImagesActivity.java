@@ -1,11 +1,14 @@
 package com.example.event_app.activities.admin;
 
+import android.net.Uri;
 import android.os.Bundle;
+import android.util.Log;
 import android.view.View;
 import android.widget.LinearLayout;
 import android.widget.ProgressBar;
 import android.widget.Toast;
 
+import androidx.annotation.NonNull;
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.recyclerview.widget.GridLayoutManager;
@@ -14,14 +17,25 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.event_app.R;
 import com.example.event_app.adapters.ImageAdapter;
 import com.example.event_app.models.ImageData;
+import com.example.event_app.services.ImageIndexService;
+import com.example.event_app.services.ImageReconciliationService;
 import com.example.event_app.utils.AccessibilityHelper;
+import com.example.event_app.utils.FirestoreProvider;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.DocumentSnapshot;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
 import com.google.firebase.firestore.QueryDocumentSnapshot;
 import com.google.firebase.storage.FirebaseStorage;
+import com.google.firebase.storage.ListResult;
+import com.google.firebase.storage.StorageException;
 import com.google.firebase.storage.StorageReference;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Activity that allows administrators to browse, inspect, and delete uploaded images.
@@ -32,20 +46,40 @@ import java.util.List;
  *   <li><b>US 03.03.01</b>: Remove uploaded images from the system.</li>
  * </ul>
  *
- * Images are retrieved directly from Firebase Storage (rather than Firestore),
- * and additional metadata (event or user association) is dynamically resolved
- * when an image is selected. Admins may view details, detect orphaned files,
+ * Images are paged from the {@code images} metadata collection with Firestore
+ * cursors. Files uploaded before the collection existed are listed from
+ * Firebase Storage one page at a time and indexed as they are found.
+ * Each index entry records the event or user the image belongs to, so
+ * selecting an image needs a single document read. A reconciliation job
+ * reclaims unreferenced files and clears links to missing ones. Admins may view details, detect orphaned files,
  * and permanently delete the image and its references.
  */
 public class AdminBrowseImagesActivity extends AppCompatActivity {
+    private static final String TAG = "AdminBrowseImages";
+    // Images fetched per Firestore or Storage page
+    private static final int PAGE_SIZE = 24;
+    // Start loading the next page when this many cells remain below the viewport
+    private static final int LOAD_MORE_THRESHOLD = 6;
+    private static final String POSTER_FOLDER = "event_posters";
+    private static final String PREF_BACKFILL_COMPLETE = "image_index_backfill_complete";
+
     private RecyclerView recyclerViewImages;
     private LinearLayout emptyStateLayout;
     private ProgressBar progressBar;
     private ImageAdapter imageAdapter;
     private FirebaseFirestore db;
     private FirebaseStorage storage;
+    private ImageIndexService imageIndexService;
     private List<ImageData> imageList;
 
+    // Paging state
+    private final Set<String> loadedImageIds = new HashSet<>();
+    private boolean isLoadingPage = false;
+    private DocumentSnapshot lastImageDocument;
+    private boolean hasMoreIndexed = true;
+    private String storagePageToken;
+    private boolean hasMoreInStorage = true;
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -53,16 +87,18 @@ public class AdminBrowseImagesActivity extends AppCompatActivity {
         new AccessibilityHelper(this).applyAccessibilitySettings(this);
         // Set up back button
         findViewById(R.id.btnBack).setOnClickListener(v -> finish());
+        findViewById(R.id.btnReclaimStorage).setOnClickListener(v -> showReclaimConfirmation());
         // Initialize Firebase
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
         storage = FirebaseStorage.getInstance();
+        imageIndexService = new ImageIndexService();
         // Initialize list
         imageList = new ArrayList<>();
         // Initialize views
         initViews();
         // Set up RecyclerView
         setupRecyclerView();
-        // Load images from Firebase Storage
+        // Load the first page of images
         loadImagesFromStorage();
     }
 
@@ -98,84 +134,237 @@ public class AdminBrowseImagesActivity extends AppCompatActivity {
         });
 
         // Use GridLayoutManager for 2 columns
-        recyclerViewImages.setLayoutManager(new GridLayoutManager(this, 2));
+        GridLayoutManager layoutManager = new GridLayoutManager(this, 2);
+        recyclerViewImages.setLayoutManager(layoutManager);
         recyclerViewImages.setAdapter(imageAdapter);
+
+        // Load the next page as the grid nears its end
+        recyclerViewImages.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                if (dy <= 0) return;
+                int lastVisible = layoutManager.findLastVisibleItemPosition();
+                if (lastVisible >= imageAdapter.getItemCount() - LOAD_MORE_THRESHOLD) {
+                    loadNextPage();
+                }
+            }
+        });
     }
 
     /**
-     * Begins loading images from Firebase Storage.
-     * Currently loads images from the {@code event_posters} folder.
+     * Resets paging state and loads the first page of indexed images.
      */
     private void loadImagesFromStorage() {
-        progressBar.setVisibility(View.VISIBLE);
         imageList.clear();
-        // Load from event_posters folder
-        loadFromStorageFolder("event_posters", "event_poster");
+        loadedImageIds.clear();
+        imageAdapter.setImages(imageList);
+        lastImageDocument = null;
+        hasMoreIndexed = true;
+        storagePageToken = null;
+        hasMoreInStorage = !getPreferences(MODE_PRIVATE).getBoolean(PREF_BACKFILL_COMPLETE, false);
+        loadNextPage();
+    }
+
+    /**
+     * Loads the next page of images. The images collection is paged first;
+     * once it is exhausted, any Storage objects that were uploaded before the
+     * index existed are listed page by page and written into the index.
+     */
+    private void loadNextPage() {
+        if (isLoadingPage) return;
+        if (hasMoreIndexed) {
+            loadIndexedPage();
+        } else if (hasMoreInStorage) {
+            backfillStoragePage(POSTER_FOLDER, ImageIndexService.TYPE_EVENT_POSTER);
+        }
+    }
+
+    /**
+     * Loads one page of image metadata from the images collection.
+     */
+    private void loadIndexedPage() {
+        isLoadingPage = true;
+        progressBar.setVisibility(View.VISIBLE);
+
+        Query query = imageIndexService.newestFirst().limit(PAGE_SIZE);
+        if (lastImageDocument != null) {
+            query = query.startAfter(lastImageDocument);
+        }
+
+        query.get()
+                .addOnSuccessListener(snapshot -> {
+                    List<ImageData> page = new ArrayList<>();
+                    for (QueryDocumentSnapshot document : snapshot) {
+                        ImageData imageData = document.toObject(ImageData.class);
+                        imageData.setImageId(document.getId());
+                        if (imageData.getStoragePath() != null
+                                && ImageIndexService.isPosterRenditionPath(imageData.getStoragePath())) {
+                            // Stray entry from an earlier backfill; the rendition belongs to its poster
+                            imageIndexService.remove(imageData.getStoragePath());
+                            continue;
+                        }
+                        if (loadedImageIds.add(imageData.getImageId())) {
+                            page.add(imageData);
+                        }
+                    }
+                    if (!snapshot.isEmpty()) {
+                        lastImageDocument = snapshot.getDocuments().get(snapshot.size() - 1);
+                    }
+                    hasMoreIndexed = snapshot.size() == PAGE_SIZE;
+                    onPageLoaded(page);
+                })
+                .addOnFailureListener(e -> {
+                    Log.e(TAG, "Error loading image index", e);
+                    hasMoreIndexed = false;
+                    onPageLoaded(new ArrayList<>());
+                });
     }
 
     /**
-     * Loads all images inside the given Firebase Storage folder and adds them
-     * to the display list.
+     * Lists one page of a Storage folder, resolves the download URLs for that
+     * page together, indexes any files missing from the images collection and
+     * shows them in a single UI update.
      *
      * @param folderPath path of the storage folder (e.g., "event_posters")
      * @param imageType type associated with the images stored in this folder
      */
-    private void loadFromStorageFolder(String folderPath, String imageType) {
+    private void backfillStoragePage(String folderPath, String imageType) {
+        isLoadingPage = true;
+        progressBar.setVisibility(View.VISIBLE);
+
         StorageReference folderRef = storage.getReference().child(folderPath);
+        Task<ListResult> listTask = storagePageToken == null
+                ? folderRef.list(PAGE_SIZE)
+                : folderRef.list(PAGE_SIZE, storagePageToken);
 
-        folderRef.listAll()
-                .addOnSuccessListener(listResult -> {
+        listTask.addOnSuccessListener(listResult -> {
+                    List<StorageReference> missing = new ArrayList<>();
+                    List<Task<Uri>> urlTasks = new ArrayList<>();
                     for (StorageReference item : listResult.getItems()) {
-                        // Get download URL for each image
-                        item.getDownloadUrl().addOnSuccessListener(uri -> {
-                            String imageUrl = uri.toString();
-                            String fileName = item.getName();
+                        String storagePath = folderPath + "/" + item.getName();
+                        // Renditions are deleted with their full-size poster, never on their own
+                        if (ImageIndexService.isPosterRenditionPath(storagePath)) continue;
+                        if (!loadedImageIds.contains(ImageIndexService.documentIdFor(storagePath))) {
+                            missing.add(item);
+                            urlTasks.add(item.getDownloadUrl());
+                        }
+                    }
+
+                    Tasks.whenAllComplete(urlTasks).addOnCompleteListener(done -> {
+                        List<ImageData> page = new ArrayList<>();
+                        for (int i = 0; i < missing.size(); i++) {
+                            Task<Uri> urlTask = urlTasks.get(i);
+                            if (!urlTask.isSuccessful()) continue;
 
-                            // Create ImageData object
+                            String storagePath = folderPath + "/" + missing.get(i).getName();
                             ImageData imageData = new ImageData(
-                                    fileName,           // imageId
-                                    imageUrl,           // imageUrl
-                                    "unknown",          // uploadedBy
-                                    imageType           // type
+                                    ImageIndexService.documentIdFor(storagePath),
+                                    urlTask.getResult().toString(),
+                                    "unknown",
+                                    imageType
                             );
+                            imageData.setStoragePath(storagePath);
+                            imageIndexService.record(imageData);
+                            loadedImageIds.add(imageData.getImageId());
+                            page.add(imageData);
+                        }
 
-                            // Store the storage reference path for deletion
-                            imageData.setStoragePath(folderPath + "/" + fileName);
-                            imageList.add(imageData);
-                            // Update UI
-                            updateUI();
-                        }).addOnFailureListener(e -> {
-                        });
-                    }
+                        storagePageToken = listResult.getPageToken();
+                        if (storagePageToken == null) {
+                            hasMoreInStorage = false;
+                            getPreferences(MODE_PRIVATE).edit()
+                                    .putBoolean(PREF_BACKFILL_COMPLETE, true).apply();
+                        }
+                        onPageLoaded(page);
+                    });
+                })
+                .addOnFailureListener(e -> {
+                    Log.e(TAG, "Error listing " + folderPath, e);
+                    hasMoreInStorage = false;
+                    onPageLoaded(new ArrayList<>());
+                });
+    }
 
+    /**
+     * Appends a loaded page with a single adapter update.
+     */
+    private void onPageLoaded(List<ImageData> page) {
+        isLoadingPage = false;
+        progressBar.setVisibility(View.GONE);
+        imageList.addAll(page);
+        imageAdapter.addImages(page);
+        updateUI();
+
+        // A page filtered down to nothing cannot trigger the scroll listener
+        if (page.isEmpty() && (hasMoreIndexed || hasMoreInStorage)) {
+            loadNextPage();
+        }
+    }
+
+    /**
+     * Determines what the image is associated with (event poster, profile picture,
+     * or orphaned file), then displays a details dialog. The association is
+     * read from the image's index document; entries indexed before associations
+     * were tracked are resolved once by query and the result is stored.
+     *
+     * @param imageData the selected image
+     */
+    private void showImageDetails(ImageData imageData) {
+        progressBar.setVisibility(View.VISIBLE);
+        imageIndexService.document(imageData.getStoragePath()).get()
+                .addOnSuccessListener(document -> {
                     progressBar.setVisibility(View.GONE);
+                    ImageData indexed = document.exists() ? document.toObject(ImageData.class) : null;
+                    if (indexed != null && indexed.getAssociatedWith() != null) {
+                        imageData.setAssociatedWith(indexed.getAssociatedWith());
+                        showAssociatedImageDetails(indexed, imageData);
+                    } else {
+                        resolveLegacyAssociation(imageData);
+                    }
                 })
                 .addOnFailureListener(e -> {
                     progressBar.setVisibility(View.GONE);
-                    updateUI();
+                    Toast.makeText(this, "Error loading details", Toast.LENGTH_SHORT).show();
                 });
     }
 
     /**
-     * Determines what the image is associated with (event poster, profile picture,
-     * or orphaned file), then displays a details dialog.
+     * Shows details for an image whose owner is recorded in the index.
+     */
+    private void showAssociatedImageDetails(ImageData indexed, ImageData imageData) {
+        boolean isPoster = ImageIndexService.TYPE_EVENT_POSTER.equals(indexed.getType());
+        String uploaderName = indexed.getUploaderName();
+        showImageDetailsDialog(
+                isPoster ? "Event Poster" : "Profile Picture",
+                isPoster ? indexed.getAssociatedName() : "User Profile",
+                uploaderName != null ? uploaderName : "Unknown",
+                isPoster ? indexed.getUploadedBy() : indexed.getAssociatedWith(),
+                imageData
+        );
+    }
+
+    /**
+     * Finds the owner of an image indexed without one by querying events and
+     * then users, and records the answer so the lookup is not repeated.
      *
      * @param imageData the selected image
      */
-    private void showImageDetails(ImageData imageData) {
+    private void resolveLegacyAssociation(ImageData imageData) {
         progressBar.setVisibility(View.VISIBLE);
-        // Determine what this image is for
         String imageUrl = imageData.getImageUrl();
-        // Check if it's an event poster
         db.collection("events")
                 .whereEqualTo("posterUrl", imageUrl)
+                .limit(1)
                 .get()
                 .addOnSuccessListener(eventSnapshots -> {
+                    progressBar.setVisibility(View.GONE);
                     if (!eventSnapshots.isEmpty()) {
-                        QueryDocumentSnapshot eventDoc = (QueryDocumentSnapshot) eventSnapshots.getDocuments().get(0);
+                        DocumentSnapshot eventDoc = eventSnapshots.getDocuments().get(0);
                         String eventName = eventDoc.getString("name");
                         String organizerId = eventDoc.getString("organizerId");
                         String organizerName = eventDoc.getString("organizerName");
+                        imageData.setUploadedBy(organizerId);
+                        imageIndexService.associate(imageData, eventDoc.getId(), eventName, organizerName);
                         showImageDetailsDialog(
                                 "Event Poster",
                                 eventName,
@@ -187,7 +376,6 @@ public class AdminBrowseImagesActivity extends AppCompatActivity {
                         // Check if it's a profile picture
                         checkProfilePicture(imageUrl, imageData);
                     }
-                    progressBar.setVisibility(View.GONE);
                 })
                 .addOnFailureListener(e -> {
                     progressBar.setVisibility(View.GONE);
@@ -205,12 +393,16 @@ public class AdminBrowseImagesActivity extends AppCompatActivity {
     private void checkProfilePicture(String imageUrl, ImageData imageData) {
         db.collection("users")
                 .whereEqualTo("profileImageUrl", imageUrl)
+                .limit(1)
                 .get()
                 .addOnSuccessListener(userSnapshots -> {
                     if (!userSnapshots.isEmpty()) {
-                        QueryDocumentSnapshot userDoc = (QueryDocumentSnapshot) userSnapshots.getDocuments().get(0);
+                        DocumentSnapshot userDoc = userSnapshots.getDocuments().get(0);
                         String userName = userDoc.getString("name");
                         String userId = userDoc.getId();
+                        imageData.setType(ImageIndexService.TYPE_PROFILE_PICTURE);
+                        imageData.setUploadedBy(userId);
+                        imageIndexService.associate(imageData, userId, userName, userName);
 
                         showImageDetailsDialog(
                                 "Profile Picture",
@@ -264,20 +456,15 @@ public class AdminBrowseImagesActivity extends AppCompatActivity {
      * Shows the empty state if the list is empty.
      */
     private void updateUI() {
-        runOnUiThread(() -> {
-            if (imageList.isEmpty()) {
-                // Show empty state
-                recyclerViewImages.setVisibility(View.GONE);
-                emptyStateLayout.setVisibility(View.VISIBLE);
-            } else {
-                // Show images
-                recyclerViewImages.setVisibility(View.VISIBLE);
-                emptyStateLayout.setVisibility(View.GONE);
-
-                // Update adapter
-                imageAdapter.setImages(new ArrayList<>(imageList));
-            }
-        });
+        if (imageList.isEmpty() && !isLoadingPage) {
+            // Show empty state
+            recyclerViewImages.setVisibility(View.GONE);
+            emptyStateLayout.setVisibility(View.VISIBLE);
+        } else {
+            // Show images
+            recyclerViewImages.setVisibility(View.VISIBLE);
+            emptyStateLayout.setVisibility(View.GONE);
+        }
     }
 
     /**
@@ -301,19 +488,36 @@ public class AdminBrowseImagesActivity extends AppCompatActivity {
      * Deletes the image from Firebase Storage and removes it from the UI.
      * Also triggers removal of Firestore references.
      *
+     * An event poster is stored as full, card and thumbnail renditions, so
+     * every rendition is deleted; otherwise lists keep showing the smaller ones.
+     *
      * @param imageData image to delete
      */
     private void deleteImage(ImageData imageData) {
         progressBar.setVisibility(View.VISIBLE);
-        // Delete from Firebase Storage using the storage path
-        StorageReference imageRef = storage.getReference().child(imageData.getStoragePath());
 
-        imageRef.delete()
+        String storagePath = ImageIndexService.normalizePath(imageData.getStoragePath());
+        List<String> paths = new ArrayList<>();
+        paths.add(storagePath);
+        if (ImageIndexService.TYPE_EVENT_POSTER.equals(imageData.getType())) {
+            paths.addAll(ImageIndexService.posterRenditionPathsOf(storagePath));
+        }
+
+        List<Task<Void>> deletions = new ArrayList<>();
+        for (String path : paths) {
+            deletions.add(deleteIfExists(path));
+        }
+
+        Tasks.whenAll(deletions)
                 .addOnSuccessListener(aVoid -> {
-                    removeImageReferences(imageData);
+                    removeImageReferences(imageData, storagePath);
                     progressBar.setVisibility(View.GONE);
                     Toast.makeText(this, "Image deleted successfully", Toast.LENGTH_SHORT).show();
-                    imageList.remove(imageData);
+                    removeFromList(imageData.getImageId());
+                    for (String path : paths) {
+                        imageIndexService.remove(path);
+                        removeFromList(ImageIndexService.documentIdFor(path));
+                    }
                     updateUI();
                 })
                 .addOnFailureListener(e -> {
@@ -323,41 +527,138 @@ public class AdminBrowseImagesActivity extends AppCompatActivity {
                 });
     }
 
+    /**
+     * Deletes a Storage object, treating one that is already gone as deleted
+     * (e.g. the legacy JPEG path of a poster uploaded with renditions).
+     */
+    private Task<Void> deleteIfExists(String path) {
+        return storage.getReference().child(path).delete()
+                .continueWithTask(task -> {
+                    Exception e = task.getException();
+                    if (e instanceof StorageException && ((StorageException) e).getErrorCode()
+                            == StorageException.ERROR_OBJECT_NOT_FOUND) {
+                        return Tasks.forResult(null);
+                    }
+                    return task;
+                });
+    }
+
+    /**
+     * Drops a deleted image from the grid, if it is loaded.
+     */
+    private void removeFromList(String imageId) {
+        for (ImageData image : new ArrayList<>(imageList)) {
+            if (image.getImageId().equals(imageId)) {
+                imageList.remove(image);
+                imageAdapter.removeImage(image);
+            }
+        }
+        loadedImageIds.remove(imageId);
+    }
+
     /**
      * Removes references to a deleted image from Firestore documents
-     * (e.g., clearing poster URLs or profile picture URLs).
+     * (e.g., clearing poster URLs or profile picture URLs). The owning
+     * document comes from the image index, so this is a single update.
      *
-     * @param imageData image whose references should be removed
+     * @param imageData   image whose references should be removed
+     * @param storagePath Storage path of the deleted file
      */
-    private void removeImageReferences(ImageData imageData) {
-        String imageUrl = imageData.getImageUrl();
-
-        // Check events collection for this poster URL
-        if (imageData.getType().equals("event_poster")) {
-            db.collection("events")
-                    .whereEqualTo("posterUrl", imageUrl)
-                    .get()
-                    .addOnSuccessListener(queryDocumentSnapshots -> {
-                        for (QueryDocumentSnapshot document : queryDocumentSnapshots) {
-                            document.getReference().update("posterUrl", null);
-                        }
-                    })
-                    .addOnFailureListener(e -> {
-                    });
+    private void removeImageReferences(ImageData imageData, String storagePath) {
+        String ownerId = imageData.getAssociatedWith();
+        if (ownerId == null) {
+            removeLegacyImageReferences(imageData.getImageUrl());
+            return;
         }
 
-        // Check users collection for profile pictures
-        if (imageData.getType().equals("profile_picture")) {
-            db.collection("users")
-                    .whereEqualTo("profileImageUrl", imageUrl)
-                    .get()
-                    .addOnSuccessListener(queryDocumentSnapshots -> {
-                        for (QueryDocumentSnapshot document : queryDocumentSnapshots) {
-                            document.getReference().update("profileImageUrl", null);
+        if (ImageIndexService.TYPE_EVENT_POSTER.equals(imageData.getType())) {
+            // Only the event's current upload is referenced, not one it replaced
+            db.collection("events").document(ownerId).get()
+                    .addOnSuccessListener(eventDoc -> {
+                        if (!eventDoc.exists() || !storagePath.equals(
+                                ImageIndexService.storagePathOf(eventDoc.getString("posterUrl")))) {
+                            return;
                         }
+                        // Clear every rendition so lists and detail screens agree
+                        eventDoc.getReference()
+                                .update("posterUrl", null, "posterCardUrl", null, "posterThumbUrl", null)
+                                .addOnFailureListener(e -> Log.w(TAG, "Could not clear poster reference", e));
                     })
-                    .addOnFailureListener(e -> {
-                    });
+                    .addOnFailureListener(e -> Log.w(TAG, "Could not clear poster reference", e));
+        } else if (ImageIndexService.TYPE_PROFILE_PICTURE.equals(imageData.getType())) {
+            db.collection("users").document(ownerId)
+                    .update("profileImageUrl", null)
+                    .addOnFailureListener(e -> Log.w(TAG, "Could not clear profile picture reference", e));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Clears references to an image indexed before its owner was recorded.
+     *
+     * @param imageUrl URL of the deleted image
+     */
+    private void removeLegacyImageReferences(String imageUrl) {
+        db.collection("events")
+                .whereEqualTo("posterUrl", imageUrl)
+                .get()
+                .addOnSuccessListener(queryDocumentSnapshots -> {
+                    for (QueryDocumentSnapshot document : queryDocumentSnapshots) {
+                        document.getReference().update("posterUrl", null,
+                                "posterCardUrl", null, "posterThumbUrl", null);
+                    }
+                });
+        db.collection("users")
+                .whereEqualTo("profileImageUrl", imageUrl)
+                .get()
+                .addOnSuccessListener(queryDocumentSnapshots -> {
+                    for (QueryDocumentSnapshot document : queryDocumentSnapshots) {
+                        document.getReference().update("profileImageUrl", null);
+                    }
+                });
+    }
+
+    /**
+     * Asks for confirmation, then runs the reconciliation job that deletes
+     * unreferenced poster files and clears references to missing ones.
+     */
+    private void showReclaimConfirmation() {
+        new AlertDialog.Builder(this)
+                .setTitle("Reclaim Storage?")
+                .setMessage("Scan all events and poster files, delete posters no event uses, " +
+                        "and clear poster links whose file is missing.\n\nThis may take a while.")
+                .setPositiveButton("Reclaim", (dialog, which) -> reclaimStorage())
+                .setNegativeButton("Cancel", null)
+                .show();
+    }
+
+    /**
+     * Runs the reconciliation job and reports what was cleaned up.
+     */
+    private void reclaimStorage() {
+        progressBar.setVisibility(View.VISIBLE);
+        new ImageReconciliationService().reconcile(new ImageReconciliationService.ReconcileCallback() {
+            @Override
+            public void onSuccess(ImageReconciliationService.ReconcileResult result) {
+                if (isDestroyed()) return;
+                progressBar.setVisibility(View.GONE);
+                new AlertDialog.Builder(AdminBrowseImagesActivity.this)
+                        .setTitle("Storage Reclaimed")
+                        .setMessage("Orphaned files deleted: " + result.getOrphanedFiles() + "\n" +
+                                "Space reclaimed: " + (result.getBytesReclaimed() / 1024) + " KB\n" +
+                                "Dangling poster links cleared: " + result.getDanglingReferences() + "\n" +
+                                "Stale index entries removed: " + result.getStaleIndexEntries())
+                        .setPositiveButton("OK", null)
+                        .show();
+                loadImagesFromStorage();
+            }
+
+            @Override
+            public void onFailure(String error) {
+                if (isDestroyed()) return;
+                progressBar.setVisibility(View.GONE);
+                Toast.makeText(AdminBrowseImagesActivity.this,
+                        "Reconciliation failed: " + error, Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
+}
@@ -1,13 +1,17 @@
 package com.example.event_app.activities.admin;
 
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.text.Editable;
 import android.text.TextWatcher;
 import android.view.View;
 import android.widget.EditText;
 import android.widget.LinearLayout;
+import android.widget.TextView;
 import android.widget.Toast;
 
+import androidx.annotation.NonNull;
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.recyclerview.widget.LinearLayoutManager;
@@ -17,14 +21,28 @@ import com.example.event_app.R;
 import com.example.event_app.adapters.UserAdapter;
 import com.example.event_app.models.Event;
 import com.example.event_app.models.User;
+import com.example.event_app.services.CascadeDeletionService;
+import com.example.event_app.services.EventsHostedCountProvider;
 import com.example.event_app.utils.AccessibilityHelper;
+import com.example.event_app.utils.FirestoreProvider;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldPath;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
 import com.google.firebase.firestore.QueryDocumentSnapshot;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.WriteBatch;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Activity allowing administrators to browse, search, inspect, and manage all user profiles.
@@ -38,21 +56,49 @@ import java.util.Locale;
  *
  * Administrators can:
  * <ul>
- *   <li>Search users by name or email.</li>
+ *   <li>Page through users, or prefix-search them by name or email on the server.</li>
  *   <li>View user information.</li>
  *   <li>Delete user accounts.</li>
  *   <li>View all events hosted by an organizer.</li>
  *   <li>Remove organizer privileges and automatically delete all their events.</li>
+ *   <li>Resume account deletions that were interrupted in an earlier session.</li>
  * </ul>
  */
 public class AdminBrowseUsersActivity extends AppCompatActivity {
+    // Users fetched per Firestore page
+    private static final int PAGE_SIZE = 30;
+    // Delay after the last keystroke before a search query is sent
+    private static final long SEARCH_DEBOUNCE_MS = 300;
+    // Start loading the next page when this many rows remain below the viewport
+    private static final int LOAD_MORE_THRESHOLD = 5;
+
     private EditText etSearch;
     private RecyclerView recyclerViewUsers;
     private LinearLayout emptyStateLayout;
+    private TextView tvDeletionStatus;
     private UserAdapter userAdapter;
     private FirebaseFirestore db;
+    private EventsHostedCountProvider eventsCountProvider;
+    private CascadeDeletionService cascadeDeletionService;
+    private final List<CascadeDeletionService.DeletionListener> deletionListeners = new ArrayList<>();
     private List<User> userList;
 
+    // Paging and search state
+    private final Handler searchHandler = new Handler(Looper.getMainLooper());
+    // Shared and never shut down: a page can finish after the screen is gone
+    private static final ExecutorService pageExecutor = Executors.newSingleThreadExecutor();
+    private final Set<String> loadedUserIds = new HashSet<>();
+    private Runnable pendingSearch;
+    private String currentQuery = "";
+    private int queryGeneration = 0;
+    private boolean isLoadingPage = false;
+    private DocumentSnapshot lastUserDocument;
+    private DocumentSnapshot lastNameMatch;
+    private DocumentSnapshot lastEmailMatch;
+    private boolean hasMoreUsers = true;
+    private boolean hasMoreNameMatches = true;
+    private boolean hasMoreEmailMatches = true;
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -64,7 +110,8 @@ public class AdminBrowseUsersActivity extends AppCompatActivity {
             getSupportActionBar().setDisplayHomeAsUpEnabled(true);
         }
         // Initialize Firebase
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
+        cascadeDeletionService = new CascadeDeletionService(this);
         // Initialize list
         userList = new ArrayList<>();
         // Initialize views
@@ -75,6 +122,12 @@ public class AdminBrowseUsersActivity extends AppCompatActivity {
         setupRecyclerView();
         // Load users
         loadUsers();
+        // Finish any deletions interrupted in a previous session
+        int resumed = cascadeDeletionService.resumePendingJobs(
+                deletionListener(null, "Pending deletion finished"));
+        if (resumed > 0) {
+            showDeletionStatus("Resuming " + resumed + " pending deletion(s)...");
+        }
     }
 
     /**
@@ -84,11 +137,21 @@ public class AdminBrowseUsersActivity extends AppCompatActivity {
         etSearch = findViewById(R.id.etSearchUsers);  // NEW
         recyclerViewUsers = findViewById(R.id.recyclerViewUsers);
         emptyStateLayout = findViewById(R.id.emptyStateLayout);
+        tvDeletionStatus = findViewById(R.id.tvDeletionStatus);
+    }
+
+    /**
+     * Shows the latest cascade deletion progress in the status line above the list.
+     */
+    private void showDeletionStatus(String message) {
+        tvDeletionStatus.setText(message);
+        tvDeletionStatus.setVisibility(View.VISIBLE);
     }
 
     /**
-     * Sets up the live search functionality so the displayed list updates as the admin types.
-     * Filtering is delegated to {@link UserAdapter#filter(String)}.
+     * Sets up debounced server-side search. Once the admin stops typing for
+     * {@link #SEARCH_DEBOUNCE_MS}, the list is reloaded with a prefix query on
+     * the stored nameLower/emailLower fields.
      */
     private void setupSearch() {
         etSearch.addTextChangedListener(new TextWatcher() {
@@ -96,12 +159,22 @@ public class AdminBrowseUsersActivity extends AppCompatActivity {
             public void beforeTextChanged(CharSequence s, int start, int count, int after) {}
 
             @Override
-            public void onTextChanged(CharSequence s, int start, int before, int count) {
-                userAdapter.filter(s.toString());
-            }
+            public void onTextChanged(CharSequence s, int start, int before, int count) {}
 
             @Override
-            public void afterTextChanged(Editable s) {}
+            public void afterTextChanged(Editable s) {
+                if (pendingSearch != null) {
+                    searchHandler.removeCallbacks(pendingSearch);
+                }
+                String query = User.normalizeForSearch(s.toString());
+                pendingSearch = () -> {
+                    if (!query.equals(currentQuery)) {
+                        currentQuery = query;
+                        loadUsers();
+                    }
+                };
+                searchHandler.postDelayed(pendingSearch, SEARCH_DEBOUNCE_MS);
+            }
         });
     }
 
@@ -132,33 +205,126 @@ public class AdminBrowseUsersActivity extends AppCompatActivity {
                 // Show organizer's events
                 showOrganizerEvents(user);
             }
+        });
+        // Hosted-event counts are cached per session and fetched only for visible rows
+        eventsCountProvider = new EventsHostedCountProvider();
+        userAdapter.setEventsCountProvider(eventsCountProvider);
+        LinearLayoutManager layoutManager = new LinearLayoutManager(this);
+        recyclerViewUsers.setLayoutManager(layoutManager);
+        recyclerViewUsers.setAdapter(userAdapter);
+        // Load the next page as the admin nears the end of the list
+        recyclerViewUsers.addOnScrollListener(new RecyclerView.OnScrollListener() {
             @Override
-            public void onLoadEventsCount(User user, UserAdapter.EventsCountCallback callback) {
-                // Load events count
-                loadEventsCount(user, callback);
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                if (dy <= 0) return;
+                int lastVisible = layoutManager.findLastVisibleItemPosition();
+                if (lastVisible >= userAdapter.getItemCount() - LOAD_MORE_THRESHOLD) {
+                    loadNextPage();
+                }
             }
         });
-        recyclerViewUsers.setLayoutManager(new LinearLayoutManager(this));
-        recyclerViewUsers.setAdapter(userAdapter);
     }
 
     /**
-     * Loads all user profiles from Firestore and updates the UI.
-     * Errors show an empty state with a toast.
+     * Discards loaded users and starts again from the first page of the
+     * current browse or search query.
      */
     private void loadUsers() {
-        db.collection("users")
-                .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    userList.clear();
+        queryGeneration++;
+        isLoadingPage = false;
+        userList.clear();
+        loadedUserIds.clear();
+        lastUserDocument = null;
+        lastNameMatch = null;
+        lastEmailMatch = null;
+        hasMoreUsers = true;
+        hasMoreNameMatches = true;
+        hasMoreEmailMatches = true;
+        userAdapter.setUsers(userList);
+        loadNextPage();
+    }
 
-                    for (QueryDocumentSnapshot document : queryDocumentSnapshots) {
-                        User user = document.toObject(User.class);
-                        userList.add(user);
-                    }
-                    updateUI();
+    /**
+     * Loads the next page of users. Without a query, users are paged by
+     * document ID; with a query, the nameLower and emailLower prefix queries
+     * are paged in parallel and merged. Snapshots are deserialized on a
+     * background executor and only the merged page is handed to the UI.
+     */
+    private void loadNextPage() {
+        if (isLoadingPage) return;
+        int generation = queryGeneration;
+        String query = currentQuery;
+
+        Task<QuerySnapshot> byName;
+        Task<QuerySnapshot> byEmail;
+        if (query.isEmpty()) {
+            if (!hasMoreUsers) return;
+            Query page = db.collection("users").orderBy(FieldPath.documentId()).limit(PAGE_SIZE);
+            if (lastUserDocument != null) {
+                page = page.startAfter(lastUserDocument);
+            }
+            byName = page.get();
+            byEmail = Tasks.forResult(null);
+        } else {
+            if (!hasMoreNameMatches && !hasMoreEmailMatches) return;
+            byName = hasMoreNameMatches
+                    ? prefixQuery("nameLower", query, lastNameMatch).get()
+                    : Tasks.forResult(null);
+            byEmail = hasMoreEmailMatches
+                    ? prefixQuery("emailLower", query, lastEmailMatch).get()
+                    : Tasks.forResult(null);
+        }
+        isLoadingPage = true;
+
+        Tasks.whenAllSuccess(byName, byEmail)
+                .addOnSuccessListener(results -> {
+                    if (generation != queryGeneration || isDestroyed()) return;
+                    QuerySnapshot nameSnapshot = byName.getResult();
+                    QuerySnapshot emailSnapshot = byEmail.getResult();
+
+                    // Deserialize off the main thread
+                    pageExecutor.execute(() -> {
+                        List<User> page = new ArrayList<>();
+                        appendUsers(nameSnapshot, page);
+                        appendUsers(emailSnapshot, page);
+                        if (query.isEmpty()) {
+                            backfillSearchFields(nameSnapshot);
+                        }
+
+                        runOnUiThread(() -> {
+                            if (generation != queryGeneration || isDestroyed()) return;
+                            isLoadingPage = false;
+
+                            if (query.isEmpty()) {
+                                hasMoreUsers = nameSnapshot.size() == PAGE_SIZE;
+                                lastUserDocument = lastDocument(nameSnapshot, lastUserDocument);
+                            } else {
+                                if (nameSnapshot != null) {
+                                    hasMoreNameMatches = nameSnapshot.size() == PAGE_SIZE;
+                                    lastNameMatch = lastDocument(nameSnapshot, lastNameMatch);
+                                }
+                                if (emailSnapshot != null) {
+                                    hasMoreEmailMatches = emailSnapshot.size() == PAGE_SIZE;
+                                    lastEmailMatch = lastDocument(emailSnapshot, lastEmailMatch);
+                                }
+                            }
+
+                            // A user can match on both name and email
+                            List<User> newUsers = new ArrayList<>();
+                            for (User user : page) {
+                                if (loadedUserIds.add(user.getUserId())) {
+                                    newUsers.add(user);
+                                }
+                            }
+                            userList.addAll(newUsers);
+                            userAdapter.addUsers(newUsers);
+                            updateUI();
+                        });
+                    });
                 })
                 .addOnFailureListener(e -> {
+                    if (generation != queryGeneration || isDestroyed()) return;
+                    isLoadingPage = false;
                     Toast.makeText(this, "Error loading users: " + e.getMessage(),
                             Toast.LENGTH_SHORT).show();
                     updateUI();
@@ -166,23 +332,55 @@ public class AdminBrowseUsersActivity extends AppCompatActivity {
     }
 
     /**
-     * Loads the number of events an organizer has created.
-     * Used for showing counts in the user list.
-     *
-     * @param user organizer whose events are counted
-     * @param callback returns the count asynchronously
+     * Builds a case-insensitive prefix query over a lowercased field,
+     * continuing after the given cursor when paging.
      */
-    private void loadEventsCount(User user, UserAdapter.EventsCountCallback callback) {
-        db.collection("events")
-                .whereEqualTo("organizerId", user.getUserId())
-                .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    int count = queryDocumentSnapshots.size();
-                    callback.onCountLoaded(count);
-                })
-                .addOnFailureListener(e -> {
-                    callback.onCountLoaded(0);
-                });
+    private Query prefixQuery(String field, String prefix, DocumentSnapshot cursor) {
+        Query query = db.collection("users")
+                .whereGreaterThanOrEqualTo(field, prefix)
+                .whereLessThan(field, prefix + '\uf8ff')
+                .orderBy(field)
+                .limit(PAGE_SIZE);
+        if (cursor != null) {
+            query = query.startAfter(cursor);
+        }
+        return query;
+    }
+
+    private static void appendUsers(QuerySnapshot snapshot, List<User> out) {
+        if (snapshot == null) return;
+        for (QueryDocumentSnapshot document : snapshot) {
+            User user = document.toObject(User.class);
+            if (user.getUserId() == null) {
+                user.setUserId(document.getId());
+            }
+            out.add(user);
+        }
+    }
+
+    private static DocumentSnapshot lastDocument(QuerySnapshot snapshot, DocumentSnapshot fallback) {
+        if (snapshot == null || snapshot.isEmpty()) return fallback;
+        return snapshot.getDocuments().get(snapshot.size() - 1);
+    }
+
+    /**
+     * Profiles created before nameLower/emailLower existed are invisible to
+     * prefix search. Patch any such documents in the page being browsed.
+     */
+    private void backfillSearchFields(QuerySnapshot snapshot) {
+        if (snapshot == null) return;
+        WriteBatch batch = db.batch();
+        int pending = 0;
+        for (QueryDocumentSnapshot document : snapshot) {
+            if (document.contains("nameLower") && document.contains("emailLower")) continue;
+            batch.update(document.getReference(),
+                    "nameLower", User.normalizeForSearch(document.getString("name")),
+                    "emailLower", User.normalizeForSearch(document.getString("email")));
+            pending++;
+        }
+        if (pending > 0) {
+            batch.commit();
+        }
     }
 
     /**
@@ -238,7 +436,7 @@ public class AdminBrowseUsersActivity extends AppCompatActivity {
      * Shows an empty state when no users are found.
      */
     private void updateUI() {
-        if (userList.isEmpty()) {
+        if (userList.isEmpty() && !isLoadingPage) {
             // Show empty state
             recyclerViewUsers.setVisibility(View.GONE);
             emptyStateLayout.setVisibility(View.VISIBLE);
@@ -246,9 +444,6 @@ public class AdminBrowseUsersActivity extends AppCompatActivity {
             // Show users
             recyclerViewUsers.setVisibility(View.VISIBLE);
             emptyStateLayout.setVisibility(View.GONE);
-
-            // Update adapter
-            userAdapter.setUsers(userList);
         }
     }
 
@@ -299,94 +494,17 @@ public class AdminBrowseUsersActivity extends AppCompatActivity {
     }
 
     /**
-     * Begins the removal process for an organizer. This method first queries
-     * all events owned by the organizer. If any events exist, they are deleted
-     * before the organizer role is removed.
+     * Starts a cascade job that deletes every event hosted by the organizer,
+     * along with each event's audits, notifications, favorites references and
+     * Storage objects, and then revokes the organizer role.
      *
      * @param user the organizer whose role is being revoked
      */
-
     private void removeOrganizerRole(User user) {
-        // Show progress
-        Toast.makeText(this, "Removing organizer privileges and deleting events...",
-                Toast.LENGTH_SHORT).show();
-
-        // Get all events by this organizer
-        db.collection("events")
-                .whereEqualTo("organizerId", user.getUserId())
-                .get()
-                .addOnSuccessListener(eventsSnapshot -> {
-                    if (!eventsSnapshot.isEmpty()) {
-                        deleteOrganizerEvents(eventsSnapshot, user);
-                    } else {
-                        removeOrganizerRoleOnly(user);
-                    }
-                })
-                .addOnFailureListener(e -> {
-                    Toast.makeText(this, "Error: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-                });
-    }
-
-    /**
-     * Deletes every event created by the organizer. Once all deletions
-     * (successful or failed) are processed, the organizer role is removed.
-     *
-     * @param eventsSnapshot Firestore snapshot of all events created by the organizer
-     * @param user the organizer whose events are being deleted
-     */
-    private void deleteOrganizerEvents(
-            com.google.firebase.firestore.QuerySnapshot eventsSnapshot,
-            User user) {
-
-        int totalEvents = eventsSnapshot.size();
-        int[] deletedCount = {0};
-
-        for (com.google.firebase.firestore.QueryDocumentSnapshot eventDoc : eventsSnapshot) {
-            String eventId = eventDoc.getId();
-
-            // Delete event
-            db.collection("events").document(eventId)
-                    .delete()
-                    .addOnSuccessListener(aVoid -> {
-                        deletedCount[0]++;
-                        // If all events deleted, remove organizer role
-                        if (deletedCount[0] == totalEvents) {
-                            removeOrganizerRoleOnly(user);
-                        }
-                    })
-                    .addOnFailureListener(e -> {
-                        deletedCount[0]++;
-
-                        // Continue even if some deletions fail
-                        if (deletedCount[0] == totalEvents) {
-                            removeOrganizerRoleOnly(user);
-                        }
-                    });
-        }
-    }
-
-    /**
-     * Removes the "organizer" role from the given user after all their events
-     * have been deleted. The user remains in the system as an entrant.
-     *
-     * @param user the user whose organizer role is being removed
-     */
-    private void removeOrganizerRoleOnly(User user) {
-        db.collection("users")
-                .document(user.getUserId())
-                .update("roles", com.google.firebase.firestore.FieldValue.arrayRemove("organizer"))
-                .addOnSuccessListener(aVoid -> {
-                    Toast.makeText(this,
-                            "Removed organizer role and deleted all events for " + user.getName(),
-                            Toast.LENGTH_LONG).show();
-
-                    // Reload users to update UI
-                    loadUsers();
-                })
-                .addOnFailureListener(e -> {
-                    Toast.makeText(this, "Error removing role: " + e.getMessage(),
-                            Toast.LENGTH_SHORT).show();
-                });
+        showDeletionStatus("Removing organizer privileges and deleting events...");
+        cascadeDeletionService.start(user.getUserId(), CascadeDeletionService.Mode.ORGANIZER,
+                deletionListener(user, "Removed organizer role and deleted all events for "
+                        + user.getName()));
     }
 
     /**
@@ -414,54 +532,63 @@ public class AdminBrowseUsersActivity extends AppCompatActivity {
     }
 
     /**
-     * Permanently deletes a user from the Firestore database. All notification logs
-     * associated with the user are deleted first to maintain data consistency.
+     * Permanently deletes a user and everything that references them: notification
+     * logs, notifications, geolocation audits, event list memberships, hosted
+     * events and the profile image. The work runs as a resumable cascade job.
      *
      * @param user the user to delete
      */
     private void deleteUser(User user) {
-        deleteUserNotificationLogs(user.getUserId());
-
-        db.collection("users")
-                .document(user.getUserId())
-                .delete()
-                .addOnSuccessListener(aVoid -> {
-                    Toast.makeText(this, "User deleted", Toast.LENGTH_SHORT).show();
+        showDeletionStatus("Deleting user...");
+        cascadeDeletionService.start(user.getUserId(), CascadeDeletionService.Mode.USER,
+                deletionListener(user, "User deleted"));
+    }
 
-                    // Remove from list and update UI
-                    userList.remove(user);
-                    updateUI();
-                })
-                .addOnFailureListener(e -> {
-                    Toast.makeText(this, "Error deleting user: " + e.getMessage(),
-                            Toast.LENGTH_SHORT).show();
-                });
+    /**
+     * Creates a progress listener for a cascade job and remembers it, so it
+     * can be detached from the job when this screen is destroyed.
+     */
+    private CascadeDeletionService.DeletionListener deletionListener(User user, String completionMessage) {
+        CascadeProgressListener listener = new CascadeProgressListener(user, completionMessage);
+        deletionListeners.add(listener);
+        return listener;
     }
 
     /**
-     * Deletes all notification log entries where the user acted as either the sender
-     * or recipient. This is performed before the user account itself is removed.
-     *
-     * @param userId the ID of the user whose notification logs should be deleted
+     * Reports cascade progress in the status line and refreshes the list once
+     * a job finishes. Jobs outlive the activity, which detaches its listeners
+     * in onDestroy; a job still running reports to the next screen that
+     * resumes pending jobs.
      */
-    private void deleteUserNotificationLogs(String userId) {
-        db.collection("notification_logs")
-                .whereEqualTo("senderId", userId)
-                .get()
-                .addOnSuccessListener(querySnapshot -> {
-                    for (QueryDocumentSnapshot doc : querySnapshot) {
-                        doc.getReference().delete();
-                    }
-                });
-        // Delete logs where user was recipient
-        db.collection("notification_logs")
-                .whereEqualTo("recipientId", userId)
-                .get()
-                .addOnSuccessListener(querySnapshot -> {
-                    for (QueryDocumentSnapshot doc : querySnapshot) {
-                        doc.getReference().delete();
-                    }
-                });
+    private class CascadeProgressListener implements CascadeDeletionService.DeletionListener {
+        private final User user;
+        private final String completionMessage;
+
+        CascadeProgressListener(User user, String completionMessage) {
+            this.user = user;
+            this.completionMessage = completionMessage;
+        }
+
+        @Override
+        public void onProgress(String userId, String stage, int deletedCount) {
+            if (isDestroyed()) return;
+            showDeletionStatus(stage + "... (" + deletedCount + " removed)");
+        }
+
+        @Override
+        public void onComplete(String userId, int deletedCount) {
+            if (isDestroyed()) return;
+            showDeletionStatus(completionMessage);
+            // Reload users to update UI
+            loadUsers();
+        }
+
+        @Override
+        public void onFailure(String userId, String error) {
+            if (isDestroyed()) return;
+            String name = user != null ? user.getName() : userId;
+            showDeletionStatus("Deletion of " + name + " paused: " + error + ". It will resume next time.");
+        }
     }
 
     /**
@@ -474,4 +601,20 @@ public class AdminBrowseUsersActivity extends AppCompatActivity {
         finish();
         return true;
     }
+
+    /**
+     * Cancels any pending debounced search and hosted-count lookups. Pages
+     * still being deserialized are dropped when they return.
+     */
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        if (pendingSearch != null) {
+            searchHandler.removeCallbacks(pendingSearch);
+        }
+        eventsCountProvider.cancelAll();
+        for (CascadeDeletionService.DeletionListener listener : deletionListeners) {
+            cascadeDeletionService.detach(listener);
+        }
+    }
 }
\ No newline at end of file
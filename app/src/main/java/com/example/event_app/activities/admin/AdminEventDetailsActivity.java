@@ -14,8 +14,14 @@ import androidx.cardview.widget.CardView;
 import com.bumptech.glide.Glide;
 import com.example.event_app.R;
 import com.example.event_app.models.Event;
+import com.example.event_app.services.EntrantLocationService;
+import com.example.event_app.services.EventsHostedCountProvider;
+import com.example.event_app.services.ImageIndexService;
 import com.example.event_app.utils.AccessibilityHelper;
+import com.example.event_app.utils.FirestoreProvider;
+import com.example.event_app.utils.PosterImages;
 import com.google.android.material.button.MaterialButton;
+import com.google.firebase.firestore.DocumentSnapshot;
 import com.google.firebase.firestore.FirebaseFirestore;
 
 import java.text.SimpleDateFormat;
@@ -77,7 +83,7 @@ public class AdminEventDetailsActivity extends AppCompatActivity {
         }
 
         // Initialize Firebase
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
 
         // Get event ID from intent
         eventId = getIntent().getStringExtra(EXTRA_EVENT_ID);
@@ -129,30 +135,36 @@ public class AdminEventDetailsActivity extends AppCompatActivity {
      * into an {@link Event} object and passed to {@link #displayEventDetails()}.
      *
      * Displays an error and closes the activity if the event cannot be loaded.
+     * A cached copy is shown first and replaced if the server's differs.
      */
     private void loadEventDetails() {
-        db.collection("events")
-                .document(eventId)
-                .get()
-                .addOnSuccessListener(documentSnapshot -> {
-                    if (!documentSnapshot.exists()) {
-                        Toast.makeText(this, "Event not found", Toast.LENGTH_SHORT).show();
-                        finish();
-                        return;
+        FirestoreProvider.getCacheFirst(db.collection("events").document(eventId),
+                new FirestoreProvider.SnapshotCallback<DocumentSnapshot>() {
+                    @Override
+                    public void onSnapshot(DocumentSnapshot documentSnapshot, boolean fromCache) {
+                        if (isFinishing()) return;
+                        if (!documentSnapshot.exists()) {
+                            Toast.makeText(AdminEventDetailsActivity.this, "Event not found", Toast.LENGTH_SHORT).show();
+                            finish();
+                            return;
+                        }
+
+                        currentEvent = documentSnapshot.toObject(Event.class);
+                        if (currentEvent != null) {
+                            currentEvent.setEventId(documentSnapshot.getId());
+                            displayEventDetails();
+                        } else {
+                            Toast.makeText(AdminEventDetailsActivity.this, "Error loading event", Toast.LENGTH_SHORT).show();
+                            finish();
+                        }
                     }
 
-                    currentEvent = documentSnapshot.toObject(Event.class);
-                    if (currentEvent != null) {
-                        currentEvent.setEventId(documentSnapshot.getId());
-                        displayEventDetails();
-                    } else {
-                        Toast.makeText(this, "Error loading event", Toast.LENGTH_SHORT).show();
+                    @Override
+                    public void onFailure(String error) {
+                        if (isFinishing()) return;
+                        Toast.makeText(AdminEventDetailsActivity.this, "Error: " + error, Toast.LENGTH_SHORT).show();
                         finish();
                     }
-                })
-                .addOnFailureListener(e -> {
-                    Toast.makeText(this, "Error: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-                    finish();
                 });
     }
 
@@ -241,7 +253,7 @@ public class AdminEventDetailsActivity extends AppCompatActivity {
         if (posterUrl != null && !posterUrl.isEmpty()) {
             cardPoster.setVisibility(View.VISIBLE);
             Glide.with(this)
-                    .load(posterUrl)
+                    .load(PosterImages.modelFor(posterUrl))
                     .placeholder(android.R.drawable.ic_menu_gallery)
                     .into(ivEventPoster);
         } else {
@@ -294,6 +306,11 @@ public class AdminEventDetailsActivity extends AppCompatActivity {
                 .document(eventId)
                 .delete()
                 .addOnSuccessListener(aVoid -> {
+                    if (currentEvent != null) {
+                        new EventsHostedCountProvider().adjustCount(currentEvent.getOrganizerId(), -1);
+                        new ImageIndexService().detachEventPosters(currentEvent);
+                    }
+                    new EntrantLocationService().deleteAll(eventId);
                     Toast.makeText(this, "Event deleted", Toast.LENGTH_SHORT).show();
 
                     // Return to previous screen
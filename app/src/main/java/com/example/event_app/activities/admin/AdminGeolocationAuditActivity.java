@@ -3,6 +3,7 @@ package com.example.event_app.activities.admin;
 import android.os.Bundle;
 import android.text.Editable;
 import android.text.TextWatcher;
+import android.view.LayoutInflater;
 import android.view.View;
 import android.widget.EditText;
 import android.widget.LinearLayout;
@@ -10,6 +11,7 @@ import android.widget.ProgressBar;
 import android.widget.TextView;
 import android.widget.Toast;
 
+import androidx.annotation.NonNull;
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.recyclerview.widget.LinearLayoutManager;
@@ -18,13 +20,15 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.event_app.R;
 import com.example.event_app.adapters.GeolocationAuditAdapter;
 import com.example.event_app.models.GeolocationAudit;
+import com.example.event_app.models.GeolocationAuditSummary;
+import com.example.event_app.services.GeolocationAuditService;
 import com.example.event_app.utils.AccessibilityHelper;
-import com.google.firebase.firestore.FirebaseFirestore;
-import com.google.firebase.firestore.Query;
-import com.google.firebase.firestore.QueryDocumentSnapshot;
+import com.google.android.material.chip.ChipGroup;
+import com.google.firebase.firestore.DocumentSnapshot;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 
@@ -34,19 +38,39 @@ import java.util.Locale;
  * captured coordinates, and timestamps. This screen supports searching,
  * browsing, and inspecting individual audit entries for privacy compliance.
  *
- * <p>Shows the most recent 500 audit records, sorted by timestamp.
- * Administrators may also open a specific audit location in Google Maps.</p>
+ * <p>Records are loaded newest first, one page at a time as the list is
+ * scrolled. Event, user and time-range filters are applied by Firestore, so
+ * every audit remains reachable however many accumulate. Audits past the
+ * retention period can be compacted into per-event daily summaries, which
+ * are browsable from the History menu. Administrators may also open a
+ * specific audit location in Google Maps.</p>
  */
 
 public class AdminGeolocationAuditActivity extends AppCompatActivity {
+    // Start loading the next page this many rows before the end of the list
+    private static final int PREFETCH_DISTANCE = 10;
+    private static final int SUMMARY_LIMIT = 60;
+    private static final long DAY_MS = 24L * 60 * 60 * 1000;
+
     private EditText etSearch;
     private RecyclerView recyclerViewAudits;
     private LinearLayout emptyStateLayout;
     private ProgressBar progressBar;
     private TextView tvTotalRecords;
+    private TextView btnFilters;
+    private TextView btnHistory;
     private GeolocationAuditAdapter auditAdapter;
-    private FirebaseFirestore db;
-    private List<GeolocationAudit> auditList;
+    private GeolocationAuditService auditService;
+
+    // Paging state
+    private GeolocationAuditService.AuditFilter currentFilter = GeolocationAuditService.AuditFilter.none();
+    private DocumentSnapshot lastVisible;
+    private boolean hasMore = true;
+    private boolean loading = false;
+    private int loadedCount = 0;
+    private long totalCount = -1;
+    // Incremented whenever the filter changes so stale pages are ignored
+    private int queryGeneration = 0;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -58,10 +82,8 @@ public class AdminGeolocationAuditActivity extends AppCompatActivity {
             getSupportActionBar().setTitle("Geolocation Audit");
             getSupportActionBar().setDisplayHomeAsUpEnabled(true);
         }
-        // Initialize Firebase
-        db = FirebaseFirestore.getInstance();
-        // Initialize list
-        auditList = new ArrayList<>();
+        // Initialize service
+        auditService = new GeolocationAuditService();
         // Initialize views
         initViews();
         // Set up search
@@ -83,12 +105,18 @@ public class AdminGeolocationAuditActivity extends AppCompatActivity {
         emptyStateLayout = findViewById(R.id.emptyStateLayout);
         progressBar = findViewById(R.id.progressBar);
         tvTotalRecords = findViewById(R.id.tvTotalRecords);
+        btnFilters = findViewById(R.id.btnFilters);
+        btnHistory = findViewById(R.id.btnHistory);
+
+        btnFilters.setOnClickListener(v -> showFilterDialog());
+        btnHistory.setOnClickListener(v -> showHistoryOptions());
     }
 
     /**
      * Configures the search bar to perform live filtering. As the administrator
-     * types, the list in {@link GeolocationAuditAdapter} is filtered based on
-     * username, event name, or action fields.
+     * types, the records loaded so far in {@link GeolocationAuditAdapter} are
+     * filtered by username or event name. Event, user and time filters that
+     * should reach every record go through {@link #showFilterDialog()}.
      */
     private void setupSearch() {
         etSearch.addTextChangedListener(new TextWatcher() {
@@ -107,8 +135,9 @@ public class AdminGeolocationAuditActivity extends AppCompatActivity {
 
     /**
      * Sets up the RecyclerView used to display geolocation audit entries.
-     * Initializes the adapter and attaches a click listener that opens a
-     * detailed dialog for the selected audit record.
+     * Initializes the adapter, attaches a click listener that opens a
+     * detailed dialog for the selected audit record, and loads the next page
+     * when the list is scrolled near its end.
      */
     private void setupRecyclerView() {
         auditAdapter = new GeolocationAuditAdapter();
@@ -117,39 +146,89 @@ public class AdminGeolocationAuditActivity extends AppCompatActivity {
             showAuditDetails(audit);
         });
 
-        recyclerViewAudits.setLayoutManager(new LinearLayoutManager(this));
+        LinearLayoutManager layoutManager = new LinearLayoutManager(this);
+        recyclerViewAudits.setLayoutManager(layoutManager);
         recyclerViewAudits.setAdapter(auditAdapter);
+        recyclerViewAudits.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                if (dy <= 0) return;
+                int lastPosition = layoutManager.findLastVisibleItemPosition();
+                if (lastPosition >= auditAdapter.getItemCount() - PREFETCH_DISTANCE) {
+                    loadNextPage();
+                }
+            }
+        });
     }
 
     /**
-     * Fetches up to the most recent 500 geolocation audit records from Firestore,
-     * ordered by timestamp in descending order. Loaded records are stored locally
-     * and rendered through {@link #updateUI()}.
+     * Resets paging and loads the first page for the current filter, along
+     * with a server-side count of all matching records.
+     */
+    private void loadAuditRecords() {
+        queryGeneration++;
+        lastVisible = null;
+        hasMore = true;
+        loading = false;
+        loadedCount = 0;
+        totalCount = -1;
+        auditAdapter.setAudits(new ArrayList<>());
+
+        int generation = queryGeneration;
+        auditService.count(currentFilter, new GeolocationAuditService.CountCallback() {
+            @Override
+            public void onSuccess(long count) {
+                if (generation != queryGeneration) return;
+                totalCount = count;
+                updateUI();
+            }
+
+            @Override
+            public void onFailure(String error) {
+                // The list still works without the total
+            }
+        });
+
+        loadNextPage();
+    }
+
+    /**
+     * Fetches the page after the last loaded record. Records are stored in
+     * the adapter and rendered through {@link #updateUI()}.
      *
      * Displays an error message if the fetch request fails.
      */
-    private void loadAuditRecords() {
+    private void loadNextPage() {
+        if (loading || !hasMore) return;
+        loading = true;
         progressBar.setVisibility(View.VISIBLE);
-        db.collection("geolocation_audits")
-                .orderBy("timestamp", Query.Direction.DESCENDING)
-                .limit(500)  // Limit to last 500 records for performance
-                .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    auditList.clear();
-
-                    for (QueryDocumentSnapshot document : queryDocumentSnapshots) {
-                        GeolocationAudit audit = document.toObject(GeolocationAudit.class);
-                        auditList.add(audit);
-                    }
-                    progressBar.setVisibility(View.GONE);
-                    updateUI();
-                })
-                .addOnFailureListener(e -> {
-                    progressBar.setVisibility(View.GONE);
-                    Toast.makeText(this, "Error loading records: " + e.getMessage(),
-                            Toast.LENGTH_SHORT).show();
-                    updateUI();
-                });
+
+        int generation = queryGeneration;
+        auditService.loadPage(currentFilter, lastVisible, new GeolocationAuditService.PageCallback() {
+            @Override
+            public void onSuccess(List<GeolocationAudit> audits, DocumentSnapshot cursor, boolean more) {
+                if (generation != queryGeneration) return;
+                loading = false;
+                progressBar.setVisibility(View.GONE);
+                if (cursor != null) {
+                    lastVisible = cursor;
+                }
+                hasMore = more;
+                loadedCount += audits.size();
+                auditAdapter.addAudits(audits);
+                updateUI();
+            }
+
+            @Override
+            public void onFailure(String error) {
+                if (generation != queryGeneration) return;
+                loading = false;
+                progressBar.setVisibility(View.GONE);
+                Toast.makeText(AdminGeolocationAuditActivity.this,
+                        "Error loading records: " + error, Toast.LENGTH_SHORT).show();
+                updateUI();
+            }
+        });
     }
 
     /**
@@ -158,19 +237,166 @@ public class AdminGeolocationAuditActivity extends AppCompatActivity {
      * total-records count is updated. Otherwise, an empty-state message is shown.
      */
     private void updateUI() {
-        if (auditList.isEmpty()) {
+        String filterSuffix = currentFilter.isEmpty() ? "" : " (filtered)";
+        if (loadedCount == 0 && !loading) {
             recyclerViewAudits.setVisibility(View.GONE);
             emptyStateLayout.setVisibility(View.VISIBLE);
-            tvTotalRecords.setText("Total: 0 records");
+            tvTotalRecords.setText("Total: 0 records" + filterSuffix);
         } else {
             recyclerViewAudits.setVisibility(View.VISIBLE);
             emptyStateLayout.setVisibility(View.GONE);
-            tvTotalRecords.setText("Total: " + auditList.size() + " records (showing last 500)");
-
-            auditAdapter.setAudits(auditList);
+            String total = totalCount >= 0 ? String.valueOf(totalCount) : "…";
+            tvTotalRecords.setText("Total: " + total + " records" + filterSuffix
+                    + ", " + loadedCount + " loaded");
         }
     }
 
+    /**
+     * Shows the event, user and time-range filters. Applying them reloads
+     * the list from the first page with the filters evaluated by Firestore.
+     */
+    private void showFilterDialog() {
+        View dialogView = LayoutInflater.from(this).inflate(R.layout.dialog_audit_filters, null);
+        EditText editEventId = dialogView.findViewById(R.id.editFilterEventId);
+        EditText editUserId = dialogView.findViewById(R.id.editFilterUserId);
+        ChipGroup chipGroupRange = dialogView.findViewById(R.id.chipGroupRange);
+
+        if (currentFilter.getEventId() != null) editEventId.setText(currentFilter.getEventId());
+        if (currentFilter.getUserId() != null) editUserId.setText(currentFilter.getUserId());
+        chipGroupRange.check(chipForRange(currentFilter.getFrom()));
+
+        new AlertDialog.Builder(this)
+                .setTitle("Filter Audits")
+                .setView(dialogView)
+                .setPositiveButton("Apply", (dialog, which) -> {
+                    Date from = rangeStart(chipGroupRange.getCheckedChipId());
+                    currentFilter = new GeolocationAuditService.AuditFilter(
+                            editEventId.getText().toString(),
+                            editUserId.getText().toString(),
+                            from, null);
+                    btnFilters.setText(currentFilter.isEmpty() ? "Filters" : "Filters •");
+                    loadAuditRecords();
+                })
+                .setNeutralButton("Clear", (dialog, which) -> {
+                    currentFilter = GeolocationAuditService.AuditFilter.none();
+                    btnFilters.setText("Filters");
+                    loadAuditRecords();
+                })
+                .setNegativeButton("Cancel", null)
+                .show();
+    }
+
+    private static Date rangeStart(int chipId) {
+        long now = System.currentTimeMillis();
+        if (chipId == R.id.chipRangeDay) return new Date(now - DAY_MS);
+        if (chipId == R.id.chipRangeWeek) return new Date(now - 7 * DAY_MS);
+        if (chipId == R.id.chipRangeMonth) return new Date(now - 30 * DAY_MS);
+        return null;
+    }
+
+    private static int chipForRange(Date from) {
+        if (from == null) return R.id.chipRangeAll;
+        long age = System.currentTimeMillis() - from.getTime();
+        if (age <= 2 * DAY_MS) return R.id.chipRangeDay;
+        if (age <= 8 * DAY_MS) return R.id.chipRangeWeek;
+        return R.id.chipRangeMonth;
+    }
+
+    /**
+     * Offers the daily summaries of compacted audits and the compaction job.
+     */
+    private void showHistoryOptions() {
+        String[] options = {
+                "View daily summaries",
+                "Compact audits older than " + GeolocationAuditService.DEFAULT_RETENTION_DAYS + " days"
+        };
+        new AlertDialog.Builder(this)
+                .setTitle("Audit History")
+                .setItems(options, (dialog, which) -> {
+                    if (which == 0) {
+                        showDailySummaries();
+                    } else {
+                        confirmCompaction();
+                    }
+                })
+                .show();
+    }
+
+    /**
+     * Lists the most recent daily summaries, restricted to the filtered event
+     * when an event filter is active.
+     */
+    private void showDailySummaries() {
+        auditService.loadSummaries(currentFilter.getEventId(), SUMMARY_LIMIT,
+                new GeolocationAuditService.SummaryCallback() {
+                    @Override
+                    public void onSuccess(List<GeolocationAuditSummary> summaries) {
+                        if (isFinishing()) return;
+                        StringBuilder message = new StringBuilder();
+                        for (GeolocationAuditSummary summary : summaries) {
+                            String name = summary.getEventName() != null
+                                    ? summary.getEventName() : summary.getEventId();
+                            message.append(summary.getDay()).append(" • ").append(name)
+                                    .append(": ").append(summary.getCount()).append(" records\n");
+                        }
+                        if (summaries.isEmpty()) {
+                            message.append("No audits have been compacted yet");
+                        }
+                        new AlertDialog.Builder(AdminGeolocationAuditActivity.this)
+                                .setTitle("Daily Summaries")
+                                .setMessage(message.toString().trim())
+                                .setPositiveButton("OK", null)
+                                .show();
+                    }
+
+                    @Override
+                    public void onFailure(String error) {
+                        Toast.makeText(AdminGeolocationAuditActivity.this,
+                                "Error loading summaries: " + error, Toast.LENGTH_SHORT).show();
+                    }
+                });
+    }
+
+    /**
+     * Confirms and then runs the retention job. Progress is reported in the
+     * records counter, and the list reloads once compaction finishes.
+     */
+    private void confirmCompaction() {
+        new AlertDialog.Builder(this)
+                .setTitle("Compact Old Audits")
+                .setMessage("Audits older than " + GeolocationAuditService.DEFAULT_RETENTION_DAYS
+                        + " days will be replaced by per-event daily summaries. "
+                        + "Individual coordinates will be deleted.")
+                .setPositiveButton("Compact", (dialog, which) -> {
+                    btnHistory.setEnabled(false);
+                    auditService.compactOlderThan(GeolocationAuditService.DEFAULT_RETENTION_DAYS,
+                            new GeolocationAuditService.CompactionCallback() {
+                                @Override
+                                public void onProgress(int compacted) {
+                                    tvTotalRecords.setText("Compacting… " + compacted + " records");
+                                }
+
+                                @Override
+                                public void onComplete(int compacted) {
+                                    btnHistory.setEnabled(true);
+                                    Toast.makeText(AdminGeolocationAuditActivity.this,
+                                            "Compacted " + compacted + " records", Toast.LENGTH_SHORT).show();
+                                    loadAuditRecords();
+                                }
+
+                                @Override
+                                public void onFailure(String error) {
+                                    btnHistory.setEnabled(true);
+                                    Toast.makeText(AdminGeolocationAuditActivity.this,
+                                            "Compaction failed: " + error, Toast.LENGTH_SHORT).show();
+                                    updateUI();
+                                }
+                            });
+                })
+                .setNegativeButton("Cancel", null)
+                .show();
+    }
+
     /**
      * Displays a dialog containing full details for the selected audit entry,
      * including user identity, event information, location coordinates, and a
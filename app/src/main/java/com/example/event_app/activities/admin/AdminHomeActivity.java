@@ -12,18 +12,23 @@ import androidx.appcompat.app.AppCompatActivity;
 
 import com.example.event_app.R;
 import com.example.event_app.activities.entrant.MainActivity;
-import com.example.event_app.models.Event;
+import com.example.event_app.activities.entrant.SplashActivity;
 import com.example.event_app.models.User;
+import com.example.event_app.services.EventStatsService;
+import com.example.event_app.services.PlatformStatsService;
 import com.example.event_app.utils.AccessibilityHelper;
+import com.example.event_app.utils.FirestoreProvider;
 import com.example.event_app.utils.ReportExporter;
+import com.example.event_app.utils.SessionCache;
+import com.example.event_app.utils.StartupTimer;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.card.MaterialCardView;
 import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.firestore.AggregateSource;
+import com.google.firebase.firestore.DocumentSnapshot;
 import com.google.firebase.firestore.FirebaseFirestore;
-import com.google.firebase.firestore.QueryDocumentSnapshot;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.File;
 
 /**
  * Administrative dashboard providing moderation tools, platform statistics,
@@ -60,6 +65,8 @@ public class AdminHomeActivity extends AppCompatActivity {
     // Firebase
     private FirebaseAuth mAuth;
     private FirebaseFirestore db;
+    private PlatformStatsService platformStatsService;
+    private SessionCache sessionCache;
     private User currentUser;
 
     @Override
@@ -67,11 +74,13 @@ public class AdminHomeActivity extends AppCompatActivity {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_admin_home);
         new AccessibilityHelper(this).applyAccessibilitySettings(this);
-
+        StartupTimer.markFirstFrame(this);
 
         // Initialize Firebase
         mAuth = FirebaseAuth.getInstance();
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
+        platformStatsService = new PlatformStatsService();
+        sessionCache = new SessionCache(this);
 
         // Check admin access first
         checkAdminAccess();
@@ -184,7 +193,7 @@ public class AdminHomeActivity extends AppCompatActivity {
             btnFlaggedItems.setOnClickListener(v -> {
                 Toast.makeText(this, "Showing flagged events", Toast.LENGTH_SHORT).show();
                 Intent intent = new Intent(this, AdminBrowseEventsActivity.class);
-                intent.putExtra("showFlaggedOnly", true);
+                intent.putExtra(AdminBrowseEventsActivity.EXTRA_SHOW_FLAGGED_ONLY, true);
                 startActivity(intent);
             });
         }
@@ -199,6 +208,10 @@ public class AdminHomeActivity extends AppCompatActivity {
      * access to the dashboard is denied and the activity is terminated.
      *
      * Displays error messages for missing authentication or Firestore issues.
+     *
+     * A profile SplashActivity just read from the server is trusted without
+     * another read. When the dashboard was opened from the cached role, a
+     * user who is no longer an admin is sent to MainActivity instead.
      */
     private void checkAdminAccess() {
         if (mAuth.getCurrentUser() == null) {
@@ -209,30 +222,60 @@ public class AdminHomeActivity extends AppCompatActivity {
 
         String userId = mAuth.getCurrentUser().getUid();
 
-        db.collection("users").document(userId)
-                .get()
-                .addOnSuccessListener(document -> {
-                    if (document.exists()) {
-                        currentUser = document.toObject(User.class);
+        // SplashActivity just read the profile from the server
+        User handedOff = SessionCache.takeHandedOffUser(userId);
+        if (handedOff != null && handedOff.isAdmin()) {
+            currentUser = handedOff;
+            return;
+        }
 
-                        if (currentUser == null || !currentUser.isAdmin()) {
-                            // Not an admin - deny access
-                            Toast.makeText(this, "⛔ Admin access required", Toast.LENGTH_LONG).show();
+        boolean cachedRoute = getIntent().getBooleanExtra(SplashActivity.EXTRA_CACHED_ROUTE, false);
+
+        // A cached profile grants access at once; the server's copy can still revoke it
+        FirestoreProvider.getCacheFirst(db.collection("users").document(userId),
+                new FirestoreProvider.SnapshotCallback<DocumentSnapshot>() {
+                    @Override
+                    public void onSnapshot(DocumentSnapshot document, boolean fromCache) {
+                        if (isFinishing()) return;
+                        if (document.exists()) {
+                            currentUser = document.toObject(User.class);
+                            sessionCache.save(userId, currentUser);
+
+                            if (currentUser == null || !currentUser.isAdmin()) {
+                                if (cachedRoute) {
+                                    // Opened from an outdated cached role - go to the entrant home instead
+                                    startActivity(new Intent(AdminHomeActivity.this, MainActivity.class));
+                                    finish();
+                                    return;
+                                }
+                                // Not an admin - deny access
+                                Toast.makeText(AdminHomeActivity.this, "⛔ Admin access required", Toast.LENGTH_LONG).show();
+                                finish();
+                            }
+                        } else if (cachedRoute && !fromCache) {
+                            // Profile deleted since the last launch - let the splash screen route again
+                            sessionCache.clear();
+                            Intent intent = new Intent(AdminHomeActivity.this, SplashActivity.class);
+                            intent.setFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK);
+                            startActivity(intent);
+                            finish();
+                        } else {
+                            Toast.makeText(AdminHomeActivity.this, "User not found", Toast.LENGTH_SHORT).show();
                             finish();
                         }
-                    } else {
-                        Toast.makeText(this, "User not found", Toast.LENGTH_SHORT).show();
+                    }
+
+                    @Override
+                    public void onFailure(String error) {
+                        if (isFinishing()) return;
+                        Toast.makeText(AdminHomeActivity.this, "Error verifying access", Toast.LENGTH_SHORT).show();
                         finish();
                     }
-                })
-                .addOnFailureListener(e -> {
-                    Toast.makeText(this, "Error verifying access", Toast.LENGTH_SHORT).show();
-                    finish();
                 });
     }
 
     /**
-     * Loads platform-wide statistics from Firestore and updates the dashboard:
+     * Loads platform-wide statistics and updates the dashboard:
      * <ul>
      *     <li>Total number of events</li>
      *     <li>Total number of users</li>
@@ -240,74 +283,43 @@ public class AdminHomeActivity extends AppCompatActivity {
      *     <li>Total number of active events</li>
      * </ul>
      *
-     * Each statistic is requested independently to improve resilience
-     * in case one query fails.
+     * All four values come from the incrementally maintained platform_stats
+     * document (one small read), falling back to count() aggregation queries
+     * when it has not been seeded yet.
      */
     private void loadStatistics() {
-        // Load Events Count
-        db.collection("events")
-                .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    int count = queryDocumentSnapshots.size();
-                    tvEventsCount.setText(String.valueOf(count));
-                })
-                .addOnFailureListener(e -> {
-                    tvEventsCount.setText("0");
-                });
-
-        // Load Users Count
-        db.collection("users")
-                .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    int count = queryDocumentSnapshots.size();
-                    tvUsersCount.setText(String.valueOf(count));
-                })
-                .addOnFailureListener(e -> {
-                    tvUsersCount.setText("0");
-                });
-
-        // Load Organizers Count
-        db.collection("users")
-                .whereArrayContains("roles", "organizer")
-                .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    int count = queryDocumentSnapshots.size();
-                    tvOrganizersCount.setText(String.valueOf(count));
-                })
-                .addOnFailureListener(e -> {
-                    tvOrganizersCount.setText("0");
-                });
-
-        // Load Active Events Count
-        db.collection("events")
-                .whereEqualTo("status", "active")
-                .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    int count = queryDocumentSnapshots.size();
-                    tvActiveCount.setText(String.valueOf(count));
-                })
-                .addOnFailureListener(e -> {
-                    tvActiveCount.setText("0");
-                });
+        platformStatsService.loadStats(new PlatformStatsService.StatsCallback() {
+            @Override
+            public void onSuccess(PlatformStatsService.PlatformStats stats) {
+                tvEventsCount.setText(String.valueOf(stats.getTotalEvents()));
+                tvUsersCount.setText(String.valueOf(stats.getTotalUsers()));
+                tvOrganizersCount.setText(String.valueOf(stats.getTotalOrganizers()));
+                tvActiveCount.setText(String.valueOf(stats.getActiveEvents()));
+            }
+
+            @Override
+            public void onFailure(String error) {
+                tvEventsCount.setText("0");
+                tvUsersCount.setText("0");
+                tvOrganizersCount.setText("0");
+                tvActiveCount.setText("0");
+            }
+        });
     }
 
     /**
-     * Retrieves all events and counts how many exhibit a high cancellation rate.
-     * Updates the flagged-items UI section with the current flagged count and
-     * shows or hides the flagged-events card accordingly.
+     * Counts events flagged for a high cancellation rate with a count()
+     * aggregation over the denormalized "flagged" field. Updates the
+     * flagged-items UI section with the current flagged count and shows or
+     * hides the flagged-events card accordingly.
      */
     private void loadFlaggedEvents() {
         db.collection("events")
-                .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    int flaggedCount = 0;
-
-                    for (QueryDocumentSnapshot doc : queryDocumentSnapshots) {
-                        Event event = doc.toObject(Event.class);
-                        if (event.hasHighCancellationRate()) {
-                            flaggedCount++;
-                        }
-                    }
+                .whereEqualTo(EventStatsService.FIELD_FLAGGED, true)
+                .count()
+                .get(AggregateSource.SERVER)
+                .addOnSuccessListener(snapshot -> {
+                    long flaggedCount = snapshot.getCount();
 
                     // Update button text with count
                     if (btnFlaggedItems != null) {
@@ -328,46 +340,70 @@ public class AdminHomeActivity extends AppCompatActivity {
     }
 
     /**
-     * Generates a platform-wide usage report by fetching all events and all users.
-     * Once both collections are retrieved, the data is passed to
-     * {@link ReportExporter#exportPlatformReport(android.content.Context, List, List)}.
+     * Asks whether the report should be compressed, then generates a
+     * platform-wide usage report. The users and events collections are streamed
+     * page by page on a background thread by
+     * {@link ReportExporter#exportPlatformReport(android.content.Context, FirebaseFirestore, boolean, ReportExporter.ReportProgressListener)},
+     * so the dashboard stays responsive regardless of platform size.
      *
      * Displays feedback on report generation progress and errors.
      *
      * US 03.13.01: Export platform usage reports.
      */
     private void generateAndExportReport() {
+        new AlertDialog.Builder(this)
+                .setTitle("Export Report")
+                .setItems(new String[]{"CSV", "Compressed CSV (.gz)"},
+                        (dialog, which) -> startReportExport(which == 1))
+                .setNegativeButton("Cancel", null)
+                .show();
+    }
+
+    /**
+     * Starts the streaming report job and reflects its progress on the
+     * report button until the file is ready to share.
+     */
+    private void startReportExport(boolean gzip) {
+        if (btnGenerateReports != null) {
+            btnGenerateReports.setEnabled(false);
+        }
         Toast.makeText(this, "Generating report...", Toast.LENGTH_SHORT).show();
-        // Fetch all events
-        db.collection("events")
-                .get()
-                .addOnSuccessListener(eventSnapshots -> {
-                    List<Event> events = new ArrayList<>();
-                    for (QueryDocumentSnapshot doc : eventSnapshots) {
-                        events.add(doc.toObject(Event.class));
-                    }
 
-                    // Fetch all users
-                    db.collection("users")
-                            .get()
-                            .addOnSuccessListener(userSnapshots -> {
-                                List<User> users = new ArrayList<>();
-                                for (QueryDocumentSnapshot doc : userSnapshots) {
-                                    users.add(doc.toObject(User.class));
-                                }
-                                // Export report
-                                ReportExporter.exportPlatformReport(this, events, users);
-                                Toast.makeText(this, "Report generated!", Toast.LENGTH_SHORT).show();
-                            })
-                            .addOnFailureListener(e -> {
-                                Toast.makeText(this, "Error loading users: " + e.getMessage(),
-                                        Toast.LENGTH_SHORT).show();
-                            });
-                })
-                .addOnFailureListener(e -> {
-                    Toast.makeText(this, "Error loading events: " + e.getMessage(),
-                            Toast.LENGTH_SHORT).show();
-                });
+        ReportExporter.exportPlatformReport(this, db, gzip, new ReportExporter.ReportProgressListener() {
+            @Override
+            public void onProgress(int usersScanned, int eventsScanned) {
+                if (btnGenerateReports != null) {
+                    btnGenerateReports.setText("Generating... (" + usersScanned + " users, "
+                            + eventsScanned + " events)");
+                }
+            }
+
+            @Override
+            public void onComplete(File reportFile) {
+                resetReportButton();
+                if (isFinishing() || isDestroyed()) return;
+                Toast.makeText(AdminHomeActivity.this, "Report generated!", Toast.LENGTH_SHORT).show();
+                ReportExporter.shareFile(AdminHomeActivity.this, reportFile);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                resetReportButton();
+                if (isFinishing() || isDestroyed()) return;
+                Toast.makeText(AdminHomeActivity.this, "Error generating report: " + e.getMessage(),
+                        Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
+
+    /**
+     * Restores the report button once a report job has finished.
+     */
+    private void resetReportButton() {
+        if (btnGenerateReports != null) {
+            btnGenerateReports.setEnabled(true);
+            btnGenerateReports.setText("📊 Generate Platform Report");
+        }
     }
 
     /**
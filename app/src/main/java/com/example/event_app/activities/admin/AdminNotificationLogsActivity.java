@@ -1,6 +1,8 @@
 package com.example.event_app.activities.admin;
 
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.text.Editable;
 import android.text.TextWatcher;
 import android.view.View;
@@ -12,6 +14,7 @@ import android.widget.Spinner;
 import android.widget.TextView;
 import android.widget.Toast;
 
+import androidx.annotation.NonNull;
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.recyclerview.widget.LinearLayoutManager;
@@ -20,42 +23,65 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.event_app.R;
 import com.example.event_app.adapters.NotificationLogAdapter;
 import com.example.event_app.models.NotificationLog;
+import com.example.event_app.models.NotificationLogSummary;
+import com.example.event_app.services.NotificationLogService;
 import com.example.event_app.utils.AccessibilityHelper;
-import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.DocumentSnapshot;
 import com.google.firebase.firestore.Query;
-import com.google.firebase.firestore.QueryDocumentSnapshot;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 
 /**
  * Activity for administrators to review all system notification logs.
  * Provides search, filtering, and detailed inspection of notifications
- * sent by organizers or the system. Supports filtering by notification
- * type and loading up to the last 500 log entries for performance.
+ * sent by organizers or the system. Sender-role and type filters are
+ * applied by Firestore and logs load one page at a time as the list is
+ * scrolled, so every log stays reachable however many accumulate.
  *
  * <p>Supports:</p>
  * <ul>
  *     <li>US 03.08.01: Review logs of all notifications sent by organizers</li>
- *     <li>Full-text search across logs</li>
- *     <li>Type-based filtering (selected, rejected, invitation, waitlist)</li>
+ *     <li>Debounced background search across the loaded logs</li>
+ *     <li>Server-side sender and type filtering (organizer, selected, rejected, invitation, waitlist)</li>
  *     <li>Viewing detailed notification metadata</li>
+ *     <li>Historical volumes from daily summaries once old logs are archived</li>
  * </ul>
  */
 public class AdminNotificationLogsActivity extends AppCompatActivity {
+    private static final int PREFETCH_DISTANCE = 10;
+    private static final long SEARCH_DEBOUNCE_MS = 300;
+    private static final int SUMMARY_LIMIT = 200;
+    private static final int[] HISTORY_RANGE_DAYS = {30, 90, 365};
+    private static final int[] RETENTION_OPTIONS_DAYS = {NotificationLogService.DEFAULT_RETENTION_DAYS, 90, 180};
+
     private EditText etSearch;
     private Spinner spinnerFilter;
     private RecyclerView recyclerViewLogs;
     private LinearLayout emptyStateLayout;
     private ProgressBar progressBar;
     private TextView tvTotalLogs;
+    private TextView btnHistory;
 
     private NotificationLogAdapter logAdapter;
-    private FirebaseFirestore db;
-    private List<NotificationLog> logList;
-    private String currentFilter = "all";
+    private NotificationLogService logService;
+    private String currentFilter = "All Notifications";
+
+    // Paging state
+    private Query currentQuery;
+    private DocumentSnapshot lastVisible;
+    private boolean hasMore = true;
+    private boolean loading = false;
+    private int loadedCount = 0;
+    private long totalCount = -1;
+    // Incremented whenever the filter changes so stale pages are ignored
+    private int queryGeneration = 0;
+
+    private final Handler searchHandler = new Handler(Looper.getMainLooper());
+    private Runnable pendingSearch;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -69,11 +95,8 @@ public class AdminNotificationLogsActivity extends AppCompatActivity {
             getSupportActionBar().setDisplayHomeAsUpEnabled(true);
         }
 
-        // Initialize Firebase
-        db = FirebaseFirestore.getInstance();
-
-        // Initialize list
-        logList = new ArrayList<>();
+        // Initialize service
+        logService = new NotificationLogService();
 
         // Initialize views
         initViews();
@@ -103,11 +126,14 @@ public class AdminNotificationLogsActivity extends AppCompatActivity {
         emptyStateLayout = findViewById(R.id.emptyStateLayout);
         progressBar = findViewById(R.id.progressBar);
         tvTotalLogs = findViewById(R.id.tvTotalLogs);
+        btnHistory = findViewById(R.id.btnHistory);
+        btnHistory.setOnClickListener(v -> showHistoryOptions());
     }
 
     /**
-     * Configures search functionality using a TextWatcher to filter log
-     * entries in real time based on sender, recipient, event, or message text.
+     * Configures search functionality using a TextWatcher to filter the loaded
+     * log entries by sender, recipient, or title. Filtering waits until typing
+     * pauses and then runs on a background thread.
      */
     private void setupSearch() {
         etSearch.addTextChangedListener(new TextWatcher() {
@@ -116,7 +142,12 @@ public class AdminNotificationLogsActivity extends AppCompatActivity {
 
             @Override
             public void onTextChanged(CharSequence s, int start, int before, int count) {
-                logAdapter.filter(s.toString());
+                if (pendingSearch != null) {
+                    searchHandler.removeCallbacks(pendingSearch);
+                }
+                String query = s.toString();
+                pendingSearch = () -> logAdapter.filter(query);
+                searchHandler.postDelayed(pendingSearch, SEARCH_DEBOUNCE_MS);
             }
 
             @Override
@@ -166,6 +197,7 @@ public class AdminNotificationLogsActivity extends AppCompatActivity {
      * @param filter the selected filter label from the spinner
      */
     private void applyFilter(String filter) {
+        if (filter.equals(currentFilter) && currentQuery != null) return;
         currentFilter = filter;
         loadNotificationLogs();
     }
@@ -173,7 +205,8 @@ public class AdminNotificationLogsActivity extends AppCompatActivity {
     /**
      * Configures the RecyclerView and attaches the NotificationLogAdapter.
      * Registers a click callback to allow administrators to view detailed
-     * information for any selected log entry.
+     * information for any selected log entry, and loads the next page when
+     * the list is scrolled near its end.
      */
     private void setupRecyclerView() {
         logAdapter = new NotificationLogAdapter();
@@ -182,87 +215,243 @@ public class AdminNotificationLogsActivity extends AppCompatActivity {
             showLogDetails(log);
         });
 
-        recyclerViewLogs.setLayoutManager(new LinearLayoutManager(this));
+        LinearLayoutManager layoutManager = new LinearLayoutManager(this);
+        recyclerViewLogs.setLayoutManager(layoutManager);
         recyclerViewLogs.setAdapter(logAdapter);
+        recyclerViewLogs.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                if (dy <= 0) return;
+                int lastPosition = layoutManager.findLastVisibleItemPosition();
+                if (lastPosition >= logAdapter.getItemCount() - PREFETCH_DISTANCE) {
+                    loadNextPage();
+                }
+            }
+        });
     }
 
     /**
-     * Loads up to the last 500 notification logs from Firestore, applying the
-     * currently selected filter (if any). Queries are ordered by timestamp in
-     * descending order to show the most recent logs first.
+     * Resets paging and loads the first page of logs for the selected filter,
+     * along with a server-side count of all matching logs.
      *
      * <p>Performs the following:</p>
      * <ul>
      *     <li>Builds the Firestore query based on the selected filter</li>
-     *     <li>Fetches logs and applies "Organizer Only" filtering locally</li>
-     *     <li>Updates the adapter and UI state</li>
+     *     <li>Counts the matching logs with an aggregation query</li>
+     *     <li>Fetches the first page and updates the adapter and UI state</li>
      * </ul>
-     *
-     * Displays progress indicators and error feedback.
      */
     private void loadNotificationLogs() {
-        progressBar.setVisibility(View.VISIBLE);
+        currentQuery = logService.query(senderRoleFor(currentFilter), notificationTypeFor(currentFilter));
+        queryGeneration++;
+        lastVisible = null;
+        hasMore = true;
+        loading = false;
+        loadedCount = 0;
+        totalCount = -1;
+        logAdapter.setLogs(new ArrayList<>());
+
+        int generation = queryGeneration;
+        logService.count(currentQuery, new NotificationLogService.CountCallback() {
+            @Override
+            public void onSuccess(long count) {
+                if (generation != queryGeneration) return;
+                totalCount = count;
+                updateUI();
+            }
 
-        Query query = db.collection("notification_logs")
-                .orderBy("timestamp", Query.Direction.DESCENDING);
+            @Override
+            public void onFailure(String error) {
+                // The list still works without the total
+            }
+        });
 
-        // Apply filters based on selection
-        if (currentFilter.equals("Invitation Sent")) {
-            query = query.whereEqualTo("notificationType", "invitation_sent");
-        } else if (currentFilter.equals("Selected")) {
-            query = query.whereEqualTo("notificationType", "selected");
-        } else if (currentFilter.equals("Rejected")) {
-            query = query.whereEqualTo("notificationType", "rejected");
-        } else if (currentFilter.equals("Waitlist Joined")) {
-            query = query.whereEqualTo("notificationType", "waitlist_joined");
+        loadNextPage();
+    }
 
-        }
-        // "All Notifications" and "Organizer Only" - load all, filter later
+    /**
+     * Fetches the page after the last loaded log. Displays progress
+     * indicators and error feedback.
+     */
+    private void loadNextPage() {
+        if (loading || !hasMore || currentQuery == null) return;
+        loading = true;
+        progressBar.setVisibility(View.VISIBLE);
 
-        query.limit(500)
-                .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    logList.clear();
+        int generation = queryGeneration;
+        logService.loadPage(currentQuery, lastVisible, new NotificationLogService.PageCallback() {
+            @Override
+            public void onSuccess(List<NotificationLog> logs, DocumentSnapshot cursor, boolean more) {
+                if (generation != queryGeneration) return;
+                loading = false;
+                progressBar.setVisibility(View.GONE);
+                if (cursor != null) {
+                    lastVisible = cursor;
+                }
+                hasMore = more;
+                loadedCount += logs.size();
+                logAdapter.addLogs(logs);
+                updateUI();
+            }
 
-                    for (QueryDocumentSnapshot document : queryDocumentSnapshots) {
-                        NotificationLog log = document.toObject(NotificationLog.class);
+            @Override
+            public void onFailure(String error) {
+                if (generation != queryGeneration) return;
+                loading = false;
+                progressBar.setVisibility(View.GONE);
+                Toast.makeText(AdminNotificationLogsActivity.this,
+                        "Error loading logs: " + error, Toast.LENGTH_SHORT).show();
+                updateUI();
+            }
+        });
+    }
 
-                        // Apply organizer filter if selected
-                        if (currentFilter.equals("Organizer Only")) {
-                            logList.add(log);
-                        } else {
-                            logList.add(log);
-                        }
-                    }
+    private static String senderRoleFor(String filter) {
+        return filter.equals("Organizer Only") ? NotificationLog.SENDER_ROLE_ORGANIZER : null;
+    }
 
-                    progressBar.setVisibility(View.GONE);
-                    updateUI();
-                })
-                .addOnFailureListener(e -> {
-                    progressBar.setVisibility(View.GONE);
-                    Toast.makeText(this, "Error loading logs: " + e.getMessage(),
-                            Toast.LENGTH_SHORT).show();
-                    updateUI();
-                });
+    private static String notificationTypeFor(String filter) {
+        switch (filter) {
+            case "Invitation Sent": return "invitation_sent";
+            case "Selected": return "selected";
+            case "Rejected": return "rejected";
+            case "Waitlist Joined": return "waitlist_joined";
+            default: return null;
+        }
     }
 
     /**
      * Updates the UI based on whether logs have been loaded.
-     * Shows or hides the empty state, updates total log count,
-     * and refreshes the adapter with the current list of logs.
+     * Shows or hides the empty state and updates the total log count.
      */
     private void updateUI() {
-        if (logList.isEmpty()) {
+        if (loadedCount == 0 && !loading) {
             recyclerViewLogs.setVisibility(View.GONE);
             emptyStateLayout.setVisibility(View.VISIBLE);
             tvTotalLogs.setText("Total: 0 logs");
         } else {
             recyclerViewLogs.setVisibility(View.VISIBLE);
             emptyStateLayout.setVisibility(View.GONE);
-            tvTotalLogs.setText("Total: " + logList.size() + " logs (showing last 500)");
+            String total = totalCount >= 0 ? String.valueOf(totalCount) : "…";
+            tvTotalLogs.setText("Total: " + total + " logs, " + loadedCount + " loaded");
+        }
+    }
 
-            logAdapter.setLogs(logList);
+    /**
+     * Offers the historical summary ranges and the archive job.
+     */
+    private void showHistoryOptions() {
+        String[] options = new String[HISTORY_RANGE_DAYS.length + 1];
+        for (int i = 0; i < HISTORY_RANGE_DAYS.length; i++) {
+            options[i] = "Daily summaries, last " + HISTORY_RANGE_DAYS[i] + " days";
         }
+        options[HISTORY_RANGE_DAYS.length] = "Archive old logs";
+
+        new AlertDialog.Builder(this)
+                .setTitle("Notification History")
+                .setItems(options, (dialog, which) -> {
+                    if (which < HISTORY_RANGE_DAYS.length) {
+                        showDailySummaries(HISTORY_RANGE_DAYS[which]);
+                    } else {
+                        confirmCompaction();
+                    }
+                })
+                .show();
+    }
+
+    /**
+     * Lists daily summaries for the chosen range, applying the current type
+     * filter on the server and the sender-role filter to the role counts.
+     * Summaries only cover logs that have been archived, so recent days
+     * appear here once they pass the retention period.
+     *
+     * @param days how many days back to include
+     */
+    private void showDailySummaries(int days) {
+        String fromDay = NotificationLogService.dayFormat()
+                .format(new Date(System.currentTimeMillis() - days * 24L * 60 * 60 * 1000));
+        String senderRole = senderRoleFor(currentFilter);
+
+        logService.loadSummaries(notificationTypeFor(currentFilter), fromDay, SUMMARY_LIMIT,
+                new NotificationLogService.SummaryCallback() {
+                    @Override
+                    public void onSuccess(List<NotificationLogSummary> summaries) {
+                        if (isFinishing()) return;
+                        StringBuilder message = new StringBuilder();
+                        long total = 0;
+                        for (NotificationLogSummary summary : summaries) {
+                            long count = senderRole != null
+                                    ? summary.countForRole(senderRole) : summary.getCount();
+                            if (count == 0) continue;
+                            total += count;
+                            String name = summary.getEventName() != null
+                                    ? summary.getEventName() : summary.getEventId();
+                            message.append(summary.getDay()).append(" • ").append(name)
+                                    .append(" • ").append(summary.getNotificationType().replace("_", " "))
+                                    .append(": ").append(count).append("\n");
+                        }
+                        if (total == 0) {
+                            message.append("No archived logs in this range");
+                        } else {
+                            message.insert(0, total + " notifications\n\n");
+                        }
+                        new AlertDialog.Builder(AdminNotificationLogsActivity.this)
+                                .setTitle("Last " + days + " Days • " + currentFilter)
+                                .setMessage(message.toString().trim())
+                                .setPositiveButton("OK", null)
+                                .show();
+                    }
+
+                    @Override
+                    public void onFailure(String error) {
+                        Toast.makeText(AdminNotificationLogsActivity.this,
+                                "Error loading summaries: " + error, Toast.LENGTH_SHORT).show();
+                    }
+                });
+    }
+
+    /**
+     * Asks for a retention period and then runs the archive job. Progress is
+     * reported in the log counter, and the list reloads once it finishes.
+     */
+    private void confirmCompaction() {
+        String[] options = new String[RETENTION_OPTIONS_DAYS.length];
+        for (int i = 0; i < RETENTION_OPTIONS_DAYS.length; i++) {
+            options[i] = "Older than " + RETENTION_OPTIONS_DAYS[i] + " days";
+        }
+        int[] selected = {0};
+
+        new AlertDialog.Builder(this)
+                .setTitle("Archive Old Logs")
+                .setSingleChoiceItems(options, 0, (dialog, which) -> selected[0] = which)
+                .setPositiveButton("Archive", (dialog, which) -> {
+                    int retentionDays = RETENTION_OPTIONS_DAYS[selected[0]];
+                    btnHistory.setEnabled(false);
+                    logService.compactOlderThan(retentionDays, new NotificationLogService.CompactionCallback() {
+                        @Override
+                        public void onProgress(int compacted) {
+                            tvTotalLogs.setText("Archiving… " + compacted + " logs");
+                        }
+
+                        @Override
+                        public void onComplete(int compacted) {
+                            btnHistory.setEnabled(true);
+                            Toast.makeText(AdminNotificationLogsActivity.this,
+                                    "Archived " + compacted + " logs", Toast.LENGTH_SHORT).show();
+                            loadNotificationLogs();
+                        }
+
+                        @Override
+                        public void onFailure(String error) {
+                            btnHistory.setEnabled(true);
+                            Toast.makeText(AdminNotificationLogsActivity.this,
+                                    "Archiving failed: " + error, Toast.LENGTH_SHORT).show();
+                            updateUI();
+                        }
+                    });
+                })
+                .setNegativeButton("Cancel", null)
+                .show();
     }
 
     /**
@@ -291,6 +480,17 @@ public class AdminNotificationLogsActivity extends AppCompatActivity {
                 .show();
     }
 
+    /**
+     * Cancels any search still waiting on the debounce delay.
+     */
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        if (pendingSearch != null) {
+            searchHandler.removeCallbacks(pendingSearch);
+        }
+    }
+
     /**
      * Handles action-bar "Up" navigation by closing the activity.
      *
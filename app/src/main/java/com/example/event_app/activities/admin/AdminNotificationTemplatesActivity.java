@@ -19,10 +19,12 @@ import com.example.event_app.R;
 import com.example.event_app.adapters.NotificationTemplateAdapter;
 import com.example.event_app.models.NotificationTemplate;
 import com.example.event_app.utils.AccessibilityHelper;
+import com.example.event_app.utils.FirestoreProvider;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.QueryDocumentSnapshot;
+import com.google.firebase.firestore.QuerySnapshot;
 
 import java.util.ArrayList;
 import java.util.Date;
@@ -72,7 +74,7 @@ public class AdminNotificationTemplatesActivity extends AppCompatActivity {
         }
 
         // Initialize Firebase
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
         mAuth = FirebaseAuth.getInstance();
 
         // Initialize list
@@ -176,23 +178,27 @@ public class AdminNotificationTemplatesActivity extends AppCompatActivity {
      */
     private void loadTemplates() {
         progressBar.setVisibility(View.VISIBLE);
-        db.collection("notification_templates")
-                .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    templateList.clear();
+        FirestoreProvider.getCacheFirst(db.collection("notification_templates"),
+                new FirestoreProvider.SnapshotCallback<QuerySnapshot>() {
+                    @Override
+                    public void onSnapshot(QuerySnapshot queryDocumentSnapshots, boolean fromCache) {
+                        templateList.clear();
+
+                        for (QueryDocumentSnapshot document : queryDocumentSnapshots) {
+                            NotificationTemplate template = document.toObject(NotificationTemplate.class);
+                            templateList.add(template);
+                        }
+                        progressBar.setVisibility(View.GONE);
+                        updateUI();
+                    }
 
-                    for (QueryDocumentSnapshot document : queryDocumentSnapshots) {
-                        NotificationTemplate template = document.toObject(NotificationTemplate.class);
-                        templateList.add(template);
+                    @Override
+                    public void onFailure(String error) {
+                        progressBar.setVisibility(View.GONE);
+                        Toast.makeText(AdminNotificationTemplatesActivity.this, "Error loading templates: " + error,
+                                Toast.LENGTH_SHORT).show();
+                        updateUI();
                     }
-                    progressBar.setVisibility(View.GONE);
-                    updateUI();
-                })
-                .addOnFailureListener(e -> {
-                    progressBar.setVisibility(View.GONE);
-                    Toast.makeText(this, "Error loading templates: " + e.getMessage(),
-                            Toast.LENGTH_SHORT).show();
-                    updateUI();
                 });
     }
 
@@ -11,8 +11,9 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.event_app.R;
 import com.example.event_app.adapters.EventAdapter;
-import com.example.event_app.models.Event;
+import com.example.event_app.models.EventSummary;
 import com.example.event_app.utils.AccessibilityHelper;
+import com.example.event_app.utils.FirestoreProvider;
 import com.google.android.material.button.MaterialButton;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.QueryDocumentSnapshot;
@@ -49,7 +50,7 @@ public class BrowseEventsActivity extends AppCompatActivity {
         new AccessibilityHelper(this).applyAccessibilitySettings(this);
 
         // Initialize Firebase
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
 
         // Initialize views
         initViews();
@@ -105,15 +106,15 @@ public class BrowseEventsActivity extends AppCompatActivity {
     private void loadEvents() {
         showLoading();
 
-        db.collection("events")
+        db.collection(EventSummary.COLLECTION)
                 .whereEqualTo("status", "active")
                 .orderBy("createdAt", com.google.firebase.firestore.Query.Direction.DESCENDING)
                 .get()
                 .addOnSuccessListener(queryDocumentSnapshots -> {
-                    List<Event> events = new ArrayList<>();
+                    List<EventSummary> events = new ArrayList<>();
 
                     for (QueryDocumentSnapshot document : queryDocumentSnapshots) {
-                        Event event = document.toObject(Event.class);
+                        EventSummary event = document.toObject(EventSummary.class);
                         event.setId(document.getId());
                         events.add(event);
                     }
@@ -146,7 +147,7 @@ public class BrowseEventsActivity extends AppCompatActivity {
      *
      * @param events list of active events retrieved from Firestore
      */
-    private void showEvents(List<Event> events) {
+    private void showEvents(List<EventSummary> events) {
         progressBar.setVisibility(View.GONE);
         rvEvents.setVisibility(View.VISIBLE);
         emptyView.setVisibility(View.GONE);
@@ -20,10 +20,16 @@ import androidx.core.content.ContextCompat;
 import com.bumptech.glide.Glide;
 import com.example.event_app.R;
 import com.example.event_app.models.Event;
+import com.example.event_app.models.EventSummary;
 import com.example.event_app.models.GeolocationAudit;
 import com.example.event_app.models.Notification;
+import com.example.event_app.services.EntrantLocationService;
+import com.example.event_app.services.EventCache;
+import com.example.event_app.services.EventStatsService;
 import com.example.event_app.services.NotificationService;
 import com.example.event_app.utils.AccessibilityHelper;
+import com.example.event_app.utils.FirestoreProvider;
+import com.example.event_app.utils.PosterImages;
 import com.example.event_app.utils.Navigator;
 import com.google.android.gms.location.FusedLocationProviderClient;
 import com.google.android.gms.location.LocationServices;
@@ -35,6 +41,7 @@ import com.google.android.material.card.MaterialCardView;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.firestore.FieldValue;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.WriteBatch;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -78,6 +85,8 @@ public class EventDetailsActivity extends AppCompatActivity {
     private FirebaseFirestore db;
     private FirebaseAuth mAuth;
     private NotificationService notificationService;
+    private EventStatsService eventStatsService;
+    private EntrantLocationService entrantLocationService;
     private FusedLocationProviderClient fusedLocationClient;
 
     //  Real-time listener for event updates
@@ -107,9 +116,11 @@ public class EventDetailsActivity extends AppCompatActivity {
             return;
         }
         // Initialize Firebase
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
         mAuth = FirebaseAuth.getInstance();
         notificationService = new NotificationService();
+        eventStatsService = new EventStatsService();
+        entrantLocationService = new EntrantLocationService();
         fusedLocationClient = LocationServices.getFusedLocationProviderClient(this);
         // Initialize views
         initViews();
@@ -178,15 +189,19 @@ public class EventDetailsActivity extends AppCompatActivity {
      *
      * <p>This method:
      * <ul>
-     *   <li>Shows the loading view</li>
+     *   <li>Renders the event straight from {@link EventCache} on first open,
+     *       or shows the loading view if it has not been seen yet</li>
      *   <li>Attaches a Firestore listener</li>
-     *   <li>Updates UI when event data changes</li>
+     *   <li>Updates UI and the cache when event data changes</li>
      * </ul>
      *
-     * Handles missing/invalid event IDs and Firestore errors.
+     * Handles missing/invalid event IDs and Firestore errors. An error only
+     * replaces the screen if nothing has been shown yet.
      */
     private void loadEventDetails() {
-        showLoading();
+        if (event != null || !showCachedEvent()) {
+            showLoading();
+        }
 
         // Remove old listener if exists
         if (eventListener != null) {
@@ -197,11 +212,14 @@ public class EventDetailsActivity extends AppCompatActivity {
         eventListener = db.collection("events").document(eventId)
                 .addSnapshotListener((document, error) -> {
                     if (error != null) {
-                        showError("Failed to load event");
+                        if (contentView.getVisibility() != View.VISIBLE) {
+                            showError("Failed to load event");
+                        }
                         return;
                     }
 
                     if (document == null || !document.exists()) {
+                        EventCache.getInstance().remove(eventId);
                         showError("Event not found");
                         return;
                     }
@@ -209,13 +227,44 @@ public class EventDetailsActivity extends AppCompatActivity {
                     event = document.toObject(Event.class);
                     if (event != null) {
                         event.setId(document.getId());
+                        EventCache.getInstance().put(event);
                         checkIfOrganizer();
-                        displayEventDetails();
+                        displayEventDetails(event);
                         checkUserStatus();
                     }
                 });
     }
 
+    /**
+     * Draws the event from the in-memory cache before the listener fires.
+     *
+     * <p>A full cached event is shown exactly as a snapshot would be. A list
+     * summary only fills the header, with the action buttons hidden until the
+     * full event arrives and the user's status is known.
+     *
+     * @return true if anything was shown
+     */
+    private boolean showCachedEvent() {
+        EventCache cache = EventCache.getInstance();
+
+        Event cached = cache.getEvent(eventId);
+        if (cached != null) {
+            event = cached;
+            checkIfOrganizer();
+            displayEventDetails(event);
+            checkUserStatus();
+            return true;
+        }
+
+        EventSummary summary = cache.getSummary(eventId);
+        if (summary != null) {
+            hideActions();
+            displayEventDetails(summary.toPreviewEvent());
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Populates UI fields with event information including:
      * name, description, organizer, date, capacity, poster image,
@@ -223,8 +272,10 @@ public class EventDetailsActivity extends AppCompatActivity {
      *
      * <p>Also handles optional fields gracefully (e.g., missing poster or location).
      * Shows the content view after binding UI elements.
+     *
+     * @param event the loaded event, or a preview built from its list summary
      */
-    private void displayEventDetails() {
+    private void displayEventDetails(Event event) {
         tvEventName.setText(event.getName());
 
         tvDescription.setText(event.getDescription() != null ?
@@ -254,12 +305,13 @@ public class EventDetailsActivity extends AppCompatActivity {
             tvCapacity.setText("Capacity: Unlimited");
         }
 
-        int waitingCount = event.getWaitingList() != null ? event.getWaitingList().size() : 0;
+        int waitingCount = event.getWaitingList() != null
+                ? event.getWaitingList().size() : event.getWaitingListCount();
         tvWaitingListCount.setText(waitingCount + (waitingCount == 1 ? " person" : " people") + " on waiting list");
 
         if (event.getPosterUrl() != null && !event.getPosterUrl().isEmpty()) {
             Glide.with(this)
-                    .load(event.getPosterUrl())
+                    .load(PosterImages.modelFor(event.getPosterUrl()))
                     .centerCrop()
                     .into(ivPoster);
         }
@@ -427,13 +479,17 @@ public class EventDetailsActivity extends AppCompatActivity {
 
         // Priority order: If accepted, remove from all other lists
         if (hasAccepted) {
-            updates.put("waitingList", FieldValue.arrayRemove(userId));
+            if (isOnWaitingList) {
+                updates.putAll(EventStatsService.leaveWaitingListUpdates(userId));
+            }
             updates.put("selectedList", FieldValue.arrayRemove(userId));
             updates.put("declinedUsers", FieldValue.arrayRemove(userId));
         }
         // If selected but not accepted, remove from waiting list
         else if (isSelected) {
-            updates.put("waitingList", FieldValue.arrayRemove(userId));
+            if (isOnWaitingList) {
+                updates.putAll(EventStatsService.leaveWaitingListUpdates(userId));
+            }
             updates.put("declinedUsers", FieldValue.arrayRemove(userId));
         }
         // If on waiting list, remove from selected/declined
@@ -470,11 +526,7 @@ public class EventDetailsActivity extends AppCompatActivity {
      */
     private void updateButtonState() {
         // Hide all buttons first
-        btnJoinWaitingList.setVisibility(View.GONE);
-        btnLeaveWaitingList.setVisibility(View.GONE);
-        if (btnAcceptInvitation != null) btnAcceptInvitation.setVisibility(View.GONE);
-        if (btnDeclineInvitation != null) btnDeclineInvitation.setVisibility(View.GONE);
-        if (cardInvitation != null) cardInvitation.setVisibility(View.GONE);
+        hideActions();
 
         if (hasAccepted) {
             // User has accepted - show status
@@ -502,6 +554,17 @@ public class EventDetailsActivity extends AppCompatActivity {
         }
     }
 
+    /**
+     * Hides every waiting list and invitation action.
+     */
+    private void hideActions() {
+        btnJoinWaitingList.setVisibility(View.GONE);
+        btnLeaveWaitingList.setVisibility(View.GONE);
+        if (btnAcceptInvitation != null) btnAcceptInvitation.setVisibility(View.GONE);
+        if (btnDeclineInvitation != null) btnDeclineInvitation.setVisibility(View.GONE);
+        if (cardInvitation != null) cardInvitation.setVisibility(View.GONE);
+    }
+
     /**
      * Attempts to add the current user to the waiting list.
      *
@@ -698,7 +761,7 @@ public class EventDetailsActivity extends AppCompatActivity {
      * </ul>
      *
      * <p>If valid location data is provided, the user's latitude and longitude
-     * are saved under `entrantLocations.{userId}`.
+     * are saved to `events/{eventId}/locations/{userId}` in the same batch.
      *
      * <p>After saving, a notification is sent to the user and the UI is refreshed.
      *
@@ -706,22 +769,18 @@ public class EventDetailsActivity extends AppCompatActivity {
      * @param location The user's location, or {@code null} if unavailable.
      */
     private void addToWaitingList(String userId, Location location) {
-        Map<String, Object> updates = new HashMap<>();
-        updates.put("waitingList", FieldValue.arrayUnion(userId));
+        WriteBatch batch = db.batch();
+        batch.update(db.collection("events").document(eventId),
+                EventStatsService.joinWaitingListUpdates(userId));
 
         // If we have location and geolocation is enabled, save it
         if (location != null && event.isGeolocationEnabled()) {
-            Map<String, Object> locationData = new HashMap<>();
-            locationData.put("latitude", location.getLatitude());
-            locationData.put("longitude", location.getLongitude());
-
-            String locationPath = "entrantLocations." + userId;
-            updates.put(locationPath, locationData);
+            entrantLocationService.addToBatch(batch, eventId, userId,
+                    location.getLatitude(), location.getLongitude());
         }
 
         // Update Firebase
-        db.collection("events").document(eventId)
-                .update(updates)
+        batch.commit()
                 .addOnSuccessListener(aVoid -> {
                     Toast.makeText(this,
                             "Joined waiting list!" + (location != null ? " 📍" : ""),
@@ -821,7 +880,7 @@ public class EventDetailsActivity extends AppCompatActivity {
         btnLeaveWaitingList.setEnabled(false);
 
         db.collection("events").document(eventId)
-                .update("waitingList", FieldValue.arrayRemove(userId))
+                .update(EventStatsService.leaveWaitingListUpdates(userId))
                 .addOnSuccessListener(aVoid -> {
                     Toast.makeText(this, "Left waiting list", Toast.LENGTH_SHORT).show();
                     loadEventDetails();
@@ -879,11 +938,11 @@ public class EventDetailsActivity extends AppCompatActivity {
             btnDeclineInvitation.setEnabled(false);
         }
 
-        db.collection("events").document(eventId)
-                .update(
-                        "selectedList", FieldValue.arrayRemove(userId),
-                        "signedUpUsers", FieldValue.arrayUnion(userId)
-                )
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("selectedList", FieldValue.arrayRemove(userId));
+        updates.put("signedUpUsers", FieldValue.arrayUnion(userId));
+
+        eventStatsService.updateWithCancellationStats(eventId, updates, 0)
                 .addOnSuccessListener(aVoid -> {
                     Toast.makeText(this, "Registration confirmed!", Toast.LENGTH_SHORT).show();
 
@@ -951,11 +1010,12 @@ public class EventDetailsActivity extends AppCompatActivity {
             btnDeclineInvitation.setEnabled(false);
         }
 
-        db.collection("events").document(eventId)
-                .update(
-                        "selectedList", FieldValue.arrayRemove(userId),
-                        "declinedUsers", FieldValue.arrayUnion(userId)
-                )
+        // Counts the decline and refreshes the stored cancellation stats
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("selectedList", FieldValue.arrayRemove(userId));
+        updates.put("declinedUsers", FieldValue.arrayUnion(userId));
+
+        eventStatsService.updateWithCancellationStats(eventId, updates, 1)
                 .addOnSuccessListener(aVoid -> {
                     Toast.makeText(this, "Invitation declined", Toast.LENGTH_SHORT).show();
 
@@ -20,8 +20,12 @@ import com.example.event_app.models.User;
 import com.example.event_app.services.MyFirebaseMessagingService;
 import com.example.event_app.utils.AccessibilityHelper;
 import com.example.event_app.utils.FCMTokenManager;
+import com.example.event_app.utils.FirestoreProvider;
+import com.example.event_app.utils.SessionCache;
+import com.example.event_app.utils.StartupTimer;
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.firestore.DocumentSnapshot;
 import com.google.firebase.firestore.FirebaseFirestore;
 
 
@@ -37,12 +41,18 @@ import com.google.firebase.firestore.FirebaseFirestore;
  *
  * This activity hosts three fragments and initializes the user's Firestore
  * information, notification permissions, and FCM token lifecycle.
+ *
+ * When SplashActivity routed here from the cached role, the first profile
+ * load confirms that role and reroutes to the admin dashboard if it changed.
  */
 public class MainActivity extends AppCompatActivity {
     private BottomNavigationView bottomNav;
     private FirebaseAuth mAuth;
     private FirebaseFirestore db;
     private User currentUser;
+    private SessionCache sessionCache;
+    private boolean confirmRoute;
+    private boolean skipNextReload;
     private static final int NOTIFICATION_PERMISSION_REQUEST_CODE = 100;
     private static final String TAG = "MainActivity";
 
@@ -51,10 +61,13 @@ public class MainActivity extends AppCompatActivity {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_main);
         new AccessibilityHelper(this).applyAccessibilitySettings(this);
+        StartupTimer.markFirstFrame(this);
 
         // Initialize Firebase
         mAuth = FirebaseAuth.getInstance();
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
+        sessionCache = new SessionCache(this);
+        confirmRoute = getIntent().getBooleanExtra(SplashActivity.EXTRA_CACHED_ROUTE, false);
 
         // Request notification permission
         requestNotificationPermission();
@@ -62,8 +75,14 @@ public class MainActivity extends AppCompatActivity {
         // Initialize FCM token
         FCMTokenManager.initializeFCMToken();
 
-        // Load user data (for admin check) and check for cached FCM token
-        loadCurrentUser();
+        // Use the profile SplashActivity just fetched; onResume loads it otherwise
+        if (mAuth.getCurrentUser() != null) {
+            currentUser = SessionCache.takeHandedOffUser(mAuth.getCurrentUser().getUid());
+            if (currentUser != null) {
+                skipNextReload = true;
+                MyFirebaseMessagingService.checkAndSaveCachedToken(getApplicationContext());
+            }
+        }
 
         // Initialize bottom navigation
         bottomNav = findViewById(R.id.bottom_navigation);
@@ -107,26 +126,73 @@ public class MainActivity extends AppCompatActivity {
      * <p>Once the user document is confirmed to exist, this method triggers
      * {@link MyFirebaseMessagingService#checkAndSaveCachedToken(android.content.Context)}
      * to handle token delivery if the device generated a token before login.
+     *
+     * <p>Each load refreshes the role saved in {@link SessionCache}. If the
+     * role this screen was opened from has not been confirmed by the server
+     * yet, an admin is sent to the dashboard and a missing profile back to the
+     * splash screen.
      */
     private void loadCurrentUser() {
         if (mAuth.getCurrentUser() == null) return;
 
         String userId = mAuth.getCurrentUser().getUid();
 
-        db.collection("users").document(userId)
-                .get()
-                .addOnSuccessListener(document -> {
-                    if (document.exists()) {
+        FirestoreProvider.getCacheFirst(db.collection("users").document(userId),
+                new FirestoreProvider.SnapshotCallback<DocumentSnapshot>() {
+                    @Override
+                    public void onSnapshot(DocumentSnapshot document, boolean fromCache) {
+                        if (isFinishing()) return;
+                        if (!document.exists()) {
+                            if (confirmRoute && !fromCache) {
+                                restartFromSplash();
+                            }
+                            return;
+                        }
+                        boolean firstLoad = currentUser == null;
                         currentUser = document.toObject(User.class);
-                        //After confirming the user exists and is logged in,
-                        // check if a token was generated while they were logged out and save it.
-                        MyFirebaseMessagingService.checkAndSaveCachedToken(getApplicationContext());
+                        sessionCache.save(userId, currentUser);
+                        // The cached copy is as old as the cached role, so only the server confirms it
+                        if (confirmRoute && !fromCache) {
+                            confirmRoute = false;
+                            if (currentUser != null && currentUser.isAdmin()) {
+                                openAdminHome();
+                                return;
+                            }
+                        }
+                        if (firstLoad) {
+                            //After confirming the user exists and is logged in,
+                            // check if a token was generated while they were logged out and save it.
+                            MyFirebaseMessagingService.checkAndSaveCachedToken(getApplicationContext());
+                        }
+                    }
+
+                    @Override
+                    public void onFailure(String error) {
                     }
-                })
-                .addOnFailureListener(e -> {
                 });
     }
 
+    /**
+     * Replaces this screen with the admin dashboard after the cached role
+     * turned out to be outdated.
+     */
+    private void openAdminHome() {
+        startActivity(new Intent(this, AdminHomeActivity.class));
+        finish();
+    }
+
+    /**
+     * Forgets the cached role and lets SplashActivity route again, e.g. when
+     * the profile was deleted since the last launch.
+     */
+    private void restartFromSplash() {
+        sessionCache.clear();
+        Intent intent = new Intent(this, SplashActivity.class);
+        intent.setFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK);
+        startActivity(intent);
+        finish();
+    }
+
     /**
      * Requests Android 13+ POST_NOTIFICATIONS permission.
      *
@@ -216,10 +282,17 @@ public class MainActivity extends AppCompatActivity {
      *     <li>Role changes (e.g., promoted to admin) are reflected</li>
      *     <li>Updated FCM token caches are synchronized</li>
      * </ul>
+     *
+     * <p>Also performs the first load, unless SplashActivity handed over a
+     * freshly read profile.
      */
     @Override
     protected void onResume() {
         super.onResume();
+        if (skipNextReload) {
+            skipNextReload = false;
+            return;
+        }
         // Reload user data when returning to activity
         loadCurrentUser();
     }
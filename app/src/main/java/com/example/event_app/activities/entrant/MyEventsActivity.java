@@ -14,6 +14,7 @@ import com.example.event_app.R;
 import com.example.event_app.adapters.MyEventsAdapter;
 import com.example.event_app.models.Event;
 import com.example.event_app.utils.AccessibilityHelper;
+import com.example.event_app.utils.FirestoreProvider;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.tabs.TabLayout;
 import com.google.firebase.auth.FirebaseAuth;
@@ -60,7 +61,7 @@ public class MyEventsActivity extends AppCompatActivity {
         new AccessibilityHelper(this).applyAccessibilitySettings(this);
 
         // Initialize Firebase
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
         mAuth = FirebaseAuth.getInstance();
         userId = mAuth.getCurrentUser().getUid();
 
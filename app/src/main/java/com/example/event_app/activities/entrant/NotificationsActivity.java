@@ -17,6 +17,7 @@ import com.example.event_app.adapters.NotificationAdapter;
 import com.example.event_app.models.Notification;
 import com.example.event_app.services.NotificationService;
 import com.example.event_app.utils.AccessibilityHelper;
+import com.example.event_app.utils.FirestoreProvider;
 import com.google.android.material.button.MaterialButton;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.firestore.FirebaseFirestore;
@@ -65,7 +66,7 @@ public class NotificationsActivity extends AppCompatActivity {
 
         // Initialize Firebase
         mAuth = FirebaseAuth.getInstance();
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
         notificationService = new NotificationService();
         notifications = new ArrayList<>();
 
@@ -105,7 +106,7 @@ public class NotificationsActivity extends AppCompatActivity {
      * • Click on delete icon → delete the notification
      */
     private void setupRecyclerView() {
-        adapter = new NotificationAdapter(this, notifications, new NotificationAdapter.NotificationClickListener() {
+        adapter = new NotificationAdapter(this, new NotificationAdapter.NotificationClickListener() {
             @Override
             public void onNotificationClick(Notification notification) {
                 // Mark as read when clicked
@@ -166,7 +167,7 @@ public class NotificationsActivity extends AppCompatActivity {
                     if (snapshots == null || snapshots.isEmpty()) {
                         notifications.clear();
                         showEmpty();
-                        adapter.notifyDataSetChanged();
+                        adapter.submitList(new ArrayList<>(notifications));
                         updateButtonStates();
                         return;
                     }
@@ -180,7 +181,7 @@ public class NotificationsActivity extends AppCompatActivity {
                         notifications.add(notification);
                     }
                     showNotifications();
-                    adapter.notifyDataSetChanged();
+                    adapter.submitList(new ArrayList<>(notifications));
                     updateButtonStates();
                 });
     }
@@ -211,7 +212,7 @@ public class NotificationsActivity extends AppCompatActivity {
                     showNotifications();
                 }
 
-                adapter.notifyDataSetChanged();
+                adapter.submitList(new ArrayList<>(notifications));
                 updateButtonStates();
             }
 
@@ -232,8 +233,12 @@ public class NotificationsActivity extends AppCompatActivity {
                 new NotificationService.NotificationCallback() {
                     @Override
                     public void onSuccess() {
+                        // Same instance the adapter holds, so a diff would not see it
                         notification.setRead(true);
-                        adapter.notifyDataSetChanged();
+                        int position = notifications.indexOf(notification);
+                        if (position >= 0) {
+                            adapter.notifyItemChanged(position);
+                        }
                         updateButtonStates();
                     }
 
@@ -257,7 +262,7 @@ public class NotificationsActivity extends AppCompatActivity {
                 for (Notification notification : notifications) {
                     notification.setRead(true);
                 }
-                adapter.notifyDataSetChanged();
+                adapter.notifyItemRangeChanged(0, notifications.size());
                 updateButtonStates();
             }
 
@@ -277,7 +282,7 @@ public class NotificationsActivity extends AppCompatActivity {
                     @Override
                     public void onSuccess() {
                         notifications.remove(notification);
-                        adapter.notifyDataSetChanged();
+                        adapter.submitList(new ArrayList<>(notifications));
 
                         if (notifications.isEmpty()) {
                             showEmpty();
@@ -317,7 +322,7 @@ public class NotificationsActivity extends AppCompatActivity {
             @Override
             public void onSuccess() {
                 notifications.clear();
-                adapter.notifyDataSetChanged();
+                adapter.submitList(new ArrayList<>(notifications));
                 showEmpty();
                 updateButtonStates();
             }
@@ -16,6 +16,8 @@ import androidx.appcompat.app.AppCompatActivity;
 import com.example.event_app.R;
 import com.example.event_app.models.User;
 import com.example.event_app.utils.AccessibilityHelper;
+import com.example.event_app.utils.FirestoreProvider;
+import com.example.event_app.utils.SessionCache;
 import com.example.event_app.utils.UserRole;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.switchmaterial.SwitchMaterial;
@@ -57,7 +59,7 @@ public class SettingsActivity extends AppCompatActivity {
 
         // Initialize Firebase
         mAuth = FirebaseAuth.getInstance();
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
 
         if (mAuth.getCurrentUser() != null) {
             userId = mAuth.getCurrentUser().getUid();
@@ -180,9 +182,15 @@ public class SettingsActivity extends AppCompatActivity {
         currentUser.setPhoneNumber(phone);
         currentUser.setUpdatedAt(System.currentTimeMillis());
 
-        // Save to Firestore
+        // Save only the edited fields, so a full-document write cannot overwrite
+        // counters that EventsHostedCountProvider adjusts, e.g. eventsHostedCount
         db.collection("users").document(userId)
-                .set(currentUser)
+                .update("name", currentUser.getName(),
+                        "nameLower", currentUser.getNameLower(),
+                        "email", currentUser.getEmail(),
+                        "emailLower", currentUser.getEmailLower(),
+                        "phoneNumber", currentUser.getPhoneNumber(),
+                        "updatedAt", currentUser.getUpdatedAt())
                 .addOnSuccessListener(aVoid -> {
                     Toast.makeText(this, "Profile updated!", Toast.LENGTH_SHORT).show();
                     btnSave.setEnabled(true);
@@ -262,6 +270,8 @@ public class SettingsActivity extends AppCompatActivity {
         db.collection("users").document(userId)
                 .delete()
                 .addOnSuccessListener(aVoid -> {
+                    new SessionCache(this).clear();
+
                     // Delete Firebase Auth account
                     mAuth.getCurrentUser().delete()
                             .addOnSuccessListener(unused -> {
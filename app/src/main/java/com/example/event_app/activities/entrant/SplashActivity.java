@@ -16,6 +16,9 @@ import com.example.event_app.R;
 import com.example.event_app.activities.admin.AdminHomeActivity;
 import com.example.event_app.activities.shared.ProfileSetupActivity;
 import com.example.event_app.models.User;
+import com.example.event_app.utils.FirestoreProvider;
+import com.example.event_app.utils.SessionCache;
+import com.example.event_app.utils.StartupTimer;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.firestore.DocumentSnapshot;
 import com.google.firebase.firestore.FirebaseFirestore;
@@ -31,17 +34,29 @@ import com.google.firebase.firestore.FirebaseFirestore;
  * • Authenticates anonymously if no user session exists
  * • Checks whether user profile exists
  * • Routes to AdminHomeActivity, MainActivity, or ProfileSetupActivity
+ *
+ * Returning users skip the splash delay: the role saved in SessionCache at
+ * the last profile load routes them straight away, and the home screen
+ * revalidates the profile and reroutes if the role has since changed.
  */
 @SuppressLint("CustomSplashScreen")
 public class SplashActivity extends AppCompatActivity {
+    /**
+     * Intent extra set when the home screen was opened from the cached role
+     * and still has to confirm it.
+     */
+    public static final String EXTRA_CACHED_ROUTE = "cachedRoute";
+
     private static final int SPLASH_DURATION = 1500; // 1.5 seconds
     private FirebaseAuth mAuth;
     private FirebaseFirestore db;
     private String deviceId;
+    private SessionCache sessionCache;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        StartupTimer.mark("Splash created");
         setContentView(R.layout.activity_splash);
 
         // Make fully immersive
@@ -52,7 +67,18 @@ public class SplashActivity extends AppCompatActivity {
 
         // Initialize Firebase
         mAuth = FirebaseAuth.getInstance();
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
+        sessionCache = new SessionCache(this);
+
+        // Returning user with a known role: no need to wait
+        if (mAuth.getCurrentUser() != null) {
+            SessionCache.Route cachedRoute = sessionCache.getRoute(mAuth.getCurrentUser().getUid());
+            if (cachedRoute != null) {
+                StartupTimer.mark("Route decided from cache");
+                navigateToHome(cachedRoute, true);
+                return;
+            }
+        }
 
         // Get unique device ID
         deviceId = getUniqueDeviceId();
@@ -137,28 +163,37 @@ public class SplashActivity extends AppCompatActivity {
     }
 
     /**
-     * Retrieves the user's Firestore profile based on FirebaseAuth UID.
+     * Retrieves the user's Firestore profile based on FirebaseAuth UID,
+     * from the local cache when possible.
      *
      * Behavior:
      * • If profile exists → routeUserByRole(document)
      * • If profile does NOT exist → navigateToProfileSetup()
      * • If Firestore request fails → navigateToProfileSetup()
+     *
+     * Only the first answer routes; the splash screen is finished by then.
      */
     private void checkUserProfile() {
         String userId = mAuth.getCurrentUser().getUid();
 
-        db.collection("users")
-                .document(userId)
-                .get()
-                .addOnSuccessListener(document -> {
-                    if (document.exists()) {
-                        routeUserByRole(document);
-                    } else {
-                        navigateToProfileSetup();
+        FirestoreProvider.getCacheFirst(db.collection("users").document(userId),
+                new FirestoreProvider.SnapshotCallback<DocumentSnapshot>() {
+                    @Override
+                    public void onSnapshot(DocumentSnapshot document, boolean fromCache) {
+                        if (isFinishing()) return;
+                        if (document.exists()) {
+                            routeUserByRole(document, fromCache);
+                        } else {
+                            navigateToProfileSetup();
+                        }
+                    }
+
+                    @Override
+                    public void onFailure(String error) {
+                        if (!isFinishing()) {
+                            navigateToProfileSetup();
+                        }
                     }
-                })
-                .addOnFailureListener(e -> {
-                    navigateToProfileSetup();
                 });
     }
 
@@ -168,20 +203,41 @@ public class SplashActivity extends AppCompatActivity {
      * Admin → AdminHomeActivity
      * Regular user → MainActivity
      *
-     * Applies fade-in/out transition and finishes the splash activity.
+     * Saves the role for the next cold start. A profile fresh from the server
+     * is handed to the home screen so it does not read it again.
      *
      * @param document A Firestore snapshot containing the user's profile data.
+     * @param fromCache Whether the snapshot came from the local cache.
      */
-    private void routeUserByRole(DocumentSnapshot document) {
+    private void routeUserByRole(DocumentSnapshot document, boolean fromCache) {
         User user = document.toObject(User.class);
-        Intent intent;
+        String userId = document.getId();
 
-        if (user != null && user.isAdmin()) {
-            intent = new Intent(this, AdminHomeActivity.class);
-        } else {
-            intent = new Intent(this, MainActivity.class);
+        sessionCache.save(userId, user);
+        if (!fromCache) {
+            SessionCache.handOff(userId, user);
         }
 
+        StartupTimer.mark("Route decided from profile");
+        // A cached profile may be stale; the home screen confirms it with the server
+        navigateToHome(SessionCache.Route.of(user), fromCache);
+    }
+
+    /**
+     * Opens the home screen for a role.
+     *
+     * Applies fade-in/out transition and finishes the splash activity.
+     *
+     * @param route Home screen to open.
+     * @param cachedRoute Whether the role came from SessionCache or the local
+     *                    Firestore cache and still needs confirming.
+     */
+    private void navigateToHome(SessionCache.Route route, boolean cachedRoute) {
+        Intent intent = route == SessionCache.Route.ADMIN
+                ? new Intent(this, AdminHomeActivity.class)
+                : new Intent(this, MainActivity.class);
+        intent.putExtra(EXTRA_CACHED_ROUTE, cachedRoute);
+
         startActivity(intent);
         overridePendingTransition(android.R.anim.fade_in, android.R.anim.fade_out);
         finish();
@@ -194,6 +250,7 @@ public class SplashActivity extends AppCompatActivity {
      * Applies fade-in/out transition and finishes the splash activity.
      */
     private void navigateToProfileSetup() {
+        StartupTimer.mark("Route decided: profile setup");
         Intent intent = new Intent(this, ProfileSetupActivity.class);
         intent.putExtra("deviceId", deviceId);
         intent.putExtra("userId", mAuth.getCurrentUser() != null ?
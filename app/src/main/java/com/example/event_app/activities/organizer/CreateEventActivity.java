@@ -32,20 +32,19 @@ import com.bumptech.glide.Glide;
 import com.example.event_app.R;
 import com.example.event_app.activities.entrant.MainActivity;
 import com.example.event_app.models.Event;
+import com.example.event_app.services.EventsHostedCountProvider;
+import com.example.event_app.services.ImageIndexService;
+import com.example.event_app.services.PosterUploadService;
 import com.example.event_app.utils.AccessibilityHelper;
+import com.example.event_app.utils.AddressGeocoder;
+import com.example.event_app.utils.FirestoreProvider;
+import com.example.event_app.utils.QrCodeRenderer;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.switchmaterial.SwitchMaterial;
 import com.google.android.material.textfield.TextInputEditText;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.firestore.FirebaseFirestore;
-import com.google.firebase.storage.FirebaseStorage;
-import com.google.firebase.storage.StorageReference;
-import com.google.zxing.BarcodeFormat;
-import com.google.zxing.WriterException;
-import com.google.zxing.common.BitMatrix;
-import com.google.zxing.qrcode.QRCodeWriter;
-
-import java.io.ByteArrayOutputStream;
+
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
@@ -95,7 +94,6 @@ public class CreateEventActivity extends AppCompatActivity {
     // Firebase
     private FirebaseAuth mAuth;
     private FirebaseFirestore db;
-    private FirebaseStorage storage;
 
     // Data
     private Uri posterUri;
@@ -122,8 +120,7 @@ public class CreateEventActivity extends AppCompatActivity {
 
         // Initialize Firebase
         mAuth = FirebaseAuth.getInstance();
-        db = FirebaseFirestore.getInstance();
-        storage = FirebaseStorage.getInstance();
+        db = FirestoreProvider.get();
 
         // Initialize views
         initViews();
@@ -583,6 +580,7 @@ public class CreateEventActivity extends AppCompatActivity {
      * Validates all user inputs, parses capacity, prepares an
      * Event object, and begins the creation workflow:
      * <ol>
+     *   <li>Geocode the location for nearby searches</li>
      *   <li>Upload poster (if provided)</li>
      *   <li>Save event to Firestore</li>
      *   <li>Add organizer role if first-time organizer</li>
@@ -639,6 +637,31 @@ public class CreateEventActivity extends AppCompatActivity {
         // US 02.02.03: Set geolocation requirement
         event.setGeolocationEnabled(geolocationEnabled);
 
+        // Geocode the location so the event shows up in nearby searches
+        AddressGeocoder.geocode(this, location, new AddressGeocoder.GeocodeCallback() {
+            @Override
+            public void onFound(double latitude, double longitude) {
+                event.setCoordinates(latitude, longitude);
+                loadOrganizerAndSave(eventId, event, name);
+            }
+
+            @Override
+            public void onNotFound() {
+                Log.d(TAG, "No coordinates for location \"" + location + "\"");
+                loadOrganizerAndSave(eventId, event, name);
+            }
+        });
+    }
+
+    /**
+     * Fills in the organizer's name, then uploads the poster (if any) and
+     * saves the event.
+     *
+     * @param eventId Firestore document ID
+     * @param event event data object
+     * @param name event name used for poster metadata and dialogs
+     */
+    private void loadOrganizerAndSave(String eventId, Event event, String name) {
         // Get organizer name
         String userId = mAuth.getCurrentUser().getUid();
         db.collection("users").document(userId).get()
@@ -694,8 +717,9 @@ public class CreateEventActivity extends AppCompatActivity {
 
     /**
      * Uploads the event poster to Firebase Storage.
-     * When upload succeeds:
-     * - Retrieves the poster URL
+     * The image is downscaled into thumbnail, card and full WebP renditions
+     * before upload. When upload succeeds:
+     * - Stores the rendition URLs on the event
      * - Proceeds to save event data in Firestore
      *
      * If upload fails, event is still created without a poster.
@@ -705,22 +729,22 @@ public class CreateEventActivity extends AppCompatActivity {
      * @param eventName event name for poster metadata
      */
     private void uploadPosterAndCreateEvent(String eventId, Event event, String eventName) {
-        StorageReference posterRef = storage.getReference()
-                .child("event_posters")
-                .child(eventId + ".jpg");
-
-        posterRef.putFile(posterUri)
-                .addOnSuccessListener(taskSnapshot -> {
-                    // Get download URL
-                    posterRef.getDownloadUrl().addOnSuccessListener(uri -> {
-                        event.setPosterUrl(uri.toString());
-                        saveEventToFirestore(eventId, event, eventName);
-                    });
-                })
-                .addOnFailureListener(e -> {
-                    Toast.makeText(this, "Failed to upload poster, creating event without it", Toast.LENGTH_SHORT).show();
-                    saveEventToFirestore(eventId, event, eventName);
-                });
+        new PosterUploadService(this).uploadPoster(eventId, posterUri, new PosterUploadService.UploadCallback() {
+            @Override
+            public void onSuccess(PosterUploadService.PosterUrls urls) {
+                event.setPosterUrl(urls.getFullUrl());
+                event.setPosterCardUrl(urls.getCardUrl());
+                event.setPosterThumbUrl(urls.getThumbUrl());
+                new ImageIndexService().recordEventPoster(event, urls.getStoragePath(), urls.getFullUrl());
+                saveEventToFirestore(eventId, event, eventName);
+            }
+
+            @Override
+            public void onFailure(String error) {
+                Toast.makeText(CreateEventActivity.this, "Failed to upload poster, creating event without it", Toast.LENGTH_SHORT).show();
+                saveEventToFirestore(eventId, event, eventName);
+            }
+        });
     }
 
     /**
@@ -737,11 +761,13 @@ public class CreateEventActivity extends AppCompatActivity {
         db.collection("events").document(eventId)
                 .set(event)
                 .addOnSuccessListener(aVoid -> {
+                    new EventsHostedCountProvider().adjustCount(userId, 1);
+
                     // Add "organizer" role to user if they don't have it
                     addOrganizerRoleToUser(userId);
 
                     // Generate and upload QR code
-                    generateAndUploadQRCode(eventId, eventName);
+                    generateQRCode(eventId, eventName);
                 })
                 .addOnFailureListener(e -> {
                     hideLoading();
@@ -781,94 +807,29 @@ public class CreateEventActivity extends AppCompatActivity {
     }
 
     /**
-     * Generates a QR code bitmap for the event ID, converts it to bytes,
-     * uploads it to Firebase Storage, and then displays the success dialog.
+     * Renders the event's QR code on a background thread and then displays the
+     * success dialog. The QR only encodes the event ID and can be re-rendered
+     * anywhere, so no copy is uploaded to Firebase Storage.
      *
      * @param eventId event identifier encoded in the QR code
      * @param eventName name used for display/sharing
      */
-    private void generateAndUploadQRCode(String eventId, String eventName) {
-        try {
-            // Generate QR code bitmap
-            generateQRCodeBitmap(eventId);
-            Bitmap bitmap = qrBitmap;
-
-            // Convert to byte array
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            bitmap.compress(Bitmap.CompressFormat.PNG, 100, baos);
-            byte[] data = baos.toByteArray();
-
-            // Upload to Firebase Storage
-            StorageReference qrRef = storage.getReference()
-                    .child("qr_codes")
-                    .child(eventId + ".png");
-
-            qrRef.putBytes(data)
-                    .addOnSuccessListener(taskSnapshot -> {
-                        hideLoading();
-                        showSuccessAndNavigate(eventId, eventName);
-                    })
-                    .addOnFailureListener(e -> {
-                        hideLoading();
-                        // Still show success even if QR upload fails
-                        showSuccessAndNavigate(eventId, eventName);
-                    });
-
-        } catch (WriterException e) {
-            hideLoading();
-            // Still navigate to QR code display
-            showSuccessAndNavigate(eventId, eventName);
-        }
-    }
-
-    /**
-     * After successful event creation and QR upload, displays a QR dialog.
-     * If the generated QR bitmap is missing, attempts regeneration.
-     *
-     * @param eventId Firestore event ID
-     * @param eventName event title for display
-     */
-    private void showSuccessAndNavigate(String eventId, String eventName) {
-        // Show QR code dialog first, then navigate when closed
-        if (qrBitmap != null) {
-            showQRCodeDialog(eventId, eventName);
-        } else {
-            // If QR bitmap is not available, try to generate it again
-            try {
-                generateQRCodeBitmap(eventId);
-                if (qrBitmap != null) {
-                    showQRCodeDialog(eventId, eventName);
-                } else {
-                    navigateToQRCodeActivity(eventId, eventName);
-                }
-            } catch (Exception e) {
-                Log.e(TAG, "Error generating QR code for display", e);
-                navigateToQRCodeActivity(eventId, eventName);
+    private void generateQRCode(String eventId, String eventName) {
+        QrCodeRenderer.render(eventId, QrCodeRenderer.DEFAULT_SIZE_PX, new QrCodeRenderer.RenderCallback() {
+            @Override
+            public void onRendered(Bitmap bitmap) {
+                qrBitmap = bitmap;
+                hideLoading();
+                showQRCodeDialog(eventId, eventName);
             }
-        }
-    }
-
-    /**
-     * Generates a QR code bitmap encoding the eventId.
-     *
-     * @param eventId string to encode into QR code
-     * @throws WriterException if QR generation fails
-     */
-    private void generateQRCodeBitmap(String eventId) throws WriterException {
-        QRCodeWriter writer = new QRCodeWriter();
-        BitMatrix bitMatrix = writer.encode(eventId, BarcodeFormat.QR_CODE, 512, 512);
 
-        int width = bitMatrix.getWidth();
-        int height = bitMatrix.getHeight();
-        Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.RGB_565);
-
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                bitmap.setPixel(x, y, bitMatrix.get(x, y) ? 0xFF000000 : 0xFFFFFFFF);
+            @Override
+            public void onFailure(String error) {
+                Log.e(TAG, "Error generating QR code: " + error);
+                hideLoading();
+                navigateToQRCodeActivity(eventId, eventName);
             }
-        }
-
-        qrBitmap = bitmap;
+        });
     }
 
     /**
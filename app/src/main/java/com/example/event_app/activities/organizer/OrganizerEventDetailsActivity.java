@@ -34,18 +34,21 @@ import com.example.event_app.R;
 import com.example.event_app.activities.organizer.ViewEntrantsActivity;
 import com.example.event_app.activities.organizer.ViewEntrantMapActivity;
 import com.example.event_app.models.Event;
+import com.example.event_app.models.EventSummary;
 import com.example.event_app.models.Notification;
+import com.example.event_app.models.NotificationLog;
 import com.example.event_app.models.User;
+import com.example.event_app.services.EntrantLocationService;
+import com.example.event_app.services.EventCache;
+import com.example.event_app.services.EventStatsService;
+import com.example.event_app.services.ImageIndexService;
 import com.example.event_app.services.NotificationService;
+import com.example.event_app.services.PosterUploadService;
 import com.example.event_app.utils.AccessibilityHelper;
+import com.example.event_app.utils.FirestoreProvider;
+import com.example.event_app.utils.QrCodeRenderer;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.FieldValue;
-import com.google.firebase.storage.FirebaseStorage;
-import com.google.firebase.storage.StorageReference;
-import com.google.zxing.BarcodeFormat;
-import com.google.zxing.WriterException;
-import com.google.zxing.common.BitMatrix;
-import com.google.zxing.qrcode.QRCodeWriter;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
@@ -87,8 +90,9 @@ public class OrganizerEventDetailsActivity extends AppCompatActivity {
 
     // Data
     private FirebaseFirestore db;
-    private FirebaseStorage storage;
     private NotificationService notificationService;
+    private EntrantLocationService entrantLocationService;
+    private boolean legacyLocationsMigrated = false;
     private String eventId;
     private Event event;
 
@@ -122,9 +126,9 @@ public class OrganizerEventDetailsActivity extends AppCompatActivity {
         }
 
         // Initialize Firebase
-        db = FirebaseFirestore.getInstance();
-        storage = FirebaseStorage.getInstance();
-        notificationService = new NotificationService();
+        db = FirestoreProvider.get();
+        notificationService = new NotificationService(NotificationLog.SENDER_ROLE_ORGANIZER);
+        entrantLocationService = new EntrantLocationService();
 
         // Initialize views
         initViews();
@@ -245,6 +249,40 @@ public class OrganizerEventDetailsActivity extends AppCompatActivity {
         }
     }
 
+    /**
+     * Shows the cached event, if any, before the listener fires.
+     *
+     * A full event is displayed as usual. A list summary only fills the name,
+     * capacity and counts, and the loading overlay stays up until the full
+     * event arrives.
+     *
+     * @return true if a full event was shown and no loading overlay is needed
+     */
+    private boolean showCachedEvent() {
+        EventCache cache = EventCache.getInstance();
+
+        Event cached = cache.getEvent(eventId);
+        if (cached != null) {
+            event = cached;
+            displayEventInfo();
+            return true;
+        }
+
+        EventSummary summary = cache.getSummary(eventId);
+        if (summary != null) {
+            tvEventName.setText(summary.getName());
+            if (summary.getCapacity() != null) {
+                tvCapacity.setText(String.format("Capacity: %d spots", summary.getCapacity()));
+            } else {
+                tvCapacity.setText("Capacity: Unlimited");
+            }
+            tvWaitingCount.setText(String.valueOf(summary.getWaitingListCount()));
+            tvSelectedCount.setText(String.valueOf(summary.getSelectedCount()));
+            tvAttendingCount.setText(String.valueOf(summary.getAttendingCount()));
+        }
+        return false;
+    }
+
     /**
      * Opens ViewEntrantsActivity to show waiting, selected, and attending lists.
      */
@@ -259,9 +297,14 @@ public class OrganizerEventDetailsActivity extends AppCompatActivity {
      * Automatically updates the UI whenever event data changes.
      *
      * US 02.02.01–04: Organizers see live entrant list changes.
+     *
+     * On first open the event is drawn from {@link EventCache} while the
+     * listener connects.
      */
     private void loadEventDetails() {
-        showLoading();
+        if (event != null || !showCachedEvent()) {
+            showLoading();
+        }
 
         // Remove old listener if exists
         if (eventListener != null) {
@@ -279,15 +322,33 @@ public class OrganizerEventDetailsActivity extends AppCompatActivity {
                     }
 
                     if (document == null || !document.exists()) {
+                        EventCache.getInstance().remove(eventId);
                         Toast.makeText(this, "Event not found", Toast.LENGTH_SHORT).show();
                         hideLoading();
                         finish();
                         return;
                     }
 
+                    // Older events still embed entrant locations; move them out once
+                    if (!legacyLocationsMigrated) {
+                        legacyLocationsMigrated = true;
+                        entrantLocationService.migrateLegacyLocations(document, new EntrantLocationService.MigrationCallback() {
+                            @Override
+                            public void onSuccess(int migrated) {
+                                Log.d(TAG, "Moved " + migrated + " entrant locations to subcollection");
+                            }
+
+                            @Override
+                            public void onFailure(String error) {
+                                legacyLocationsMigrated = false;
+                            }
+                        });
+                    }
+
                     event = document.toObject(Event.class);
                     if (event != null) {
                         event.setId(document.getId());
+                        EventCache.getInstance().put(event);
                         displayEventInfo();
                         Log.d(TAG, "⚡ Real-time update: Event details refreshed");
                     }
@@ -318,71 +379,90 @@ public class OrganizerEventDetailsActivity extends AppCompatActivity {
             return;
         }
 
-        // Check for location data
-        if (event.getEntrantLocations() == null || event.getEntrantLocations().isEmpty()) {
-            Toast.makeText(this, "No entrant locations available yet. Entrants need to join first!", Toast.LENGTH_LONG).show();
-            return;
-        }
-        // Launch map activity
-        Intent intent = new Intent(this, ViewEntrantMapActivity.class);
-        intent.putExtra("EVENT_ID", eventId);
-        startActivity(intent);
+        // Check for location data (a single-document read)
+        entrantLocationService.hasLocations(eventId, new EntrantLocationService.LocationCheckCallback() {
+            @Override
+            public void onResult(boolean hasLocations) {
+                if (isFinishing()) return;
+                if (!hasLocations) {
+                    Toast.makeText(OrganizerEventDetailsActivity.this,
+                            "No entrant locations available yet. Entrants need to join first!",
+                            Toast.LENGTH_LONG).show();
+                    return;
+                }
+                // Launch map activity
+                Intent intent = new Intent(OrganizerEventDetailsActivity.this, ViewEntrantMapActivity.class);
+                intent.putExtra("EVENT_ID", eventId);
+                startActivity(intent);
+            }
+
+            @Override
+            public void onFailure(String error) {
+                Toast.makeText(OrganizerEventDetailsActivity.this,
+                        "Error loading entrant locations", Toast.LENGTH_SHORT).show();
+            }
+        });
     }
 
     /**
-     * Generates a QR code for the event ID and displays it in a custom dialog.
+     * Renders the QR code for the event ID on a background thread (or takes it
+     * from the renderer's cache) and displays it in a custom dialog.
      * Provides options to save the QR code to the gallery or share it externally.
      *
      * US 02.01.01: Generate event QR code.
      */
     private void showQRCode() {
-        try {
-            // Generate QR code bitmap
-            QRCodeWriter writer = new QRCodeWriter();
-            BitMatrix bitMatrix = writer.encode(eventId, BarcodeFormat.QR_CODE, 512, 512);
-
-            int width = bitMatrix.getWidth();
-            int height = bitMatrix.getHeight();
-            final Bitmap qrBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.RGB_565);
-
-            for (int x = 0; x < width; x++) {
-                for (int y = 0; y < height; y++) {
-                    qrBitmap.setPixel(x, y, bitMatrix.get(x, y) ? 0xFF000000 : 0xFFFFFFFF);
-                }
+        btnGenerateQR.setEnabled(false);
+        QrCodeRenderer.render(eventId, QrCodeRenderer.DEFAULT_SIZE_PX, new QrCodeRenderer.RenderCallback() {
+            @Override
+            public void onRendered(Bitmap qrBitmap) {
+                btnGenerateQR.setEnabled(true);
+                if (isFinishing()) return;
+                showQRCodeDialog(qrBitmap);
             }
 
-            // Inflate custom dialog layout
-            View dialogView = getLayoutInflater().inflate(R.layout.dialog_qr_code, null);
+            @Override
+            public void onFailure(String error) {
+                btnGenerateQR.setEnabled(true);
+                Toast.makeText(OrganizerEventDetailsActivity.this, "Failed to generate QR code", Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
 
-            // Set QR code image
-            ImageView ivQrCode = dialogView.findViewById(R.id.ivQrCode);
-            ivQrCode.setImageBitmap(qrBitmap);
+    /**
+     * Displays a rendered QR code with save and share actions.
+     *
+     * @param qrBitmap QR code bitmap for this event
+     */
+    private void showQRCodeDialog(Bitmap qrBitmap) {
+        // Inflate custom dialog layout
+        View dialogView = getLayoutInflater().inflate(R.layout.dialog_qr_code, null);
 
-            // Create dialog
-            AlertDialog dialog = new AlertDialog.Builder(this)
-                    .setView(dialogView)
-                    .create();
+        // Set QR code image
+        ImageView ivQrCode = dialogView.findViewById(R.id.ivQrCode);
+        ivQrCode.setImageBitmap(qrBitmap);
 
-            // Setup button listeners
-            MaterialButton btnSave = dialogView.findViewById(R.id.btnSaveQr);
-            MaterialButton btnShare = dialogView.findViewById(R.id.btnShareQr);
-            MaterialButton btnClose = dialogView.findViewById(R.id.btnCloseQr);
+        // Create dialog
+        AlertDialog dialog = new AlertDialog.Builder(this)
+                .setView(dialogView)
+                .create();
 
-            btnSave.setOnClickListener(v -> {
-                saveQrCodeToGallery(qrBitmap);
-            });
+        // Setup button listeners
+        MaterialButton btnSave = dialogView.findViewById(R.id.btnSaveQr);
+        MaterialButton btnShare = dialogView.findViewById(R.id.btnShareQr);
+        MaterialButton btnClose = dialogView.findViewById(R.id.btnCloseQr);
 
-            btnShare.setOnClickListener(v -> {
-                shareQrCode(qrBitmap);
-            });
+        btnSave.setOnClickListener(v -> {
+            saveQrCodeToGallery(qrBitmap);
+        });
 
-            btnClose.setOnClickListener(v -> dialog.dismiss());
+        btnShare.setOnClickListener(v -> {
+            shareQrCode(qrBitmap);
+        });
 
-            dialog.show();
+        btnClose.setOnClickListener(v -> dialog.dismiss());
 
-        } catch (WriterException e) {
-            Toast.makeText(this, "Failed to generate QR code", Toast.LENGTH_SHORT).show();
-        }
+        dialog.show();
     }
 
     /**
@@ -556,14 +636,15 @@ public class OrganizerEventDetailsActivity extends AppCompatActivity {
         }
 
         // Update Firebase with notSelectedList and lotteryRun flag
-        db.collection("events").document(eventId)
-                .update(
-                        "selectedList", event.getSelectedList(),
-                        "notSelectedList", notSelected,           // Save replacement pool
-                        "lotteryRun", true,                       // Mark lottery as run
-                        "lotteryDate", System.currentTimeMillis(), // Save when lottery ran
-                        "totalSelected", event.getSelectedList().size()
-                )
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("selectedList", event.getSelectedList());
+        updates.put("notSelectedList", notSelected);             // Save replacement pool
+        updates.put("lotteryRun", true);                         // Mark lottery as run
+        updates.put("lotteryDate", System.currentTimeMillis());  // Save when lottery ran
+        updates.put("totalSelected", event.getSelectedList().size());
+
+        // totalSelected changes the cancellation rate, so refresh the stored stats too
+        new EventStatsService().updateWithCancellationStats(eventId, updates, 0)
                 .addOnSuccessListener(aVoid -> {
                     Log.d(TAG, "✅ Lottery completed: " + winners.size() + " winners, " +
                             notSelected.size() + " in replacement pool");
@@ -875,8 +956,9 @@ public class OrganizerEventDetailsActivity extends AppCompatActivity {
     }
 
     /**
-     * Uploads the newly selected event poster to Firebase Storage, retrieves
-     * its public URL, updates the Firestore event document, and refreshes UI.
+     * Downscales the newly selected event poster into WebP renditions, uploads
+     * them to Firebase Storage, stores their URLs on the event document, and
+     * refreshes UI.
      *
      * Disables the button during upload to prevent duplicate submissions.
      */
@@ -886,27 +968,39 @@ public class OrganizerEventDetailsActivity extends AppCompatActivity {
         btnUpdatePoster.setEnabled(false);
         Toast.makeText(this, "Uploading new poster...", Toast.LENGTH_SHORT).show();
 
-        StorageReference posterRef = storage.getReference()
-                .child("event_posters")
-                .child(eventId + ".jpg");
-
-        posterRef.putFile(newPosterUri)
-                .addOnSuccessListener(taskSnapshot -> {
-                    posterRef.getDownloadUrl().addOnSuccessListener(uri -> {
-                        db.collection("events").document(eventId)
-                                .update("posterUrl", uri.toString())
-                                .addOnSuccessListener(aVoid -> {
-                                    Toast.makeText(this, "Poster updated successfully!", Toast.LENGTH_SHORT).show();
-                                    event.setPosterUrl(uri.toString());
-                                    btnUpdatePoster.setEnabled(true);
-                                });
-                    });
-                })
-                .addOnFailureListener(e -> {
-                    Log.e(TAG, "Error uploading poster", e);
-                    Toast.makeText(this, "Failed to update poster", Toast.LENGTH_SHORT).show();
-                    btnUpdatePoster.setEnabled(true);
-                });
+        new PosterUploadService(this).uploadPoster(eventId, newPosterUri, new PosterUploadService.UploadCallback() {
+            @Override
+            public void onSuccess(PosterUploadService.PosterUrls urls) {
+                String previousPosterPath = ImageIndexService.storagePathOf(event.getPosterUrl());
+                Map<String, Object> updates = new HashMap<>();
+                updates.put("posterUrl", urls.getFullUrl());
+                updates.put("posterCardUrl", urls.getCardUrl());
+                updates.put("posterThumbUrl", urls.getThumbUrl());
+
+                db.collection("events").document(eventId)
+                        .update(updates)
+                        .addOnSuccessListener(aVoid -> {
+                            Toast.makeText(OrganizerEventDetailsActivity.this, "Poster updated successfully!", Toast.LENGTH_SHORT).show();
+                            event.setPosterUrl(urls.getFullUrl());
+                            event.setPosterCardUrl(urls.getCardUrl());
+                            event.setPosterThumbUrl(urls.getThumbUrl());
+                            ImageIndexService imageIndex = new ImageIndexService();
+                            imageIndex.recordEventPoster(event, urls.getStoragePath(), urls.getFullUrl());
+                            // The replaced upload's files are left for reconciliation to reclaim
+                            if (previousPosterPath != null) {
+                                imageIndex.detach(previousPosterPath);
+                            }
+                            btnUpdatePoster.setEnabled(true);
+                        });
+            }
+
+            @Override
+            public void onFailure(String error) {
+                Log.e(TAG, "Error uploading poster: " + error);
+                Toast.makeText(OrganizerEventDetailsActivity.this, "Failed to update poster", Toast.LENGTH_SHORT).show();
+                btnUpdatePoster.setEnabled(true);
+            }
+        });
     }
 
     /**
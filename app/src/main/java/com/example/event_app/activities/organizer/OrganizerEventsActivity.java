@@ -13,8 +13,9 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.event_app.R;
 import com.example.event_app.adapters.OrganizerEventsAdapter;
-import com.example.event_app.models.Event;
+import com.example.event_app.models.EventSummary;
 import com.example.event_app.utils.AccessibilityHelper;
+import com.example.event_app.utils.FirestoreProvider;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import com.google.firebase.auth.FirebaseAuth;
@@ -64,7 +65,7 @@ public class OrganizerEventsActivity extends AppCompatActivity {
         new AccessibilityHelper(this).applyAccessibilitySettings(this);
 
         // Initialize Firebase
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
         mAuth = FirebaseAuth.getInstance();
 
         // Initialize views
@@ -135,15 +136,15 @@ public class OrganizerEventsActivity extends AppCompatActivity {
 
         String userId = mAuth.getCurrentUser().getUid();
 
-        db.collection("events")
+        db.collection(EventSummary.COLLECTION)
                 .whereEqualTo("organizerId", userId)
                 .orderBy("createdAt", com.google.firebase.firestore.Query.Direction.DESCENDING)
                 .get()
                 .addOnSuccessListener(queryDocumentSnapshots -> {
-                    List<Event> events = new ArrayList<>();
+                    List<EventSummary> events = new ArrayList<>();
 
                     for (QueryDocumentSnapshot document : queryDocumentSnapshots) {
-                        Event event = document.toObject(Event.class);
+                        EventSummary event = document.toObject(EventSummary.class);
                         event.setId(document.getId());
                         events.add(event);
                     }
@@ -174,9 +175,9 @@ public class OrganizerEventsActivity extends AppCompatActivity {
     /**
      * Displays the event list and hides loading, empty, and error states.
      *
-     * @param events list of Event objects to show in the RecyclerView
+     * @param events list of event summaries to show in the RecyclerView
      */
-    private void showEvents(List<Event> events) {
+    private void showEvents(List<EventSummary> events) {
         progressBar.setVisibility(View.GONE);
         rvEvents.setVisibility(View.VISIBLE);
         emptyView.setVisibility(View.GONE);
@@ -1,7 +1,12 @@
 package com.example.event_app.activities.organizer;
 
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
 import android.graphics.Color;
+import android.graphics.Paint;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 import android.widget.ImageButton;
 import android.widget.Toast;
@@ -11,21 +16,33 @@ import androidx.appcompat.app.AppCompatActivity;
 
 import com.example.event_app.R;
 import com.example.event_app.models.Event;
+import com.example.event_app.services.EntrantLocationService;
 import com.example.event_app.utils.AccessibilityHelper;
+import com.example.event_app.utils.FirestoreProvider;
+import com.example.event_app.utils.Geohash;
+import com.example.event_app.utils.LocationClusterer;
 import com.google.android.gms.maps.CameraUpdateFactory;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.OnMapReadyCallback;
 import com.google.android.gms.maps.SupportMapFragment;
+import com.google.android.gms.maps.model.BitmapDescriptor;
 import com.google.android.gms.maps.model.BitmapDescriptorFactory;
 import com.google.android.gms.maps.model.CircleOptions;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.LatLngBounds;
+import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.MarkerOptions;
+import com.google.firebase.firestore.AggregateSource;
+import com.google.firebase.firestore.DocumentSnapshot;
 import com.google.firebase.firestore.FirebaseFirestore;
 
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * ViewEntrantMapActivity
@@ -38,36 +55,61 @@ import java.util.Map;
  *
  * Features:
  * <ul>
- *     <li>Loads entrant geolocation data from Firestore</li>
- *     <li>Displays markers and visibility circles for each location</li>
- *     <li>Auto-adjusts camera to fit all entrant markers</li>
- *     <li>Handles single and multiple marker cases</li>
+ *     <li>Loads only the entrant locations inside the viewport, by geohash range</li>
+ *     <li>Clusters entrants off the main thread, re-clustered on camera idle by zoom level</li>
+ *     <li>Renders only the clusters inside the viewport</li>
+ *     <li>Optional density heatmap mode</li>
+ *     <li>Opens fitted to every entrant</li>
  *     <li>Validates coordinates and ignores malformed data</li>
  *     <li>Gracefully handles geolocation-disabled events</li>
  * </ul>
  *
  * Architecture:
- * - Fetches Event document from Firestore
- * - Extracts entrantLocations: { "userId": { "latitude": X, "longitude": Y } }
- * - Converts them to LatLng objects
- * - Renders markers on Google Maps API
+ * - Fetches Event document from Firestore, migrating any embedded locations
+ * - Fits the camera to the event's locationBounds box, which covers every entrant
+ * - On camera idle, queries events/{id}/locations for the geohash ranges
+ *   covering the viewport that have not been fetched yet
+ * - Projects the loaded locations into a LocationClusterer
+ * - Renders grid clusters for the visible region on Google Maps API
  */
 public class ViewEntrantMapActivity extends AppCompatActivity implements OnMapReadyCallback {
     private static final String TAG = "ViewEntrantMap";
     private static final float DEFAULT_ZOOM = 10f;
     private static final float SINGLE_LOCATION_ZOOM = 12f;
-    private static final int MARKER_RADIUS_METERS = 500;
     private static final int MAP_PADDING_PX = 120;
 
+    // Upper bound on geohash range queries issued for one viewport
+    private static final int MAX_VIEWPORT_RANGES = 9;
+
     // UI Elements
     private ImageButton btnBack;
+    private ImageButton btnHeatmap;
     private GoogleMap mMap;
 
     // Data
     private FirebaseFirestore db;
     private String eventId;
     private Event event;
-    private List<LatLng> entrantLocations = new ArrayList<>();
+    private EntrantLocationService entrantLocationService;
+    private volatile LocationClusterer clusterer = new LocationClusterer(new double[0], new double[0]);
+    private LatLngBounds entrantBounds;
+    private LatLng initialCenter;
+    private long locationCount;
+
+    // Geohash prefixes already fetched in full, and ranges that hit the query
+    // limit (only an exact repeat of those is skipped, so zooming in refines them)
+    private final Set<String> loadedPrefixes = new HashSet<>();
+    private final Set<String> truncatedRanges = new HashSet<>();
+
+    // Only touched on the cluster executor
+    private final Map<String, double[]> loadedLocations = new HashMap<>();
+
+    // Clustering runs off the main thread; stale results are discarded
+    private final ExecutorService clusterExecutor = Executors.newSingleThreadExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Map<String, BitmapDescriptor> clusterIcons = new HashMap<>();
+    private int clusterGeneration = 0;
+    private boolean heatmapMode = false;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -84,7 +126,8 @@ public class ViewEntrantMapActivity extends AppCompatActivity implements OnMapRe
         }
 
         // Initialize Firebase
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
+        entrantLocationService = new EntrantLocationService();
 
         // Initialize UI
         initializeUI();
@@ -97,12 +140,14 @@ public class ViewEntrantMapActivity extends AppCompatActivity implements OnMapRe
     }
 
     /**
-     * Initializes basic UI components including the back button
-     * and assigns click listeners.
+     * Initializes basic UI components including the back and heatmap
+     * buttons and assigns click listeners.
      */
     private void initializeUI() {
         btnBack = findViewById(R.id.btnBack);
         btnBack.setOnClickListener(v -> finish());
+        btnHeatmap = findViewById(R.id.btnHeatmap);
+        btnHeatmap.setOnClickListener(v -> toggleHeatmap());
     }
 
     /**
@@ -127,7 +172,7 @@ public class ViewEntrantMapActivity extends AppCompatActivity implements OnMapRe
      *
      * - Validates existence of the event
      * - Checks whether geolocation tracking is enabled
-     * - Extracts and processes entrantLocations
+     * - Moves locations still embedded in the event into the subcollection
      *
      * On failure, the activity exits gracefully with a toast message.
      */
@@ -148,8 +193,24 @@ public class ViewEntrantMapActivity extends AppCompatActivity implements OnMapRe
                                 return;
                             }
 
-                            // Process entrant locations
-                            processEntrantLocations();
+                            entrantBounds = entrantBoundsOf(document);
+
+                            // Older events still embed their locations
+                            boolean migrating = entrantLocationService.migrateLegacyLocations(document,
+                                    new EntrantLocationService.MigrationCallback() {
+                                        @Override
+                                        public void onSuccess(int migrated) {
+                                            loadInitialLocation();
+                                        }
+
+                                        @Override
+                                        public void onFailure(String error) {
+                                            loadInitialLocation();
+                                        }
+                                    });
+                            if (!migrating) {
+                                loadInitialLocation();
+                            }
                         }
                     } else {
                         Toast.makeText(this, "Event not found", Toast.LENGTH_SHORT).show();
@@ -163,47 +224,155 @@ public class ViewEntrantMapActivity extends AppCompatActivity implements OnMapRe
     }
 
     /**
-     * Processes the entrantLocations field from the Event object.
-     *
-     * Expected structure:
-     * {
-     *   "userId": { "latitude": <Double>, "longitude": <Double> },
-     *   ...
-     * }
-     *
-     * Validates coordinate ranges, converts each valid entry into LatLng,
-     * and prepares the map for rendering markers.
+     * Reads the box covering every entrant location from the event document,
+     * or null if the event has none yet.
+     */
+    private LatLngBounds entrantBoundsOf(DocumentSnapshot document) {
+        Object value = document.get(EntrantLocationService.FIELD_BOUNDS);
+        if (!(value instanceof Map)) return null;
+        Map<?, ?> bounds = (Map<?, ?>) value;
+        if (!(bounds.get("south") instanceof Number) || !(bounds.get("west") instanceof Number)
+                || !(bounds.get("north") instanceof Number) || !(bounds.get("east") instanceof Number)) {
+            return null;
+        }
+
+        double south = ((Number) bounds.get("south")).doubleValue();
+        double west = ((Number) bounds.get("west")).doubleValue();
+        double north = ((Number) bounds.get("north")).doubleValue();
+        double east = ((Number) bounds.get("east")).doubleValue();
+        if (!isValidCoordinate(south, west) || !isValidCoordinate(north, east) || south > north) {
+            return null;
+        }
+        return new LatLngBounds(new LatLng(south, west), new LatLng(north, east));
+    }
+
+    /**
+     * Counts the event's locations and fits the map to all of them. Events
+     * without a locationBounds box read a single location to center on
+     * instead. Everything else is fetched per viewport once the camera settles.
      */
-    private void processEntrantLocations() {
-        entrantLocations.clear();
+    private void loadInitialLocation() {
+        if (isFinishing()) return;
+
+        entrantLocationService.locations(eventId).count().get(AggregateSource.SERVER)
+                .addOnSuccessListener(snapshot -> {
+                    locationCount = snapshot.getCount();
+                    if (locationCount > 0 && !isFinishing()) {
+                        String message = locationCount == 1
+                                ? "1 entrant location"
+                                : locationCount + " entrant locations";
+                        Toast.makeText(this, message, Toast.LENGTH_SHORT).show();
+                    }
+                });
 
-        Map<String, Map<String, Double>> locations = event.getEntrantLocations();
-        if (locations == null || locations.isEmpty()) {
-            Toast.makeText(this, "No entrant locations to display", Toast.LENGTH_LONG).show();
+        if (entrantBounds != null) {
+            if (mMap != null) {
+                fitToEntrants();
+            }
             return;
         }
 
-        // Extract LatLng objects from the map
-        int validLocations = 0;
-        for (Map.Entry<String, Map<String, Double>> entry : locations.entrySet()) {
-            Map<String, Double> coords = entry.getValue();
-            if (coords != null && coords.containsKey("latitude") && coords.containsKey("longitude")) {
-                Double lat = coords.get("latitude");
-                Double lng = coords.get("longitude");
-
-                // Validate coordinates
-                if (lat != null && lng != null && isValidCoordinate(lat, lng)) {
-                    entrantLocations.add(new LatLng(lat, lng));
-                    validLocations++;
-                } else {
-                    Log.w(TAG, "Invalid coordinates for user " + entry.getKey());
-                }
+        entrantLocationService.locations(eventId).limit(1).get()
+                .addOnSuccessListener(snapshot -> {
+                    if (isFinishing()) return;
+                    if (snapshot.isEmpty()) {
+                        Toast.makeText(this, "No entrant locations to display", Toast.LENGTH_LONG).show();
+                        return;
+                    }
+
+                    DocumentSnapshot first = snapshot.getDocuments().get(0);
+                    Double lat = first.getDouble("latitude");
+                    Double lng = first.getDouble("longitude");
+                    if (lat != null && lng != null && isValidCoordinate(lat, lng)) {
+                        initialCenter = new LatLng(lat, lng);
+                    }
+                    if (mMap != null) {
+                        if (initialCenter != null) {
+                            fitToEntrants();
+                        } else {
+                            requestClusters();
+                        }
+                    }
+                })
+                .addOnFailureListener(e -> {
+                    Log.e(TAG, "Error loading entrant locations", e);
+                    Toast.makeText(this, "Error loading entrant locations", Toast.LENGTH_SHORT).show();
+                });
+    }
+
+    /**
+     * Fetches the geohash ranges covering the visible region that have not
+     * been loaded yet. Each result is merged into the clusterer on the
+     * background executor and triggers a re-render.
+     */
+    private void loadVisibleRanges(LatLngBounds visible) {
+        List<String[]> ranges = Geohash.rangesForBox(
+                visible.southwest.latitude, visible.southwest.longitude,
+                visible.northeast.latitude, visible.northeast.longitude,
+                MAX_VIEWPORT_RANGES);
+
+        for (String[] range : ranges) {
+            String prefix = range[0];
+            if (isRangeLoaded(prefix)) continue;
+            loadedPrefixes.add(prefix);
+
+            entrantLocationService.rangeQuery(eventId, range[0], range[1]).get()
+                    .addOnSuccessListener(snapshot -> {
+                        if (isDestroyed()) return;
+                        if (snapshot.size() >= EntrantLocationService.RANGE_QUERY_LIMIT) {
+                            loadedPrefixes.remove(prefix);
+                            truncatedRanges.add(prefix);
+                        }
+                        List<DocumentSnapshot> documents = snapshot.getDocuments();
+                        clusterExecutor.execute(() -> mergeLocations(documents));
+                    })
+                    .addOnFailureListener(e -> {
+                        Log.e(TAG, "Error loading locations for geohash " + prefix, e);
+                        loadedPrefixes.remove(prefix);
+                    });
+        }
+    }
+
+    private boolean isRangeLoaded(String prefix) {
+        if (truncatedRanges.contains(prefix)) return true;
+        for (String loaded : loadedPrefixes) {
+            if (prefix.startsWith(loaded)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Adds fetched locations (keyed by user, so overlapping ranges do not
+     * duplicate entrants), validates coordinates and rebuilds the clusterer.
+     * Runs on the cluster executor.
+     */
+    private void mergeLocations(List<DocumentSnapshot> documents) {
+        int before = loadedLocations.size();
+        for (DocumentSnapshot doc : documents) {
+            Double lat = doc.getDouble("latitude");
+            Double lng = doc.getDouble("longitude");
+
+            // Validate coordinates
+            if (lat != null && lng != null && isValidCoordinate(lat, lng)) {
+                loadedLocations.put(doc.getId(), new double[]{lat, lng});
+            } else {
+                Log.w(TAG, "Invalid coordinates for user " + doc.getId());
             }
         }
-        // Update map if ready
-        if (mMap != null) {
-            displayLocationsOnMap();
+        if (loadedLocations.size() == before) return;
+
+        double[] lats = new double[loadedLocations.size()];
+        double[] lngs = new double[loadedLocations.size()];
+        int i = 0;
+        for (double[] coords : loadedLocations.values()) {
+            lats[i] = coords[0];
+            lngs[i] = coords[1];
+            i++;
         }
+        clusterer = new LocationClusterer(lats, lngs);
+        mainHandler.post(() -> {
+            if (!isFinishing()) requestClusters();
+        });
     }
 
     /**
@@ -220,8 +389,8 @@ public class ViewEntrantMapActivity extends AppCompatActivity implements OnMapRe
     /**
      * Callback invoked when the Google Map is ready.
      *
-     * Configures UI settings, default map type, and renders entrant markers
-     * if location data has already been loaded.
+     * Configures UI settings, default map type, and re-clusters entrants
+     * whenever the camera comes to rest.
      *
      * @param googleMap GoogleMap instance provided by the Maps API
      */
@@ -238,9 +407,22 @@ public class ViewEntrantMapActivity extends AppCompatActivity implements OnMapRe
         // Set map type to normal
         mMap.setMapType(GoogleMap.MAP_TYPE_NORMAL);
 
-        // Display locations if already loaded
-        if (!entrantLocations.isEmpty()) {
-            displayLocationsOnMap();
+        // Re-cluster for the new viewport and zoom level
+        mMap.setOnCameraIdleListener(this::requestClusters);
+
+        // Tapping a cluster zooms into it
+        mMap.setOnMarkerClickListener(marker -> {
+            if (marker.getTag() instanceof Integer && (Integer) marker.getTag() > 1) {
+                mMap.animateCamera(CameraUpdateFactory.newLatLngZoom(
+                        marker.getPosition(), mMap.getCameraPosition().zoom + 2));
+                return true;
+            }
+            return false;
+        });
+
+        // Show the entrants if their extent is already known
+        if (entrantBounds != null || initialCenter != null) {
+            fitToEntrants();
         } else {
             // Default view (Calgary, Alberta - Dev's location)
             LatLng defaultLocation = new LatLng(51.0447, -114.0719);
@@ -249,91 +431,173 @@ public class ViewEntrantMapActivity extends AppCompatActivity implements OnMapRe
     }
 
     /**
-     * Renders each entrant location on the map by:
-     * - Adding a marker
-     * - Drawing a visibility circle
-     * - Adjusting camera bounds to fit all markers
-     *
-     * Also displays a toast summarizing how many locations were rendered.
+     * Switches between cluster markers and the density heatmap.
      */
-    private void displayLocationsOnMap() {
-        if (mMap == null) {
-            Log.w(TAG, "Map not ready yet");
+    private void toggleHeatmap() {
+        heatmapMode = !heatmapMode;
+        btnHeatmap.setContentDescription(heatmapMode ? "Show markers" : "Show heatmap");
+        requestClusters();
+    }
+
+    /**
+     * Loads any missing locations for the current viewport and clusters the
+     * entrants already loaded on the background executor. Results from a
+     * camera position that has since changed are dropped.
+     */
+    private void requestClusters() {
+        if (mMap == null || event == null) return;
+
+        LatLngBounds visible = mMap.getProjection().getVisibleRegion().latLngBounds;
+        float zoom = mMap.getCameraPosition().zoom;
+        loadVisibleRanges(visible);
+
+        LocationClusterer current = clusterer;
+        int generation = ++clusterGeneration;
+
+        clusterExecutor.execute(() -> {
+            List<LocationClusterer.Cluster> clusters = current.cluster(zoom,
+                    visible.southwest.latitude, visible.southwest.longitude,
+                    visible.northeast.latitude, visible.northeast.longitude);
+            mainHandler.post(() -> {
+                if (generation == clusterGeneration && !isFinishing()) {
+                    displayClusters(clusters, zoom);
+                }
+            });
+        });
+    }
+
+    /**
+     * Renders the visible clusters, either as count markers or as density
+     * circles whose opacity follows how many entrants each cell holds. The
+     * number of map objects is bounded by the viewport, not by entrant count.
+     */
+    private void displayClusters(List<LocationClusterer.Cluster> clusters, float zoom) {
+        mMap.clear();
+
+        if (heatmapMode) {
+            int maxCount = 1;
+            for (LocationClusterer.Cluster cluster : clusters) {
+                maxCount = Math.max(maxCount, cluster.getCount());
+            }
+            for (LocationClusterer.Cluster cluster : clusters) {
+                LatLng position = new LatLng(cluster.getLatitude(), cluster.getLongitude());
+                float intensity = (float) cluster.getCount() / maxCount;
+                int alpha = (int) (40 + 160 * intensity);
+                mMap.addCircle(new CircleOptions()
+                        .center(position)
+                        .radius(cellRadiusMeters(position.latitude, zoom))
+                        .strokeWidth(0)
+                        .fillColor(Color.argb(alpha, 255, (int) (200 * (1 - intensity)), 0)));
+            }
             return;
         }
 
-        if (entrantLocations.isEmpty()) {
-            Log.d(TAG, "No locations to display");
-            return;
+        for (LocationClusterer.Cluster cluster : clusters) {
+            LatLng position = new LatLng(cluster.getLatitude(), cluster.getLongitude());
+            int count = cluster.getCount();
+            Marker marker;
+            if (count == 1) {
+                marker = mMap.addMarker(new MarkerOptions()
+                        .position(position)
+                        .title("Entrant")
+                        .snippet("Joined waiting list from here")
+                        .icon(BitmapDescriptorFactory.defaultMarker(BitmapDescriptorFactory.HUE_RED)));
+            } else {
+                marker = mMap.addMarker(new MarkerOptions()
+                        .position(position)
+                        .title(count + " entrants")
+                        .anchor(0.5f, 0.5f)
+                        .icon(clusterIcon(count)));
+            }
+            if (marker != null) {
+                marker.setTag(count);
+            }
         }
+    }
 
-        // Clear existing markers
-        mMap.clear();
+    /**
+     * Ground distance covered by half a cluster cell at this zoom and latitude.
+     */
+    private static double cellRadiusMeters(double latitude, float zoom) {
+        double metersPerPixel = 156543.03392 * Math.cos(Math.toRadians(latitude)) / Math.pow(2, zoom);
+        return metersPerPixel * LocationClusterer.CELL_SIZE_PX / 2;
+    }
 
-        // Add markers for each entrant location
-        for (int i = 0; i < entrantLocations.size(); i++) {
-            LatLng location = entrantLocations.get(i);
-
-            // Add marker with custom styling
-            mMap.addMarker(new MarkerOptions()
-                    .position(location)
-                    .title("Entrant #" + (i + 1))
-                    .snippet("Joined waiting list from here")
-                    .icon(BitmapDescriptorFactory.defaultMarker(BitmapDescriptorFactory.HUE_RED)));
-
-            // Add circle around marker for better visibility
-            mMap.addCircle(new CircleOptions()
-                    .center(location)
-                    .radius(MARKER_RADIUS_METERS)
-                    .strokeColor(Color.RED)
-                    .strokeWidth(2)
-                    .fillColor(Color.argb(70, 255, 0, 0))); // Semi-transparent red
+    /**
+     * Cluster icon for a count. Counts are bucketed so only a handful of
+     * bitmaps are ever created.
+     */
+    private BitmapDescriptor clusterIcon(int count) {
+        String label;
+        if (count < 10) {
+            label = String.valueOf(count);
+        } else if (count < 50) {
+            label = "10+";
+        } else if (count < 100) {
+            label = "50+";
+        } else if (count < 500) {
+            label = "100+";
+        } else {
+            label = "500+";
         }
 
-        // Adjust camera to show all markers
-        adjustCameraToShowAllMarkers();
-
-        // Show success message
-        String message = entrantLocations.size() == 1
-                ? "1 entrant location displayed"
-                : entrantLocations.size() + " entrant locations displayed";
-        Toast.makeText(this, message, Toast.LENGTH_SHORT).show();
+        BitmapDescriptor icon = clusterIcons.get(label);
+        if (icon == null) {
+            float density = getResources().getDisplayMetrics().density;
+            int size = (int) (40 * density);
+            Bitmap bitmap = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+            Canvas canvas = new Canvas(bitmap);
+
+            Paint fill = new Paint(Paint.ANTI_ALIAS_FLAG);
+            fill.setColor(Color.argb(220, 211, 47, 47));
+            canvas.drawCircle(size / 2f, size / 2f, size / 2f, fill);
+
+            Paint text = new Paint(Paint.ANTI_ALIAS_FLAG);
+            text.setColor(Color.WHITE);
+            text.setTextSize(13 * density);
+            text.setTextAlign(Paint.Align.CENTER);
+            text.setFakeBoldText(true);
+            float baseline = size / 2f - (text.descent() + text.ascent()) / 2;
+            canvas.drawText(label, size / 2f, baseline, text);
+
+            icon = BitmapDescriptorFactory.fromBitmap(bitmap);
+            clusterIcons.put(label, icon);
+        }
+        return icon;
     }
 
     /**
-     * Adjusts the Google Map camera depending on how many locations exist.
-     *
-     * - If one location → center and zoom in
-     * - If multiple → build LatLngBounds and fit map to show all markers
+     * Fits the camera to the box covering every entrant, or centers it on the
+     * first loaded entrant for events without one. The camera-idle listener
+     * then loads and renders the entrants in view.
      *
-     * Handles IllegalStateException if bounds cannot be computed.
+     * - If the box is a single point → center and zoom in
+     * - Otherwise → fit the box with padding around it
      */
-    private void adjustCameraToShowAllMarkers() {
-        if (entrantLocations.size() == 1) {
-            // Single location - center on it with appropriate zoom
-            mMap.animateCamera(CameraUpdateFactory.newLatLngZoom(
-                    entrantLocations.get(0),
-                    SINGLE_LOCATION_ZOOM));
-        } else {
-            // Multiple locations - fit all in view with bounds
-            LatLngBounds.Builder builder = new LatLngBounds.Builder();
-            for (LatLng location : entrantLocations) {
-                builder.include(location);
-            }
+    private void fitToEntrants() {
+        if (entrantBounds == null) {
+            if (initialCenter == null) return;
+            float zoom = locationCount == 1 ? SINGLE_LOCATION_ZOOM : DEFAULT_ZOOM;
+            mMap.animateCamera(CameraUpdateFactory.newLatLngZoom(initialCenter, zoom));
+            return;
+        }
 
-            try {
-                LatLngBounds bounds = builder.build();
-                // Animate camera with padding around markers
-                mMap.animateCamera(CameraUpdateFactory.newLatLngBounds(bounds, MAP_PADDING_PX));
-            } catch (IllegalStateException e) {
-                Log.e(TAG, "Error building bounds", e);
-                // Fallback to first location
-                if (!entrantLocations.isEmpty()) {
-                    mMap.animateCamera(CameraUpdateFactory.newLatLngZoom(
-                            entrantLocations.get(0),
-                            DEFAULT_ZOOM));
-                }
-            }
+        if (entrantBounds.southwest.equals(entrantBounds.northeast)) {
+            mMap.animateCamera(CameraUpdateFactory.newLatLngZoom(entrantBounds.getCenter(), SINGLE_LOCATION_ZOOM));
+            return;
         }
+
+        try {
+            mMap.animateCamera(CameraUpdateFactory.newLatLngBounds(entrantBounds, MAP_PADDING_PX));
+        } catch (IllegalStateException e) {
+            // The map has not been laid out yet; fit once it has
+            mMap.setOnMapLoadedCallback(this::fitToEntrants);
+        }
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        clusterExecutor.shutdownNow();
     }
-}
\ No newline at end of file
+}
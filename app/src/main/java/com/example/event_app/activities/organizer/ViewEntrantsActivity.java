@@ -16,6 +16,7 @@ import com.example.event_app.R;
 import com.example.event_app.adapters.EntrantListAdapter;
 import com.example.event_app.models.Event;
 import com.example.event_app.utils.AccessibilityHelper;
+import com.example.event_app.utils.FirestoreProvider;
 import com.google.android.material.tabs.TabLayout;
 import com.google.firebase.firestore.FirebaseFirestore;
 
@@ -89,7 +90,7 @@ public class ViewEntrantsActivity extends AppCompatActivity {
         }
 
         // Initialize Firebase
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
 
         // Initialize views
         initViews();
@@ -14,6 +14,8 @@ import com.example.event_app.R;
 import com.example.event_app.activities.entrant.MainActivity;
 import com.example.event_app.models.User;
 import com.example.event_app.utils.AccessibilityHelper;
+import com.example.event_app.utils.FirestoreProvider;
+import com.example.event_app.utils.SessionCache;
 import com.example.event_app.utils.UserRole;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.textfield.TextInputEditText;
@@ -66,7 +68,7 @@ public class ProfileSetupActivity extends AppCompatActivity {
 
         // Initialize Firebase
         mAuth = FirebaseAuth.getInstance();
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
 
         // Get device ID and user ID from intent
         deviceId = getIntent().getStringExtra("deviceId");
@@ -209,6 +211,8 @@ public class ProfileSetupActivity extends AppCompatActivity {
         db.collection("users").document(userId)
                 .set(user)
                 .addOnSuccessListener(aVoid -> {
+                    new SessionCache(this).save(userId, user);
+
                     Toast.makeText(this, "Welcome to LuckySpot!", Toast.LENGTH_SHORT).show();
 
                     // Navigate to MainActivity
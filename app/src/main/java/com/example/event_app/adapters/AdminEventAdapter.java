@@ -6,10 +6,11 @@ import android.view.ViewGroup;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.event_app.R;
-import com.example.event_app.models.Event;
+import com.example.event_app.models.EventSummary;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -31,9 +32,8 @@ import java.util.Locale;
  *
  * Used by admin screens to inspect event quality and drill into details.
  */
-public class AdminEventAdapter extends RecyclerView.Adapter<AdminEventAdapter.AdminEventViewHolder> {
+public class AdminEventAdapter extends ListAdapter<EventSummary, AdminEventAdapter.AdminEventViewHolder> {
 
-    private List<Event> events;
     private OnEventClickListener listener;
 
     /**
@@ -41,7 +41,8 @@ public class AdminEventAdapter extends RecyclerView.Adapter<AdminEventAdapter.Ad
      * Call {@link #setEvents(List)} to populate data.
      */
     public AdminEventAdapter() {
-        this.events = new ArrayList<>();
+        super(DiffCallbacks.EVENT_SUMMARY);
+        setHasStableIds(true);
     }
 
     /**
@@ -60,34 +61,35 @@ public class AdminEventAdapter extends RecyclerView.Adapter<AdminEventAdapter.Ad
     }
 
     /**
-     * Binds an {@link Event} to a ViewHolder at the given position.
+     * Binds an {@link EventSummary} to a ViewHolder at the given position.
      *
      * @param holder   the ViewHolder to bind
      * @param position position of the item in the adapter
      */
     @Override
     public void onBindViewHolder(@NonNull AdminEventViewHolder holder, int position) {
-        holder.bind(events.get(position));
+        holder.bind(getItem(position));
     }
 
     /**
-     * Returns the number of events currently displayed.
+     * Returns a stable ID derived from the event document ID.
      *
-     * @return item count for the RecyclerView
+     * @param position position of the item in the adapter
+     * @return stable item ID
      */
     @Override
-    public int getItemCount() {
-        return events.size();
+    public long getItemId(int position) {
+        return DiffCallbacks.stableId(getItem(position).getId());
     }
 
     /**
-     * Replaces the current list of events and refreshes the adapter.
+     * Replaces the current list of events. The new list is diffed against
+     * the old one off the main thread and only changed cards are rebound.
      *
-     * @param events list of Event objects to display
+     * @param events list of event summaries to display
      */
-    public void setEvents(List<Event> events) {
-        this.events = events;
-        notifyDataSetChanged();
+    public void setEvents(List<EventSummary> events) {
+        submitList(new ArrayList<>(events));
     }
 
     /**
@@ -145,9 +147,9 @@ public class AdminEventAdapter extends RecyclerView.Adapter<AdminEventAdapter.Ad
          *   <li>Attach item click handler to notify the adapter listener</li>
          * </ul>
          *
-         * @param event the Event to bind to this view
+         * @param event the event summary to bind to this view
          */
-        public void bind(Event event) {
+        public void bind(EventSummary event) {
             // Event name
             tvName.setText(event.getName());
 
@@ -227,6 +229,6 @@ public class AdminEventAdapter extends RecyclerView.Adapter<AdminEventAdapter.Ad
      * when an event card is selected.
      */
     public interface OnEventClickListener {
-        void onEventClick(Event event);
+        void onEventClick(EventSummary event);
     }
 }
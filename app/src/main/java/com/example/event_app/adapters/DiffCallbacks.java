@@ -0,0 +1,205 @@
+package com.example.event_app.adapters;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.example.event_app.models.Event;
+import com.example.event_app.models.EventSummary;
+import com.example.event_app.models.GeolocationAudit;
+import com.example.event_app.models.ImageData;
+import com.example.event_app.models.Notification;
+import com.example.event_app.models.NotificationLog;
+import com.example.event_app.models.NotificationTemplate;
+import com.example.event_app.models.User;
+
+import java.util.Objects;
+
+/**
+ * DiffCallbacks - Item callbacks shared by the list adapters
+ *
+ * Items match on their document ID (or on identity when a document has no
+ * ID yet). Contents compare only the fields the rows display, so a change
+ * elsewhere in a document does not rebind the row or reload its image.
+ */
+final class DiffCallbacks {
+
+    // 64-bit FNV-1a parameters used to turn document IDs into stable item IDs
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private DiffCallbacks() {}
+
+    static final DiffUtil.ItemCallback<EventSummary> EVENT_SUMMARY = new DiffUtil.ItemCallback<EventSummary>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull EventSummary oldItem, @NonNull EventSummary newItem) {
+            return sameId(oldItem, newItem, oldItem.getId(), newItem.getId());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull EventSummary oldItem, @NonNull EventSummary newItem) {
+            return Objects.equals(oldItem.getName(), newItem.getName())
+                    && Objects.equals(oldItem.getDescription(), newItem.getDescription())
+                    && Objects.equals(oldItem.getOrganizerName(), newItem.getOrganizerName())
+                    && Objects.equals(oldItem.getStatus(), newItem.getStatus())
+                    && Objects.equals(oldItem.getLocation(), newItem.getLocation())
+                    && Objects.equals(oldItem.getEventDate(), newItem.getEventDate())
+                    && Objects.equals(oldItem.getDate(), newItem.getDate())
+                    && Objects.equals(oldItem.getCapacity(), newItem.getCapacity())
+                    && Objects.equals(oldItem.getPosterUrl(), newItem.getPosterUrl())
+                    && Objects.equals(oldItem.getPosterCardUrl(), newItem.getPosterCardUrl())
+                    && Objects.equals(oldItem.getPosterThumbUrl(), newItem.getPosterThumbUrl())
+                    && oldItem.getWaitingListCount() == newItem.getWaitingListCount()
+                    && oldItem.getSelectedCount() == newItem.getSelectedCount()
+                    && oldItem.getAttendingCount() == newItem.getAttendingCount()
+                    && oldItem.getEntrantCount() == newItem.getEntrantCount()
+                    && oldItem.getCancellationRate() == newItem.getCancellationRate();
+        }
+    };
+
+    static final DiffUtil.ItemCallback<Event> EVENT = new DiffUtil.ItemCallback<Event>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull Event oldItem, @NonNull Event newItem) {
+            return sameId(oldItem, newItem, oldItem.getId(), newItem.getId());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull Event oldItem, @NonNull Event newItem) {
+            return Objects.equals(oldItem.getName(), newItem.getName())
+                    && Objects.equals(oldItem.getEventDate(), newItem.getEventDate())
+                    && Objects.equals(oldItem.getPosterUrl(), newItem.getPosterUrl())
+                    && Objects.equals(oldItem.getWaitingList(), newItem.getWaitingList())
+                    && Objects.equals(oldItem.getSelectedList(), newItem.getSelectedList())
+                    && Objects.equals(oldItem.getSignedUpUsers(), newItem.getSignedUpUsers())
+                    && Objects.equals(oldItem.getDeclinedUsers(), newItem.getDeclinedUsers());
+        }
+    };
+
+    static final DiffUtil.ItemCallback<User> USER = new DiffUtil.ItemCallback<User>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull User oldItem, @NonNull User newItem) {
+            return sameId(oldItem, newItem, oldItem.getUserId(), newItem.getUserId());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull User oldItem, @NonNull User newItem) {
+            return Objects.equals(oldItem.getName(), newItem.getName())
+                    && Objects.equals(oldItem.getEmail(), newItem.getEmail())
+                    && Objects.equals(oldItem.getRoles(), newItem.getRoles());
+        }
+    };
+
+    static final DiffUtil.ItemCallback<Notification> NOTIFICATION = new DiffUtil.ItemCallback<Notification>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull Notification oldItem, @NonNull Notification newItem) {
+            return sameId(oldItem, newItem, oldItem.getNotificationId(), newItem.getNotificationId());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull Notification oldItem, @NonNull Notification newItem) {
+            return oldItem.isRead() == newItem.isRead()
+                    && oldItem.getCreatedAt() == newItem.getCreatedAt()
+                    && Objects.equals(oldItem.getType(), newItem.getType())
+                    && Objects.equals(oldItem.getTitle(), newItem.getTitle())
+                    && Objects.equals(oldItem.getMessage(), newItem.getMessage())
+                    && Objects.equals(oldItem.getEventName(), newItem.getEventName());
+        }
+    };
+
+    static final DiffUtil.ItemCallback<NotificationLog> NOTIFICATION_LOG = new DiffUtil.ItemCallback<NotificationLog>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull NotificationLog oldItem, @NonNull NotificationLog newItem) {
+            return sameId(oldItem, newItem, oldItem.getLogId(), newItem.getLogId());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull NotificationLog oldItem, @NonNull NotificationLog newItem) {
+            return Objects.equals(oldItem.getSenderName(), newItem.getSenderName())
+                    && Objects.equals(oldItem.getRecipientName(), newItem.getRecipientName())
+                    && Objects.equals(oldItem.getTitle(), newItem.getTitle())
+                    && Objects.equals(oldItem.getNotificationType(), newItem.getNotificationType())
+                    && Objects.equals(oldItem.getTimestamp(), newItem.getTimestamp());
+        }
+    };
+
+    static final DiffUtil.ItemCallback<GeolocationAudit> GEOLOCATION_AUDIT = new DiffUtil.ItemCallback<GeolocationAudit>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull GeolocationAudit oldItem, @NonNull GeolocationAudit newItem) {
+            return sameId(oldItem, newItem, oldItem.getAuditId(), newItem.getAuditId());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull GeolocationAudit oldItem, @NonNull GeolocationAudit newItem) {
+            return Objects.equals(oldItem.getUserName(), newItem.getUserName())
+                    && Objects.equals(oldItem.getEventName(), newItem.getEventName())
+                    && Objects.equals(oldItem.getAction(), newItem.getAction())
+                    && Objects.equals(oldItem.getTimestamp(), newItem.getTimestamp())
+                    && oldItem.getLatitude() == newItem.getLatitude()
+                    && oldItem.getLongitude() == newItem.getLongitude();
+        }
+    };
+
+    static final DiffUtil.ItemCallback<NotificationTemplate> NOTIFICATION_TEMPLATE = new DiffUtil.ItemCallback<NotificationTemplate>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull NotificationTemplate oldItem, @NonNull NotificationTemplate newItem) {
+            return sameId(oldItem, newItem, oldItem.getTemplateId(), newItem.getTemplateId());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull NotificationTemplate oldItem, @NonNull NotificationTemplate newItem) {
+            return oldItem.isActive() == newItem.isActive()
+                    && Objects.equals(oldItem.getName(), newItem.getName())
+                    && Objects.equals(oldItem.getType(), newItem.getType())
+                    && Objects.equals(oldItem.getTitle(), newItem.getTitle())
+                    && Objects.equals(oldItem.getMessage(), newItem.getMessage());
+        }
+    };
+
+    static final DiffUtil.ItemCallback<ImageData> IMAGE = new DiffUtil.ItemCallback<ImageData>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull ImageData oldItem, @NonNull ImageData newItem) {
+            return sameId(oldItem, newItem, oldItem.getImageId(), newItem.getImageId());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull ImageData oldItem, @NonNull ImageData newItem) {
+            return Objects.equals(oldItem.getImageUrl(), newItem.getImageUrl())
+                    && Objects.equals(oldItem.getPreviewUrl(), newItem.getPreviewUrl());
+        }
+    };
+
+    // Entrant rows are keyed by user ID alone; the row loads the user itself
+    static final DiffUtil.ItemCallback<String> USER_ID = new DiffUtil.ItemCallback<String>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull String oldItem, @NonNull String newItem) {
+            return oldItem.equals(newItem);
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull String oldItem, @NonNull String newItem) {
+            return oldItem.equals(newItem);
+        }
+    };
+
+    private static boolean sameId(Object oldItem, Object newItem, String oldId, String newId) {
+        if (oldId == null || newId == null) {
+            return oldItem == newItem;
+        }
+        return oldId.equals(newId);
+    }
+
+    /**
+     * Stable item ID for a document ID, or NO_ID when the document has none
+     */
+    static long stableId(String documentId) {
+        if (documentId == null) {
+            return RecyclerView.NO_ID;
+        }
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < documentId.length(); i++) {
+            hash ^= documentId.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
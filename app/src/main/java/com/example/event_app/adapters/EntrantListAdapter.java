@@ -7,10 +7,12 @@ import android.view.ViewGroup;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.event_app.R;
 import com.example.event_app.models.User;
+import com.example.event_app.utils.FirestoreProvider;
 import com.google.firebase.firestore.FirebaseFirestore;
 
 import java.util.ArrayList;
@@ -36,10 +38,9 @@ import java.util.List;
  *
  * Used by: ViewEntrantsActivity (Organizer side)
  */
-public class EntrantListAdapter extends RecyclerView.Adapter<EntrantListAdapter.EntrantViewHolder> {
+public class EntrantListAdapter extends ListAdapter<String, EntrantListAdapter.EntrantViewHolder> {
 
     private Context context;
-    private List<String> userIds;
     private List<User> users;
     private FirebaseFirestore db;
     private String eventId;
@@ -52,11 +53,12 @@ public class EntrantListAdapter extends RecyclerView.Adapter<EntrantListAdapter.
      * @param eventId ID of the event whose entrant list is being displayed
      */
     public EntrantListAdapter(Context context, String eventId) {
+        super(DiffCallbacks.USER_ID);
         this.context = context;
         this.eventId = eventId;
-        this.userIds = new ArrayList<>();
         this.users = new ArrayList<>();
-        this.db = FirebaseFirestore.getInstance();
+        this.db = FirestoreProvider.get();
+        setHasStableIds(true);
     }
 
     /**
@@ -88,7 +90,7 @@ public class EntrantListAdapter extends RecyclerView.Adapter<EntrantListAdapter.
      */
     @Override
     public void onBindViewHolder(@NonNull EntrantViewHolder holder, int position) {
-        String userId = userIds.get(position);
+        String userId = getItem(position);
 
         // Load user data
         db.collection("users").document(userId)
@@ -104,23 +106,24 @@ public class EntrantListAdapter extends RecyclerView.Adapter<EntrantListAdapter.
     }
 
     /**
-     * @return number of user IDs in the list
+     * @param position adapter position of the item
+     * @return stable ID derived from the user ID
      */
     @Override
-    public int getItemCount() {
-        return userIds.size();
+    public long getItemId(int position) {
+        return DiffCallbacks.stableId(getItem(position));
     }
 
     /**
-     * Replaces the current list of users and reloads UI.
+     * Replaces the current list of users. Only rows for added or removed
+     * user IDs are bound again, so unchanged rows skip their user lookup.
      *
      * @param userIds  List of user document IDs (waiting/selected/attending)
      * @param listType Label indicating which tab's data we are viewing
      */
     public void setUserIds(List<String> userIds, String listType) {
-        this.userIds = userIds != null ? userIds : new ArrayList<>();
         this.listType = listType;
-        notifyDataSetChanged();
+        submitList(userIds != null ? new ArrayList<>(userIds) : new ArrayList<>());
     }
 
     /**
@@ -9,13 +9,15 @@ import android.widget.ImageView;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
-import com.bumptech.glide.Glide;
 import com.example.event_app.R;
 import com.example.event_app.activities.entrant.EventDetailsActivity;
-import com.example.event_app.models.Event;
+import com.example.event_app.models.EventSummary;
+import com.example.event_app.services.EventCache;
 import com.example.event_app.utils.Navigator;
+import com.example.event_app.utils.PosterImages;
 import com.google.android.material.card.MaterialCardView;
 
 import java.text.SimpleDateFormat;
@@ -40,12 +42,16 @@ import java.util.Locale;
  * Clicking an event card navigates to {@link EventDetailsActivity}
  * using {@link Navigator#EXTRA_EVENT_ID}.
  *
+ * Updates are diffed on a background thread, so only cards whose displayed
+ * fields changed are rebound.
+ *
  * Used by: HomeFragment, EventsFragment
  */
-public class EventAdapter extends RecyclerView.Adapter<EventAdapter.EventViewHolder> {
+public class EventAdapter extends ListAdapter<EventSummary, EventAdapter.EventViewHolder> {
+
+    private static final PosterImages.CardSize POSTER_SIZE = PosterImages.CardSize.EVENT;
 
     private Context context;
-    private List<Event> events;
 
     /**
      * Constructor initializes adapter with empty list.
@@ -53,8 +59,9 @@ public class EventAdapter extends RecyclerView.Adapter<EventAdapter.EventViewHol
      * @param context calling context for layout inflation and navigation
      */
     public EventAdapter(Context context) {
+        super(DiffCallbacks.EVENT_SUMMARY);
         this.context = context;
-        this.events = new ArrayList<>();
+        setHasStableIds(true);
     }
 
     /**
@@ -79,34 +86,46 @@ public class EventAdapter extends RecyclerView.Adapter<EventAdapter.EventViewHol
      */
     @Override
     public void onBindViewHolder(@NonNull EventViewHolder holder, int position) {
-        Event event = events.get(position);
+        EventSummary event = getItem(position);
         holder.bind(event);
     }
 
     /**
-     * @return how many events are displayed
+     * @param position position in data list
+     * @return stable ID derived from the event document ID
      */
     @Override
-    public int getItemCount() {
-        return events.size();
+    public long getItemId(int position) {
+        return DiffCallbacks.stableId(getItem(position).getId());
+    }
+
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        PosterImages.preloadWhileAttached(recyclerView, this, POSTER_SIZE, this::posterUrlOf);
+    }
+
+    private String posterUrlOf(EventSummary event) {
+        if (event.getPosterUrl() == null || event.getPosterUrl().isEmpty()) {
+            return null;
+        }
+        return event.posterUrlForSize(POSTER_SIZE.longEdgePx(context));
     }
 
     /**
-     * Updates the list of events and refreshes UI.
+     * Updates the list of events. Only cards that changed are rebound.
      *
-     * @param events new list of Event objects
+     * @param events new list of event summaries
      */
-    public void setEvents(List<Event> events) {
-        this.events = events;
-        notifyDataSetChanged();
+    public void setEvents(List<EventSummary> events) {
+        submitList(new ArrayList<>(events));
     }
 
     /**
      * Clears event list (used when applying new filters).
      */
     public void clearEvents() {
-        this.events.clear();
-        notifyDataSetChanged();
+        submitList(new ArrayList<>());
     }
 
     /**
@@ -143,11 +162,11 @@ public class EventAdapter extends RecyclerView.Adapter<EventAdapter.EventViewHol
         }
 
         /**
-         * Binds Event model fields to the UI widgets inside the card.
+         * Binds event summary fields to the UI widgets inside the card.
          *
-         * @param event Event instance containing display data
+         * @param event summary containing display data
          */
-        public void bind(Event event) {
+        public void bind(EventSummary event) {
             // Event name
             tvEventName.setText(event.getName());
 
@@ -172,16 +191,13 @@ public class EventAdapter extends RecyclerView.Adapter<EventAdapter.EventViewHol
             }
 
             // Waiting list count
-            int waitingCount = event.getWaitingList() != null ?
-                    event.getWaitingList().size() : 0;
             tvWaitingListCount.setText(String.format(Locale.getDefault(),
-                    "%d waiting", waitingCount));
+                    "%d waiting", event.getWaitingListCount()));
 
             // Load poster
-            if (event.getPosterUrl() != null && !event.getPosterUrl().isEmpty()) {
-                Glide.with(context)
-                        .load(event.getPosterUrl())
-                        .centerCrop()
+            String posterUrl = posterUrlOf(event);
+            if (posterUrl != null) {
+                PosterImages.card(context, posterUrl, POSTER_SIZE)
                         .into(ivPoster);
             } else {
                 ivPoster.setImageResource(R.drawable.ic_event_placeholder);
@@ -189,6 +205,7 @@ public class EventAdapter extends RecyclerView.Adapter<EventAdapter.EventViewHol
 
             // Click listener - navigate to event details
             cardEvent.setOnClickListener(v -> {
+                EventCache.getInstance().put(event);
                 Intent intent = new Intent(context, EventDetailsActivity.class);
                 intent.putExtra(Navigator.EXTRA_EVENT_ID, event.getId());
                 context.startActivity(intent);
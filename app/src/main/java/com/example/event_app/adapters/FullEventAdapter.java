@@ -10,13 +10,15 @@ import android.widget.LinearLayout;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
-import com.bumptech.glide.Glide;
 import com.example.event_app.R;
 import com.example.event_app.activities.entrant.EventDetailsActivity;
-import com.example.event_app.models.Event;
+import com.example.event_app.models.EventSummary;
+import com.example.event_app.services.EventCache;
 import com.example.event_app.utils.Navigator;
+import com.example.event_app.utils.PosterImages;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -39,13 +41,16 @@ import java.util.Locale;
  * - Waiting list count
  * - Capacity
  *
- * Supports filtering via search.
+ * Supports filtering via search. Each new list or filter result is diffed
+ * on a background thread so only changed rows are rebound.
  */
-public class FullEventAdapter extends RecyclerView.Adapter<FullEventAdapter.EventViewHolder> {
+public class FullEventAdapter extends ListAdapter<EventSummary, FullEventAdapter.EventViewHolder> {
+
+    private static final PosterImages.CardSize POSTER_SIZE = PosterImages.CardSize.FULL_EVENT;
 
     private Context context;
-    private List<Event> events;
-    private List<Event> eventsFiltered; // For search/filter
+    private List<EventSummary> events;
+    private List<EventSummary> eventsFiltered; // For search/filter
 
     /**
      * Constructor for FullEventAdapter.
@@ -53,9 +58,11 @@ public class FullEventAdapter extends RecyclerView.Adapter<FullEventAdapter.Even
      * @param context the context used for inflating layouts and navigation
      */
     public FullEventAdapter(Context context) {
+        super(DiffCallbacks.EVENT_SUMMARY);
         this.context = context;
         this.events = new ArrayList<>();
         this.eventsFiltered = new ArrayList<>();
+        setHasStableIds(true);
     }
 
     /**
@@ -80,18 +87,32 @@ public class FullEventAdapter extends RecyclerView.Adapter<FullEventAdapter.Even
      */
     @Override
     public void onBindViewHolder(@NonNull EventViewHolder holder, int position) {
-        Event event = eventsFiltered.get(position);
+        EventSummary event = getItem(position);
         holder.bind(event);
     }
 
     /**
-     * Returns the number of filtered events.
+     * Returns a stable ID derived from the event document ID.
      *
-     * @return count of displayed events
+     * @param position index of the event in the displayed list
+     * @return stable item ID
      */
     @Override
-    public int getItemCount() {
-        return eventsFiltered.size();
+    public long getItemId(int position) {
+        return DiffCallbacks.stableId(getItem(position).getId());
+    }
+
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        PosterImages.preloadWhileAttached(recyclerView, this, POSTER_SIZE, this::posterUrlOf);
+    }
+
+    private String posterUrlOf(EventSummary event) {
+        if (event.getPosterUrl() == null || event.getPosterUrl().isEmpty()) {
+            return null;
+        }
+        return event.posterUrlForSize(POSTER_SIZE.longEdgePx(context));
     }
 
     /**
@@ -99,10 +120,10 @@ public class FullEventAdapter extends RecyclerView.Adapter<FullEventAdapter.Even
      *
      * @param events the full list of events to display
      */
-    public void setEvents(List<Event> events) {
+    public void setEvents(List<EventSummary> events) {
         this.events = new ArrayList<>(events);
         this.eventsFiltered = new ArrayList<>(events);
-        notifyDataSetChanged();
+        submitList(new ArrayList<>(eventsFiltered));
     }
 
     /**
@@ -117,7 +138,7 @@ public class FullEventAdapter extends RecyclerView.Adapter<FullEventAdapter.Even
             eventsFiltered.addAll(events);
         } else {
             String lowerQuery = query.toLowerCase().trim();
-            for (Event event : events) {
+            for (EventSummary event : events) {
                 // Search by name, description, organizer, or location
                 if ((event.getName() != null && event.getName().toLowerCase().contains(lowerQuery)) ||
                         (event.getDescription() != null && event.getDescription().toLowerCase().contains(lowerQuery)) ||
@@ -128,7 +149,7 @@ public class FullEventAdapter extends RecyclerView.Adapter<FullEventAdapter.Even
             }
         }
 
-        notifyDataSetChanged();
+        submitList(new ArrayList<>(eventsFiltered));
     }
 
     /**
@@ -146,7 +167,7 @@ public class FullEventAdapter extends RecyclerView.Adapter<FullEventAdapter.Even
     public void clearEvents() {
         this.events.clear();
         this.eventsFiltered.clear();
-        notifyDataSetChanged();
+        submitList(new ArrayList<>());
     }
 
     /**
@@ -180,9 +201,10 @@ public class FullEventAdapter extends RecyclerView.Adapter<FullEventAdapter.Even
             itemView.setOnClickListener(v -> {
                 int position = getBindingAdapterPosition();
                 if (position != RecyclerView.NO_POSITION) {
-                    Event event = eventsFiltered.get(position);
+                    EventSummary event = getItem(position);
+                    EventCache.getInstance().put(event);
                     Intent intent = new Intent(context, EventDetailsActivity.class);
-                    intent.putExtra(Navigator.EXTRA_EVENT_ID, event.getId() != null ? event.getId() : event.getEventId());
+                    intent.putExtra(Navigator.EXTRA_EVENT_ID, event.getId());
                     context.startActivity(intent);
                 }
             });
@@ -191,9 +213,9 @@ public class FullEventAdapter extends RecyclerView.Adapter<FullEventAdapter.Even
         /**
          * Binds event data to the ViewHolder UI.
          *
-         * @param event the Event object to display
+         * @param event the event summary to display
          */
-        public void bind(Event event) {
+        public void bind(EventSummary event) {
             // Event name
             tvEventName.setText(event.getName() != null ? event.getName() : "Untitled Event");
 
@@ -221,8 +243,7 @@ public class FullEventAdapter extends RecyclerView.Adapter<FullEventAdapter.Even
             }
 
             // Waiting list count
-            int waitingCount = event.getWaitingList() != null ? event.getWaitingList().size() : 0;
-            tvWaitingCount.setText(waitingCount + " waiting");
+            tvWaitingCount.setText(event.getWaitingListCount() + " waiting");
 
             // Capacity
             if (event.getCapacity() != null) {
@@ -233,10 +254,9 @@ public class FullEventAdapter extends RecyclerView.Adapter<FullEventAdapter.Even
             }
 
             // Load poster image
-            if (event.getPosterUrl() != null && !event.getPosterUrl().isEmpty()) {
-                Glide.with(context)
-                        .load(event.getPosterUrl())
-                        .centerCrop()
+            String posterUrl = posterUrlOf(event);
+            if (posterUrl != null) {
+                PosterImages.card(context, posterUrl, POSTER_SIZE)
                         .placeholder(R.color.gray_light)
                         .into(ivPoster);
             } else {
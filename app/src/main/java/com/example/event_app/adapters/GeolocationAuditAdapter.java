@@ -6,6 +6,7 @@ import android.view.ViewGroup;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.event_app.R;
@@ -16,13 +17,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 
-public class GeolocationAuditAdapter extends RecyclerView.Adapter<GeolocationAuditAdapter.AuditViewHolder> {
+public class GeolocationAuditAdapter extends ListAdapter<GeolocationAudit, GeolocationAuditAdapter.AuditViewHolder> {
 
     private List<GeolocationAudit> audits;
     private List<GeolocationAudit> auditsFiltered;
     private OnAuditClickListener listener;
+    private String query = "";
 
     public GeolocationAuditAdapter() {
+        super(DiffCallbacks.GEOLOCATION_AUDIT);
+        setHasStableIds(true);
         this.audits = new ArrayList<>();
         this.auditsFiltered = new ArrayList<>();
     }
@@ -37,35 +41,55 @@ public class GeolocationAuditAdapter extends RecyclerView.Adapter<GeolocationAud
 
     @Override
     public void onBindViewHolder(@NonNull AuditViewHolder holder, int position) {
-        GeolocationAudit audit = auditsFiltered.get(position);
+        GeolocationAudit audit = getItem(position);
         holder.bind(audit, listener);
     }
 
     @Override
-    public int getItemCount() {
-        return auditsFiltered.size();
+    public long getItemId(int position) {
+        return DiffCallbacks.stableId(getItem(position).getAuditId());
     }
 
     public void setAudits(List<GeolocationAudit> audits) {
-        this.audits = audits;
-        this.auditsFiltered = new ArrayList<>(audits);
-        notifyDataSetChanged();
+        this.audits = new ArrayList<>(audits);
+        this.auditsFiltered = new ArrayList<>();
+        for (GeolocationAudit audit : this.audits) {
+            if (matches(audit)) {
+                auditsFiltered.add(audit);
+            }
+        }
+        submitList(new ArrayList<>(auditsFiltered));
+    }
+
+    /**
+     * Append the next page of audits, keeping the current search applied
+     */
+    public void addAudits(List<GeolocationAudit> page) {
+        audits.addAll(page);
+        for (GeolocationAudit audit : page) {
+            if (matches(audit)) {
+                auditsFiltered.add(audit);
+            }
+        }
+        submitList(new ArrayList<>(auditsFiltered));
     }
 
     public void filter(String query) {
+        this.query = query.toLowerCase(Locale.getDefault());
         auditsFiltered.clear();
-        if (query.isEmpty()) {
-            auditsFiltered.addAll(audits);
-        } else {
-            String lowerQuery = query.toLowerCase(Locale.getDefault());
-            for (GeolocationAudit audit : audits) {
-                if (audit.getUserName().toLowerCase().contains(lowerQuery) ||
-                        audit.getEventName().toLowerCase().contains(lowerQuery)) {
-                    auditsFiltered.add(audit);
-                }
+        for (GeolocationAudit audit : audits) {
+            if (matches(audit)) {
+                auditsFiltered.add(audit);
             }
         }
-        notifyDataSetChanged();
+        submitList(new ArrayList<>(auditsFiltered));
+    }
+
+    private boolean matches(GeolocationAudit audit) {
+        if (query.isEmpty()) return true;
+        String userName = audit.getUserName() != null ? audit.getUserName().toLowerCase() : "";
+        String eventName = audit.getEventName() != null ? audit.getEventName().toLowerCase() : "";
+        return userName.contains(query) || eventName.contains(query);
     }
 
     public void setOnAuditClickListener(OnAuditClickListener listener) {
@@ -11,14 +11,16 @@ import android.widget.TextView;
 import android.widget.Toast;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
-import com.bumptech.glide.Glide;
 import com.example.event_app.R;
 import com.example.event_app.activities.entrant.EventDetailsActivity;
-import com.example.event_app.models.Event;
+import com.example.event_app.models.EventSummary;
+import com.example.event_app.services.EventCache;
 import com.example.event_app.utils.FavoritesManager;
 import com.example.event_app.utils.Navigator;
+import com.example.event_app.utils.PosterImages;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -31,16 +33,18 @@ import java.util.Locale;
  *
  * Added favorite heart button functionality
  */
-public class HorizontalEventAdapter extends RecyclerView.Adapter<HorizontalEventAdapter.EventViewHolder> {
+public class HorizontalEventAdapter extends ListAdapter<EventSummary, HorizontalEventAdapter.EventViewHolder> {
+
+    private static final PosterImages.CardSize POSTER_SIZE = PosterImages.CardSize.HORIZONTAL_EVENT;
 
     private Context context;
-    private List<Event> events;
     private FavoritesManager favoritesManager;
 
     public HorizontalEventAdapter(Context context) {
+        super(DiffCallbacks.EVENT_SUMMARY);
         this.context = context;
-        this.events = new ArrayList<>();
         this.favoritesManager = new FavoritesManager();
+        setHasStableIds(true);
     }
 
     @NonNull
@@ -52,29 +56,40 @@ public class HorizontalEventAdapter extends RecyclerView.Adapter<HorizontalEvent
 
     @Override
     public void onBindViewHolder(@NonNull EventViewHolder holder, int position) {
-        Event event = events.get(position);
+        EventSummary event = getItem(position);
         holder.bind(event);
     }
 
     @Override
-    public int getItemCount() {
-        return events.size();
+    public long getItemId(int position) {
+        return DiffCallbacks.stableId(getItem(position).getId());
+    }
+
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        PosterImages.preloadWhileAttached(recyclerView, this, POSTER_SIZE, this::posterUrlOf);
+    }
+
+    private String posterUrlOf(EventSummary event) {
+        if (event.getPosterUrl() == null || event.getPosterUrl().isEmpty()) {
+            return null;
+        }
+        return event.posterUrlForSize(POSTER_SIZE.longEdgePx(context));
     }
 
     /**
-     * Update the list of events
+     * Update the list of events; only changed cards are rebound
      */
-    public void setEvents(List<Event> events) {
-        this.events = events;
-        notifyDataSetChanged();
+    public void setEvents(List<EventSummary> events) {
+        submitList(new ArrayList<>(events));
     }
 
     /**
      * Clear all events
      */
     public void clearEvents() {
-        this.events.clear();
-        notifyDataSetChanged();
+        submitList(new ArrayList<>());
     }
 
     /**
@@ -100,15 +115,16 @@ public class HorizontalEventAdapter extends RecyclerView.Adapter<HorizontalEvent
             itemView.setOnClickListener(v -> {
                 int position = getBindingAdapterPosition();
                 if (position != RecyclerView.NO_POSITION) {
-                    Event event = events.get(position);
+                    EventSummary event = getItem(position);
+                    EventCache.getInstance().put(event);
                     Intent intent = new Intent(context, EventDetailsActivity.class);
-                    intent.putExtra(Navigator.EXTRA_EVENT_ID, event.getId() != null ? event.getId() : event.getEventId());
+                    intent.putExtra(Navigator.EXTRA_EVENT_ID, event.getId());
                     context.startActivity(intent);
                 }
             });
         }
 
-        public void bind(Event event) {
+        public void bind(EventSummary event) {
             // Event name
             tvEventName.setText(event.getName() != null ? event.getName() : "Untitled Event");
 
@@ -124,14 +140,12 @@ public class HorizontalEventAdapter extends RecyclerView.Adapter<HorizontalEvent
             }
 
             // Waiting list count
-            int waitingCount = event.getWaitingList() != null ? event.getWaitingList().size() : 0;
-            tvWaitingCount.setText(waitingCount + " waiting");
+            tvWaitingCount.setText(event.getWaitingListCount() + " waiting");
 
             // Load poster image
-            if (event.getPosterUrl() != null && !event.getPosterUrl().isEmpty()) {
-                Glide.with(context)
-                        .load(event.getPosterUrl())
-                        .centerCrop()
+            String posterUrl = posterUrlOf(event);
+            if (posterUrl != null) {
+                PosterImages.card(context, posterUrl, POSTER_SIZE)
                         .placeholder(R.color.gray_light)
                         .into(ivPoster);
             } else {
@@ -146,8 +160,8 @@ public class HorizontalEventAdapter extends RecyclerView.Adapter<HorizontalEvent
         /**
          * NEW: Setup favorite button with current state
          */
-        private void setupFavoriteButton(Event event) {
-            String eventId = event.getId() != null ? event.getId() : event.getEventId();
+        private void setupFavoriteButton(EventSummary event) {
+            String eventId = event.getId();
 
             // Check if event is favorited
             favoritesManager.isFavorite(eventId, isFav -> {
@@ -7,11 +7,14 @@ import android.widget.ImageButton;
 import android.widget.ImageView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.bumptech.glide.Glide;
+import com.bumptech.glide.load.DecodeFormat;
 import com.example.event_app.R;
 import com.example.event_app.models.ImageData;
+import com.example.event_app.utils.PosterImages;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,13 +24,15 @@ import java.util.List;
  * Shows actual images with delete button overlay (no text labels)
  * Used in AdminBrowseImagesActivity
  */
-public class ImageAdapter extends RecyclerView.Adapter<ImageAdapter.ImageViewHolder> {
+public class ImageAdapter extends ListAdapter<ImageData, ImageAdapter.ImageViewHolder> {
 
     private List<ImageData> images;
     private OnImageClickListener listener;
 
     public ImageAdapter() {
+        super(DiffCallbacks.IMAGE);
         this.images = new ArrayList<>();
+        setHasStableIds(true);
     }
 
     @NonNull
@@ -40,21 +45,39 @@ public class ImageAdapter extends RecyclerView.Adapter<ImageAdapter.ImageViewHol
 
     @Override
     public void onBindViewHolder(@NonNull ImageViewHolder holder, int position) {
-        ImageData imageData = images.get(position);
+        ImageData imageData = getItem(position);
         holder.bind(imageData, listener);
     }
 
     @Override
-    public int getItemCount() {
-        return images.size();
+    public long getItemId(int position) {
+        return DiffCallbacks.stableId(getItem(position).getImageId());
     }
 
     /**
      * Update the list of images
      */
     public void setImages(List<ImageData> images) {
-        this.images = images;
-        notifyDataSetChanged();
+        this.images = new ArrayList<>(images);
+        submitList(new ArrayList<>(this.images));
+    }
+
+    /**
+     * Append a page of images without rebinding the rows already shown
+     */
+    public void addImages(List<ImageData> newImages) {
+        if (newImages.isEmpty()) return;
+        images.addAll(newImages);
+        submitList(new ArrayList<>(images));
+    }
+
+    /**
+     * Remove a single image
+     */
+    public void removeImage(ImageData imageData) {
+        if (images.remove(imageData)) {
+            submitList(new ArrayList<>(images));
+        }
     }
 
     /**
@@ -79,9 +102,14 @@ public class ImageAdapter extends RecyclerView.Adapter<ImageAdapter.ImageViewHol
 
         public void bind(ImageData imageData, OnImageClickListener listener) {
             // Load actual image with Glide
+            // Prefer the smaller rendition; grid cells never need the full poster
+            String url = imageData.getPreviewUrl() != null
+                    ? imageData.getPreviewUrl()
+                    : imageData.getImageUrl();
             Glide.with(itemView.getContext())
-                    .load(imageData.getImageUrl())
+                    .load(PosterImages.modelFor(url))
                     .centerCrop()
+                    .format(DecodeFormat.PREFER_RGB_565)
                     .placeholder(R.color.gray_light)
                     .error(android.R.drawable.ic_menu_gallery)  // Fallback if load fails
                     .into(ivImage);
@@ -13,13 +13,17 @@ import android.widget.TextView;
 import android.widget.Toast;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
-import com.bumptech.glide.Glide;
 import com.example.event_app.R;
 import com.example.event_app.activities.entrant.EventDetailsActivity;
 import com.example.event_app.models.Event;
+import com.example.event_app.services.EventCache;
+import com.example.event_app.services.EventStatsService;
+import com.example.event_app.utils.FirestoreProvider;
 import com.example.event_app.utils.Navigator;
+import com.example.event_app.utils.PosterImages;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.card.MaterialCardView;
 import com.google.firebase.firestore.FirebaseFirestore;
@@ -27,8 +31,10 @@ import com.google.firebase.firestore.FirebaseFirestore;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * MyEventsAdapter - Shows user's events with status and action buttons
@@ -37,20 +43,21 @@ import java.util.Locale;
  * US 01.05.03: Decline invitation
  * US 01.05.01: Automatic replacement when someone declines
  */
-public class MyEventsAdapter extends RecyclerView.Adapter<MyEventsAdapter.EventViewHolder> {
+public class MyEventsAdapter extends ListAdapter<Event, MyEventsAdapter.EventViewHolder> {
 
     private static final String TAG = "MyEventsAdapter";
+    private static final PosterImages.CardSize POSTER_SIZE = PosterImages.CardSize.MY_EVENT;
 
     private Context context;
-    private List<Event> events;
     private String userId;
     private FirebaseFirestore db;
 
     public MyEventsAdapter(Context context, String userId) {
+        super(DiffCallbacks.EVENT);
         this.context = context;
         this.userId = userId;
-        this.events = new ArrayList<>();
-        this.db = FirebaseFirestore.getInstance();
+        this.db = FirestoreProvider.get();
+        setHasStableIds(true);
     }
 
     @NonNull
@@ -62,18 +69,40 @@ public class MyEventsAdapter extends RecyclerView.Adapter<MyEventsAdapter.EventV
 
     @Override
     public void onBindViewHolder(@NonNull EventViewHolder holder, int position) {
-        Event event = events.get(position);
+        Event event = getItem(position);
         holder.bind(event);
     }
 
     @Override
-    public int getItemCount() {
-        return events.size();
+    public long getItemId(int position) {
+        return DiffCallbacks.stableId(getItem(position).getId());
+    }
+
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        PosterImages.preloadWhileAttached(recyclerView, this, POSTER_SIZE, this::posterUrlOf);
+    }
+
+    private String posterUrlOf(Event event) {
+        if (event.getPosterUrl() == null || event.getPosterUrl().isEmpty()) {
+            return null;
+        }
+        return event.posterUrlForSize(POSTER_SIZE.longEdgePx(context));
     }
 
     public void setEvents(List<Event> events) {
-        this.events = events;
-        notifyDataSetChanged();
+        submitList(new ArrayList<>(events));
+    }
+
+    /**
+     * Drop an event the user has just responded to
+     */
+    private void removeEvent(Event event) {
+        List<Event> remaining = new ArrayList<>(getCurrentList());
+        if (remaining.remove(event)) {
+            submitList(remaining);
+        }
     }
 
     class EventViewHolder extends RecyclerView.ViewHolder {
@@ -122,10 +151,9 @@ public class MyEventsAdapter extends RecyclerView.Adapter<MyEventsAdapter.EventV
             }
 
             // Load poster
-            if (event.getPosterUrl() != null && !event.getPosterUrl().isEmpty()) {
-                Glide.with(context)
-                        .load(event.getPosterUrl())
-                        .centerCrop()
+            String posterUrl = posterUrlOf(event);
+            if (posterUrl != null) {
+                PosterImages.card(context, posterUrl, POSTER_SIZE)
                         .into(ivPoster);
             } else {
                 ivPoster.setImageResource(R.drawable.ic_event_placeholder);
@@ -133,6 +161,7 @@ public class MyEventsAdapter extends RecyclerView.Adapter<MyEventsAdapter.EventV
 
             // Click listener
             cardEvent.setOnClickListener(v -> {
+                EventCache.getInstance().put(event);
                 Intent intent = new Intent(context, EventDetailsActivity.class);
                 intent.putExtra(Navigator.EXTRA_EVENT_ID, event.getId());
                 context.startActivity(intent);
@@ -248,23 +277,19 @@ public class MyEventsAdapter extends RecyclerView.Adapter<MyEventsAdapter.EventV
             event.getSelectedList().remove(userId);
             event.getWaitingList().remove(userId);
 
-            // Update Firestore
-            db.collection("events").document(event.getId())
-                    .update(
-                            "signedUpUsers", event.getSignedUpUsers(),
-                            "selectedList", event.getSelectedList(),
-                            "waitingList", event.getWaitingList()  //update waiting list
-                    )
+            // Update Firestore (also refreshes the stored cancellation stats)
+            Map<String, Object> updates = new HashMap<>();
+            updates.put("signedUpUsers", event.getSignedUpUsers());
+            updates.put("selectedList", event.getSelectedList());
+            updates.put("waitingList", event.getWaitingList());  //update waiting list
+
+            new EventStatsService().updateWithCancellationStats(event.getId(), updates, 0)
                     .addOnSuccessListener(aVoid -> {
                         Log.d(TAG, "User accepted invitation");
                         Toast.makeText(context, "You're attending! 🎉", Toast.LENGTH_LONG).show();
 
                         // Remove this event from the list (will reload)
-                        int position = getAdapterPosition();
-                        if (position != RecyclerView.NO_POSITION) {
-                            events.remove(position);
-                            notifyItemRemoved(position);
-                        }
+                        removeEvent(event);
                     })
                     .addOnFailureListener(e -> {
                         Log.e(TAG, "Error accepting invitation", e);
@@ -304,9 +329,6 @@ public class MyEventsAdapter extends RecyclerView.Adapter<MyEventsAdapter.EventV
             // Remove from waiting list
             event.getWaitingList().remove(userId);
 
-            // Increment cancelled count
-            int newCancelledCount = event.getTotalCancelled() + 1;
-
             // US 01.05.01: Automatically draw replacement if spots available
             // Use final variable for lambda
             final boolean[] drewReplacementArray = {false};
@@ -336,14 +358,14 @@ public class MyEventsAdapter extends RecyclerView.Adapter<MyEventsAdapter.EventV
             // Make final copy for lambda
             final boolean drewReplacement = drewReplacementArray[0];
 
-            // Update Firestore
-            db.collection("events").document(event.getId())
-                    .update(
-                            "selectedList", event.getSelectedList(),
-                            "waitingList", event.getWaitingList(),
-                            "declinedUsers", event.getDeclinedUsers(),
-                            "totalCancelled", newCancelledCount
-                    )
+            // Update Firestore; totalCancelled, cancellationRate and flagged
+            // are recomputed from the stored totals in the same transaction
+            Map<String, Object> updates = new HashMap<>();
+            updates.put("selectedList", event.getSelectedList());
+            updates.put("waitingList", event.getWaitingList());
+            updates.put("declinedUsers", event.getDeclinedUsers());
+
+            new EventStatsService().updateWithCancellationStats(event.getId(), updates, 1)
                     .addOnSuccessListener(aVoid -> {
                         Log.d(TAG, "User declined invitation");
                         String message = drewReplacement ?
@@ -352,11 +374,7 @@ public class MyEventsAdapter extends RecyclerView.Adapter<MyEventsAdapter.EventV
                         Toast.makeText(context, message, Toast.LENGTH_LONG).show();
 
                         // Remove this event from the list
-                        int position = getAdapterPosition();
-                        if (position != RecyclerView.NO_POSITION) {
-                            events.remove(position);
-                            notifyItemRemoved(position);
-                        }
+                        removeEvent(event);
                     })
                     .addOnFailureListener(e -> {
                         Log.e(TAG, "Error declining invitation", e);
@@ -9,21 +9,20 @@ import android.widget.ImageButton;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.event_app.R;
 import com.example.event_app.models.Notification;
 import com.google.android.material.card.MaterialCardView;
 
-import java.util.List;
-
 /**
  * NotificationAdapter - Display notifications in RecyclerView
+ * Lists are passed in with submitList and diffed off the main thread
  */
-public class NotificationAdapter extends RecyclerView.Adapter<NotificationAdapter.NotificationViewHolder> {
+public class NotificationAdapter extends ListAdapter<Notification, NotificationAdapter.NotificationViewHolder> {
 
     private final Context context;
-    private final List<Notification> notifications;
     private final NotificationClickListener listener;
 
     public interface NotificationClickListener {
@@ -31,11 +30,11 @@ public class NotificationAdapter extends RecyclerView.Adapter<NotificationAdapte
         void onDeleteClick(Notification notification);
     }
 
-    public NotificationAdapter(Context context, List<Notification> notifications,
-                               NotificationClickListener listener) {
+    public NotificationAdapter(Context context, NotificationClickListener listener) {
+        super(DiffCallbacks.NOTIFICATION);
         this.context = context;
-        this.notifications = notifications;
         this.listener = listener;
+        setHasStableIds(true);
     }
 
     @NonNull
@@ -47,13 +46,13 @@ public class NotificationAdapter extends RecyclerView.Adapter<NotificationAdapte
 
     @Override
     public void onBindViewHolder(@NonNull NotificationViewHolder holder, int position) {
-        Notification notification = notifications.get(position);
+        Notification notification = getItem(position);
         holder.bind(notification);
     }
 
     @Override
-    public int getItemCount() {
-        return notifications.size();
+    public long getItemId(int position) {
+        return DiffCallbacks.stableId(getItem(position).getNotificationId());
     }
 
     class NotificationViewHolder extends RecyclerView.ViewHolder {
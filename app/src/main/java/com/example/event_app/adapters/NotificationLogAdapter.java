@@ -1,11 +1,14 @@
 package com.example.event_app.adapters;
 
+import android.os.Handler;
+import android.os.Looper;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.event_app.R;
@@ -15,15 +18,28 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
-public class NotificationLogAdapter extends RecyclerView.Adapter<NotificationLogAdapter.LogViewHolder> {
+public class NotificationLogAdapter extends ListAdapter<NotificationLog, NotificationLogAdapter.LogViewHolder> {
+
+    // Search runs off the main thread; only the latest query's result is applied
+    private static final ExecutorService searchExecutor = Executors.newSingleThreadExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
 
     private List<NotificationLog> logs;
+    // Lower-cased sender, recipient and title per log, built once as logs arrive
+    private List<String> searchKeys;
     private List<NotificationLog> logsFiltered;
     private OnLogClickListener listener;
+    private String query = "";
+    private int searchGeneration = 0;
 
     public NotificationLogAdapter() {
+        super(DiffCallbacks.NOTIFICATION_LOG);
+        setHasStableIds(true);
         this.logs = new ArrayList<>();
+        this.searchKeys = new ArrayList<>();
         this.logsFiltered = new ArrayList<>();
     }
 
@@ -37,36 +53,79 @@ public class NotificationLogAdapter extends RecyclerView.Adapter<NotificationLog
 
     @Override
     public void onBindViewHolder(@NonNull LogViewHolder holder, int position) {
-        NotificationLog log = logsFiltered.get(position);
+        NotificationLog log = getItem(position);
         holder.bind(log, listener);
     }
 
     @Override
-    public int getItemCount() {
-        return logsFiltered.size();
+    public long getItemId(int position) {
+        return DiffCallbacks.stableId(getItem(position).getLogId());
     }
 
     public void setLogs(List<NotificationLog> logs) {
-        this.logs = logs;
-        this.logsFiltered = new ArrayList<>(logs);
-        notifyDataSetChanged();
+        searchGeneration++;
+        this.logs = new ArrayList<>();
+        this.searchKeys = new ArrayList<>();
+        this.logsFiltered = new ArrayList<>();
+        addLogs(logs);
+    }
+
+    /**
+     * Append the next page of logs, keeping the current search applied
+     */
+    public void addLogs(List<NotificationLog> page) {
+        for (NotificationLog log : page) {
+            String key = searchKeyOf(log);
+            logs.add(log);
+            searchKeys.add(key);
+            if (query.isEmpty() || key.contains(query)) {
+                logsFiltered.add(log);
+            }
+        }
+        submitList(new ArrayList<>(logsFiltered));
     }
 
+    /**
+     * Filter the loaded logs by sender, recipient or title. Matching runs on
+     * a background thread over precomputed keys; results from a query that
+     * has since been replaced are discarded.
+     */
     public void filter(String query) {
-        logsFiltered.clear();
-        if (query.isEmpty()) {
-            logsFiltered.addAll(logs);
-        } else {
-            String lowerQuery = query.toLowerCase(Locale.getDefault());
-            for (NotificationLog log : logs) {
-                if (log.getSenderName().toLowerCase().contains(lowerQuery) ||
-                        log.getRecipientName().toLowerCase().contains(lowerQuery) ||
-                        log.getTitle().toLowerCase().contains(lowerQuery)) {
-                    logsFiltered.add(log);
+        this.query = query.toLowerCase(Locale.getDefault());
+        String lowerQuery = this.query;
+        List<NotificationLog> logsSnapshot = new ArrayList<>(logs);
+        List<String> keysSnapshot = new ArrayList<>(searchKeys);
+        int generation = ++searchGeneration;
+
+        searchExecutor.execute(() -> {
+            List<NotificationLog> matches = new ArrayList<>();
+            for (int i = 0; i < logsSnapshot.size(); i++) {
+                if (lowerQuery.isEmpty() || keysSnapshot.get(i).contains(lowerQuery)) {
+                    matches.add(logsSnapshot.get(i));
                 }
             }
-        }
-        notifyDataSetChanged();
+            mainHandler.post(() -> {
+                // Pages appended meanwhile were already matched in addLogs
+                if (generation != searchGeneration) return;
+                for (int i = logsSnapshot.size(); i < logs.size(); i++) {
+                    if (lowerQuery.isEmpty() || searchKeys.get(i).contains(lowerQuery)) {
+                        matches.add(logs.get(i));
+                    }
+                }
+                logsFiltered = matches;
+                submitList(new ArrayList<>(logsFiltered));
+            });
+        });
+    }
+
+    private static String searchKeyOf(NotificationLog log) {
+        return (nullToEmpty(log.getSenderName()) + "\n"
+                + nullToEmpty(log.getRecipientName()) + "\n"
+                + nullToEmpty(log.getTitle())).toLowerCase(Locale.getDefault());
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
     }
 
     public void setOnLogClickListener(OnLogClickListener listener) {
@@ -89,7 +148,8 @@ public class NotificationLogAdapter extends RecyclerView.Adapter<NotificationLog
             tvSenderName.setText("From: " + log.getSenderName());
             tvRecipientName.setText("To: " + log.getRecipientName());
             tvTitle.setText(log.getTitle());
-            tvType.setText(log.getNotificationType().replace("_", " ").toUpperCase());
+            tvType.setText(log.getNotificationType() != null
+                    ? log.getNotificationType().replace("_", " ").toUpperCase() : "");
 
             SimpleDateFormat sdf = new SimpleDateFormat("MMM dd, HH:mm", Locale.getDefault());
             if (log.getTimestamp() != null) {
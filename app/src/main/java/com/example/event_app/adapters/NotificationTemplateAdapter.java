@@ -8,6 +8,7 @@ import android.widget.Switch;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.event_app.R;
@@ -17,13 +18,15 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 
-public class NotificationTemplateAdapter extends RecyclerView.Adapter<NotificationTemplateAdapter.TemplateViewHolder> {
+public class NotificationTemplateAdapter extends ListAdapter<NotificationTemplate, NotificationTemplateAdapter.TemplateViewHolder> {
 
     private List<NotificationTemplate> templates;
     private List<NotificationTemplate> templatesFiltered;
     private OnTemplateClickListener listener;
 
     public NotificationTemplateAdapter() {
+        super(DiffCallbacks.NOTIFICATION_TEMPLATE);
+        setHasStableIds(true);
         this.templates = new ArrayList<>();
         this.templatesFiltered = new ArrayList<>();
     }
@@ -38,19 +41,19 @@ public class NotificationTemplateAdapter extends RecyclerView.Adapter<Notificati
 
     @Override
     public void onBindViewHolder(@NonNull TemplateViewHolder holder, int position) {
-        NotificationTemplate template = templatesFiltered.get(position);
+        NotificationTemplate template = getItem(position);
         holder.bind(template, listener);
     }
 
     @Override
-    public int getItemCount() {
-        return templatesFiltered.size();
+    public long getItemId(int position) {
+        return DiffCallbacks.stableId(getItem(position).getTemplateId());
     }
 
     public void setTemplates(List<NotificationTemplate> templates) {
-        this.templates = templates;
+        this.templates = new ArrayList<>(templates);
         this.templatesFiltered = new ArrayList<>(templates);
-        notifyDataSetChanged();
+        submitList(new ArrayList<>(templatesFiltered));
     }
 
     public void filter(String query) {
@@ -67,7 +70,7 @@ public class NotificationTemplateAdapter extends RecyclerView.Adapter<Notificati
                 }
             }
         }
-        notifyDataSetChanged();
+        submitList(new ArrayList<>(templatesFiltered));
     }
 
     public void setOnTemplateClickListener(OnTemplateClickListener listener) {
@@ -10,12 +10,14 @@ import android.widget.ImageView;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
-import com.bumptech.glide.Glide;
 import com.example.event_app.R;
 import com.example.event_app.activities.organizer.OrganizerEventDetailsActivity;
-import com.example.event_app.models.Event;
+import com.example.event_app.models.EventSummary;
+import com.example.event_app.services.EventCache;
+import com.example.event_app.utils.PosterImages;
 import com.google.android.material.card.MaterialCardView;
 
 import java.text.SimpleDateFormat;
@@ -26,14 +28,16 @@ import java.util.Locale;
 /**
  * OrganizerEventsAdapter - Shows organizer's events with stats
  */
-public class OrganizerEventsAdapter extends RecyclerView.Adapter<OrganizerEventsAdapter.EventViewHolder> {
+public class OrganizerEventsAdapter extends ListAdapter<EventSummary, OrganizerEventsAdapter.EventViewHolder> {
+
+    private static final PosterImages.CardSize POSTER_SIZE = PosterImages.CardSize.ORGANIZER_EVENT;
 
     private Context context;
-    private List<Event> events;
 
     public OrganizerEventsAdapter(Context context) {
+        super(DiffCallbacks.EVENT_SUMMARY);
         this.context = context;
-        this.events = new ArrayList<>();
+        setHasStableIds(true);
     }
 
     @NonNull
@@ -45,18 +49,30 @@ public class OrganizerEventsAdapter extends RecyclerView.Adapter<OrganizerEvents
 
     @Override
     public void onBindViewHolder(@NonNull EventViewHolder holder, int position) {
-        Event event = events.get(position);
+        EventSummary event = getItem(position);
         holder.bind(event);
     }
 
     @Override
-    public int getItemCount() {
-        return events.size();
+    public long getItemId(int position) {
+        return DiffCallbacks.stableId(getItem(position).getId());
+    }
+
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        PosterImages.preloadWhileAttached(recyclerView, this, POSTER_SIZE, this::posterUrlOf);
     }
 
-    public void setEvents(List<Event> events) {
-        this.events = events;
-        notifyDataSetChanged();
+    private String posterUrlOf(EventSummary event) {
+        if (event.getPosterUrl() == null || event.getPosterUrl().isEmpty()) {
+            return null;
+        }
+        return event.posterUrlForSize(POSTER_SIZE.longEdgePx(context));
+    }
+
+    public void setEvents(List<EventSummary> events) {
+        submitList(new ArrayList<>(events));
     }
 
     class EventViewHolder extends RecyclerView.ViewHolder {
@@ -78,7 +94,7 @@ public class OrganizerEventsAdapter extends RecyclerView.Adapter<OrganizerEvents
             tvCancelledTag = itemView.findViewById(R.id.tvCancelledTag);
         }
 
-        public void bind(Event event) {
+        public void bind(EventSummary event) {
             // Event name
             tvEventName.setText(event.getName());
 
@@ -91,18 +107,14 @@ public class OrganizerEventsAdapter extends RecyclerView.Adapter<OrganizerEvents
             }
 
             // Stats
-            int waitingCount = event.getWaitingList() != null ? event.getWaitingList().size() : 0;
-            int attendingCount = event.getSignedUpUsers() != null ? event.getSignedUpUsers().size() : 0;
-
-            tvWaitingCount.setText(String.format(Locale.getDefault(), "%d waiting", waitingCount));
-            tvSelectedCount.setText(String.format(Locale.getDefault(), "%d selected", event.getTotalSelected()));
-            tvAttendingCount.setText(String.format(Locale.getDefault(), "%d attending", attendingCount));
+            tvWaitingCount.setText(String.format(Locale.getDefault(), "%d waiting", event.getWaitingListCount()));
+            tvSelectedCount.setText(String.format(Locale.getDefault(), "%d selected", event.getSelectedCount()));
+            tvAttendingCount.setText(String.format(Locale.getDefault(), "%d attending", event.getAttendingCount()));
 
             // Load poster
-            if (event.getPosterUrl() != null && !event.getPosterUrl().isEmpty()) {
-                Glide.with(context)
-                        .load(event.getPosterUrl())
-                        .centerCrop()
+            String posterUrl = posterUrlOf(event);
+            if (posterUrl != null) {
+                PosterImages.card(context, posterUrl, POSTER_SIZE)
                         .into(ivPoster);
             } else {
                 ivPoster.setImageResource(R.drawable.ic_event_placeholder);
@@ -121,6 +133,7 @@ public class OrganizerEventsAdapter extends RecyclerView.Adapter<OrganizerEvents
             // Click listener
             cardEvent.setOnClickListener(v -> {
                 Log.d("OrganizerAdapter", "Opening details for event: " + event.getId());
+                EventCache.getInstance().put(event);
                 Intent intent = new Intent(context, OrganizerEventDetailsActivity.class);
                 intent.putExtra("EVENT_ID", event.getId());
                 context.startActivity(intent);
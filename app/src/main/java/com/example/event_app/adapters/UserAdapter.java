@@ -6,27 +6,31 @@ import android.view.ViewGroup;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.event_app.R;
 import com.example.event_app.models.User;
+import com.example.event_app.services.EventsHostedCountProvider;
 import com.google.android.material.button.MaterialButton;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 
 /**
  * UserAdapter - Display users with search and event count
  * Added search functionality and events hosted count
  */
-public class UserAdapter extends RecyclerView.Adapter<UserAdapter.UserViewHolder> {
+public class UserAdapter extends ListAdapter<User, UserAdapter.UserViewHolder> {
 
     private List<User> users;
     private List<User> usersFiltered;  // NEW: For search
     private OnUserClickListener listener;
+    private EventsHostedCountProvider countProvider;
 
     public UserAdapter() {
+        super(DiffCallbacks.USER);
+        setHasStableIds(true);
         this.users = new ArrayList<>();
         this.usersFiltered = new ArrayList<>();
     }
@@ -41,44 +45,58 @@ public class UserAdapter extends RecyclerView.Adapter<UserAdapter.UserViewHolder
 
     @Override
     public void onBindViewHolder(@NonNull UserViewHolder holder, int position) {
-        User user = usersFiltered.get(position);
+        User user = getItem(position);
         holder.bind(user, listener);
     }
 
     @Override
-    public int getItemCount() {
-        return usersFiltered.size();
+    public long getItemId(int position) {
+        return DiffCallbacks.stableId(getItem(position).getUserId());
     }
 
     /**
      * Update the list of users
      */
     public void setUsers(List<User> users) {
-        this.users = users;
+        this.users = new ArrayList<>(users);
         this.usersFiltered = new ArrayList<>(users);
-        notifyDataSetChanged();
+        submitList(new ArrayList<>(usersFiltered));
     }
 
     /**
-     * Filter users by search query
+     * Append a page of users to the end of the list
+     */
+    public void addUsers(List<User> page) {
+        if (page.isEmpty()) return;
+        users.addAll(page);
+        usersFiltered.addAll(page);
+        submitList(new ArrayList<>(usersFiltered));
+    }
+
+    /**
+     * Filter the loaded users by search query. Matches on the precomputed
+     * lowercase name/email fields, so it is null-safe and allocation-free
+     * per user.
      */
     public void filter(String query) {
         usersFiltered.clear();
 
-        if (query.isEmpty()) {
+        String lowerQuery = User.normalizeForSearch(query);
+        if (lowerQuery.isEmpty()) {
             usersFiltered.addAll(users);
         } else {
-            String lowerQuery = query.toLowerCase(Locale.getDefault());
             for (User user : users) {
                 // Search by name or email
-                if (user.getName().toLowerCase(Locale.getDefault()).contains(lowerQuery) ||
-                        user.getEmail().toLowerCase(Locale.getDefault()).contains(lowerQuery)) {
+                String name = user.getNameLower();
+                String email = user.getEmailLower();
+                if ((name != null && name.contains(lowerQuery)) ||
+                        (email != null && email.contains(lowerQuery))) {
                     usersFiltered.add(user);
                 }
             }
         }
 
-        notifyDataSetChanged();
+        submitList(new ArrayList<>(usersFiltered));
     }
 
     /**
@@ -88,6 +106,24 @@ public class UserAdapter extends RecyclerView.Adapter<UserAdapter.UserViewHolder
         this.listener = listener;
     }
 
+    /**
+     * Set the provider used to resolve organizer event counts for visible rows
+     */
+    public void setEventsCountProvider(EventsHostedCountProvider countProvider) {
+        this.countProvider = countProvider;
+    }
+
+    /**
+     * Cancel any count lookup still pending for a row that scrolled away
+     */
+    @Override
+    public void onViewRecycled(@NonNull UserViewHolder holder) {
+        super.onViewRecycled(holder);
+        if (countProvider != null) {
+            countProvider.cancel(holder);
+        }
+    }
+
     /**
      * ViewHolder for user items
      */
@@ -99,6 +135,7 @@ public class UserAdapter extends RecyclerView.Adapter<UserAdapter.UserViewHolder
         private TextView tvEventsHosted;  // NEW
         private MaterialButton btnDeleteUser;
         private MaterialButton btnRemoveOrganizer;
+        private String boundUserId;
 
         public UserViewHolder(@NonNull View itemView) {
             super(itemView);
@@ -112,6 +149,8 @@ public class UserAdapter extends RecyclerView.Adapter<UserAdapter.UserViewHolder
         }
 
         public void bind(User user, OnUserClickListener listener) {
+            boundUserId = user.getUserId();
+
             // Set user name
             tvUserName.setText(user.getName());
 
@@ -138,9 +177,12 @@ public class UserAdapter extends RecyclerView.Adapter<UserAdapter.UserViewHolder
                     }
                 });
 
-                // Trigger loading events count
-                if (listener != null) {
-                    listener.onLoadEventsCount(user, count -> {
+                // Trigger loading events count (ignored if the row was rebound meanwhile)
+                if (countProvider != null) {
+                    countProvider.requestCount(user, this, count -> {
+                        if (boundUserId == null || !boundUserId.equals(user.getUserId())) {
+                            return;
+                        }
                         if (count == 0) {
                             tvEventsHosted.setText("No events hosted");
                         } else {
@@ -150,6 +192,9 @@ public class UserAdapter extends RecyclerView.Adapter<UserAdapter.UserViewHolder
                 }
             } else {
                 tvEventsHosted.setVisibility(View.GONE);
+                if (countProvider != null) {
+                    countProvider.cancel(this);
+                }
             }
 
             // Show/hide "Remove Organizer" button
@@ -188,13 +233,5 @@ public class UserAdapter extends RecyclerView.Adapter<UserAdapter.UserViewHolder
         void onDeleteClick(User user);
         void onRemoveOrganizerClick(User user);
         void onViewEventsClick(User user);  // NEW: View organizer's events
-        void onLoadEventsCount(User user, EventsCountCallback callback);  // NEW: Load count
-    }
-
-    /**
-     * Callback for events count
-     */
-    public interface EventsCountCallback {
-        void onCountLoaded(int count);
     }
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.example.event_app.fragments;
 
+import android.Manifest;
+import android.content.pm.PackageManager;
+import android.location.Location;
 import android.os.Bundle;
 import android.text.Editable;
 import android.text.TextWatcher;
@@ -12,29 +15,38 @@ import android.widget.ImageButton;
 import android.widget.LinearLayout;
 import android.widget.ProgressBar;
 import android.widget.TextView;
+import android.widget.Toast;
 
+import androidx.activity.result.ActivityResultLauncher;
+import androidx.activity.result.contract.ActivityResultContracts;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.appcompat.app.AlertDialog;
+import androidx.core.app.ActivityCompat;
+import androidx.core.content.ContextCompat;
 import androidx.fragment.app.Fragment;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.event_app.R;
 import com.example.event_app.adapters.FullEventAdapter;
-import com.example.event_app.models.Event;
+import com.example.event_app.models.EventSummary;
+import com.example.event_app.services.EventCatalogue;
+import com.example.event_app.services.NearbyEventsService;
+import com.example.event_app.utils.FirestoreProvider;
+import com.google.android.gms.location.FusedLocationProviderClient;
+import com.google.android.gms.location.LocationServices;
+import com.google.android.gms.location.Priority;
+import com.google.android.gms.tasks.CancellationTokenSource;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.chip.Chip;
 import com.google.android.material.chip.ChipGroup;
 import com.google.firebase.firestore.FirebaseFirestore;
-import com.google.firebase.firestore.Query;
 import com.google.firebase.firestore.QueryDocumentSnapshot;
 
 import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.Collections;
-import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 /**
  * BrowseEventsTabFragment - Browse all available events
@@ -44,6 +56,10 @@ import java.util.List;
  * - Filter by time (All, This Week, This Month)
  * - Filter by category (Music, Sports, Art, etc.)
  * - Sort by date, name, or popularity
+ * - "Near me" mode listing geocoded events around the user, nearest first
+ *
+ * Listing, search, category filter and sorting run as SQL against the
+ * on-device {@link EventCatalogue}, which syncs only changed events.
  *
  * US 01.01.03: Browse available events
  * US 01.01.04: Filter events based on interests
@@ -59,7 +75,7 @@ public class BrowseEventsTabFragment extends Fragment {
     private ChipGroup chipGroupFilters;
     private Chip chipAll;
     private Chip chipFood, chipSports, chipMusic, chipEducation, chipArt, chipTech, chipHealth, chipBusiness, chipCommunity, chipOther;
-    private TextView tvResultsCount, btnSort;
+    private TextView tvResultsCount, btnSort, btnNearMe;
     private RecyclerView rvEvents;
     private ProgressBar progressBar;
     private LinearLayout emptyView, errorView;
@@ -69,33 +85,72 @@ public class BrowseEventsTabFragment extends Fragment {
     // Data
     private FullEventAdapter adapter;
     private FirebaseFirestore db;
-    private List<Event> allEvents;
+    private EventCatalogue catalogue;
+    // Bumped per catalogue query so a slow, stale result is dropped
+    private int queryGeneration = 0;
     private String currentSearchQuery = "";
     private String currentCategoryFilter = "all";
     private SortOption currentSort = SortOption.DATE_ASC;
     private List<String> customCategories = new ArrayList<>(); // User-added categories
     private List<Chip> customCategoryChips = new ArrayList<>(); // Dynamically created chips
 
-    //Real-time listener for all events
-    private com.google.firebase.firestore.ListenerRegistration eventsListener;
+    // Re-runs the current query whenever the catalogue syncs changes
+    private final EventCatalogue.ChangeListener catalogueListener = new EventCatalogue.ChangeListener() {
+        @Override
+        public void onCatalogueChanged() {
+            if (isAdded() && !nearMeMode) {
+                applyFiltersAndSort();
+            }
+        }
+
+        @Override
+        public void onSyncFailed(String error) {
+            if (isAdded() && !nearMeMode && adapter.getItemCount() == 0) {
+                showError("Failed to load events. Please try again.");
+            }
+        }
+    };
+
+    // Near me mode: events around the user replace the full list
+    private NearbyEventsService nearbyEventsService;
+    private FusedLocationProviderClient fusedLocationClient;
+    private CancellationTokenSource locationCancellation;
+    private boolean nearMeMode = false;
+    private List<EventSummary> nearbyEvents = new ArrayList<>();
+
+    private final ActivityResultLauncher<String> locationPermissionLauncher =
+            registerForActivityResult(new ActivityResultContracts.RequestPermission(), isGranted -> {
+                if (isGranted) {
+                    loadNearbyEvents();
+                } else {
+                    Toast.makeText(requireContext(), "Location permission is needed to find events near you",
+                            Toast.LENGTH_SHORT).show();
+                }
+            });
 
     // Sort options
     private enum SortOption {
-        DATE_ASC("Date (Soonest First)"),
-        DATE_DESC("Date (Latest First)"),
-        NAME_ASC("Name (A-Z)"),
-        NAME_DESC("Name (Z-A)"),
-        POPULAR("Most Popular");
+        DATE_ASC("Date (Soonest First)", EventCatalogue.Sort.DATE_ASC),
+        DATE_DESC("Date (Latest First)", EventCatalogue.Sort.DATE_DESC),
+        NAME_ASC("Name (A-Z)", EventCatalogue.Sort.NAME_ASC),
+        NAME_DESC("Name (Z-A)", EventCatalogue.Sort.NAME_DESC),
+        POPULAR("Most Popular", EventCatalogue.Sort.POPULAR);
 
         private final String displayName;
+        private final EventCatalogue.Sort catalogueSort;
 
-        SortOption(String displayName) {
+        SortOption(String displayName, EventCatalogue.Sort catalogueSort) {
             this.displayName = displayName;
+            this.catalogueSort = catalogueSort;
         }
 
         public String getDisplayName() {
             return displayName;
         }
+
+        public EventCatalogue.Sort getCatalogueSort() {
+            return catalogueSort;
+        }
     }
 
     @Nullable
@@ -109,13 +164,16 @@ public class BrowseEventsTabFragment extends Fragment {
     public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
         super.onViewCreated(view, savedInstanceState);
 
-        db = FirebaseFirestore.getInstance();
-        allEvents = new ArrayList<>();
+        db = FirestoreProvider.get();
+        catalogue = EventCatalogue.getInstance(requireContext());
+        nearbyEventsService = new NearbyEventsService();
+        fusedLocationClient = LocationServices.getFusedLocationProviderClient(requireContext());
 
         initViews(view);
         setupRecyclerView();
         setupListeners();
         loadCustomCategories();
+        catalogue.addChangeListener(catalogueListener);
         loadAllEvents();
     }
 
@@ -136,6 +194,7 @@ public class BrowseEventsTabFragment extends Fragment {
         chipOther = view.findViewById(R.id.chipOther);
         tvResultsCount = view.findViewById(R.id.tvResultsCount);
         btnSort = view.findViewById(R.id.btnSort);
+        btnNearMe = view.findViewById(R.id.btnNearMe);
         rvEvents = view.findViewById(R.id.rvEvents);
         progressBar = view.findViewById(R.id.progressBar);
         emptyView = view.findViewById(R.id.emptyView);
@@ -216,7 +275,14 @@ public class BrowseEventsTabFragment extends Fragment {
         });
 
         btnSort.setOnClickListener(v -> showSortDialog());
-        btnRetry.setOnClickListener(v -> loadAllEvents());
+        btnNearMe.setOnClickListener(v -> toggleNearMe());
+        btnRetry.setOnClickListener(v -> {
+            if (nearMeMode) {
+                loadNearbyEvents();
+            } else {
+                loadAllEvents();
+            }
+        });
     }
 
     /**
@@ -278,46 +344,128 @@ public class BrowseEventsTabFragment extends Fragment {
     }
 
     /**
-     *  Real-time updates for all active events
-     * Events appear/update instantly across all users!
+     * Shows the active events from the local catalogue. Changes made by other
+     * users arrive through the catalogue's sync and re-run the query.
      */
     private void loadAllEvents() {
         showLoading();
-        if (eventsListener != null) {
-            eventsListener.remove();
+        catalogue.requestSync();
+        applyFiltersAndSort();
+    }
+
+    /**
+     * Switches between all events and events near the user's location
+     */
+    private void toggleNearMe() {
+        nearMeMode = !nearMeMode;
+        btnNearMe.setText(nearMeMode ? "Near me ✓" : "Near me");
+        btnSort.setVisibility(nearMeMode ? View.GONE : View.VISIBLE);
+
+        if (!nearMeMode) {
+            if (locationCancellation != null) {
+                locationCancellation.cancel();
+            }
+            applyFiltersAndSort();
+            return;
+        }
+
+        if (ContextCompat.checkSelfPermission(requireContext(), Manifest.permission.ACCESS_FINE_LOCATION)
+                == PackageManager.PERMISSION_GRANTED) {
+            loadNearbyEvents();
+        } else {
+            locationPermissionLauncher.launch(Manifest.permission.ACCESS_FINE_LOCATION);
+        }
+    }
+
+    /**
+     * Gets the current location (falling back to the last known one) and
+     * loads the events around it with geohash range queries.
+     */
+    private void loadNearbyEvents() {
+        if (ActivityCompat.checkSelfPermission(requireContext(), Manifest.permission.ACCESS_FINE_LOCATION)
+                != PackageManager.PERMISSION_GRANTED) {
+            return;
         }
 
-        //Real-time listener - Updates automatically when events are created/modified!
-        eventsListener = db.collection("events")
-                .whereEqualTo("status", "active")
-                .orderBy("createdAt", Query.Direction.DESCENDING)
-                .addSnapshotListener((queryDocumentSnapshots, error) -> {
-                    if (error != null) {
-                        Log.e(TAG, "Error listening to events", error);
-                        showError("Failed to load events. Please try again.");
-                        return;
+        showLoading();
+        locationCancellation = new CancellationTokenSource();
+        fusedLocationClient.getCurrentLocation(Priority.PRIORITY_BALANCED_POWER_ACCURACY,
+                        locationCancellation.getToken())
+                .addOnSuccessListener(location -> {
+                    if (!isAdded() || !nearMeMode) return;
+                    if (location != null) {
+                        findEventsNear(location);
+                    } else {
+                        fusedLocationClient.getLastLocation()
+                                .addOnSuccessListener(lastLocation -> {
+                                    if (!isAdded() || !nearMeMode) return;
+                                    if (lastLocation != null) {
+                                        findEventsNear(lastLocation);
+                                    } else {
+                                        showError("Couldn't get your location. Please try again.");
+                                    }
+                                });
                     }
+                })
+                .addOnFailureListener(e -> {
+                    if (isAdded() && nearMeMode) {
+                        showError("Couldn't get your location. Please try again.");
+                    }
+                });
+    }
 
-                    if (queryDocumentSnapshots == null) {
-                        allEvents.clear();
+    private void findEventsNear(Location location) {
+        nearbyEventsService.findNearby(location.getLatitude(), location.getLongitude(),
+                NearbyEventsService.DEFAULT_RADIUS_METERS, new NearbyEventsService.NearbyCallback() {
+                    @Override
+                    public void onSuccess(List<EventSummary> events, Map<String, Double> distances) {
+                        if (!isAdded() || !nearMeMode) return;
+                        nearbyEvents = events;
                         applyFiltersAndSort();
-                        return;
                     }
 
-                    allEvents.clear();
-                    for (QueryDocumentSnapshot doc : queryDocumentSnapshots) {
-                        Event event = doc.toObject(Event.class);
-                        event.setId(doc.getId());
-                        allEvents.add(event);
+                    @Override
+                    public void onFailure(String error) {
+                        if (!isAdded() || !nearMeMode) return;
+                        showError("Failed to load nearby events. Please try again.");
                     }
-
-                    Log.d(TAG, "⚡ Real-time update: " + allEvents.size() + " events");
-                    applyFiltersAndSort();
                 });
     }
 
     private void applyFiltersAndSort() {
-        List<Event> filtered = new ArrayList<>(allEvents);
+        if (nearMeMode) {
+            applyNearbyFilters();
+            return;
+        }
+
+        int generation = ++queryGeneration;
+        String category = currentCategoryFilter.equals("all") ? null : currentCategoryFilter;
+        EventCatalogue.CatalogueFilter filter = new EventCatalogue.CatalogueFilter(
+                currentSearchQuery, category, null, null, currentSort.getCatalogueSort(), 0);
+
+        catalogue.query(filter, new EventCatalogue.QueryCallback() {
+            @Override
+            public void onSuccess(List<EventSummary> events, boolean synced) {
+                if (!isAdded() || nearMeMode || generation != queryGeneration) return;
+                // Nothing downloaded yet on first launch: keep loading until the sync lands
+                if (events.isEmpty() && !synced) return;
+                showResults(events);
+            }
+
+            @Override
+            public void onFailure(String error) {
+                if (!isAdded() || generation != queryGeneration) return;
+                showError("Failed to load events. Please try again.");
+            }
+        });
+    }
+
+    /**
+     * Near me results come from the server, so they are filtered in memory
+     * and stay nearest first
+     */
+    private void applyNearbyFilters() {
+        List<EventSummary> filtered = new ArrayList<>(nearbyEvents);
 
         // Search filter
         if (!currentSearchQuery.isEmpty()) {
@@ -329,25 +477,25 @@ public class BrowseEventsTabFragment extends Fragment {
             filtered = filterByCategory(filtered, currentCategoryFilter);
         }
 
-        // Sort
-        filtered = sortEvents(filtered, currentSort);
+        showResults(filtered);
+    }
 
-        // Update UI
-        updateResultsCount(filtered.size());
+    private void showResults(List<EventSummary> events) {
+        updateResultsCount(events.size());
 
-        if (filtered.isEmpty()) {
+        if (events.isEmpty()) {
             showEmpty(getEmptyMessage());
         } else {
             showEvents();
-            adapter.setEvents(filtered);
+            adapter.setEvents(events);
         }
     }
 
-    private List<Event> filterBySearch(List<Event> events, String query) {
-        List<Event> result = new ArrayList<>();
+    private List<EventSummary> filterBySearch(List<EventSummary> events, String query) {
+        List<EventSummary> result = new ArrayList<>();
         String lowerQuery = query.toLowerCase();
 
-        for (Event event : events) {
+        for (EventSummary event : events) {
             String name = event.getName() != null ? event.getName().toLowerCase() : "";
             String desc = event.getDescription() != null ? event.getDescription().toLowerCase() : "";
             String organizer = event.getOrganizerName() != null ? event.getOrganizerName().toLowerCase() : "";
@@ -364,36 +512,10 @@ public class BrowseEventsTabFragment extends Fragment {
         return result;
     }
 
-    private List<Event> filterByTime(List<Event> events, String timeFilter) {
-        List<Event> result = new ArrayList<>();
-        Calendar calendar = Calendar.getInstance();
-        Date now = calendar.getTime();
-        Date endDate;
-
-        if (timeFilter.equals("week")) {
-            calendar.add(Calendar.DAY_OF_YEAR, 7);
-            endDate = calendar.getTime();
-        } else if (timeFilter.equals("month")) {
-            calendar.add(Calendar.MONTH, 1);
-            endDate = calendar.getTime();
-        } else {
-            return events;
-        }
-
-        for (Event event : events) {
-            Date eventDate = event.getEventDate() != null ? event.getEventDate() : event.getDate();
-            if (eventDate != null && eventDate.after(now) && eventDate.before(endDate)) {
-                result.add(event);
-            }
-        }
+    private List<EventSummary> filterByCategory(List<EventSummary> events, String category) {
+        List<EventSummary> result = new ArrayList<>();
 
-        return result;
-    }
-
-    private List<Event> filterByCategory(List<Event> events, String category) {
-        List<Event> result = new ArrayList<>();
-
-        for (Event event : events) {
+        for (EventSummary event : events) {
             String eventCategory = event.getCategory();
 
             // Match the category exactly
@@ -405,58 +527,6 @@ public class BrowseEventsTabFragment extends Fragment {
         return result;
     }
 
-    private List<Event> sortEvents(List<Event> events, SortOption sortOption) {
-        List<Event> sorted = new ArrayList<>(events);
-
-        switch (sortOption) {
-            case DATE_ASC:
-                Collections.sort(sorted, (e1, e2) -> {
-                    Date d1 = e1.getEventDate() != null ? e1.getEventDate() : e1.getDate();
-                    Date d2 = e2.getEventDate() != null ? e2.getEventDate() : e2.getDate();
-                    if (d1 == null) return 1;
-                    if (d2 == null) return -1;
-                    return d1.compareTo(d2);
-                });
-                break;
-
-            case DATE_DESC:
-                Collections.sort(sorted, (e1, e2) -> {
-                    Date d1 = e1.getEventDate() != null ? e1.getEventDate() : e1.getDate();
-                    Date d2 = e2.getEventDate() != null ? e2.getEventDate() : e2.getDate();
-                    if (d1 == null) return 1;
-                    if (d2 == null) return -1;
-                    return d2.compareTo(d1);
-                });
-                break;
-
-            case NAME_ASC:
-                Collections.sort(sorted, (e1, e2) -> {
-                    String n1 = e1.getName() != null ? e1.getName() : "";
-                    String n2 = e2.getName() != null ? e2.getName() : "";
-                    return n1.compareToIgnoreCase(n2);
-                });
-                break;
-
-            case NAME_DESC:
-                Collections.sort(sorted, (e1, e2) -> {
-                    String n1 = e1.getName() != null ? e1.getName() : "";
-                    String n2 = e2.getName() != null ? e2.getName() : "";
-                    return n2.compareToIgnoreCase(n1);
-                });
-                break;
-
-            case POPULAR:
-                Collections.sort(sorted, (e1, e2) -> {
-                    int size1 = e1.getWaitingList() != null ? e1.getWaitingList().size() : 0;
-                    int size2 = e2.getWaitingList() != null ? e2.getWaitingList().size() : 0;
-                    return Integer.compare(size2, size1);
-                });
-                break;
-        }
-
-        return sorted;
-    }
-
     private void showSortDialog() {
         String[] options = {
                 SortOption.DATE_ASC.getDisplayName(),
@@ -492,10 +562,17 @@ public class BrowseEventsTabFragment extends Fragment {
     }
 
     private void updateResultsCount(int count) {
-        tvResultsCount.setText(count + (count == 1 ? " event" : " events"));
+        String text = count + (count == 1 ? " event" : " events");
+        if (nearMeMode) {
+            text += " within " + (int) (NearbyEventsService.DEFAULT_RADIUS_METERS / 1000) + " km";
+        }
+        tvResultsCount.setText(text);
     }
 
     private String getEmptyMessage() {
+        if (nearMeMode && currentSearchQuery.isEmpty() && currentCategoryFilter.equals("all")) {
+            return "No events near you yet";
+        }
         if (!currentSearchQuery.isEmpty()) {
             return "No events match \"" + currentSearchQuery + "\"";
         }
@@ -539,10 +616,10 @@ public class BrowseEventsTabFragment extends Fragment {
     public void onDestroyView() {
         super.onDestroyView();
 
-        //Clean up real-time listener to prevent memory leaks
-        if (eventsListener != null) {
-            eventsListener.remove();
-            eventsListener = null;
+        // Stop catalogue updates for this view
+        catalogue.removeChangeListener(catalogueListener);
+        if (locationCancellation != null) {
+            locationCancellation.cancel();
         }
     }
 }
\ No newline at end of file
@@ -28,8 +28,12 @@ import com.example.event_app.activities.entrant.MyEventsActivity;
 import com.example.event_app.activities.entrant.NotificationsActivity;
 import com.example.event_app.activities.organizer.CreateEventActivity;
 import com.example.event_app.adapters.HorizontalEventAdapter;
-import com.example.event_app.models.Event;
+import com.example.event_app.models.EventSummary;
+import com.example.event_app.services.EventBatchLoader;
+import com.example.event_app.services.EventCache;
+import com.example.event_app.services.EventCatalogue;
 import com.example.event_app.services.NotificationService;
+import com.example.event_app.utils.FirestoreProvider;
 import com.example.event_app.utils.Navigator;
 import com.example.event_app.utils.PermissionManager;
 import com.google.android.material.button.MaterialButton;
@@ -38,8 +42,6 @@ import com.google.android.material.chip.Chip;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.ListenerRegistration;
-import com.google.firebase.firestore.Query;
-import com.google.firebase.firestore.QueryDocumentSnapshot;
 import com.journeyapps.barcodescanner.ScanContract;
 import com.journeyapps.barcodescanner.ScanOptions;
 
@@ -58,6 +60,9 @@ import java.util.List;
  * - Browse events
  * - Category filtering
  * - ✨ Favorites section
+ *
+ * Happening Soon and Popular are queried from the on-device
+ * {@link EventCatalogue} and refresh whenever it syncs changes.
  */
 public class HomeFragment extends Fragment {
 
@@ -90,8 +95,26 @@ public class HomeFragment extends Fragment {
     // Real-time listeners
     private ListenerRegistration badgeListener;
     private ListenerRegistration favoritesListener;
-    private ListenerRegistration happeningSoonListener;
-    private ListenerRegistration popularListener;
+
+    // Local event catalogue behind Happening Soon and Popular
+    private EventCatalogue catalogue;
+    private final EventCatalogue.ChangeListener catalogueListener = new EventCatalogue.ChangeListener() {
+        @Override
+        public void onCatalogueChanged() {
+            if (isAdded()) {
+                loadHappeningSoonEvents();
+                loadPopularEvents();
+            }
+        }
+
+        @Override
+        public void onSyncFailed(String error) {
+            Log.w(TAG, "Event catalogue sync failed: " + error);
+        }
+    };
+
+    // Caches favorite events by ID across user-document snapshots
+    private EventBatchLoader favoritesLoader;
 
     // Permission launcher for camera
     private final ActivityResultLauncher<String> requestPermissionLauncher =
@@ -109,6 +132,8 @@ public class HomeFragment extends Fragment {
             registerForActivityResult(new ScanContract(), result -> {
                 if (result.getContents() != null) {
                     String eventId = result.getContents();
+                    // Start the read while the details screen is being created
+                    EventCache.getInstance().prefetch(eventId);
                     Intent intent = new Intent(requireContext(), EventDetailsActivity.class);
                     intent.putExtra(Navigator.EXTRA_EVENT_ID, eventId);
                     startActivity(intent);
@@ -127,8 +152,10 @@ public class HomeFragment extends Fragment {
         super.onViewCreated(view, savedInstanceState);
 
         // Initialize Firebase
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
         mAuth = FirebaseAuth.getInstance();
+        favoritesLoader = new EventBatchLoader();
+        catalogue = EventCatalogue.getInstance(requireContext());
 
         // Initialize notification service
         notificationService = new NotificationService();
@@ -143,6 +170,7 @@ public class HomeFragment extends Fragment {
         setupListeners();
 
         // Load events
+        catalogue.addChangeListener(catalogueListener);
         loadHappeningSoonEvents();
         loadPopularEvents();
         loadFavoriteEvents();  //Load favorites
@@ -298,8 +326,7 @@ public class HomeFragment extends Fragment {
     }
 
     /**
-     * Real-time updates for happening soon events
-     * New events appear instantly without refresh!
+     * Active events scheduled in the next 7 days, soonest first
      */
     private void loadHappeningSoonEvents() {
         Calendar calendar = Calendar.getInstance();
@@ -307,96 +334,60 @@ public class HomeFragment extends Fragment {
         calendar.add(Calendar.DAY_OF_YEAR, 7);
         Date weekFromNow = calendar.getTime();
 
-        if (happeningSoonListener != null) {
-            happeningSoonListener.remove();
-        }
-
-        // Real-time listener - Updates automatically!
-        happeningSoonListener = db.collection("events")
-                .whereEqualTo("status", "active")
-                .whereGreaterThanOrEqualTo("eventDate", today)
-                .whereLessThanOrEqualTo("eventDate", weekFromNow)
-                .orderBy("eventDate", Query.Direction.ASCENDING)
-                .limit(10)
-                .addSnapshotListener((queryDocumentSnapshots, error) -> {
-                    if (error != null) {
-                        showEmptyState(rvHappeningSoon, emptyHappeningSoon);
-                        return;
-                    }
-
-                    if (queryDocumentSnapshots == null) {
-                        showEmptyState(rvHappeningSoon, emptyHappeningSoon);
-                        return;
-                    }
-
-                    List<Event> events = new ArrayList<>();
-                    for (QueryDocumentSnapshot doc : queryDocumentSnapshots) {
-                        Event event = doc.toObject(Event.class);
-                        event.setId(doc.getId());
-                        events.add(event);
-                    }
-
-                    if (events.isEmpty()) {
-                        showEmptyState(rvHappeningSoon, emptyHappeningSoon);
-                    } else {
-                        showEvents(rvHappeningSoon, emptyHappeningSoon);
-                        happeningSoonAdapter.setEvents(events);
-                    }
-                });
+        catalogue.query(new EventCatalogue.CatalogueFilter(null, null, today, weekFromNow,
+                        EventCatalogue.Sort.DATE_ASC, 10),
+                new CatalogueSection(happeningSoonAdapter, rvHappeningSoon, emptyHappeningSoon));
     }
 
     /**
-     * Real-time updates for popular events
-     * Events update automatically as waiting lists grow!
+     * The 10 active events with the longest waiting lists
      */
     private void loadPopularEvents() {
+        catalogue.query(new EventCatalogue.CatalogueFilter(null, null, null, null,
+                        EventCatalogue.Sort.POPULAR, 10),
+                new CatalogueSection(popularAdapter, rvPopular, emptyPopular));
+    }
 
-        if (popularListener != null) {
-            popularListener.remove();
+    /**
+     * Shows a catalogue query's results in one horizontal section
+     */
+    private class CatalogueSection implements EventCatalogue.QueryCallback {
+        private final HorizontalEventAdapter sectionAdapter;
+        private final RecyclerView recyclerView;
+        private final LinearLayout emptyView;
+
+        CatalogueSection(HorizontalEventAdapter sectionAdapter, RecyclerView recyclerView,
+                         LinearLayout emptyView) {
+            this.sectionAdapter = sectionAdapter;
+            this.recyclerView = recyclerView;
+            this.emptyView = emptyView;
         }
 
-        // Real-time listener - Updates automatically!
-        popularListener = db.collection("events")
-                .whereEqualTo("status", "active")
-                .orderBy("createdAt", Query.Direction.DESCENDING)
-                .limit(10)
-                .addSnapshotListener((queryDocumentSnapshots, error) -> {
-                    if (error != null) {
-                        showEmptyState(rvPopular, emptyPopular);
-                        return;
-                    }
-
-                    if (queryDocumentSnapshots == null) {
-                        showEmptyState(rvPopular, emptyPopular);
-                        return;
-                    }
-
-                    List<Event> events = new ArrayList<>();
-                    for (QueryDocumentSnapshot doc : queryDocumentSnapshots) {
-                        Event event = doc.toObject(Event.class);
-                        event.setId(doc.getId());
-                        events.add(event);
-                    }
-
-                    // Sort by waiting list size (most popular first)
-                    events.sort((e1, e2) -> {
-                        int size1 = e1.getWaitingList() != null ? e1.getWaitingList().size() : 0;
-                        int size2 = e2.getWaitingList() != null ? e2.getWaitingList().size() : 0;
-                        return Integer.compare(size2, size1);
-                    });
-
+        @Override
+        public void onSuccess(List<EventSummary> events, boolean synced) {
+            if (!isAdded()) return;
+            // Nothing downloaded yet on first launch: wait for the sync
+            if (events.isEmpty() && !synced) return;
+
+            if (events.isEmpty()) {
+                showEmptyState(recyclerView, emptyView);
+            } else {
+                showEvents(recyclerView, emptyView);
+                sectionAdapter.setEvents(events);
+            }
+        }
 
-                    if (events.isEmpty()) {
-                        showEmptyState(rvPopular, emptyPopular);
-                    } else {
-                        showEvents(rvPopular, emptyPopular);
-                        popularAdapter.setEvents(events);
-                    }
-                });
+        @Override
+        public void onFailure(String error) {
+            if (isAdded()) {
+                showEmptyState(recyclerView, emptyView);
+            }
+        }
     }
 
     /**
      * Load user's favorite events with REAL-TIME updates
+     * Every favorite is shown: IDs are fetched in parallel whereIn chunks.
      */
     private void loadFavoriteEvents() {
         if (mAuth.getCurrentUser() == null) {
@@ -427,40 +418,26 @@ public class HomeFragment extends Fragment {
 
                     List<String> favoriteIds = (List<String>) snapshot.get("favoriteEvents");
 
-                    if (favoriteIds == null || favoriteIds.isEmpty()) {
-                        hideFavoritesSection();
-                        return;
-                    }
-
-
-                    // Firestore whereIn has a limit of 10 items
-                    if (favoriteIds.size() > 10) {
-                        favoriteIds = favoriteIds.subList(0, 10);
-                    }
-
-                    // Load favorite events
-                    db.collection("events")
-                            .whereIn("__name__", favoriteIds)
-                            .get()
-                            .addOnSuccessListener(queryDocumentSnapshots -> {
-                                List<Event> events = new ArrayList<>();
-                                for (QueryDocumentSnapshot doc : queryDocumentSnapshots) {
-                                    Event event = doc.toObject(Event.class);
-                                    event.setId(doc.getId());
-                                    events.add(event);
-                                }
-
-
-                                if (events.isEmpty()) {
-                                    hideFavoritesSection();
-                                } else {
-                                    showFavoritesSection();
-                                    favoritesAdapter.setEvents(events);
-                                }
-                            })
-                            .addOnFailureListener(e -> {
+                    // Only favorites added since the last snapshot are fetched. An
+                    // empty list still goes through the loader to cancel older loads.
+                    favoritesLoader.load(favoriteIds != null ? favoriteIds : new ArrayList<>(), new EventBatchLoader.LoadCallback() {
+                        @Override
+                        public void onSuccess(List<EventSummary> events) {
+                            if (!isAdded()) return;
+                            if (events.isEmpty()) {
                                 hideFavoritesSection();
-                            });
+                            } else {
+                                showFavoritesSection();
+                                favoritesAdapter.setEvents(events);
+                            }
+                        }
+
+                        @Override
+                        public void onFailure(String error) {
+                            if (!isAdded()) return;
+                            hideFavoritesSection();
+                        }
+                    });
                 });
     }
 
@@ -513,15 +490,7 @@ public class HomeFragment extends Fragment {
             favoritesListener = null;
         }
 
-        if (happeningSoonListener != null) {
-            happeningSoonListener.remove();
-            happeningSoonListener = null;
-        }
-
-        if (popularListener != null) {
-            popularListener.remove();
-            popularListener = null;
-        }
+        catalogue.removeChangeListener(catalogueListener);
 
         Log.d(TAG, " All real-time listeners cleaned up");
     }
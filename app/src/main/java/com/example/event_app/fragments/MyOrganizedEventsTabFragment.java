@@ -19,7 +19,8 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.event_app.R;
 import com.example.event_app.activities.organizer.CreateEventActivity;
 import com.example.event_app.adapters.OrganizerEventsAdapter;
-import com.example.event_app.models.Event;
+import com.example.event_app.models.EventSummary;
+import com.example.event_app.utils.FirestoreProvider;
 import com.google.android.material.button.MaterialButton;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.firestore.FirebaseFirestore;
@@ -48,7 +49,7 @@ public class MyOrganizedEventsTabFragment extends Fragment {
     private OrganizerEventsAdapter adapter;
     private FirebaseFirestore db;
     private FirebaseAuth mAuth;
-    private List<Event> myEvents;
+    private List<EventSummary> myEvents;
 
     // Real-time listener for organizer's events
     private com.google.firebase.firestore.ListenerRegistration eventsListener;
@@ -65,7 +66,7 @@ public class MyOrganizedEventsTabFragment extends Fragment {
         super.onViewCreated(view, savedInstanceState);
 
         // Initialize Firebase
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
         mAuth = FirebaseAuth.getInstance();
         myEvents = new ArrayList<>();
 
@@ -121,7 +122,7 @@ public class MyOrganizedEventsTabFragment extends Fragment {
         }
 
         // Real-time listener - Updates automatically when events are created/modified!
-        eventsListener = db.collection("events")
+        eventsListener = db.collection(EventSummary.COLLECTION)
                 .whereEqualTo("organizerId", userId)
                 .orderBy("createdAt", com.google.firebase.firestore.Query.Direction.DESCENDING)
                 .addSnapshotListener((queryDocumentSnapshots, error) -> {
@@ -137,7 +138,7 @@ public class MyOrganizedEventsTabFragment extends Fragment {
 
                     myEvents.clear();
                     for (QueryDocumentSnapshot doc : queryDocumentSnapshots) {
-                        Event event = doc.toObject(Event.class);
+                        EventSummary event = doc.toObject(EventSummary.class);
                         event.setId(doc.getId());
                         myEvents.add(event);
                     }
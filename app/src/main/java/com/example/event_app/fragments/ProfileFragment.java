@@ -28,10 +28,14 @@ import com.example.event_app.activities.shared.ProfileSetupActivity;
 import com.example.event_app.models.Event;
 import com.example.event_app.models.User;
 import com.example.event_app.utils.AccessibilityHelper;
+import com.example.event_app.utils.FirestoreProvider;
+import com.example.event_app.utils.SessionCache;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.switchmaterial.SwitchMaterial;
 import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.firestore.DocumentSnapshot;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.FieldValue;
 import com.google.firebase.firestore.QueryDocumentSnapshot;
 
 /**
@@ -112,7 +116,7 @@ public class ProfileFragment extends Fragment {
 
         // Initialize Firebase
         mAuth = FirebaseAuth.getInstance();
-        db = FirebaseFirestore.getInstance();
+        db = FirestoreProvider.get();
 
         // Initialize views
         initViews(view);
@@ -290,24 +294,35 @@ public class ProfileFragment extends Fragment {
         String userId = mAuth.getCurrentUser().getUid();
         showLoading();
 
-        // Load user info
-        db.collection("users").document(userId)
-                .get()
-                .addOnSuccessListener(document -> {
-                    if (document.exists()) {
-                        currentUser = document.toObject(User.class);
-                        if (currentUser != null) {
-                            displayUserInfo();
-                            // Load event stats
-                            loadEventStats(userId);
+        // Load user info: cached copy first, then the server's if it differs
+        FirestoreProvider.getCacheFirst(db.collection("users").document(userId),
+                new FirestoreProvider.SnapshotCallback<DocumentSnapshot>() {
+                    private boolean statsRequested;
+
+                    @Override
+                    public void onSnapshot(DocumentSnapshot document, boolean fromCache) {
+                        if (!isAdded()) return;
+                        if (document.exists()) {
+                            currentUser = document.toObject(User.class);
+                            if (currentUser != null) {
+                                displayUserInfo();
+                                // Load event stats once per load, not per revalidation
+                                if (!statsRequested) {
+                                    statsRequested = true;
+                                    loadEventStats(userId);
+                                }
+                            }
+                        } else {
+                            hideLoading();
                         }
-                    } else {
+                    }
+
+                    @Override
+                    public void onFailure(String error) {
+                        if (!isAdded()) return;
+                        Toast.makeText(requireContext(), "Error loading profile", Toast.LENGTH_SHORT).show();
                         hideLoading();
                     }
-                })
-                .addOnFailureListener(e -> {
-                    Toast.makeText(requireContext(), "Error loading profile", Toast.LENGTH_SHORT).show();
-                    hideLoading();
                 });
     }
 
@@ -515,8 +530,10 @@ public class ProfileFragment extends Fragment {
         currentUser.setUpdatedAt(System.currentTimeMillis());
 
         db.collection("users").document(userId)
-                .set(currentUser)
+                .update("roles", FieldValue.arrayUnion("admin"),
+                        "updatedAt", currentUser.getUpdatedAt())
                 .addOnSuccessListener(aVoid -> {
+                    new SessionCache(requireContext()).save(userId, currentUser);
                     Toast.makeText(requireContext(), "Admin access granted!", Toast.LENGTH_LONG).show();
                     updateAdminUI();
 
@@ -1,5 +1,7 @@
 package com.example.event_app.models;
 
+import com.example.event_app.utils.Geohash;
+import com.google.firebase.firestore.IgnoreExtraProperties;
 import com.google.firebase.firestore.ServerTimestamp;
 
 import java.util.Date;
@@ -17,27 +19,41 @@ import java.util.Map;
  * archival once the event date has passed. The model also supports tracking of
  * geolocation audits and various participant groups.</p>
  */
+@IgnoreExtraProperties
 public class Event {
 
+    // Cancellation rate (percent) above which an event is flagged for admin review
+    public static final double HIGH_CANCELLATION_THRESHOLD = 30.0;
+
+    // Longest edge (px) of each uploaded poster rendition
+    public static final int POSTER_THUMB_SIZE_PX = 400;
+    public static final int POSTER_CARD_SIZE_PX = 960;
+    public static final int POSTER_FULL_SIZE_PX = 1920;
+
     // Firestore document ID (set manually when loading from Firestore)
     private String id;
 
     // Basic event information
     private boolean geolocationEnabled;
-    private Map<String, Map<String, Double>> entrantLocations;
     private String eventId;          // optional: if you also store ID inside the document
     private String name;
     private String description;
     private String organizerId;
     private String status;           // "active", "cancelled", "completed"
     private long createdAt;
-    private String posterUrl;
+    private String posterUrl;        // full-size rendition
+    private String posterCardUrl;    // medium rendition for cards and grids
+    private String posterThumbUrl;   // small rendition for list thumbnails
     private String location;
+    private Double latitude;         // geocoded from location, null if unknown
+    private Double longitude;
+    private String geohash;          // indexes latitude/longitude for nearby queries
     private String category;         // Event category: "Food", "Sports", "Music", "Education", "Art", "Technology", "Health", "Other"
 
     // Registration and Capacity
     private Long capacity;
     private List<String> waitingList;
+    private int waitingListCount;             // Denormalized waitingList size for popularity queries
     private List<String> signedUpUsers;       // Users who ACCEPTED invitation
     private List<String> selectedList;        // Users selected by lottery (waiting for response)
     private List<String> declinedUsers;       // Users who declined invitation
@@ -64,6 +80,7 @@ public class Event {
     private int totalSelected;
     private int totalCancelled;
     private int totalAttending;
+    private boolean flagged;                  // Denormalized hasHighCancellationRate() for admin queries
 
     // Empty constructor required for Firebase
     public Event() {}
@@ -100,10 +117,16 @@ public class Event {
     public String getStatus() { return status; }
     public long getCreatedAt() { return createdAt; }
     public String getPosterUrl() { return posterUrl; }
+    public String getPosterCardUrl() { return posterCardUrl; }
+    public String getPosterThumbUrl() { return posterThumbUrl; }
     public String getLocation() { return location; }
+    public Double getLatitude() { return latitude; }
+    public Double getLongitude() { return longitude; }
+    public String getGeohash() { return geohash; }
     public String getCategory() { return category; }
     public Long getCapacity() { return capacity; }
     public List<String> getWaitingList() { return waitingList; }
+    public int getWaitingListCount() { return waitingListCount; }
     public List<String> getSignedUpUsers() { return signedUpUsers; }
     public List<String> getSelectedList() { return selectedList; }
     public List<String> getDeclinedUsers() { return declinedUsers; }
@@ -122,6 +145,7 @@ public class Event {
     public boolean isLotteryRun() { return lotteryRun; }
     public long getLotteryDate() { return lotteryDate; }
     public boolean isArchived() { return archived; }
+    public boolean isFlagged() { return flagged; }
 
     // --- Setters ---
     public void setId(String id) { this.id = id; }
@@ -132,10 +156,16 @@ public class Event {
     public void setStatus(String status) { this.status = status; }
     public void setCreatedAt(long createdAt) { this.createdAt = createdAt; }
     public void setPosterUrl(String posterUrl) { this.posterUrl = posterUrl; }
+    public void setPosterCardUrl(String posterCardUrl) { this.posterCardUrl = posterCardUrl; }
+    public void setPosterThumbUrl(String posterThumbUrl) { this.posterThumbUrl = posterThumbUrl; }
     public void setLocation(String location) { this.location = location; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+    public void setGeohash(String geohash) { this.geohash = geohash; }
     public void setCategory(String category) { this.category = category; }
     public void setCapacity(Long capacity) { this.capacity = capacity; }
     public void setWaitingList(List<String> waitingList) { this.waitingList = waitingList; }
+    public void setWaitingListCount(int waitingListCount) { this.waitingListCount = waitingListCount; }
     public void setSignedUpUsers(List<String> signedUpUsers) { this.signedUpUsers = signedUpUsers; }
     public void setSelectedList(List<String> selectedList) { this.selectedList = selectedList; }
     public void setDeclinedUsers(List<String> declinedUsers) { this.declinedUsers = declinedUsers; }
@@ -156,11 +186,7 @@ public class Event {
     public void setLotteryRun(boolean lotteryRun) { this.lotteryRun = lotteryRun; }
     public void setLotteryDate(long lotteryDate) { this.lotteryDate = lotteryDate; }
     public void setArchived(boolean archived) { this.archived = archived; }
-
-    public Map<String, Map<String, Double>> getEntrantLocations() { return entrantLocations; }
-    public void setEntrantLocations(Map<String, Map<String, Double>> entrantLocations) {
-        this.entrantLocations = entrantLocations;
-    }
+    public void setFlagged(boolean flagged) { this.flagged = flagged; }
 
     // --- Logic Methods ---
 
@@ -171,8 +197,7 @@ public class Event {
      * @return cancellation rate between 0.0 and 100.0
      */
     public double getCancellationRate() {
-        if (totalSelected == 0) return 0.0;
-        return (double) totalCancelled / totalSelected * 100;
+        return computeCancellationRate(totalSelected, totalCancelled);
     }
 
     /**
@@ -182,7 +207,69 @@ public class Event {
      * @return true if the cancellation rate is greater than 30%, otherwise false
      */
     public boolean hasHighCancellationRate() {
-        return getCancellationRate() > 30.0;
+        return isHighCancellationRate(getCancellationRate());
+    }
+
+    /**
+     * Computes a cancellation rate from raw totals. Shared with the write paths
+     * that keep the stored cancellationRate and flagged fields up to date.
+     *
+     * @param totalSelected  number of users selected by the lottery
+     * @param totalCancelled number of selected users who declined or cancelled
+     * @return cancellation rate between 0.0 and 100.0
+     */
+    public static double computeCancellationRate(long totalSelected, long totalCancelled) {
+        if (totalSelected <= 0) return 0.0;
+        return (double) totalCancelled / totalSelected * 100;
+    }
+
+    /**
+     * Picks the smallest poster rendition that still covers the given size.
+     * Events created before renditions existed only have the full poster.
+     *
+     * @param sizePx longest edge, in pixels, of the view showing the poster
+     * @return URL of the best rendition, or null if the event has no poster
+     */
+    public String posterUrlForSize(int sizePx) {
+        return pickPosterUrl(sizePx, posterThumbUrl, posterCardUrl, posterUrl);
+    }
+
+    /**
+     * Rendition choice shared with {@link EventSummary#posterUrlForSize(int)}.
+     */
+    static String pickPosterUrl(int sizePx, String thumbUrl, String cardUrl, String fullUrl) {
+        if (sizePx <= POSTER_THUMB_SIZE_PX && thumbUrl != null) {
+            return thumbUrl;
+        }
+        if (sizePx <= POSTER_CARD_SIZE_PX && cardUrl != null) {
+            return cardUrl;
+        }
+        return fullUrl;
+    }
+
+    /**
+     * Sets the event's coordinates together with the geohash that lets
+     * nearby-event queries find it.
+     */
+    public void setCoordinates(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.geohash = Geohash.encode(latitude, longitude);
+    }
+
+    /**
+     * @return true if the event's location has been geocoded
+     */
+    public boolean hasCoordinates() {
+        return latitude != null && longitude != null;
+    }
+
+    /**
+     * @param cancellationRate rate as returned by {@link #computeCancellationRate(long, long)}
+     * @return true if the rate exceeds {@link #HIGH_CANCELLATION_THRESHOLD}
+     */
+    public static boolean isHighCancellationRate(double cancellationRate) {
+        return cancellationRate > HIGH_CANCELLATION_THRESHOLD;
     }
 
     /**
@@ -0,0 +1,167 @@
+package com.example.event_app.models;
+
+import com.google.firebase.firestore.Exclude;
+import com.google.firebase.firestore.IgnoreExtraProperties;
+
+import java.util.Date;
+
+/**
+ * Card-level projection of an {@link Event}, stored in event_summaries under
+ * the same document ID. List screens read summaries instead of full events,
+ * so they download a few hundred bytes per event rather than every entrant
+ * array, location and the replacement log.
+ *
+ * <p>Summaries are written only by the syncEventSummary Cloud Function on
+ * every event write; the app treats them as read-only. Counters replace the
+ * list sizes the cards used to compute, and the description is cut to a
+ * short snippet. Screens that need anything else load the full event.</p>
+ *
+ * <p>A deleted event leaves a tombstone summary with only deleted and
+ * updatedAt set, so the on-device catalogue can pick up removals in its
+ * delta sync. Queries without a status or organizer filter skip them.</p>
+ */
+@IgnoreExtraProperties
+public class EventSummary {
+
+    public static final String COLLECTION = "event_summaries";
+
+    // Firestore document ID, equal to the event ID (set manually when loading)
+    private String id;
+
+    private String name;
+    private String description;        // first 200 characters only
+    private String organizerId;
+    private String organizerName;
+    private String status;
+    private String category;
+    private String location;
+    private Double latitude;
+    private Double longitude;
+    private String geohash;
+    private Date eventDate;
+    private Date date;
+    private long createdAt;
+    private String posterUrl;
+    private String posterCardUrl;
+    private String posterThumbUrl;
+    private Long capacity;
+
+    // Counters derived from the event's lists
+    private int waitingListCount;
+    private int selectedCount;
+    private int attendingCount;
+    private int entrantCount;
+    private double cancellationRate;
+    private boolean flagged;
+
+    // Set on the tombstone left behind when the event is deleted
+    private boolean deleted;
+
+    // Empty constructor for Firebase
+    public EventSummary() {
+    }
+
+    public String getId() { return id; }
+    public String getName() { return name; }
+    public String getDescription() { return description; }
+    public String getOrganizerId() { return organizerId; }
+    public String getOrganizerName() { return organizerName; }
+    public String getStatus() { return status; }
+    public String getCategory() { return category; }
+    public String getLocation() { return location; }
+    public Double getLatitude() { return latitude; }
+    public Double getLongitude() { return longitude; }
+    public String getGeohash() { return geohash; }
+    public Date getEventDate() { return eventDate; }
+    public Date getDate() { return date; }
+    public long getCreatedAt() { return createdAt; }
+    public String getPosterUrl() { return posterUrl; }
+    public String getPosterCardUrl() { return posterCardUrl; }
+    public String getPosterThumbUrl() { return posterThumbUrl; }
+    public Long getCapacity() { return capacity; }
+    public int getWaitingListCount() { return waitingListCount; }
+    public int getSelectedCount() { return selectedCount; }
+    public int getAttendingCount() { return attendingCount; }
+    public int getEntrantCount() { return entrantCount; }
+    public double getCancellationRate() { return cancellationRate; }
+    public boolean isFlagged() { return flagged; }
+    public boolean isDeleted() { return deleted; }
+
+    public void setId(String id) { this.id = id; }
+    public void setName(String name) { this.name = name; }
+    public void setDescription(String description) { this.description = description; }
+    public void setOrganizerId(String organizerId) { this.organizerId = organizerId; }
+    public void setOrganizerName(String organizerName) { this.organizerName = organizerName; }
+    public void setStatus(String status) { this.status = status; }
+    public void setCategory(String category) { this.category = category; }
+    public void setLocation(String location) { this.location = location; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+    public void setGeohash(String geohash) { this.geohash = geohash; }
+    public void setEventDate(Date eventDate) { this.eventDate = eventDate; }
+    public void setDate(Date date) { this.date = date; }
+    public void setCreatedAt(long createdAt) { this.createdAt = createdAt; }
+    public void setPosterUrl(String posterUrl) { this.posterUrl = posterUrl; }
+    public void setPosterCardUrl(String posterCardUrl) { this.posterCardUrl = posterCardUrl; }
+    public void setPosterThumbUrl(String posterThumbUrl) { this.posterThumbUrl = posterThumbUrl; }
+    public void setCapacity(Long capacity) { this.capacity = capacity; }
+    public void setWaitingListCount(int waitingListCount) { this.waitingListCount = waitingListCount; }
+    public void setSelectedCount(int selectedCount) { this.selectedCount = selectedCount; }
+    public void setAttendingCount(int attendingCount) { this.attendingCount = attendingCount; }
+    public void setEntrantCount(int entrantCount) { this.entrantCount = entrantCount; }
+    public void setCancellationRate(double cancellationRate) { this.cancellationRate = cancellationRate; }
+    public void setFlagged(boolean flagged) { this.flagged = flagged; }
+    public void setDeleted(boolean deleted) { this.deleted = deleted; }
+
+    /**
+     * @see Event#posterUrlForSize(int)
+     */
+    public String posterUrlForSize(int sizePx) {
+        return Event.pickPosterUrl(sizePx, posterThumbUrl, posterCardUrl, posterUrl);
+    }
+
+    /**
+     * @return true if the stored cancellation rate is above the admin threshold
+     */
+    public boolean hasHighCancellationRate() {
+        return Event.isHighCancellationRate(cancellationRate);
+    }
+
+    /**
+     * @return true if the event's location has been geocoded
+     */
+    public boolean hasCoordinates() {
+        return latitude != null && longitude != null;
+    }
+
+    /**
+     * Event carrying only the summary's fields, for drawing a details screen
+     * before the full document arrives. Its entrant lists are null.
+     */
+    public Event toPreviewEvent() {
+        Event event = new Event();
+        event.setId(id);
+        event.setName(name);
+        event.setDescription(description);
+        event.setOrganizerId(organizerId);
+        event.setOrganizerName(organizerName);
+        event.setStatus(status);
+        event.setLocation(location);
+        event.setEventDate(eventDate);
+        event.setDate(date);
+        event.setCapacity(capacity);
+        event.setPosterUrl(posterUrl);
+        event.setPosterCardUrl(posterCardUrl);
+        event.setPosterThumbUrl(posterThumbUrl);
+        event.setWaitingListCount(waitingListCount);
+        return event;
+    }
+
+    /**
+     * @return the scheduled event date, falling back to the creation timestamp
+     */
+    @Exclude
+    public Date getDisplayDate() {
+        return eventDate != null ? eventDate : date;
+    }
+}
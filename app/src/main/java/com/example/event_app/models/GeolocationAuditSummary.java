@@ -0,0 +1,36 @@
+package com.example.event_app.models;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-event, per-day rollup of geolocation audits. Once audits pass the
+ * retention period they are compacted into one summary per event and UTC
+ * day, which keeps the counts available for review after the individual
+ * coordinates have been deleted.
+ */
+public class GeolocationAuditSummary {
+
+    private String eventId;
+    private String eventName;
+    private String day;                 // UTC date, "yyyy-MM-dd"
+    private long count;
+    private Map<String, Long> actions;  // audit count per action
+
+    // Empty constructor for Firebase
+    public GeolocationAuditSummary() {
+        this.actions = new HashMap<>();
+    }
+
+    public String getEventId() { return eventId; }
+    public String getEventName() { return eventName; }
+    public String getDay() { return day; }
+    public long getCount() { return count; }
+    public Map<String, Long> getActions() { return actions; }
+
+    public void setEventId(String eventId) { this.eventId = eventId; }
+    public void setEventName(String eventName) { this.eventName = eventName; }
+    public void setDay(String day) { this.day = day; }
+    public void setCount(long count) { this.count = count; }
+    public void setActions(Map<String, Long> actions) { this.actions = actions; }
+}
@@ -13,9 +13,12 @@ public class ImageData {
     private String imageUrl;
     private String uploadedBy;      // userId who uploaded
     private String associatedWith;  // eventId or userId
+    private String associatedName;  // event name or user name, for display
+    private String uploaderName;
     private String type;            // "event_poster" or "profile_picture"
     private long uploadedAt;
-    private String storagePath;     // Firebase Storage path (e.g., "event_posters/image.jpg")
+    private String storagePath;     // Firebase Storage path (e.g., "event_posters/image.webp")
+    private String previewUrl;      // smaller rendition for grids, if one was uploaded
 
     // Empty constructor for Firebase
     public ImageData() {
@@ -43,18 +46,24 @@ public class ImageData {
     public String getImageUrl() { return imageUrl; }
     public String getUploadedBy() { return uploadedBy; }
     public String getAssociatedWith() { return associatedWith; }
+    public String getAssociatedName() { return associatedName; }
+    public String getUploaderName() { return uploaderName; }
     public String getType() { return type; }
     public long getUploadedAt() { return uploadedAt; }
     public String getStoragePath() { return storagePath; }
+    public String getPreviewUrl() { return previewUrl; }
 
     // Setters
     public void setImageId(String imageId) { this.imageId = imageId; }
     public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
     public void setUploadedBy(String uploadedBy) { this.uploadedBy = uploadedBy; }
     public void setAssociatedWith(String associatedWith) { this.associatedWith = associatedWith; }
+    public void setAssociatedName(String associatedName) { this.associatedName = associatedName; }
+    public void setUploaderName(String uploaderName) { this.uploaderName = uploaderName; }
     public void setType(String type) { this.type = type; }
     public void setUploadedAt(long uploadedAt) { this.uploadedAt = uploadedAt; }
     public void setStoragePath(String storagePath) { this.storagePath = storagePath; }
+    public void setPreviewUrl(String previewUrl) { this.previewUrl = previewUrl; }
 
     /**
      * Convenience helper for retrieving the uploader identity. Provided for
@@ -14,10 +14,16 @@ import java.util.Date;
  */
 public class NotificationLog {
 
+    // Who triggered a notification, stored as senderRole
+    public static final String SENDER_ROLE_SYSTEM = "system";
+    public static final String SENDER_ROLE_ORGANIZER = "organizer";
+    public static final String SENDER_ROLE_ADMIN = "admin";
+
     private String logId;
     private String notificationId;
     private String senderId;           // Who sent it (organizer/admin)
     private String senderName;
+    private String senderRole;         // SENDER_ROLE_* constant, indexed for admin filtering
     private String recipientId;        // Who received it
     private String recipientName;
     private String eventId;            // Related event (if applicable)
@@ -104,6 +110,14 @@ public class NotificationLog {
         this.senderName = senderName;
     }
 
+    public String getSenderRole() {
+        return senderRole;
+    }
+
+    public void setSenderRole(String senderRole) {
+        this.senderRole = senderRole;
+    }
+
     public String getRecipientId() {
         return recipientId;
     }
@@ -0,0 +1,51 @@
+package com.example.event_app.models;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-event, per-type, per-day rollup of notification logs. Logs past the
+ * retention period are archived to Storage and replaced by one summary per
+ * event, notification type and UTC day, so historical volumes stay
+ * queryable without keeping every recipient's log in Firestore.
+ */
+public class NotificationLogSummary {
+
+    private String eventId;
+    private String eventName;
+    private String notificationType;
+    private String day;                     // UTC date, "yyyy-MM-dd"
+    private long count;
+    private Map<String, Long> statuses;     // log count per status ("sent", "failed", ...)
+    private Map<String, Long> senderRoles;  // log count per NotificationLog.SENDER_ROLE_*
+
+    // Empty constructor for Firebase
+    public NotificationLogSummary() {
+        this.statuses = new HashMap<>();
+        this.senderRoles = new HashMap<>();
+    }
+
+    public String getEventId() { return eventId; }
+    public String getEventName() { return eventName; }
+    public String getNotificationType() { return notificationType; }
+    public String getDay() { return day; }
+    public long getCount() { return count; }
+    public Map<String, Long> getStatuses() { return statuses; }
+    public Map<String, Long> getSenderRoles() { return senderRoles; }
+
+    public void setEventId(String eventId) { this.eventId = eventId; }
+    public void setEventName(String eventName) { this.eventName = eventName; }
+    public void setNotificationType(String notificationType) { this.notificationType = notificationType; }
+    public void setDay(String day) { this.day = day; }
+    public void setCount(long count) { this.count = count; }
+    public void setStatuses(Map<String, Long> statuses) { this.statuses = statuses; }
+    public void setSenderRoles(Map<String, Long> senderRoles) { this.senderRoles = senderRoles; }
+
+    /**
+     * Number of summarised logs sent with the given role, 0 if none
+     */
+    public long countForRole(String senderRole) {
+        Long value = senderRoles != null ? senderRoles.get(senderRole) : null;
+        return value != null ? value : 0;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.event_app.models;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 
 /**
@@ -18,6 +19,8 @@ public class User {
     private String deviceId; // Android device ID
     private String name;
     private String email;
+    private String nameLower;   // Lowercased name for admin prefix search
+    private String emailLower;  // Lowercased email for admin prefix search
     private String phoneNumber; // Optional
     private List<String> roles; // ["entrant"], ["organizer"], or both
     private boolean notificationsEnabled;
@@ -27,6 +30,9 @@ public class User {
     // Optional profile details
     private Integer age;
 
+    // Denormalized number of events hosted (null until first counted)
+    private Integer eventsHostedCount;
+
     // Favorite events
     private List<String> favoriteEvents; // List of event IDs marked as favorite
 
@@ -51,8 +57,8 @@ public class User {
     public User(String userId, String deviceId, String name, String email) {
         this.userId = userId;
         this.deviceId = deviceId;
-        this.name = name;
-        this.email = email;
+        setName(name);
+        setEmail(email);
         this.roles = new ArrayList<>();
         this.favoriteEvents = new ArrayList<>();
         this.notificationsEnabled = true;
@@ -148,6 +154,8 @@ public class User {
     public String getDeviceId() { return deviceId; }
     public String getName() { return name; }
     public String getEmail() { return email; }
+    public String getNameLower() { return nameLower; }
+    public String getEmailLower() { return emailLower; }
     public String getPhoneNumber() { return phoneNumber; }
     public List<String> getRoles() { return roles; }
     public boolean isNotificationsEnabled() { return notificationsEnabled; }
@@ -156,12 +164,32 @@ public class User {
     public List<String> getFavoriteEvents() { return favoriteEvents; }
     public String getFcmToken() { return fcmToken; } // ✨ NEW
     public Integer getAge() { return age; }
+    public Integer getEventsHostedCount() { return eventsHostedCount; }
 
     // Setters
     public void setUserId(String userId) { this.userId = userId; }
     public void setDeviceId(String deviceId) { this.deviceId = deviceId; }
-    public void setName(String name) { this.name = name; }
-    public void setEmail(String email) { this.email = email; }
+    public void setName(String name) {
+        this.name = name;
+        this.nameLower = normalizeForSearch(name);
+    }
+    public void setEmail(String email) {
+        this.email = email;
+        this.emailLower = normalizeForSearch(email);
+    }
+    public void setNameLower(String nameLower) { this.nameLower = nameLower; }
+    public void setEmailLower(String emailLower) { this.emailLower = emailLower; }
+
+    /**
+     * Normalizes a name, email, or search query for case-insensitive prefix
+     * matching against the stored nameLower/emailLower fields.
+     *
+     * @param value raw text, may be null
+     * @return trimmed, lowercased text, or an empty string for null input
+     */
+    public static String normalizeForSearch(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
     public void setPhoneNumber(String phoneNumber) { this.phoneNumber = phoneNumber; }
     public void setRoles(List<String> roles) { this.roles = roles; }
     public void setNotificationsEnabled(boolean notificationsEnabled) { this.notificationsEnabled = notificationsEnabled; }
@@ -170,6 +198,7 @@ public class User {
     public void setFavoriteEvents(List<String> favoriteEvents) { this.favoriteEvents = favoriteEvents; }
     public void setFcmToken(String fcmToken) { this.fcmToken = fcmToken; }
     public void setAge(Integer age) { this.age = age; }
+    public void setEventsHostedCount(Integer eventsHostedCount) { this.eventsHostedCount = eventsHostedCount; }
 
     @Override
     public boolean equals(Object o) {
@@ -0,0 +1,521 @@
+package com.example.event_app.services;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.example.event_app.utils.FirestoreProvider;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldValue;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.WriteBatch;
+import com.google.firebase.storage.FirebaseStorage;
+import com.google.firebase.storage.StorageException;
+import com.google.firebase.storage.StorageReference;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * CascadeDeletionService - Removes a user or organizer together with all dependent data
+ *
+ * A job walks a fixed list of stages (notification logs, notifications,
+ * geolocation audits, event memberships, hosted events and their Storage
+ * objects, and finally the user document or organizer role). Each stage
+ * repeatedly queries the first page of what is left and removes it with
+ * chunked WriteBatches of at most 500 operations, so a stage is idempotent
+ * and simply continues where it stopped. The current stage is checkpointed in
+ * SharedPreferences, letting an interrupted job be resumed later. Jobs
+ * already queued or running in this process are never enqueued twice; a
+ * second caller takes over their progress callbacks instead. Jobs outlive the
+ * screen that started them, so screens detach their listeners when destroyed.
+ *
+ * US 03.02.01: Remove user accounts.
+ * US 03.07.01: Remove organizers violating policy.
+ */
+public class CascadeDeletionService {
+
+    private static final String TAG = "CascadeDeletionService";
+    private static final String PREFS_NAME = "cascade_deletion_jobs";
+    private static final String KEY_PENDING_JOBS = "pending_jobs";
+
+    // Firestore allows at most 500 writes per batch
+    static final int BATCH_LIMIT = 500;
+    // Concurrent Storage deletions
+    private static final int STORAGE_PARALLELISM = 4;
+
+    /**
+     * What is being removed
+     */
+    public enum Mode {
+        /** Delete the account and everything that references it */
+        USER,
+        /** Delete hosted events and revoke the organizer role, keeping the account */
+        ORGANIZER
+    }
+
+    private enum Stage {
+        NOTIFICATION_LOGS_SENT("Notification logs"),
+        NOTIFICATION_LOGS_RECEIVED("Notification logs"),
+        NOTIFICATIONS("Notifications"),
+        GEOLOCATION_AUDITS("Geolocation audits"),
+        EVENT_MEMBERSHIPS("Event memberships"),
+        HOSTED_EVENTS("Hosted events"),
+        PROFILE_IMAGE("Profile image"),
+        ORGANIZER_ROLE("Organizer role"),
+        USER_DOCUMENT("User account");
+
+        private final String label;
+
+        Stage(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final Stage[] USER_STAGES = {
+            Stage.NOTIFICATION_LOGS_SENT, Stage.NOTIFICATION_LOGS_RECEIVED, Stage.NOTIFICATIONS,
+            Stage.GEOLOCATION_AUDITS, Stage.EVENT_MEMBERSHIPS, Stage.HOSTED_EVENTS,
+            Stage.PROFILE_IMAGE, Stage.USER_DOCUMENT
+    };
+
+    private static final Stage[] ORGANIZER_STAGES = {
+            Stage.HOSTED_EVENTS, Stage.ORGANIZER_ROLE
+    };
+
+    // Event arrays a user can appear in
+    private static final String[] MEMBERSHIP_FIELDS = {
+            "waitingList", "selectedList", "signedUpUsers", "declinedUsers", "notSelectedList"
+    };
+
+    private static final ExecutorService jobExecutor = Executors.newSingleThreadExecutor();
+    private static final ExecutorService storageExecutor = Executors.newFixedThreadPool(STORAGE_PARALLELISM);
+    // Jobs queued or running in this process
+    private static final Set<String> activeJobs = new HashSet<>();
+    // Listener each active job reports to, if a screen is attached
+    private static final Map<String, DeletionListener> listeners = new ConcurrentHashMap<>();
+
+    private final Context context;
+    private final FirebaseFirestore db;
+    private final FirebaseStorage storage;
+    private final ImageIndexService imageIndex;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    public CascadeDeletionService(Context context) {
+        this.context = context.getApplicationContext();
+        this.db = FirestoreProvider.get();
+        this.storage = FirebaseStorage.getInstance();
+        this.imageIndex = new ImageIndexService();
+    }
+
+    /**
+     * Start a cascade deletion job for the given user. If the same job is
+     * already running, only its listener is replaced.
+     */
+    public void start(String userId, Mode mode, DeletionListener listener) {
+        String key = jobKey(userId, mode);
+        if (!attach(key, listener)) return;
+
+        saveCheckpoint(userId, mode, 0);
+        jobExecutor.execute(() -> runJob(userId, mode));
+    }
+
+    /**
+     * Resume every job left unfinished by a previous session. Jobs still
+     * running in this process report to the given listener from now on.
+     *
+     * @return number of jobs resumed
+     */
+    public int resumePendingJobs(DeletionListener listener) {
+        Set<String> pending = new HashSet<>(prefs().getStringSet(KEY_PENDING_JOBS, new HashSet<>()));
+        int resumed = 0;
+        for (String jobKey : pending) {
+            String[] parts = jobKey.split(":", 2);
+            Mode mode = parts.length == 2 ? modeOf(parts[0]) : null;
+            if (mode == null) {
+                // Written by a build with different modes; it cannot be resumed
+                Log.w(TAG, "Dropping unknown deletion job " + jobKey);
+                dropPendingJob(jobKey);
+                continue;
+            }
+            if (!attach(jobKey, listener)) continue;
+
+            String userId = parts[1];
+            Log.i(TAG, "Resuming " + mode + " deletion for " + userId);
+            jobExecutor.execute(() -> runJob(userId, mode));
+            resumed++;
+        }
+        return resumed;
+    }
+
+    /**
+     * Stop reporting to a listener, e.g. when its screen is destroyed. Jobs
+     * keep running and report to the next listener attached to them.
+     */
+    public void detach(DeletionListener listener) {
+        listeners.values().removeIf(attached -> attached == listener);
+    }
+
+    /**
+     * Report a job to the listener, marking it active.
+     *
+     * @return true if the job was not active yet and must be enqueued
+     */
+    private static boolean attach(String key, DeletionListener listener) {
+        synchronized (activeJobs) {
+            listeners.put(key, listener);
+            return activeJobs.add(key);
+        }
+    }
+
+    /**
+     * Mark a job finished and take the listener it reports to, if any
+     */
+    private static DeletionListener finish(String key) {
+        synchronized (activeJobs) {
+            activeJobs.remove(key);
+            return listeners.remove(key);
+        }
+    }
+
+    private static Mode modeOf(String name) {
+        try {
+            return Mode.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void runJob(String userId, Mode mode) {
+        String key = jobKey(userId, mode);
+        Stage[] stages = mode == Mode.USER ? USER_STAGES : ORGANIZER_STAGES;
+        int startStage = prefs().getInt(checkpointKey(userId, mode), 0);
+        int[] deleted = {0};
+
+        try {
+            for (int i = startStage; i < stages.length; i++) {
+                Stage stage = stages[i];
+                int removed = runStage(stage, userId, count -> postProgress(key, userId, stage, deleted[0] + count));
+                deleted[0] += removed;
+                saveCheckpoint(userId, mode, i + 1);
+                postProgress(key, userId, stage, deleted[0]);
+            }
+
+            clearCheckpoint(userId, mode);
+            int total = deleted[0];
+            DeletionListener listener = finish(key);
+            if (listener != null) {
+                mainHandler.post(() -> listener.onComplete(userId, total));
+            }
+        } catch (Exception e) {
+            // Checkpoint is kept so the job can be resumed
+            Log.e(TAG, "Cascade deletion interrupted for " + userId, e);
+            DeletionListener listener = finish(key);
+            if (listener != null) {
+                mainHandler.post(() -> listener.onFailure(userId, e.getMessage()));
+            }
+        }
+    }
+
+    private int runStage(Stage stage, String userId, StageProgress progress) throws Exception {
+        switch (stage) {
+            case NOTIFICATION_LOGS_SENT:
+                return deleteAll(db.collection("notification_logs").whereEqualTo("senderId", userId), progress);
+            case NOTIFICATION_LOGS_RECEIVED:
+                return deleteAll(db.collection("notification_logs").whereEqualTo("recipientId", userId), progress);
+            case NOTIFICATIONS:
+                return deleteAll(db.collection("notifications").whereEqualTo("userId", userId), progress);
+            case GEOLOCATION_AUDITS:
+                return deleteAll(db.collection("geolocation_audits").whereEqualTo("userId", userId), progress);
+            case EVENT_MEMBERSHIPS:
+                return removeEventMemberships(userId, progress);
+            case HOSTED_EVENTS:
+                return deleteHostedEvents(userId, progress);
+            case PROFILE_IMAGE:
+                return deleteProfileImage(userId);
+            case ORGANIZER_ROLE:
+                return revokeOrganizerRole(userId);
+            case USER_DOCUMENT:
+                return deleteUserDocument(userId);
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Revoke the organizer role. The hosted count is only reset when the role
+     * was still present, so resuming a finished stage does nothing.
+     */
+    private int revokeOrganizerRole(String userId) throws Exception {
+        DocumentReference userRef = db.collection("users").document(userId);
+        DocumentSnapshot userDoc = Tasks.await(userRef.get());
+        if (!hasOrganizerRole(userDoc)) return 0;
+
+        Tasks.await(userRef.update("roles", FieldValue.arrayRemove("organizer")));
+        new EventsHostedCountProvider().resetCount(userId);
+        return 1;
+    }
+
+    private int deleteUserDocument(String userId) throws Exception {
+        DocumentReference userRef = db.collection("users").document(userId);
+        DocumentSnapshot userDoc = Tasks.await(userRef.get());
+        if (!userDoc.exists()) return 0;
+
+        Tasks.await(userRef.delete());
+        return 1;
+    }
+
+    private static boolean hasOrganizerRole(DocumentSnapshot userDoc) {
+        Object roles = userDoc.get("roles");
+        return roles instanceof List && ((List<?>) roles).contains("organizer");
+    }
+
+    /**
+     * Delete every document matching the query, one page at a time. Deleted
+     * documents drop out of the query, so each round re-reads the first page.
+     */
+    private int deleteAll(Query query, StageProgress progress) throws Exception {
+        int total = 0;
+        while (true) {
+            QuerySnapshot page = Tasks.await(query.limit(BATCH_LIMIT).get());
+            if (page.isEmpty()) return total;
+
+            WriteBatch batch = db.batch();
+            for (DocumentSnapshot doc : page.getDocuments()) {
+                batch.delete(doc.getReference());
+            }
+            Tasks.await(batch.commit());
+            total += page.size();
+            progress.onProgress(total);
+        }
+    }
+
+    /**
+     * Remove the user from every entrant list of every event they joined,
+     * along with the join location they left on it
+     */
+    private int removeEventMemberships(String userId, StageProgress progress) throws Exception {
+        int total = 0;
+        for (String field : MEMBERSHIP_FIELDS) {
+            Query query = db.collection("events").whereArrayContains(field, userId);
+            while (true) {
+                QuerySnapshot page = Tasks.await(query.limit(BATCH_LIMIT / 2).get());
+                if (page.isEmpty()) break;
+
+                WriteBatch batch = db.batch();
+                for (DocumentSnapshot doc : page.getDocuments()) {
+                    if (field.equals(EventStatsService.FIELD_WAITING_LIST)) {
+                        batch.update(doc.getReference(), EventStatsService.leaveWaitingListUpdates(userId));
+                    } else {
+                        batch.update(doc.getReference(), field, FieldValue.arrayRemove(userId));
+                    }
+                    batch.delete(doc.getReference()
+                            .collection(EntrantLocationService.SUBCOLLECTION_LOCATIONS).document(userId));
+                }
+                Tasks.await(batch.commit());
+                total += page.size();
+                progress.onProgress(total);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Delete the organizer's events in pages, together with each event's
+     * audits, entrant locations, notifications, favorites references,
+     * poster and QR code.
+     */
+    private int deleteHostedEvents(String organizerId, StageProgress progress) throws Exception {
+        Query query = db.collection("events").whereEqualTo("organizerId", organizerId);
+        int total = 0;
+
+        while (true) {
+            // Smaller pages: each event fans out into several dependent deletions
+            QuerySnapshot page = Tasks.await(query.limit(50).get());
+            if (page.isEmpty()) break;
+
+            List<StorageReference> storageObjects = new ArrayList<>();
+            for (DocumentSnapshot eventDoc : page.getDocuments()) {
+                String eventId = eventDoc.getId();
+                deleteAll(db.collection("geolocation_audits").whereEqualTo("eventId", eventId), count -> { });
+                deleteAll(db.collection(GeolocationAuditService.COLLECTION_SUMMARIES).whereEqualTo("eventId", eventId),
+                        count -> { });
+                deleteAll(db.collection("notifications").whereEqualTo("eventId", eventId), count -> { });
+                deleteAll(eventDoc.getReference().collection(EntrantLocationService.SUBCOLLECTION_LOCATIONS),
+                        count -> { });
+                removeFavoriteReferences(eventId);
+                storageObjects.addAll(storageObjectsForEvent(eventDoc));
+            }
+
+            deleteStorageObjects(storageObjects);
+
+            WriteBatch batch = db.batch();
+            for (DocumentSnapshot eventDoc : page.getDocuments()) {
+                batch.delete(eventDoc.getReference());
+                for (String posterPath : ImageIndexService.allPosterPathsFor(eventDoc)) {
+                    batch.delete(imageIndex.document(posterPath));
+                }
+            }
+            Tasks.await(batch.commit());
+            total += page.size();
+            progress.onProgress(total);
+        }
+        return total;
+    }
+
+    private void removeFavoriteReferences(String eventId) throws Exception {
+        Query query = db.collection("users").whereArrayContains("favoriteEvents", eventId);
+        while (true) {
+            QuerySnapshot page = Tasks.await(query.limit(BATCH_LIMIT).get());
+            if (page.isEmpty()) return;
+
+            WriteBatch batch = db.batch();
+            for (DocumentSnapshot doc : page.getDocuments()) {
+                batch.update(doc.getReference(), "favoriteEvents", FieldValue.arrayRemove(eventId));
+            }
+            Tasks.await(batch.commit());
+        }
+    }
+
+    /**
+     * Storage objects owned by an event: its poster renditions, and the QR
+     * code PNG that events created by older versions uploaded
+     */
+    private List<StorageReference> storageObjectsForEvent(DocumentSnapshot eventDoc) {
+        List<StorageReference> refs = new ArrayList<>();
+        String eventId = eventDoc.getId();
+        for (String posterPath : ImageIndexService.allPosterPathsFor(eventDoc)) {
+            refs.add(storage.getReference().child(posterPath));
+        }
+        refs.add(storage.getReference().child("qr_codes").child(eventId + ".png"));
+        return refs;
+    }
+
+    private int deleteProfileImage(String userId) throws Exception {
+        DocumentSnapshot userDoc = Tasks.await(db.collection("users").document(userId).get());
+        String imageUrl = userDoc.getString("profileImageUrl");
+        if (imageUrl == null || imageUrl.isEmpty()) return 0;
+
+        List<StorageReference> refs = new ArrayList<>();
+        try {
+            refs.add(storage.getReferenceFromUrl(imageUrl));
+        } catch (IllegalArgumentException e) {
+            // Not a Firebase Storage URL, nothing of ours to delete
+            return 0;
+        }
+        deleteStorageObjects(refs);
+        Tasks.await(imageIndex.remove(refs.get(0).getPath()));
+        return 1;
+    }
+
+    /**
+     * Delete Storage objects with at most {@link #STORAGE_PARALLELISM} requests
+     * in flight. Objects that no longer exist are ignored.
+     */
+    private void deleteStorageObjects(List<StorageReference> refs) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (StorageReference ref : refs) {
+            futures.add(storageExecutor.submit(() -> {
+                Task<Void> delete = ref.delete();
+                try {
+                    Tasks.await(delete);
+                } catch (Exception e) {
+                    if (!isNotFound(delete.getException())) {
+                        Log.w(TAG, "Failed to delete " + ref.getPath(), e);
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private static boolean isNotFound(Exception e) {
+        return e instanceof StorageException
+                && ((StorageException) e).getErrorCode() == StorageException.ERROR_OBJECT_NOT_FOUND;
+    }
+
+    private void postProgress(String key, String userId, Stage stage, int deleted) {
+        mainHandler.post(() -> {
+            // Looked up on delivery: the listener may have changed since
+            DeletionListener listener = listeners.get(key);
+            if (listener != null) {
+                listener.onProgress(userId, stage.label, deleted);
+            }
+        });
+    }
+
+    // --- Checkpointing ---
+
+    private SharedPreferences prefs() {
+        return context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+    }
+
+    private static String jobKey(String userId, Mode mode) {
+        return mode.name() + ":" + userId;
+    }
+
+    private static String checkpointKey(String userId, Mode mode) {
+        return checkpointKey(jobKey(userId, mode));
+    }
+
+    private static String checkpointKey(String jobKey) {
+        return "stage_" + jobKey;
+    }
+
+    // Every service instance shares the same preferences file
+    private void saveCheckpoint(String userId, Mode mode, int nextStage) {
+        synchronized (CascadeDeletionService.class) {
+            Set<String> pending = new HashSet<>(prefs().getStringSet(KEY_PENDING_JOBS, new HashSet<>()));
+            pending.add(jobKey(userId, mode));
+            prefs().edit()
+                    .putStringSet(KEY_PENDING_JOBS, pending)
+                    .putInt(checkpointKey(userId, mode), nextStage)
+                    .apply();
+        }
+    }
+
+    private void clearCheckpoint(String userId, Mode mode) {
+        dropPendingJob(jobKey(userId, mode));
+    }
+
+    private void dropPendingJob(String jobKey) {
+        synchronized (CascadeDeletionService.class) {
+            Set<String> pending = new HashSet<>(prefs().getStringSet(KEY_PENDING_JOBS, new HashSet<>()));
+            pending.remove(jobKey);
+            prefs().edit()
+                    .putStringSet(KEY_PENDING_JOBS, pending)
+                    .remove(checkpointKey(jobKey))
+                    .apply();
+        }
+    }
+
+    private interface StageProgress {
+        void onProgress(int deletedInStage);
+    }
+
+    /**
+     * Callback for cascade deletion jobs. All methods run on the main thread.
+     */
+    public interface DeletionListener {
+        void onProgress(String userId, String stage, int deletedCount);
+        void onComplete(String userId, int deletedCount);
+        void onFailure(String userId, String error);
+    }
+}
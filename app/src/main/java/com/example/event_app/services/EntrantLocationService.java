@@ -0,0 +1,174 @@
+package com.example.event_app.services;
+
+import android.util.Log;
+
+import com.example.event_app.utils.FirestoreProvider;
+import com.example.event_app.utils.Geohash;
+import com.google.firebase.firestore.CollectionReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldValue;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.WriteBatch;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * EntrantLocationService - Stores entrant join locations per event
+ *
+ * Locations live in events/{eventId}/locations/{userId} rather than in the
+ * event document, so screens that read events never download coordinates.
+ * Each document carries a geohash, letting the organizer map fetch only the
+ * part of the world it is showing with geohash range queries.
+ */
+public class EntrantLocationService {
+
+    private static final String TAG = "EntrantLocationService";
+    public static final String SUBCOLLECTION_LOCATIONS = "locations";
+
+    // Event field with the box covering every location, maintained by the
+    // syncLocationBounds Cloud Function: {south, west, north, east}
+    public static final String FIELD_BOUNDS = "locationBounds";
+
+    // Field that held the embedded map before locations moved out of the event
+    public static final String LEGACY_FIELD = "entrantLocations";
+
+    // Upper bound on documents fetched by a single range query
+    public static final int RANGE_QUERY_LIMIT = 1000;
+
+    private final FirebaseFirestore db;
+
+    public EntrantLocationService() {
+        this.db = FirestoreProvider.get();
+    }
+
+    public CollectionReference locations(String eventId) {
+        return db.collection("events").document(eventId).collection(SUBCOLLECTION_LOCATIONS);
+    }
+
+    /**
+     * Add an entrant's location to a batch, so it is written atomically with
+     * the waiting list update that captured it.
+     */
+    public void addToBatch(WriteBatch batch, String eventId, String userId,
+                           double latitude, double longitude) {
+        batch.set(locations(eventId).document(userId), toDocument(userId, latitude, longitude));
+    }
+
+    /**
+     * Locations whose geohash falls in [start, end], as returned by
+     * {@link Geohash#rangesForBox}
+     */
+    public Query rangeQuery(String eventId, String start, String end) {
+        return locations(eventId)
+                .orderBy("geohash")
+                .startAt(start)
+                .endAt(end)
+                .limit(RANGE_QUERY_LIMIT);
+    }
+
+    /**
+     * Check whether an event has at least one recorded location
+     */
+    public void hasLocations(String eventId, LocationCheckCallback callback) {
+        locations(eventId).limit(1).get()
+                .addOnSuccessListener(snapshot -> callback.onResult(!snapshot.isEmpty()))
+                .addOnFailureListener(e -> callback.onFailure(e.getMessage()));
+    }
+
+    /**
+     * Move locations still embedded in an event document into the
+     * subcollection and drop the embedded field. Safe to repeat: documents
+     * are keyed by user ID, so re-running overwrites rather than duplicates.
+     *
+     * @param eventDoc event snapshot that may still carry entrantLocations
+     * @return true if a migration was started
+     */
+    public boolean migrateLegacyLocations(DocumentSnapshot eventDoc, MigrationCallback callback) {
+        Object legacy = eventDoc.get(LEGACY_FIELD);
+        if (!(legacy instanceof Map)) return false;
+
+        String eventId = eventDoc.getId();
+        Map<?, ?> entries = (Map<?, ?>) legacy;
+        // Leave room in the last batch for the field deletion
+        int perBatch = CascadeDeletionService.BATCH_LIMIT - 1;
+
+        WriteBatch batch = db.batch();
+        int inBatch = 0;
+        int migrated = 0;
+        for (Map.Entry<?, ?> entry : entries.entrySet()) {
+            if (!(entry.getValue() instanceof Map)) continue;
+            Map<?, ?> coords = (Map<?, ?>) entry.getValue();
+            if (!(coords.get("latitude") instanceof Number) || !(coords.get("longitude") instanceof Number)) {
+                continue;
+            }
+
+            String userId = String.valueOf(entry.getKey());
+            double latitude = ((Number) coords.get("latitude")).doubleValue();
+            double longitude = ((Number) coords.get("longitude")).doubleValue();
+            addToBatch(batch, eventId, userId, latitude, longitude);
+            migrated++;
+
+            if (++inBatch == perBatch) {
+                batch.commit();
+                batch = db.batch();
+                inBatch = 0;
+            }
+        }
+
+        int total = migrated;
+        batch.update(eventDoc.getReference(), LEGACY_FIELD, FieldValue.delete());
+        batch.commit()
+                .addOnSuccessListener(aVoid -> {
+                    Log.d(TAG, "Migrated " + total + " locations for event " + eventId);
+                    callback.onSuccess(total);
+                })
+                .addOnFailureListener(e -> {
+                    Log.e(TAG, "Failed to migrate locations for event " + eventId, e);
+                    callback.onFailure(e.getMessage());
+                });
+        return true;
+    }
+
+    /**
+     * Delete an event's locations one batch at a time, e.g. after the event
+     * itself has been deleted
+     */
+    public void deleteAll(String eventId) {
+        locations(eventId).limit(CascadeDeletionService.BATCH_LIMIT).get()
+                .addOnSuccessListener(snapshot -> {
+                    if (snapshot.isEmpty()) return;
+
+                    WriteBatch batch = db.batch();
+                    for (DocumentSnapshot doc : snapshot.getDocuments()) {
+                        batch.delete(doc.getReference());
+                    }
+                    batch.commit()
+                            .addOnSuccessListener(aVoid -> deleteAll(eventId))
+                            .addOnFailureListener(e -> Log.e(TAG, "Failed to delete locations for " + eventId, e));
+                })
+                .addOnFailureListener(e -> Log.e(TAG, "Failed to load locations for " + eventId, e));
+    }
+
+    private static Map<String, Object> toDocument(String userId, double latitude, double longitude) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("userId", userId);
+        data.put("latitude", latitude);
+        data.put("longitude", longitude);
+        data.put("geohash", Geohash.encode(latitude, longitude));
+        data.put("recordedAt", System.currentTimeMillis());
+        return data;
+    }
+
+    // Callback interfaces
+    public interface LocationCheckCallback {
+        void onResult(boolean hasLocations);
+        void onFailure(String error);
+    }
+
+    public interface MigrationCallback {
+        void onSuccess(int migrated);
+        void onFailure(String error);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.event_app.services;
+
+import android.util.Log;
+
+import com.example.event_app.models.EventSummary;
+import com.example.event_app.utils.FirestoreProvider;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldPath;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.QuerySnapshot;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * EventBatchLoader - Loads event summaries by ID in parallel whereIn chunks
+ *
+ * A whereIn query accepts at most 30 values, so ID lists are split into
+ * chunks of 30 that are fetched in parallel and merged back in the order the
+ * IDs were given. Loaded events are cached by ID, so when the list changes
+ * only newly added IDs are fetched. IDs dropped from the list are evicted,
+ * which means an event that is removed and added again is read fresh.
+ *
+ * Not thread-safe: call from the main thread.
+ */
+public class EventBatchLoader {
+
+    private static final String TAG = "EventBatchLoader";
+
+    public static final int WHERE_IN_LIMIT = 30;
+
+    private final FirebaseFirestore db;
+    private final Map<String, EventSummary> cache = new HashMap<>();
+    // IDs whose documents no longer exist, so they are not queried again
+    private final Set<String> missing = new HashSet<>();
+    // Incremented on every load so only the latest callback is delivered
+    private int generation = 0;
+
+    public EventBatchLoader() {
+        this.db = FirestoreProvider.get();
+    }
+
+    /**
+     * Load the event summaries for a list of IDs, in the same order. Events
+     * that do not exist are skipped. If load is called again before this one
+     * finishes, this callback is never invoked.
+     */
+    public void load(List<String> eventIds, LoadCallback callback) {
+        int requestGeneration = ++generation;
+        Set<String> ids = new LinkedHashSet<>(eventIds);
+
+        cache.keySet().retainAll(ids);
+        missing.retainAll(ids);
+
+        List<String> toFetch = new ArrayList<>();
+        for (String id : ids) {
+            if (!cache.containsKey(id) && !missing.contains(id)) {
+                toFetch.add(id);
+            }
+        }
+
+        if (toFetch.isEmpty()) {
+            callback.onSuccess(ordered(ids));
+            return;
+        }
+
+        List<Task<QuerySnapshot>> queries = new ArrayList<>();
+        for (List<String> chunk : chunk(toFetch, WHERE_IN_LIMIT)) {
+            queries.add(db.collection(EventSummary.COLLECTION)
+                    .whereIn(FieldPath.documentId(), chunk)
+                    .get());
+        }
+
+        Tasks.whenAllSuccess(queries)
+                .addOnSuccessListener(results -> {
+                    Set<String> found = new HashSet<>();
+                    for (Object result : results) {
+                        for (DocumentSnapshot doc : ((QuerySnapshot) result).getDocuments()) {
+                            EventSummary event = doc.toObject(EventSummary.class);
+                            if (event == null || event.isDeleted()) continue;
+                            event.setId(doc.getId());
+                            cache.put(doc.getId(), event);
+                            found.add(doc.getId());
+                        }
+                    }
+                    for (String id : toFetch) {
+                        if (!found.contains(id)) {
+                            missing.add(id);
+                        }
+                    }
+
+                    if (requestGeneration != generation) return;
+                    Log.d(TAG, "Fetched " + found.size() + " of " + ids.size() + " events in "
+                            + queries.size() + " chunks");
+                    callback.onSuccess(ordered(ids));
+                })
+                .addOnFailureListener(e -> {
+                    if (requestGeneration != generation) return;
+                    Log.e(TAG, "Error loading events by ID", e);
+                    callback.onFailure(e.getMessage());
+                });
+    }
+
+    /**
+     * Drop all cached events, so the next load reads every ID again
+     */
+    public void invalidate() {
+        cache.clear();
+        missing.clear();
+    }
+
+    private List<EventSummary> ordered(Set<String> ids) {
+        List<EventSummary> events = new ArrayList<>();
+        for (String id : ids) {
+            EventSummary event = cache.get(id);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    static <T> List<List<T>> chunk(List<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < items.size(); start += size) {
+            chunks.add(new ArrayList<>(items.subList(start, Math.min(start + size, items.size()))));
+        }
+        return chunks;
+    }
+
+    // Callback interface
+    public interface LoadCallback {
+        void onSuccess(List<EventSummary> events);
+        void onFailure(String error);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.event_app.services;
+
+import android.util.Log;
+import android.util.LruCache;
+
+import com.example.event_app.models.Event;
+import com.example.event_app.models.EventSummary;
+import com.example.event_app.utils.FirestoreProvider;
+
+/**
+ * EventCache - Process-wide LRU of recently seen events
+ *
+ * Details screens render from here on open and let their snapshot listener
+ * revalidate in the background. Full events come from details screens and
+ * lists that load whole documents; list cards add their summaries, which are
+ * enough to draw the header of a details screen but not its actions.
+ *
+ * Entries are the same objects the screens hold and are replaced on every
+ * snapshot. Call from the main thread.
+ */
+public class EventCache {
+
+    private static final String TAG = "EventCache";
+
+    private static final int MAX_EVENTS = 50;
+    private static final int MAX_SUMMARIES = 200;
+
+    private static EventCache instance;
+
+    private final LruCache<String, Event> events = new LruCache<>(MAX_EVENTS);
+    private final LruCache<String, EventSummary> summaries = new LruCache<>(MAX_SUMMARIES);
+
+    private EventCache() {}
+
+    public static EventCache getInstance() {
+        if (instance == null) {
+            instance = new EventCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Most recently seen full event, or null
+     */
+    public Event getEvent(String eventId) {
+        return eventId != null ? events.get(eventId) : null;
+    }
+
+    /**
+     * Summary of an event seen in a list, or null
+     */
+    public EventSummary getSummary(String eventId) {
+        return eventId != null ? summaries.get(eventId) : null;
+    }
+
+    public void put(Event event) {
+        if (event != null && event.getId() != null) {
+            events.put(event.getId(), event);
+        }
+    }
+
+    public void put(EventSummary summary) {
+        if (summary != null && summary.getId() != null) {
+            summaries.put(summary.getId(), summary);
+        }
+    }
+
+    /**
+     * Forget an event, e.g. after it was deleted
+     */
+    public void remove(String eventId) {
+        if (eventId == null) return;
+        events.remove(eventId);
+        summaries.remove(eventId);
+    }
+
+    /**
+     * Start loading an event that is about to be opened without any list
+     * data, such as from a QR scan, so it is often cached by the time the
+     * details screen asks for it.
+     */
+    public void prefetch(String eventId) {
+        if (eventId == null || events.get(eventId) != null) return;
+
+        FirestoreProvider.get().collection("events").document(eventId)
+                .get()
+                .addOnSuccessListener(document -> {
+                    if (!document.exists()) return;
+                    Event event = document.toObject(Event.class);
+                    if (event != null) {
+                        event.setId(document.getId());
+                        put(event);
+                    }
+                })
+                .addOnFailureListener(e -> Log.w(TAG, "Prefetch failed for " + eventId, e));
+    }
+}
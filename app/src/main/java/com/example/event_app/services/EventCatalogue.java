@@ -0,0 +1,260 @@
+package com.example.event_app.services;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.example.event_app.models.EventSummary;
+import com.example.event_app.utils.FirestoreProvider;
+import com.google.firebase.Timestamp;
+import com.google.firebase.firestore.DocumentChange;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.ListenerRegistration;
+import com.google.firebase.firestore.MetadataChanges;
+import com.google.firebase.firestore.QueryDocumentSnapshot;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * EventCatalogue - On-device copy of event_summaries with delta sync
+ *
+ * Browse and Home query a local SQLite catalogue instead of listening to the
+ * whole active catalogue on every start. While any screen is registered, one
+ * snapshot listener fetches only summaries whose updatedAt is past the last
+ * watermark, applies them (tombstones delete rows) and tells the screens to
+ * query again.
+ *
+ * Summaries only get updatedAt from the syncEventSummary Cloud Function, so
+ * rebuildEventSummaries must run once after that change is deployed.
+ *
+ * Call from the main thread; database work runs on a background thread and
+ * results are posted back.
+ */
+public class EventCatalogue {
+
+    private static final String TAG = "EventCatalogue";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
+
+    // Server timestamps are not committed in order; re-read a little before the watermark
+    private static final long WATERMARK_OVERLAP_MS = 60_000;
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private static EventCatalogue instance;
+
+    private final EventCatalogueDatabase database;
+    private final FirebaseFirestore db;
+    private final Set<ChangeListener> changeListeners = new LinkedHashSet<>();
+    private ListenerRegistration syncRegistration;
+    private boolean syncStarting;
+    // Set once the server has answered a sync, even with no changes
+    private volatile boolean synced;
+
+    private EventCatalogue(Context context) {
+        this.database = new EventCatalogueDatabase(context.getApplicationContext());
+        this.db = FirestoreProvider.get();
+    }
+
+    public static EventCatalogue getInstance(Context context) {
+        if (instance == null) {
+            instance = new EventCatalogue(context);
+        }
+        return instance;
+    }
+
+    /**
+     * Run a filter against the local catalogue
+     */
+    public void query(CatalogueFilter filter, QueryCallback callback) {
+        executor.execute(() -> {
+            try {
+                List<EventSummary> events = database.query(filter);
+                boolean hasSynced = synced || database.getWatermark() > 0;
+                mainHandler.post(() -> callback.onSuccess(events, hasSynced));
+            } catch (RuntimeException e) {
+                Log.e(TAG, "Catalogue query failed", e);
+                mainHandler.post(() -> callback.onFailure(e.getMessage()));
+            }
+        });
+    }
+
+    /**
+     * Register a screen for change notifications. The first listener starts
+     * syncing; remove it again when the screen goes away.
+     */
+    public void addChangeListener(ChangeListener listener) {
+        changeListeners.add(listener);
+        requestSync();
+    }
+
+    /**
+     * Unregister a screen. Syncing stops once no screen is listening.
+     */
+    public void removeChangeListener(ChangeListener listener) {
+        changeListeners.remove(listener);
+        if (changeListeners.isEmpty() && syncRegistration != null) {
+            syncRegistration.remove();
+            syncRegistration = null;
+        }
+    }
+
+    /**
+     * Start syncing again if a screen is listening and the last attempt
+     * failed. Does nothing while a sync listener is active.
+     */
+    public void requestSync() {
+        if (changeListeners.isEmpty() || syncRegistration != null || syncStarting) {
+            return;
+        }
+
+        syncStarting = true;
+        executor.execute(() -> {
+            long watermark = database.getWatermark();
+            mainHandler.post(() -> {
+                syncStarting = false;
+                if (!changeListeners.isEmpty() && syncRegistration == null) {
+                    listenForChanges(watermark);
+                }
+            });
+        });
+    }
+
+    private void listenForChanges(long watermark) {
+        Date since = new Date(Math.max(0, watermark - WATERMARK_OVERLAP_MS));
+        Log.d(TAG, "Syncing changes since " + since);
+
+        syncRegistration = db.collection(EventSummary.COLLECTION)
+                .whereGreaterThan(FIELD_UPDATED_AT, new Timestamp(since))
+                // Metadata changes tell us when the server confirms a cached result
+                .addSnapshotListener(MetadataChanges.INCLUDE, (snapshot, error) -> {
+                    if (error != null) {
+                        Log.e(TAG, "Catalogue sync failed", error);
+                        if (syncRegistration != null) {
+                            syncRegistration.remove();
+                            syncRegistration = null;
+                        }
+                        for (ChangeListener listener : new ArrayList<>(changeListeners)) {
+                            listener.onSyncFailed(error.getMessage());
+                        }
+                        return;
+                    }
+                    if (snapshot == null) return;
+                    boolean fromServer = !snapshot.getMetadata().isFromCache();
+
+                    List<EventSummary> upserts = new ArrayList<>();
+                    List<String> deletedIds = new ArrayList<>();
+                    long newest = 0;
+
+                    for (DocumentChange change : snapshot.getDocumentChanges()) {
+                        // updatedAt only grows, so a document never leaves the query
+                        if (change.getType() == DocumentChange.Type.REMOVED) continue;
+
+                        QueryDocumentSnapshot doc = change.getDocument();
+                        Timestamp updatedAt = doc.getTimestamp(FIELD_UPDATED_AT);
+                        if (updatedAt != null) {
+                            newest = Math.max(newest, updatedAt.toDate().getTime());
+                        }
+
+                        EventSummary summary = doc.toObject(EventSummary.class);
+                        if (summary.isDeleted()) {
+                            deletedIds.add(doc.getId());
+                        } else {
+                            summary.setId(doc.getId());
+                            upserts.add(summary);
+                        }
+                    }
+
+                    if (upserts.isEmpty() && deletedIds.isEmpty()) {
+                        if (fromServer && !synced) {
+                            synced = true;
+                            notifyChanged();
+                        }
+                        return;
+                    }
+                    Log.d(TAG, "Applying " + upserts.size() + " changes, " + deletedIds.size() + " deletions");
+
+                    long batchWatermark = newest;
+                    executor.execute(() -> {
+                        database.applyChanges(upserts, deletedIds, batchWatermark);
+                        if (fromServer) {
+                            synced = true;
+                        }
+                        mainHandler.post(this::notifyChanged);
+                    });
+                });
+    }
+
+    private void notifyChanged() {
+        for (ChangeListener listener : new ArrayList<>(changeListeners)) {
+            listener.onCatalogueChanged();
+        }
+    }
+
+    /**
+     * Sort orders supported by the catalogue
+     */
+    public enum Sort {
+        DATE_ASC,
+        DATE_DESC,
+        NAME_ASC,
+        NAME_DESC,
+        POPULAR
+    }
+
+    /**
+     * Filter over active events. Null or empty fields are not applied; a
+     * limit of 0 returns every match. The date range applies to the
+     * scheduled event date.
+     */
+    public static class CatalogueFilter {
+        private final String search;
+        private final String category;
+        private final Date from;
+        private final Date to;
+        private final Sort sort;
+        private final int limit;
+
+        public CatalogueFilter(String search, String category, Date from, Date to, Sort sort, int limit) {
+            this.search = emptyToNull(search);
+            this.category = emptyToNull(category);
+            this.from = from;
+            this.to = to;
+            this.sort = sort != null ? sort : Sort.DATE_ASC;
+            this.limit = limit;
+        }
+
+        public String getSearch() { return search; }
+        public String getCategory() { return category; }
+        public Date getFrom() { return from; }
+        public Date getTo() { return to; }
+        public Sort getSort() { return sort; }
+        public int getLimit() { return limit; }
+
+        private static String emptyToNull(String value) {
+            return value == null || value.trim().isEmpty() ? null : value.trim();
+        }
+    }
+
+    // Callback interfaces
+    public interface QueryCallback {
+        /**
+         * @param synced false until the first sync has been applied, so an
+         *               empty result may only mean nothing is downloaded yet
+         */
+        void onSuccess(List<EventSummary> events, boolean synced);
+        void onFailure(String error);
+    }
+
+    public interface ChangeListener {
+        void onCatalogueChanged();
+        void onSyncFailed(String error);
+    }
+}
@@ -0,0 +1,303 @@
+package com.example.event_app.services;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+
+import com.example.event_app.models.EventSummary;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * EventCatalogueDatabase - SQLite store behind {@link EventCatalogue}
+ *
+ * One row per event summary plus the sync watermark. Browse filters map to
+ * indexed columns: status with category, scheduled date, display date or
+ * waiting list count. Search is a LIKE over the text columns of the rows
+ * those filters leave. Not thread-safe on its own; EventCatalogue runs all
+ * calls on a single background thread.
+ */
+class EventCatalogueDatabase extends SQLiteOpenHelper {
+
+    private static final String DATABASE_NAME = "event_catalogue.db";
+    private static final int DATABASE_VERSION = 1;
+
+    private static final String TABLE_EVENTS = "events";
+    private static final String TABLE_SYNC_STATE = "sync_state";
+    private static final String KEY_WATERMARK = "watermark";
+
+    private static final String COL_ID = "id";
+    private static final String COL_NAME = "name";
+    private static final String COL_DESCRIPTION = "description";
+    private static final String COL_ORGANIZER_ID = "organizer_id";
+    private static final String COL_ORGANIZER_NAME = "organizer_name";
+    private static final String COL_STATUS = "status";
+    private static final String COL_CATEGORY = "category";
+    private static final String COL_LOCATION = "location";
+    private static final String COL_LATITUDE = "latitude";
+    private static final String COL_LONGITUDE = "longitude";
+    private static final String COL_GEOHASH = "geohash";
+    private static final String COL_EVENT_DATE = "event_date";
+    private static final String COL_DATE = "date";
+    private static final String COL_DISPLAY_DATE = "display_date";
+    private static final String COL_CREATED_AT = "created_at";
+    private static final String COL_POSTER_URL = "poster_url";
+    private static final String COL_POSTER_CARD_URL = "poster_card_url";
+    private static final String COL_POSTER_THUMB_URL = "poster_thumb_url";
+    private static final String COL_CAPACITY = "capacity";
+    private static final String COL_WAITING_LIST_COUNT = "waiting_list_count";
+    private static final String COL_SELECTED_COUNT = "selected_count";
+    private static final String COL_ATTENDING_COUNT = "attending_count";
+    private static final String COL_ENTRANT_COUNT = "entrant_count";
+    private static final String COL_CANCELLATION_RATE = "cancellation_rate";
+    private static final String COL_FLAGGED = "flagged";
+
+    // Columns matched by a search, in the same order as the old in-memory filter
+    private static final String[] SEARCH_COLUMNS = {
+            COL_NAME, COL_DESCRIPTION, COL_ORGANIZER_NAME, COL_LOCATION, COL_CATEGORY
+    };
+
+    EventCatalogueDatabase(Context context) {
+        super(context, DATABASE_NAME, null, DATABASE_VERSION);
+    }
+
+    @Override
+    public void onCreate(SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE " + TABLE_EVENTS + " ("
+                + COL_ID + " TEXT PRIMARY KEY, "
+                + COL_NAME + " TEXT, "
+                + COL_DESCRIPTION + " TEXT, "
+                + COL_ORGANIZER_ID + " TEXT, "
+                + COL_ORGANIZER_NAME + " TEXT, "
+                + COL_STATUS + " TEXT, "
+                + COL_CATEGORY + " TEXT, "
+                + COL_LOCATION + " TEXT, "
+                + COL_LATITUDE + " REAL, "
+                + COL_LONGITUDE + " REAL, "
+                + COL_GEOHASH + " TEXT, "
+                + COL_EVENT_DATE + " INTEGER, "
+                + COL_DATE + " INTEGER, "
+                + COL_DISPLAY_DATE + " INTEGER, "
+                + COL_CREATED_AT + " INTEGER NOT NULL DEFAULT 0, "
+                + COL_POSTER_URL + " TEXT, "
+                + COL_POSTER_CARD_URL + " TEXT, "
+                + COL_POSTER_THUMB_URL + " TEXT, "
+                + COL_CAPACITY + " INTEGER, "
+                + COL_WAITING_LIST_COUNT + " INTEGER NOT NULL DEFAULT 0, "
+                + COL_SELECTED_COUNT + " INTEGER NOT NULL DEFAULT 0, "
+                + COL_ATTENDING_COUNT + " INTEGER NOT NULL DEFAULT 0, "
+                + COL_ENTRANT_COUNT + " INTEGER NOT NULL DEFAULT 0, "
+                + COL_CANCELLATION_RATE + " REAL NOT NULL DEFAULT 0, "
+                + COL_FLAGGED + " INTEGER NOT NULL DEFAULT 0)");
+
+        db.execSQL("CREATE INDEX idx_events_category_date ON " + TABLE_EVENTS
+                + " (" + COL_STATUS + ", " + COL_CATEGORY + ", " + COL_DISPLAY_DATE + ")");
+        db.execSQL("CREATE INDEX idx_events_display_date ON " + TABLE_EVENTS
+                + " (" + COL_STATUS + ", " + COL_DISPLAY_DATE + ")");
+        db.execSQL("CREATE INDEX idx_events_event_date ON " + TABLE_EVENTS
+                + " (" + COL_STATUS + ", " + COL_EVENT_DATE + ")");
+        db.execSQL("CREATE INDEX idx_events_popularity ON " + TABLE_EVENTS
+                + " (" + COL_STATUS + ", " + COL_WAITING_LIST_COUNT + " DESC)");
+
+        db.execSQL("CREATE TABLE " + TABLE_SYNC_STATE + " ("
+                + "key TEXT PRIMARY KEY, value INTEGER NOT NULL)");
+    }
+
+    @Override
+    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        // The catalogue is a cache of the server: drop it and sync again from scratch
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_EVENTS);
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_SYNC_STATE);
+        onCreate(db);
+    }
+
+    /**
+     * Update time of the newest change applied, in ms; 0 before the first sync
+     */
+    long getWatermark() {
+        try (Cursor cursor = getReadableDatabase().query(TABLE_SYNC_STATE, new String[]{"value"},
+                "key = ?", new String[]{KEY_WATERMARK}, null, null, null)) {
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0L;
+        }
+    }
+
+    /**
+     * Apply one batch of changes and advance the watermark in one transaction,
+     * so a crash never leaves the watermark ahead of the rows.
+     *
+     * @param upserts    summaries that were added or changed
+     * @param deletedIds events whose tombstone was seen
+     * @param watermark  newest updatedAt in the batch, in ms
+     */
+    void applyChanges(List<EventSummary> upserts, List<String> deletedIds, long watermark) {
+        SQLiteDatabase db = getWritableDatabase();
+        db.beginTransaction();
+        try {
+            for (EventSummary summary : upserts) {
+                db.insertWithOnConflict(TABLE_EVENTS, null, toValues(summary),
+                        SQLiteDatabase.CONFLICT_REPLACE);
+            }
+            for (String id : deletedIds) {
+                db.delete(TABLE_EVENTS, COL_ID + " = ?", new String[]{id});
+            }
+            if (watermark > getWatermark()) {
+                ContentValues state = new ContentValues();
+                state.put("key", KEY_WATERMARK);
+                state.put("value", watermark);
+                db.insertWithOnConflict(TABLE_SYNC_STATE, null, state, SQLiteDatabase.CONFLICT_REPLACE);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Active events matching a filter, in the filter's sort order
+     */
+    List<EventSummary> query(EventCatalogue.CatalogueFilter filter) {
+        StringBuilder where = new StringBuilder(COL_STATUS + " = ?");
+        List<String> args = new ArrayList<>();
+        args.add("active");
+
+        if (filter.getCategory() != null) {
+            where.append(" AND ").append(COL_CATEGORY).append(" = ?");
+            args.add(filter.getCategory());
+        }
+        if (filter.getFrom() != null) {
+            where.append(" AND ").append(COL_EVENT_DATE).append(" >= ?");
+            args.add(String.valueOf(filter.getFrom().getTime()));
+        }
+        if (filter.getTo() != null) {
+            where.append(" AND ").append(COL_EVENT_DATE).append(" <= ?");
+            args.add(String.valueOf(filter.getTo().getTime()));
+        }
+        if (filter.getSearch() != null) {
+            String pattern = "%" + escapeLike(filter.getSearch()) + "%";
+            where.append(" AND (");
+            for (int i = 0; i < SEARCH_COLUMNS.length; i++) {
+                if (i > 0) where.append(" OR ");
+                where.append(SEARCH_COLUMNS[i]).append(" LIKE ? ESCAPE '\\'");
+                args.add(pattern);
+            }
+            where.append(")");
+        }
+
+        String limit = filter.getLimit() > 0 ? String.valueOf(filter.getLimit()) : null;
+
+        List<EventSummary> events = new ArrayList<>();
+        try (Cursor cursor = getReadableDatabase().query(TABLE_EVENTS, null, where.toString(),
+                args.toArray(new String[0]), null, null, orderBy(filter.getSort()), limit)) {
+            while (cursor.moveToNext()) {
+                events.add(fromCursor(cursor));
+            }
+        }
+        return events;
+    }
+
+    private static String orderBy(EventCatalogue.Sort sort) {
+        switch (sort) {
+            case DATE_DESC:
+                return COL_DISPLAY_DATE + " IS NULL, " + COL_DISPLAY_DATE + " DESC";
+            case NAME_ASC:
+                return COL_NAME + " COLLATE NOCASE ASC";
+            case NAME_DESC:
+                return COL_NAME + " COLLATE NOCASE DESC";
+            case POPULAR:
+                return COL_WAITING_LIST_COUNT + " DESC";
+            case DATE_ASC:
+            default:
+                // Events without any date go last, as in the old in-memory sort
+                return COL_DISPLAY_DATE + " IS NULL, " + COL_DISPLAY_DATE + " ASC";
+        }
+    }
+
+    /**
+     * LIKE already ignores ASCII case; only its wildcards need escaping
+     */
+    static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static ContentValues toValues(EventSummary summary) {
+        ContentValues values = new ContentValues();
+        values.put(COL_ID, summary.getId());
+        values.put(COL_NAME, summary.getName());
+        values.put(COL_DESCRIPTION, summary.getDescription());
+        values.put(COL_ORGANIZER_ID, summary.getOrganizerId());
+        values.put(COL_ORGANIZER_NAME, summary.getOrganizerName());
+        values.put(COL_STATUS, summary.getStatus());
+        values.put(COL_CATEGORY, summary.getCategory());
+        values.put(COL_LOCATION, summary.getLocation());
+        values.put(COL_LATITUDE, summary.getLatitude());
+        values.put(COL_LONGITUDE, summary.getLongitude());
+        values.put(COL_GEOHASH, summary.getGeohash());
+        values.put(COL_EVENT_DATE, millisOrNull(summary.getEventDate()));
+        values.put(COL_DATE, millisOrNull(summary.getDate()));
+        values.put(COL_DISPLAY_DATE, millisOrNull(summary.getDisplayDate()));
+        values.put(COL_CREATED_AT, summary.getCreatedAt());
+        values.put(COL_POSTER_URL, summary.getPosterUrl());
+        values.put(COL_POSTER_CARD_URL, summary.getPosterCardUrl());
+        values.put(COL_POSTER_THUMB_URL, summary.getPosterThumbUrl());
+        values.put(COL_CAPACITY, summary.getCapacity());
+        values.put(COL_WAITING_LIST_COUNT, summary.getWaitingListCount());
+        values.put(COL_SELECTED_COUNT, summary.getSelectedCount());
+        values.put(COL_ATTENDING_COUNT, summary.getAttendingCount());
+        values.put(COL_ENTRANT_COUNT, summary.getEntrantCount());
+        values.put(COL_CANCELLATION_RATE, summary.getCancellationRate());
+        values.put(COL_FLAGGED, summary.isFlagged() ? 1 : 0);
+        return values;
+    }
+
+    private static EventSummary fromCursor(Cursor cursor) {
+        EventSummary summary = new EventSummary();
+        summary.setId(getString(cursor, COL_ID));
+        summary.setName(getString(cursor, COL_NAME));
+        summary.setDescription(getString(cursor, COL_DESCRIPTION));
+        summary.setOrganizerId(getString(cursor, COL_ORGANIZER_ID));
+        summary.setOrganizerName(getString(cursor, COL_ORGANIZER_NAME));
+        summary.setStatus(getString(cursor, COL_STATUS));
+        summary.setCategory(getString(cursor, COL_CATEGORY));
+        summary.setLocation(getString(cursor, COL_LOCATION));
+        summary.setLatitude(getDouble(cursor, COL_LATITUDE));
+        summary.setLongitude(getDouble(cursor, COL_LONGITUDE));
+        summary.setGeohash(getString(cursor, COL_GEOHASH));
+        summary.setEventDate(getDate(cursor, COL_EVENT_DATE));
+        summary.setDate(getDate(cursor, COL_DATE));
+        summary.setCreatedAt(cursor.getLong(cursor.getColumnIndexOrThrow(COL_CREATED_AT)));
+        summary.setPosterUrl(getString(cursor, COL_POSTER_URL));
+        summary.setPosterCardUrl(getString(cursor, COL_POSTER_CARD_URL));
+        summary.setPosterThumbUrl(getString(cursor, COL_POSTER_THUMB_URL));
+        int capacity = cursor.getColumnIndexOrThrow(COL_CAPACITY);
+        summary.setCapacity(cursor.isNull(capacity) ? null : cursor.getLong(capacity));
+        summary.setWaitingListCount(cursor.getInt(cursor.getColumnIndexOrThrow(COL_WAITING_LIST_COUNT)));
+        summary.setSelectedCount(cursor.getInt(cursor.getColumnIndexOrThrow(COL_SELECTED_COUNT)));
+        summary.setAttendingCount(cursor.getInt(cursor.getColumnIndexOrThrow(COL_ATTENDING_COUNT)));
+        summary.setEntrantCount(cursor.getInt(cursor.getColumnIndexOrThrow(COL_ENTRANT_COUNT)));
+        summary.setCancellationRate(cursor.getDouble(cursor.getColumnIndexOrThrow(COL_CANCELLATION_RATE)));
+        summary.setFlagged(cursor.getInt(cursor.getColumnIndexOrThrow(COL_FLAGGED)) != 0);
+        return summary;
+    }
+
+    private static Long millisOrNull(Date date) {
+        return date != null ? date.getTime() : null;
+    }
+
+    private static String getString(Cursor cursor, String column) {
+        return cursor.getString(cursor.getColumnIndexOrThrow(column));
+    }
+
+    private static Double getDouble(Cursor cursor, String column) {
+        int index = cursor.getColumnIndexOrThrow(column);
+        return cursor.isNull(index) ? null : cursor.getDouble(index);
+    }
+
+    private static Date getDate(Cursor cursor, String column) {
+        int index = cursor.getColumnIndexOrThrow(column);
+        return cursor.isNull(index) ? null : new Date(cursor.getLong(index));
+    }
+}
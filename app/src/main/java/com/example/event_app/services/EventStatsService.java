@@ -0,0 +1,100 @@
+package com.example.event_app.services;
+
+import com.example.event_app.models.Event;
+import com.example.event_app.utils.FirestoreProvider;
+import com.google.android.gms.tasks.Task;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldValue;
+import com.google.firebase.firestore.FirebaseFirestore;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * EventStatsService - Keeps denormalized per-event statistics in sync
+ *
+ * Invitation responses and lottery runs go through a transaction that also
+ * recomputes the stored cancellationRate and flagged fields, so admin screens
+ * can query flagged events directly instead of scanning every event.
+ *
+ * waitingListCount mirrors the size of waitingList so popularity can be
+ * ordered and limited by Firestore. Single joins and leaves adjust it with
+ * FieldValue.increment in the same write as the array change; updates that
+ * replace the whole list set it to the new size.
+ */
+public class EventStatsService {
+
+    public static final String FIELD_TOTAL_SELECTED = "totalSelected";
+    public static final String FIELD_TOTAL_CANCELLED = "totalCancelled";
+    public static final String FIELD_CANCELLATION_RATE = "cancellationRate";
+    public static final String FIELD_FLAGGED = "flagged";
+    public static final String FIELD_WAITING_LIST = "waitingList";
+    public static final String FIELD_WAITING_LIST_COUNT = "waitingListCount";
+
+    private final FirebaseFirestore db;
+
+    public EventStatsService() {
+        this.db = FirestoreProvider.get();
+    }
+
+    /**
+     * Apply event updates and refresh the cancellation statistics atomically.
+     *
+     * @param eventId        event document ID
+     * @param updates        field updates to apply (may include totalSelected)
+     * @param cancelledDelta amount to add to totalCancelled (1 for a decline, 0 otherwise)
+     * @return task completing when the transaction commits
+     */
+    public Task<Void> updateWithCancellationStats(String eventId,
+                                                  Map<String, Object> updates,
+                                                  int cancelledDelta) {
+        DocumentReference eventRef = db.collection("events").document(eventId);
+
+        return db.runTransaction(transaction -> {
+            DocumentSnapshot snapshot = transaction.get(eventRef);
+
+            long totalSelected = updates.get(FIELD_TOTAL_SELECTED) instanceof Number
+                    ? ((Number) updates.get(FIELD_TOTAL_SELECTED)).longValue()
+                    : valueOrZero(snapshot.getLong(FIELD_TOTAL_SELECTED));
+            long totalCancelled = valueOrZero(snapshot.getLong(FIELD_TOTAL_CANCELLED)) + cancelledDelta;
+
+            double rate = Event.computeCancellationRate(totalSelected, totalCancelled);
+
+            Map<String, Object> allUpdates = new HashMap<>(updates);
+            allUpdates.put(FIELD_TOTAL_CANCELLED, totalCancelled);
+            allUpdates.put(FIELD_CANCELLATION_RATE, rate);
+            allUpdates.put(FIELD_FLAGGED, Event.isHighCancellationRate(rate));
+            if (updates.get(FIELD_WAITING_LIST) instanceof List) {
+                allUpdates.put(FIELD_WAITING_LIST_COUNT, ((List<?>) updates.get(FIELD_WAITING_LIST)).size());
+            }
+
+            transaction.update(eventRef, allUpdates);
+            return null;
+        });
+    }
+
+    /**
+     * Waiting list updates that add or remove one user, with the matching
+     * count change. Only use when the caller knows the user's current
+     * membership, since arrayUnion/arrayRemove are no-ops otherwise.
+     */
+    public static Map<String, Object> joinWaitingListUpdates(String userId) {
+        Map<String, Object> updates = new HashMap<>();
+        updates.put(FIELD_WAITING_LIST, FieldValue.arrayUnion(userId));
+        updates.put(FIELD_WAITING_LIST_COUNT, FieldValue.increment(1));
+        return updates;
+    }
+
+    public static Map<String, Object> leaveWaitingListUpdates(String userId) {
+        Map<String, Object> updates = new HashMap<>();
+        updates.put(FIELD_WAITING_LIST, FieldValue.arrayRemove(userId));
+        updates.put(FIELD_WAITING_LIST_COUNT, FieldValue.increment(-1));
+        return updates;
+    }
+
+    private static long valueOrZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
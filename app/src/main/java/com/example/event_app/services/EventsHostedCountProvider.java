@@ -0,0 +1,181 @@
+package com.example.event_app.services;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.example.event_app.models.User;
+import com.example.event_app.utils.FirestoreProvider;
+import com.google.firebase.firestore.AggregateSource;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestore;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * EventsHostedCountProvider - Resolves how many events each organizer hosts
+ *
+ * Counts come from, in order: a session-wide cache, the denormalized
+ * eventsHostedCount field on the user document, and finally a count()
+ * aggregation whose result is written back to the user document. Requests
+ * are tied to the row asking for them and dispatched after a short delay,
+ * so rows that scroll past during a fling never issue a query, and
+ * concurrent requests for the same organizer share one query.
+ */
+public class EventsHostedCountProvider {
+
+    private static final String TAG = "EventsHostedCount";
+    public static final String FIELD_EVENTS_HOSTED_COUNT = "eventsHostedCount";
+
+    // Rows must stay bound this long before their count is fetched
+    private static final long DISPATCH_DELAY_MS = 150;
+
+    // Shared by every screen for the lifetime of the process
+    private static final Map<String, Integer> sessionCache = new ConcurrentHashMap<>();
+
+    private final FirebaseFirestore db;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Map<Object, Runnable> pendingByToken = new HashMap<>();
+    private final Map<String, List<CountCallback>> inFlight = new HashMap<>();
+
+    public EventsHostedCountProvider() {
+        this.db = FirestoreProvider.get();
+    }
+
+    /**
+     * Request the hosted-events count for an organizer row.
+     *
+     * @param user     organizer being displayed
+     * @param token    identifies the requesting row (e.g. its ViewHolder);
+     *                 a newer request with the same token replaces the old one
+     * @param callback receives the count on the main thread
+     */
+    public void requestCount(User user, Object token, CountCallback callback) {
+        cancel(token);
+
+        String userId = user.getUserId();
+        Integer cached = sessionCache.get(userId);
+        if (cached != null) {
+            callback.onCountLoaded(cached);
+            return;
+        }
+        if (user.getEventsHostedCount() != null) {
+            int stored = Math.max(0, user.getEventsHostedCount());
+            sessionCache.put(userId, stored);
+            callback.onCountLoaded(stored);
+            return;
+        }
+
+        Runnable dispatch = new Runnable() {
+            @Override
+            public void run() {
+                if (pendingByToken.get(token) == this) {
+                    pendingByToken.remove(token);
+                    fetchCount(userId, callback);
+                }
+            }
+        };
+        pendingByToken.put(token, dispatch);
+        handler.postDelayed(dispatch, DISPATCH_DELAY_MS);
+    }
+
+    /**
+     * Drop a pending request, typically because its row was recycled
+     */
+    public void cancel(Object token) {
+        Runnable pending = pendingByToken.remove(token);
+        if (pending != null) {
+            handler.removeCallbacks(pending);
+        }
+    }
+
+    /**
+     * Cancel every pending request, e.g. when the screen is destroyed
+     */
+    public void cancelAll() {
+        for (Runnable pending : pendingByToken.values()) {
+            handler.removeCallbacks(pending);
+        }
+        pendingByToken.clear();
+    }
+
+    /**
+     * Adjust an organizer's stored count after an event is created or deleted.
+     * Users whose count has never been seeded are left alone; their first
+     * lookup will count from scratch.
+     */
+    public void adjustCount(String organizerId, int delta) {
+        if (organizerId == null) return;
+        sessionCache.computeIfPresent(organizerId, (id, count) -> Math.max(0, count + delta));
+
+        DocumentReference userRef = db.collection("users").document(organizerId);
+        db.runTransaction(transaction -> {
+            DocumentSnapshot snapshot = transaction.get(userRef);
+            Long current = snapshot.getLong(FIELD_EVENTS_HOSTED_COUNT);
+            if (current != null) {
+                transaction.update(userRef, FIELD_EVENTS_HOSTED_COUNT, Math.max(0, current + delta));
+            }
+            return null;
+        }).addOnFailureListener(e -> Log.w(TAG, "Could not adjust hosted count", e));
+    }
+
+    /**
+     * Record that an organizer no longer hosts any events
+     */
+    public void resetCount(String organizerId) {
+        if (organizerId == null) return;
+        sessionCache.put(organizerId, 0);
+        db.collection("users").document(organizerId)
+                .update(FIELD_EVENTS_HOSTED_COUNT, 0)
+                .addOnFailureListener(e -> Log.w(TAG, "Could not reset hosted count", e));
+    }
+
+    private void fetchCount(String userId, CountCallback callback) {
+        List<CountCallback> waiting = inFlight.get(userId);
+        if (waiting != null) {
+            waiting.add(callback);
+            return;
+        }
+        waiting = new ArrayList<>();
+        waiting.add(callback);
+        inFlight.put(userId, waiting);
+
+        db.collection("events")
+                .whereEqualTo("organizerId", userId)
+                .count()
+                .get(AggregateSource.SERVER)
+                .addOnSuccessListener(snapshot -> {
+                    int count = (int) snapshot.getCount();
+                    sessionCache.put(userId, count);
+
+                    // Seed the denormalized field so this organizer is never counted again
+                    db.collection("users").document(userId)
+                            .update(FIELD_EVENTS_HOSTED_COUNT, count)
+                            .addOnFailureListener(e -> Log.w(TAG, "Could not seed hosted count", e));
+
+                    deliver(userId, count);
+                })
+                .addOnFailureListener(e -> {
+                    Log.e(TAG, "Failed to count hosted events", e);
+                    deliver(userId, 0);
+                });
+    }
+
+    private void deliver(String userId, int count) {
+        List<CountCallback> callbacks = inFlight.remove(userId);
+        if (callbacks == null) return;
+        for (CountCallback callback : callbacks) {
+            callback.onCountLoaded(count);
+        }
+    }
+
+    // Callback interface
+    public interface CountCallback {
+        void onCountLoaded(int count);
+    }
+}
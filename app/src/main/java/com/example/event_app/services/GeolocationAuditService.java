@@ -0,0 +1,293 @@
+package com.example.event_app.services;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.example.event_app.models.GeolocationAudit;
+import com.example.event_app.models.GeolocationAuditSummary;
+import com.example.event_app.utils.FirestoreProvider;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.AggregateSource;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldValue;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.SetOptions;
+import com.google.firebase.firestore.WriteBatch;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * GeolocationAuditService - Paged queries and retention for geolocation audits
+ *
+ * Admin queries filter by event, user and time range on the server and page
+ * with cursors, so they cost the same however many audits exist. The
+ * equality filters combined with the timestamp ordering are backed by the
+ * composite indexes in firestore.indexes.json.
+ *
+ * Audits older than the retention period are compacted into per-event daily
+ * summaries in geolocation_audit_summaries. Each pass increments the summary
+ * counters and deletes the raw audits in the same batch, so an interrupted
+ * run never counts an audit twice.
+ */
+public class GeolocationAuditService {
+
+    private static final String TAG = "GeolocationAuditService";
+    public static final String COLLECTION_AUDITS = "geolocation_audits";
+    public static final String COLLECTION_SUMMARIES = "geolocation_audit_summaries";
+
+    public static final int PAGE_SIZE = 50;
+    public static final int DEFAULT_RETENTION_DAYS = 90;
+
+    // Each audit is one delete plus at most one summary write
+    private static final int COMPACTION_PAGE_SIZE = 200;
+    private static final long DAY_MS = 24L * 60 * 60 * 1000;
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private final FirebaseFirestore db;
+
+    public GeolocationAuditService() {
+        this.db = FirestoreProvider.get();
+    }
+
+    /**
+     * Audits matching a filter, newest first
+     */
+    public Query query(AuditFilter filter) {
+        Query query = db.collection(COLLECTION_AUDITS);
+        if (filter.getEventId() != null) {
+            query = query.whereEqualTo("eventId", filter.getEventId());
+        }
+        if (filter.getUserId() != null) {
+            query = query.whereEqualTo("userId", filter.getUserId());
+        }
+        if (filter.getFrom() != null) {
+            query = query.whereGreaterThanOrEqualTo("timestamp", filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            query = query.whereLessThan("timestamp", filter.getTo());
+        }
+        return query.orderBy("timestamp", Query.Direction.DESCENDING);
+    }
+
+    /**
+     * Load one page of audits. Pass the last snapshot of the previous page as
+     * the cursor, or null for the first page.
+     */
+    public void loadPage(AuditFilter filter, DocumentSnapshot cursor, PageCallback callback) {
+        Query query = query(filter);
+        if (cursor != null) {
+            query = query.startAfter(cursor);
+        }
+        query.limit(PAGE_SIZE).get()
+                .addOnSuccessListener(snapshot -> {
+                    List<GeolocationAudit> audits = new ArrayList<>();
+                    for (DocumentSnapshot doc : snapshot.getDocuments()) {
+                        GeolocationAudit audit = doc.toObject(GeolocationAudit.class);
+                        if (audit != null) {
+                            audits.add(audit);
+                        }
+                    }
+                    DocumentSnapshot last = snapshot.isEmpty()
+                            ? null : snapshot.getDocuments().get(snapshot.size() - 1);
+                    callback.onSuccess(audits, last, snapshot.size() == PAGE_SIZE);
+                })
+                .addOnFailureListener(e -> callback.onFailure(e.getMessage()));
+    }
+
+    /**
+     * Count the audits matching a filter with a server-side aggregation
+     */
+    public void count(AuditFilter filter, CountCallback callback) {
+        query(filter).count().get(AggregateSource.SERVER)
+                .addOnSuccessListener(snapshot -> callback.onSuccess(snapshot.getCount()))
+                .addOnFailureListener(e -> callback.onFailure(e.getMessage()));
+    }
+
+    /**
+     * Daily summaries, newest first, optionally for a single event
+     */
+    public void loadSummaries(String eventId, int limit, SummaryCallback callback) {
+        Query query = db.collection(COLLECTION_SUMMARIES);
+        if (eventId != null) {
+            query = query.whereEqualTo("eventId", eventId);
+        }
+        query.orderBy("day", Query.Direction.DESCENDING).limit(limit).get()
+                .addOnSuccessListener(snapshot -> {
+                    List<GeolocationAuditSummary> summaries = new ArrayList<>();
+                    for (DocumentSnapshot doc : snapshot.getDocuments()) {
+                        GeolocationAuditSummary summary = doc.toObject(GeolocationAuditSummary.class);
+                        if (summary != null) {
+                            summaries.add(summary);
+                        }
+                    }
+                    callback.onSuccess(summaries);
+                })
+                .addOnFailureListener(e -> callback.onFailure(e.getMessage()));
+    }
+
+    /**
+     * Compact audits older than retentionDays into daily summaries on a
+     * background thread. The callback runs on the main thread.
+     */
+    public void compactOlderThan(int retentionDays, CompactionCallback callback) {
+        Date cutoff = new Date(System.currentTimeMillis() - retentionDays * DAY_MS);
+        executor.execute(() -> {
+            try {
+                int compacted = runCompaction(cutoff, callback);
+                mainHandler.post(() -> callback.onComplete(compacted));
+            } catch (Exception e) {
+                Log.e(TAG, "Audit compaction failed", e);
+                mainHandler.post(() -> callback.onFailure(e.getMessage()));
+            }
+        });
+    }
+
+    private int runCompaction(Date cutoff, CompactionCallback callback) throws Exception {
+        Query expired = db.collection(COLLECTION_AUDITS)
+                .whereLessThan("timestamp", cutoff)
+                .orderBy("timestamp")
+                .limit(COMPACTION_PAGE_SIZE);
+        SimpleDateFormat dayFormat = dayFormat();
+        int total = 0;
+
+        while (true) {
+            // Compacted audits drop out of the query, so always re-read the first page
+            QuerySnapshot page = Tasks.await(expired.get());
+            if (page.isEmpty()) return total;
+
+            Map<String, Map<String, Object>> summaries = new HashMap<>();
+            WriteBatch batch = db.batch();
+            for (DocumentSnapshot doc : page.getDocuments()) {
+                String eventId = doc.getString("eventId") != null ? doc.getString("eventId") : "unknown";
+                String action = doc.getString("action") != null ? doc.getString("action") : "unknown";
+                Date timestamp = doc.getDate("timestamp");
+                String day = dayFormat.format(timestamp != null ? timestamp : cutoff);
+
+                Map<String, Object> summary = summaries.get(summaryId(eventId, day));
+                if (summary == null) {
+                    summary = new HashMap<>();
+                    summary.put("eventId", eventId);
+                    summary.put("eventName", doc.getString("eventName"));
+                    summary.put("day", day);
+                    summary.put("count", 0L);
+                    summary.put("actions", new HashMap<String, Long>());
+                    summaries.put(summaryId(eventId, day), summary);
+                }
+                summary.put("count", (Long) summary.get("count") + 1);
+                @SuppressWarnings("unchecked")
+                Map<String, Long> actions = (Map<String, Long>) summary.get("actions");
+                actions.put(action, actions.containsKey(action) ? actions.get(action) + 1 : 1L);
+
+                batch.delete(doc.getReference());
+            }
+
+            for (Map.Entry<String, Map<String, Object>> entry : summaries.entrySet()) {
+                batch.set(db.collection(COLLECTION_SUMMARIES).document(entry.getKey()),
+                        toIncrements(entry.getValue()), SetOptions.merge());
+            }
+            Tasks.await(batch.commit());
+
+            total += page.size();
+            int progress = total;
+            mainHandler.post(() -> callback.onProgress(progress));
+        }
+    }
+
+    private static Map<String, Object> toIncrements(Map<String, Object> summary) {
+        Map<String, Object> data = new HashMap<>(summary);
+        data.put("count", FieldValue.increment((Long) summary.get("count")));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Long> actions = (Map<String, Long>) summary.get("actions");
+        Map<String, Object> actionIncrements = new HashMap<>();
+        for (Map.Entry<String, Long> action : actions.entrySet()) {
+            actionIncrements.put(action.getKey(), FieldValue.increment(action.getValue()));
+        }
+        data.put("actions", actionIncrements);
+        return data;
+    }
+
+    static String summaryId(String eventId, String day) {
+        return eventId + "_" + day;
+    }
+
+    static SimpleDateFormat dayFormat() {
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return format;
+    }
+
+    /**
+     * Server-side filters for the admin audit list. Null fields are not applied.
+     */
+    public static class AuditFilter {
+        private final String eventId;
+        private final String userId;
+        private final Date from;
+        private final Date to;
+
+        public AuditFilter(String eventId, String userId, Date from, Date to) {
+            this.eventId = emptyToNull(eventId);
+            this.userId = emptyToNull(userId);
+            this.from = from;
+            this.to = to;
+        }
+
+        public static AuditFilter none() {
+            return new AuditFilter(null, null, null, null);
+        }
+
+        public String getEventId() { return eventId; }
+        public String getUserId() { return userId; }
+        public Date getFrom() { return from; }
+        public Date getTo() { return to; }
+
+        public boolean isEmpty() {
+            return eventId == null && userId == null && from == null && to == null;
+        }
+
+        private static String emptyToNull(String value) {
+            return value == null || value.trim().isEmpty() ? null : value.trim();
+        }
+    }
+
+    // Callback interfaces
+    public interface PageCallback {
+        /**
+         * @param cursor  last document of this page, to pass to the next call
+         * @param hasMore false once a short page shows the end was reached
+         */
+        void onSuccess(List<GeolocationAudit> audits, DocumentSnapshot cursor, boolean hasMore);
+        void onFailure(String error);
+    }
+
+    public interface CountCallback {
+        void onSuccess(long count);
+        void onFailure(String error);
+    }
+
+    public interface SummaryCallback {
+        void onSuccess(List<GeolocationAuditSummary> summaries);
+        void onFailure(String error);
+    }
+
+    public interface CompactionCallback {
+        void onProgress(int compacted);
+        void onComplete(int compacted);
+        void onFailure(String error);
+    }
+}
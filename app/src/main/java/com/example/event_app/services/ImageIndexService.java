@@ -0,0 +1,245 @@
+package com.example.event_app.services;
+
+import android.util.Log;
+
+import com.example.event_app.models.Event;
+import com.example.event_app.models.ImageData;
+import com.example.event_app.utils.FirestoreProvider;
+import com.google.android.gms.tasks.Task;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.SetOptions;
+import com.google.firebase.storage.FirebaseStorage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ImageIndexService - Maintains the images collection
+ *
+ * Every uploaded image gets an ImageData document keyed by its Storage path,
+ * so admin screens can page through image metadata with Firestore cursors
+ * instead of listing Storage folders and resolving each download URL. The
+ * document also records which event or user the image belongs to, making it
+ * a reverse index for "where is this image used".
+ *
+ * Every poster upload is stored under new object names, so a replaced
+ * poster never reuses a URL or path that clients may have cached. The
+ * files of the replaced version are detached and left for reconciliation.
+ */
+public class ImageIndexService {
+
+    private static final String TAG = "ImageIndexService";
+    public static final String COLLECTION_IMAGES = "images";
+
+    public static final String POSTER_FOLDER = "event_posters";
+    public static final String RENDITION_CARD = "card";
+    public static final String RENDITION_THUMB = "thumb";
+    // Event fields holding the download URLs of the poster renditions
+    public static final String[] POSTER_URL_FIELDS = {"posterUrl", "posterCardUrl", "posterThumbUrl"};
+
+    public static final String TYPE_EVENT_POSTER = "event_poster";
+    public static final String TYPE_PROFILE_PICTURE = "profile_picture";
+
+    private final FirebaseFirestore db;
+
+    public ImageIndexService() {
+        this.db = FirestoreProvider.get();
+    }
+
+    /**
+     * Record an event poster after it has been uploaded, along with the event
+     * it belongs to so "where is this image used" is a single document read.
+     *
+     * @param event       event the poster belongs to
+     * @param storagePath Storage path of the poster (e.g. "event_posters/abc.jpg")
+     * @param downloadUrl download URL of the poster
+     */
+    public void recordEventPoster(Event event, String storagePath, String downloadUrl) {
+        storagePath = normalizePath(storagePath);
+        ImageData imageData = new ImageData(documentIdFor(storagePath), downloadUrl,
+                event.getOrganizerId(), TYPE_EVENT_POSTER);
+        imageData.setStoragePath(storagePath);
+        imageData.setPreviewUrl(event.getPosterCardUrl());
+        imageData.setAssociatedWith(event.getEventId());
+        imageData.setAssociatedName(event.getName());
+        imageData.setUploaderName(event.getOrganizerName());
+        record(imageData);
+    }
+
+    /**
+     * Write (or overwrite) an image's metadata document
+     */
+    public Task<Void> record(ImageData imageData) {
+        return db.collection(COLLECTION_IMAGES).document(imageData.getImageId())
+                .set(imageData, SetOptions.merge())
+                .addOnFailureListener(e -> Log.w(TAG, "Failed to index image " + imageData.getStoragePath(), e));
+    }
+
+    /**
+     * Remove an image's metadata document once the file itself is gone
+     */
+    public Task<Void> remove(String storagePath) {
+        return document(storagePath).delete();
+    }
+
+    /**
+     * Record which document uses an image, e.g. after resolving a legacy
+     * entry that was indexed before associations were tracked
+     */
+    public void associate(ImageData imageData, String associatedWith, String associatedName, String uploaderName) {
+        imageData.setAssociatedWith(associatedWith);
+        imageData.setAssociatedName(associatedName);
+        imageData.setUploaderName(uploaderName);
+        record(imageData);
+    }
+
+    /**
+     * Mark an image as no longer used by any document. The file is left for
+     * the reconciliation job to reclaim.
+     */
+    public void detach(String storagePath) {
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("associatedWith", null);
+        updates.put("associatedName", null);
+        document(storagePath).update(updates)
+                .addOnFailureListener(e -> Log.w(TAG, "Could not detach image " + storagePath, e));
+    }
+
+    /**
+     * Detach every poster an event may have indexed, once the event is deleted
+     */
+    public void detachEventPosters(Event event) {
+        for (String path : allPosterPathsFor(event)) {
+            detach(path);
+        }
+    }
+
+    /**
+     * Metadata document for a Storage path
+     */
+    public DocumentReference document(String storagePath) {
+        return db.collection(COLLECTION_IMAGES).document(documentIdFor(normalizePath(storagePath)));
+    }
+
+    /**
+     * Indexed images, newest first
+     */
+    public Query newestFirst() {
+        return db.collection(COLLECTION_IMAGES).orderBy("uploadedAt", Query.Direction.DESCENDING);
+    }
+
+    /**
+     * Storage path of one upload of an event's full-size poster
+     *
+     * @param version distinguishes uploads, e.g. the upload time
+     */
+    public static String posterPathFor(String eventId, long version) {
+        return POSTER_FOLDER + "/" + eventId + "_" + version + ".webp";
+    }
+
+    /**
+     * Storage path of one of an event's smaller poster renditions
+     *
+     * @param version   the upload the rendition belongs to
+     * @param rendition rendition suffix, e.g. "card" or "thumb"
+     */
+    public static String posterRenditionPathFor(String eventId, long version, String rendition) {
+        return POSTER_FOLDER + "/" + eventId + "_" + version + "_" + rendition + ".webp";
+    }
+
+    /**
+     * Storage paths of the card and thumbnail renditions that belong to a
+     * full-size poster, or none for a JPEG uploaded before renditions
+     */
+    public static List<String> posterRenditionPathsOf(String posterPath) {
+        List<String> paths = new ArrayList<>();
+        if (posterPath.endsWith(".webp")) {
+            String base = posterPath.substring(0, posterPath.length() - ".webp".length());
+            paths.add(base + "_" + RENDITION_CARD + ".webp");
+            paths.add(base + "_" + RENDITION_THUMB + ".webp");
+        }
+        return paths;
+    }
+
+    /**
+     * Whether a Storage path is a card or thumbnail rendition. Renditions
+     * share their full-size poster's index entry and are never indexed alone.
+     */
+    public static boolean isPosterRenditionPath(String storagePath) {
+        String path = normalizePath(storagePath);
+        return path.startsWith(POSTER_FOLDER + "/")
+                && (path.endsWith("_" + RENDITION_CARD + ".webp")
+                || path.endsWith("_" + RENDITION_THUMB + ".webp"));
+    }
+
+    /**
+     * Every Storage path an event's current poster may occupy: the files its
+     * poster URLs point at, plus the fixed names used before uploads were
+     * versioned (WebP renditions and the single JPEG before them)
+     */
+    public static List<String> allPosterPathsFor(String eventId, String... posterUrls) {
+        List<String> paths = new ArrayList<>();
+        for (String url : posterUrls) {
+            String path = storagePathOf(url);
+            if (path != null && !paths.contains(path)) {
+                paths.add(path);
+            }
+        }
+        paths.add(POSTER_FOLDER + "/" + eventId + ".webp");
+        paths.add(POSTER_FOLDER + "/" + eventId + "_" + RENDITION_CARD + ".webp");
+        paths.add(POSTER_FOLDER + "/" + eventId + "_" + RENDITION_THUMB + ".webp");
+        paths.add(POSTER_FOLDER + "/" + eventId + ".jpg");
+        return paths;
+    }
+
+    /**
+     * Every Storage path the poster of an event document may occupy
+     */
+    public static List<String> allPosterPathsFor(DocumentSnapshot eventDoc) {
+        String[] urls = new String[POSTER_URL_FIELDS.length];
+        for (int i = 0; i < urls.length; i++) {
+            urls[i] = eventDoc.getString(POSTER_URL_FIELDS[i]);
+        }
+        return allPosterPathsFor(eventDoc.getId(), urls);
+    }
+
+    /**
+     * Every Storage path an event's poster may occupy
+     */
+    public static List<String> allPosterPathsFor(Event event) {
+        return allPosterPathsFor(event.getEventId(), event.getPosterUrl(),
+                event.getPosterCardUrl(), event.getPosterThumbUrl());
+    }
+
+    /**
+     * @return Storage path for a Firebase Storage URL, or null if it is not one
+     */
+    public static String storagePathOf(String url) {
+        if (url == null || url.isEmpty()) return null;
+        try {
+            return normalizePath(FirebaseStorage.getInstance().getReferenceFromUrl(url).getPath());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Strip the leading slash StorageReference.getPath() includes
+     */
+    public static String normalizePath(String storagePath) {
+        return storagePath.startsWith("/") ? storagePath.substring(1) : storagePath;
+    }
+
+    /**
+     * Document ID for a Storage path. Slashes are not allowed in IDs, so the
+     * folder separator is replaced.
+     */
+    public static String documentIdFor(String storagePath) {
+        return storagePath.replace('/', '_');
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.event_app.services;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.example.event_app.utils.FirestoreProvider;
+
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldPath;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.WriteBatch;
+import com.google.firebase.storage.FirebaseStorage;
+import com.google.firebase.storage.ListResult;
+import com.google.firebase.storage.StorageMetadata;
+import com.google.firebase.storage.StorageReference;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ImageReconciliationService - Reclaims storage used by unreferenced images
+ *
+ * A single pass reads every event's poster URLs, every object in the poster
+ * folder, and every entry in the images index, then:
+ * <ul>
+ *   <li>deletes poster files no event points at (orphans),</li>
+ *   <li>clears poster URLs on events whose files no longer exist (dangling),</li>
+ *   <li>drops index entries whose file no longer exists (stale).</li>
+ * </ul>
+ * Files modified within the last hour are skipped, since an event being
+ * created uploads its poster before its document is written.
+ */
+public class ImageReconciliationService {
+
+    private static final String TAG = "ImageReconciliation";
+    private static final int PAGE_SIZE = 300;
+    private static final int BATCH_LIMIT = 500;
+    private static final long ORPHAN_GRACE_MS = 60 * 60 * 1000L;
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private final FirebaseFirestore db;
+    private final FirebaseStorage storage;
+    private final ImageIndexService imageIndex;
+
+    public ImageReconciliationService() {
+        this.db = FirestoreProvider.get();
+        this.storage = FirebaseStorage.getInstance();
+        this.imageIndex = new ImageIndexService();
+    }
+
+    /**
+     * Run the reconciliation on a background thread. The callback runs on the main thread.
+     */
+    public void reconcile(ReconcileCallback callback) {
+        executor.execute(() -> {
+            try {
+                ReconcileResult result = runReconciliation();
+                mainHandler.post(() -> callback.onSuccess(result));
+            } catch (Exception e) {
+                Log.e(TAG, "Image reconciliation failed", e);
+                mainHandler.post(() -> callback.onFailure(e.getMessage()));
+            }
+        });
+    }
+
+    private ReconcileResult runReconciliation() throws Exception {
+        ReconcileResult result = new ReconcileResult();
+
+        // Storage path -> events whose poster fields point at it
+        Map<String, List<DocumentSnapshot>> referencedPaths = new HashMap<>();
+        DocumentSnapshot cursor = null;
+        while (true) {
+            QuerySnapshot page = fetchPage(db.collection("events"), cursor);
+            for (DocumentSnapshot eventDoc : page.getDocuments()) {
+                for (String field : ImageIndexService.POSTER_URL_FIELDS) {
+                    String path = ImageIndexService.storagePathOf(eventDoc.getString(field));
+                    if (path != null) {
+                        referencedPaths.computeIfAbsent(path, p -> new ArrayList<>()).add(eventDoc);
+                    }
+                }
+            }
+            if (page.size() < PAGE_SIZE) break;
+            cursor = page.getDocuments().get(page.size() - 1);
+        }
+
+        // Every poster file, listed page by page
+        Set<String> existingPaths = new HashSet<>();
+        StorageReference folder = storage.getReference().child(ImageIndexService.POSTER_FOLDER);
+        String pageToken = null;
+        do {
+            ListResult listResult = Tasks.await(pageToken == null
+                    ? folder.list(PAGE_SIZE)
+                    : folder.list(PAGE_SIZE, pageToken));
+            for (StorageReference item : listResult.getItems()) {
+                String path = ImageIndexService.normalizePath(item.getPath());
+                existingPaths.add(path);
+                if (!referencedPaths.containsKey(path)) {
+                    reclaimOrphan(item, path, result);
+                }
+            }
+            pageToken = listResult.getPageToken();
+        } while (pageToken != null);
+
+        // Events pointing at files that are gone
+        Map<String, DocumentSnapshot> danglingById = new HashMap<>();
+        for (Map.Entry<String, List<DocumentSnapshot>> entry : referencedPaths.entrySet()) {
+            if (entry.getKey().startsWith(ImageIndexService.POSTER_FOLDER + "/")
+                    && !existingPaths.contains(entry.getKey())) {
+                for (DocumentSnapshot eventDoc : entry.getValue()) {
+                    danglingById.put(eventDoc.getId(), eventDoc);
+                }
+            }
+        }
+        List<DocumentSnapshot> dangling = new ArrayList<>(danglingById.values());
+        clearDanglingPosters(dangling);
+        result.danglingReferences = dangling.size();
+
+        // Index entries for poster files that are gone
+        cursor = null;
+        List<DocumentSnapshot> stale = new ArrayList<>();
+        Query posterIndex = db.collection(ImageIndexService.COLLECTION_IMAGES)
+                .whereEqualTo("type", ImageIndexService.TYPE_EVENT_POSTER);
+        while (true) {
+            QuerySnapshot page = fetchPage(posterIndex, cursor);
+            for (DocumentSnapshot imageDoc : page.getDocuments()) {
+                String path = imageDoc.getString("storagePath");
+                if (path != null && !existingPaths.contains(path)) {
+                    stale.add(imageDoc);
+                }
+            }
+            if (page.size() < PAGE_SIZE) break;
+            cursor = page.getDocuments().get(page.size() - 1);
+        }
+        deleteDocuments(stale);
+        result.staleIndexEntries = stale.size();
+
+        Log.i(TAG, "Reconciled images: " + result.orphanedFiles + " orphans, "
+                + result.danglingReferences + " dangling, " + result.staleIndexEntries + " stale");
+        return result;
+    }
+
+    private void reclaimOrphan(StorageReference item, String path, ReconcileResult result) throws Exception {
+        StorageMetadata metadata = Tasks.await(item.getMetadata());
+        if (System.currentTimeMillis() - metadata.getUpdatedTimeMillis() < ORPHAN_GRACE_MS) {
+            return;
+        }
+        Tasks.await(item.delete());
+        Tasks.await(imageIndex.remove(path));
+        result.orphanedFiles++;
+        result.bytesReclaimed += metadata.getSizeBytes();
+    }
+
+    private void clearDanglingPosters(List<DocumentSnapshot> events) throws Exception {
+        for (int start = 0; start < events.size(); start += BATCH_LIMIT) {
+            WriteBatch batch = db.batch();
+            for (DocumentSnapshot eventDoc : events.subList(start, Math.min(start + BATCH_LIMIT, events.size()))) {
+                // Clear every rendition so lists and detail screens agree
+                batch.update(eventDoc.getReference(), "posterUrl", null,
+                        "posterCardUrl", null, "posterThumbUrl", null);
+            }
+            Tasks.await(batch.commit());
+        }
+    }
+
+    private void deleteDocuments(List<DocumentSnapshot> docs) throws Exception {
+        for (int start = 0; start < docs.size(); start += BATCH_LIMIT) {
+            WriteBatch batch = db.batch();
+            for (DocumentSnapshot doc : docs.subList(start, Math.min(start + BATCH_LIMIT, docs.size()))) {
+                batch.delete(doc.getReference());
+            }
+            Tasks.await(batch.commit());
+        }
+    }
+
+    private static QuerySnapshot fetchPage(Query query, DocumentSnapshot cursor) throws Exception {
+        Query page = query.orderBy(FieldPath.documentId()).limit(PAGE_SIZE);
+        if (cursor != null) {
+            page = page.startAfter(cursor);
+        }
+        return Tasks.await(page.get());
+    }
+
+    /**
+     * Outcome of a reconciliation pass
+     */
+    public static class ReconcileResult {
+        int orphanedFiles;
+        int danglingReferences;
+        int staleIndexEntries;
+        long bytesReclaimed;
+
+        public int getOrphanedFiles() { return orphanedFiles; }
+        public int getDanglingReferences() { return danglingReferences; }
+        public int getStaleIndexEntries() { return staleIndexEntries; }
+        public long getBytesReclaimed() { return bytesReclaimed; }
+    }
+
+    // Callback interface
+    public interface ReconcileCallback {
+        void onSuccess(ReconcileResult result);
+        void onFailure(String error);
+    }
+}
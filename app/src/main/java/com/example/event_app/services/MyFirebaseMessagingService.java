@@ -14,8 +14,8 @@ import androidx.core.app.NotificationCompat;
 
 import com.example.event_app.R;
 import com.example.event_app.activities.entrant.MainActivity;
+import com.example.event_app.utils.FirestoreProvider;
 import com.google.firebase.auth.FirebaseAuth;
-import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.messaging.FirebaseMessagingService;
 import com.google.firebase.messaging.RemoteMessage;
 
@@ -97,7 +97,7 @@ public class MyFirebaseMessagingService extends FirebaseMessagingService {
         // The field name 'fcmToken' must match the one used in NotificationService
         updates.put("fcmToken", token);
 
-        FirebaseFirestore.getInstance()
+        FirestoreProvider.get()
                 .collection("users")
                 .document(userId)
                 .update(updates)
@@ -149,7 +149,7 @@ public class MyFirebaseMessagingService extends FirebaseMessagingService {
             Map<String, Object> updates = new HashMap<>();
             updates.put("fcmToken", cachedToken);
 
-            FirebaseFirestore.getInstance()
+            FirestoreProvider.get()
                     .collection("users")
                     .document(userId)
                     .update(updates)
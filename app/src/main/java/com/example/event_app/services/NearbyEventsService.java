@@ -0,0 +1,101 @@
+package com.example.event_app.services;
+
+import android.util.Log;
+
+import com.example.event_app.models.EventSummary;
+import com.example.event_app.utils.FirestoreProvider;
+import com.example.event_app.utils.Geohash;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.QuerySnapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NearbyEventsService - Finds active events around a point
+ *
+ * Events with coordinates carry a geohash, so the circle around the user is
+ * covered by a few bounded geohash range queries instead of reading every
+ * event. The ranges overshoot the circle at its corners, so results are
+ * refined by exact distance on the client and returned nearest first.
+ * Queries run against event_summaries, which carry the same geohash.
+ */
+public class NearbyEventsService {
+
+    private static final String TAG = "NearbyEventsService";
+
+    public static final double DEFAULT_RADIUS_METERS = 25_000;
+
+    private static final int MAX_RANGES = 9;
+    private static final int RANGE_QUERY_LIMIT = 200;
+
+    private final FirebaseFirestore db;
+
+    public NearbyEventsService() {
+        this.db = FirestoreProvider.get();
+    }
+
+    /**
+     * Find active events within radiusMeters of a point
+     */
+    public void findNearby(double latitude, double longitude, double radiusMeters, NearbyCallback callback) {
+        List<Task<QuerySnapshot>> queries = new ArrayList<>();
+        for (String[] range : Geohash.rangesForRadius(latitude, longitude, radiusMeters, MAX_RANGES)) {
+            queries.add(db.collection(EventSummary.COLLECTION)
+                    .orderBy("geohash")
+                    .startAt(range[0])
+                    .endAt(range[1])
+                    .limit(RANGE_QUERY_LIMIT)
+                    .get());
+        }
+
+        Tasks.whenAllSuccess(queries)
+                .addOnSuccessListener(results -> {
+                    Map<String, EventSummary> events = new LinkedHashMap<>();
+                    Map<String, Double> distances = new HashMap<>();
+
+                    for (Object result : results) {
+                        for (DocumentSnapshot doc : ((QuerySnapshot) result).getDocuments()) {
+                            EventSummary event = doc.toObject(EventSummary.class);
+                            if (event == null || !event.hasCoordinates()) continue;
+                            if (!"active".equals(event.getStatus())) continue;
+
+                            double distance = Geohash.distanceMeters(latitude, longitude,
+                                    event.getLatitude(), event.getLongitude());
+                            if (distance > radiusMeters) continue;
+
+                            event.setId(doc.getId());
+                            events.put(doc.getId(), event);
+                            distances.put(doc.getId(), distance);
+                        }
+                    }
+
+                    List<EventSummary> nearest = new ArrayList<>(events.values());
+                    Collections.sort(nearest, (a, b) -> Double.compare(
+                            distances.get(a.getId()), distances.get(b.getId())));
+                    Log.d(TAG, "Found " + nearest.size() + " events within " + radiusMeters + "m");
+                    callback.onSuccess(nearest, distances);
+                })
+                .addOnFailureListener(e -> {
+                    Log.e(TAG, "Error loading nearby events", e);
+                    callback.onFailure(e.getMessage());
+                });
+    }
+
+    // Callback interface
+    public interface NearbyCallback {
+        /**
+         * @param events    matching events, nearest first
+         * @param distances distance in metres keyed by event ID
+         */
+        void onSuccess(List<EventSummary> events, Map<String, Double> distances);
+        void onFailure(String error);
+    }
+}
@@ -0,0 +1,359 @@
+package com.example.event_app.services;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.example.event_app.models.NotificationLog;
+import com.example.event_app.models.NotificationLogSummary;
+import com.example.event_app.utils.FirestoreProvider;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.Timestamp;
+import com.google.firebase.firestore.AggregateSource;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldValue;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.SetOptions;
+import com.google.firebase.firestore.WriteBatch;
+import com.google.firebase.storage.FirebaseStorage;
+import com.google.firebase.storage.StorageMetadata;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * NotificationLogService - Paged admin queries over notification_logs
+ *
+ * Sender-role and notification-type filters are evaluated by Firestore and
+ * combined with the timestamp ordering through the composite indexes in
+ * firestore.indexes.json. Pages are fetched with startAfter cursors, so the
+ * cost of a page does not depend on how many logs exist.
+ *
+ * Logs older than the retention period are archived and compacted. Each
+ * pass uploads the raw logs as a gzipped NDJSON file to Storage, then in one
+ * batch increments per-event, per-type daily summaries in
+ * notification_log_summaries and deletes the originals. A pass interrupted
+ * after the upload rewrites the same archive file when it is retried, and
+ * one interrupted before the batch commits changes nothing in Firestore.
+ */
+public class NotificationLogService {
+
+    private static final String TAG = "NotificationLogService";
+    public static final String COLLECTION_NOTIFICATION_LOGS = "notification_logs";
+    public static final String COLLECTION_SUMMARIES = "notification_log_summaries";
+    public static final String ARCHIVE_FOLDER = "notification_log_archives";
+
+    public static final int PAGE_SIZE = 50;
+    public static final int DEFAULT_RETENTION_DAYS = 30;
+
+    // Each log is one delete plus at most one summary write
+    private static final int COMPACTION_PAGE_SIZE = 200;
+    private static final long DAY_MS = 24L * 60 * 60 * 1000;
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private final FirebaseFirestore db;
+    private final FirebaseStorage storage;
+
+    public NotificationLogService() {
+        this.db = FirestoreProvider.get();
+        this.storage = FirebaseStorage.getInstance();
+    }
+
+    /**
+     * Logs matching the filters, newest first
+     *
+     * @param senderRole       NotificationLog.SENDER_ROLE_* value, or null for any sender
+     * @param notificationType notification type, or null for any type
+     */
+    public Query query(String senderRole, String notificationType) {
+        Query query = db.collection(COLLECTION_NOTIFICATION_LOGS);
+        if (senderRole != null) {
+            query = query.whereEqualTo("senderRole", senderRole);
+        }
+        if (notificationType != null) {
+            query = query.whereEqualTo("notificationType", notificationType);
+        }
+        return query.orderBy("timestamp", Query.Direction.DESCENDING);
+    }
+
+    /**
+     * Load one page of logs. Pass the last snapshot of the previous page as
+     * the cursor, or null for the first page.
+     */
+    public void loadPage(Query query, DocumentSnapshot cursor, PageCallback callback) {
+        Query page = cursor != null ? query.startAfter(cursor) : query;
+        page.limit(PAGE_SIZE).get()
+                .addOnSuccessListener(snapshot -> {
+                    List<NotificationLog> logs = new ArrayList<>();
+                    for (DocumentSnapshot doc : snapshot.getDocuments()) {
+                        NotificationLog log = doc.toObject(NotificationLog.class);
+                        if (log != null) {
+                            logs.add(log);
+                        }
+                    }
+                    DocumentSnapshot last = snapshot.isEmpty()
+                            ? null : snapshot.getDocuments().get(snapshot.size() - 1);
+                    callback.onSuccess(logs, last, snapshot.size() == PAGE_SIZE);
+                })
+                .addOnFailureListener(e -> callback.onFailure(e.getMessage()));
+    }
+
+    /**
+     * Count the logs matching a query with a server-side aggregation
+     */
+    public void count(Query query, CountCallback callback) {
+        query.count().get(AggregateSource.SERVER)
+                .addOnSuccessListener(snapshot -> callback.onSuccess(snapshot.getCount()))
+                .addOnFailureListener(e -> callback.onFailure(e.getMessage()));
+    }
+
+    /**
+     * Daily summaries from fromDay onwards, newest first
+     *
+     * @param notificationType notification type, or null for any type
+     * @param fromDay          first UTC day to include, "yyyy-MM-dd"
+     */
+    public void loadSummaries(String notificationType, String fromDay, int limit, SummaryCallback callback) {
+        Query query = db.collection(COLLECTION_SUMMARIES);
+        if (notificationType != null) {
+            query = query.whereEqualTo("notificationType", notificationType);
+        }
+        query.whereGreaterThanOrEqualTo("day", fromDay)
+                .orderBy("day", Query.Direction.DESCENDING)
+                .limit(limit)
+                .get()
+                .addOnSuccessListener(snapshot -> {
+                    List<NotificationLogSummary> summaries = new ArrayList<>();
+                    for (DocumentSnapshot doc : snapshot.getDocuments()) {
+                        NotificationLogSummary summary = doc.toObject(NotificationLogSummary.class);
+                        if (summary != null) {
+                            summaries.add(summary);
+                        }
+                    }
+                    callback.onSuccess(summaries);
+                })
+                .addOnFailureListener(e -> callback.onFailure(e.getMessage()));
+    }
+
+    /**
+     * Archive and compact logs older than retentionDays on a background
+     * thread. The callback runs on the main thread.
+     */
+    public void compactOlderThan(int retentionDays, CompactionCallback callback) {
+        Date cutoff = new Date(System.currentTimeMillis() - retentionDays * DAY_MS);
+        executor.execute(() -> {
+            try {
+                int compacted = runCompaction(cutoff, callback);
+                mainHandler.post(() -> callback.onComplete(compacted));
+            } catch (Exception e) {
+                Log.e(TAG, "Notification log compaction failed", e);
+                mainHandler.post(() -> callback.onFailure(e.getMessage()));
+            }
+        });
+    }
+
+    private int runCompaction(Date cutoff, CompactionCallback callback) throws Exception {
+        Query expired = db.collection(COLLECTION_NOTIFICATION_LOGS)
+                .whereLessThan("timestamp", cutoff)
+                .orderBy("timestamp")
+                .limit(COMPACTION_PAGE_SIZE);
+        SimpleDateFormat dayFormat = dayFormat();
+        StorageMetadata archiveMetadata = new StorageMetadata.Builder()
+                .setContentType("application/gzip")
+                .build();
+        int total = 0;
+
+        while (true) {
+            // Compacted logs drop out of the query, so always re-read the first page
+            QuerySnapshot page = Tasks.await(expired.get());
+            if (page.isEmpty()) return total;
+            List<DocumentSnapshot> docs = page.getDocuments();
+
+            // Store the raw copy before anything is deleted
+            DocumentSnapshot first = docs.get(0);
+            String archivePath = archivePathFor(dayOf(first, cutoff, dayFormat), first.getId());
+            Tasks.await(storage.getReference().child(archivePath)
+                    .putBytes(toNdjsonGzip(docs), archiveMetadata));
+
+            Map<String, Map<String, Object>> summaries = new HashMap<>();
+            WriteBatch batch = db.batch();
+            for (DocumentSnapshot doc : docs) {
+                String eventId = doc.getString("eventId") != null ? doc.getString("eventId") : "none";
+                String type = doc.getString("notificationType") != null
+                        ? doc.getString("notificationType") : "unknown";
+                String status = doc.getString("status") != null ? doc.getString("status") : "unknown";
+                // Logs written before sender roles were recorded all came from the system
+                String role = doc.getString("senderRole") != null
+                        ? doc.getString("senderRole") : NotificationLog.SENDER_ROLE_SYSTEM;
+                String day = dayOf(doc, cutoff, dayFormat);
+
+                String id = summaryId(eventId, type, day);
+                Map<String, Object> summary = summaries.get(id);
+                if (summary == null) {
+                    summary = new HashMap<>();
+                    summary.put("eventId", eventId);
+                    summary.put("eventName", doc.getString("eventName"));
+                    summary.put("notificationType", type);
+                    summary.put("day", day);
+                    summary.put("count", 0L);
+                    summary.put("statuses", new HashMap<String, Long>());
+                    summary.put("senderRoles", new HashMap<String, Long>());
+                    summaries.put(id, summary);
+                }
+                summary.put("count", (Long) summary.get("count") + 1);
+                incrementKey(summary, "statuses", status);
+                incrementKey(summary, "senderRoles", role);
+
+                batch.delete(doc.getReference());
+            }
+
+            for (Map.Entry<String, Map<String, Object>> entry : summaries.entrySet()) {
+                batch.set(db.collection(COLLECTION_SUMMARIES).document(entry.getKey()),
+                        toIncrements(entry.getValue()), SetOptions.merge());
+            }
+            Tasks.await(batch.commit());
+
+            total += docs.size();
+            int progress = total;
+            mainHandler.post(() -> callback.onProgress(progress));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void incrementKey(Map<String, Object> summary, String field, String key) {
+        Map<String, Long> counts = (Map<String, Long>) summary.get(field);
+        counts.put(key, counts.containsKey(key) ? counts.get(key) + 1 : 1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> toIncrements(Map<String, Object> summary) {
+        Map<String, Object> data = new HashMap<>(summary);
+        data.put("count", FieldValue.increment((Long) summary.get("count")));
+        for (String field : new String[]{"statuses", "senderRoles"}) {
+            Map<String, Object> increments = new HashMap<>();
+            for (Map.Entry<String, Long> entry : ((Map<String, Long>) summary.get(field)).entrySet()) {
+                increments.put(entry.getKey(), FieldValue.increment(entry.getValue()));
+            }
+            data.put(field, increments);
+        }
+        return data;
+    }
+
+    /**
+     * One JSON object per line, keyed by field name plus the document "id",
+     * gzip-compressed. Timestamps are written as ISO-8601 UTC strings.
+     */
+    static byte[] toNdjsonGzip(List<DocumentSnapshot> docs) throws IOException, JSONException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            SimpleDateFormat isoFormat = isoFormat();
+            for (DocumentSnapshot doc : docs) {
+                JSONObject line = (JSONObject) toJson(doc.getData(), isoFormat);
+                line.put("id", doc.getId());
+                writer.write(line.toString());
+                writer.write('\n');
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object toJson(Object value, SimpleDateFormat isoFormat) throws JSONException {
+        if (value instanceof Timestamp) {
+            return isoFormat.format(((Timestamp) value).toDate());
+        }
+        if (value instanceof Date) {
+            return isoFormat.format((Date) value);
+        }
+        if (value instanceof Map) {
+            JSONObject object = new JSONObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                object.put(String.valueOf(entry.getKey()), toJson(entry.getValue(), isoFormat));
+            }
+            return object;
+        }
+        if (value instanceof List) {
+            JSONArray array = new JSONArray();
+            for (Object item : (List<?>) value) {
+                array.put(toJson(item, isoFormat));
+            }
+            return array;
+        }
+        return value != null ? JSONObject.wrap(value) : JSONObject.NULL;
+    }
+
+    private static String dayOf(DocumentSnapshot doc, Date fallback, SimpleDateFormat dayFormat) {
+        Date timestamp = doc.getDate("timestamp");
+        return dayFormat.format(timestamp != null ? timestamp : fallback);
+    }
+
+    static String archivePathFor(String day, String firstLogId) {
+        return ARCHIVE_FOLDER + "/" + day + "/" + firstLogId + ".ndjson.gz";
+    }
+
+    static String summaryId(String eventId, String notificationType, String day) {
+        return eventId + "_" + notificationType + "_" + day;
+    }
+
+    /**
+     * UTC "yyyy-MM-dd" formatter matching the summary day field
+     */
+    public static SimpleDateFormat dayFormat() {
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return format;
+    }
+
+    private static SimpleDateFormat isoFormat() {
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", Locale.US);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return format;
+    }
+
+    // Callback interfaces
+    public interface PageCallback {
+        /**
+         * @param cursor  last document of this page, to pass to the next call
+         * @param hasMore false once a short page shows the end was reached
+         */
+        void onSuccess(List<NotificationLog> logs, DocumentSnapshot cursor, boolean hasMore);
+        void onFailure(String error);
+    }
+
+    public interface CountCallback {
+        void onSuccess(long count);
+        void onFailure(String error);
+    }
+
+    public interface SummaryCallback {
+        void onSuccess(List<NotificationLogSummary> summaries);
+        void onFailure(String error);
+    }
+
+    public interface CompactionCallback {
+        void onProgress(int compacted);
+        void onComplete(int compacted);
+        void onFailure(String error);
+    }
+}
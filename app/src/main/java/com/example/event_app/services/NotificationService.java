@@ -4,6 +4,9 @@ import android.util.Log;
 
 import com.example.event_app.models.Notification;
 import com.example.event_app.models.NotificationLog;
+import com.example.event_app.utils.FirestoreProvider;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseUser;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.Query;
 import com.google.firebase.functions.FirebaseFunctions;
@@ -16,6 +19,9 @@ import java.util.Map;
 
 /**
  * NotificationService - Handles all notification operations
+ *
+ * Every send is recorded in notification_logs together with the sender's
+ * role, so admins can filter organizer-sent notifications on the server.
  */
 public class NotificationService {
 
@@ -24,9 +30,19 @@ public class NotificationService {
     private static final String COLLECTION_NOTIFICATION_LOGS = "notification_logs";
 
     private final FirebaseFirestore db;
+    private final String senderRole;
 
     public NotificationService() {
-        this.db = FirebaseFirestore.getInstance();
+        this(NotificationLog.SENDER_ROLE_SYSTEM);
+    }
+
+    /**
+     * @param senderRole role recorded on the logs of notifications sent
+     *                   through this instance (NotificationLog.SENDER_ROLE_*)
+     */
+    public NotificationService(String senderRole) {
+        this.db = FirestoreProvider.get();
+        this.senderRole = senderRole;
     }
 
     public void sendNotification(String userId, String eventId, String eventName,
@@ -182,6 +198,15 @@ public class NotificationService {
 
         String logId = db.collection(COLLECTION_NOTIFICATION_LOGS).document().getId();
 
+        // Sends made for a signed-in organizer or admin are attributed to them
+        FirebaseUser currentUser = FirebaseAuth.getInstance().getCurrentUser();
+        if (senderId == null && currentUser != null
+                && !NotificationLog.SENDER_ROLE_SYSTEM.equals(senderRole)) {
+            senderId = currentUser.getUid();
+            senderName = currentUser.getDisplayName() != null && !currentUser.getDisplayName().isEmpty()
+                    ? currentUser.getDisplayName() : capitalize(senderRole);
+        }
+
         NotificationLog log = new NotificationLog(
                 logId,
                 notificationId,
@@ -197,6 +222,7 @@ public class NotificationService {
                 new Date(),
                 status
         );
+        log.setSenderRole(senderRole);
 
         db.collection(COLLECTION_NOTIFICATION_LOGS)
                 .document(logId)
@@ -209,6 +235,10 @@ public class NotificationService {
                 });
     }
 
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
     public void sendBulkNotifications(List<String> userIds, String eventId, String eventName,
                                       String type, String title, String message,
                                       BulkNotificationCallback callback) {
@@ -0,0 +1,156 @@
+package com.example.event_app.services;
+
+import android.util.Log;
+
+import com.example.event_app.utils.FirestoreProvider;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.AggregateQuerySnapshot;
+import com.google.firebase.firestore.AggregateSource;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestore;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * PlatformStatsService - Platform-wide counters for the admin dashboard
+ *
+ * Counters live in a single platform_stats/global document. The
+ * syncPlatformEventStats and syncPlatformUserStats Cloud Functions keep it up
+ * to date from every event and user write, so no client path has to. When the
+ * document is missing or incomplete, the counts are rebuilt with Firestore
+ * count() aggregation queries and the document is re-seeded.
+ */
+public class PlatformStatsService {
+
+    private static final String TAG = "PlatformStatsService";
+    private static final String COLLECTION_PLATFORM_STATS = "platform_stats";
+    private static final String DOCUMENT_GLOBAL = "global";
+
+    public static final String FIELD_TOTAL_EVENTS = "totalEvents";
+    public static final String FIELD_TOTAL_USERS = "totalUsers";
+    public static final String FIELD_TOTAL_ORGANIZERS = "totalOrganizers";
+    public static final String FIELD_ACTIVE_EVENTS = "activeEvents";
+
+    private final FirebaseFirestore db;
+
+    public PlatformStatsService() {
+        this.db = FirestoreProvider.get();
+    }
+
+    /**
+     * Load dashboard counters with a single document read, falling back to
+     * count() aggregations when the stats document has not been seeded yet.
+     */
+    public void loadStats(StatsCallback callback) {
+        statsDocument().get()
+                .addOnSuccessListener(document -> {
+                    PlatformStats stats = PlatformStats.fromDocument(document);
+                    if (stats != null) {
+                        callback.onSuccess(stats);
+                    } else {
+                        recountStats(callback);
+                    }
+                })
+                .addOnFailureListener(e -> {
+                    Log.w(TAG, "Could not read platform stats, recounting", e);
+                    recountStats(callback);
+                });
+    }
+
+    /**
+     * Rebuild every counter with server-side count() aggregations and
+     * re-seed the stats document with the result.
+     */
+    public void recountStats(StatsCallback callback) {
+        Task<AggregateQuerySnapshot> events = db.collection("events")
+                .count().get(AggregateSource.SERVER);
+        Task<AggregateQuerySnapshot> users = db.collection("users")
+                .count().get(AggregateSource.SERVER);
+        Task<AggregateQuerySnapshot> organizers = db.collection("users")
+                .whereArrayContains("roles", "organizer")
+                .count().get(AggregateSource.SERVER);
+        Task<AggregateQuerySnapshot> active = db.collection("events")
+                .whereEqualTo("status", "active")
+                .count().get(AggregateSource.SERVER);
+
+        Tasks.whenAllSuccess(events, users, organizers, active)
+                .addOnSuccessListener(results -> {
+                    PlatformStats stats = new PlatformStats(
+                            events.getResult().getCount(),
+                            users.getResult().getCount(),
+                            organizers.getResult().getCount(),
+                            active.getResult().getCount());
+
+                    statsDocument().set(stats.toMap())
+                            .addOnFailureListener(e -> Log.w(TAG, "Failed to seed platform stats", e));
+
+                    callback.onSuccess(stats);
+                })
+                .addOnFailureListener(e -> {
+                    Log.e(TAG, "Failed to count platform stats", e);
+                    callback.onFailure(e.getMessage());
+                });
+    }
+
+    private DocumentReference statsDocument() {
+        return db.collection(COLLECTION_PLATFORM_STATS).document(DOCUMENT_GLOBAL);
+    }
+
+    /**
+     * Snapshot of the dashboard counters
+     */
+    public static class PlatformStats {
+        private final long totalEvents;
+        private final long totalUsers;
+        private final long totalOrganizers;
+        private final long activeEvents;
+
+        public PlatformStats(long totalEvents, long totalUsers, long totalOrganizers, long activeEvents) {
+            this.totalEvents = totalEvents;
+            this.totalUsers = totalUsers;
+            this.totalOrganizers = totalOrganizers;
+            this.activeEvents = activeEvents;
+        }
+
+        /**
+         * @return stats read from the document, or null if it is missing any counter
+         */
+        static PlatformStats fromDocument(DocumentSnapshot document) {
+            if (document == null || !document.exists()) return null;
+            Long events = document.getLong(FIELD_TOTAL_EVENTS);
+            Long users = document.getLong(FIELD_TOTAL_USERS);
+            Long organizers = document.getLong(FIELD_TOTAL_ORGANIZERS);
+            Long active = document.getLong(FIELD_ACTIVE_EVENTS);
+            if (events == null || users == null || organizers == null || active == null) {
+                return null;
+            }
+            return new PlatformStats(Math.max(0, events), Math.max(0, users),
+                    Math.max(0, organizers), Math.max(0, active));
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new HashMap<>();
+            map.put(FIELD_TOTAL_EVENTS, totalEvents);
+            map.put(FIELD_TOTAL_USERS, totalUsers);
+            map.put(FIELD_TOTAL_ORGANIZERS, totalOrganizers);
+            map.put(FIELD_ACTIVE_EVENTS, activeEvents);
+            map.put("recountedAt", System.currentTimeMillis());
+            return map;
+        }
+
+        public long getTotalEvents() { return totalEvents; }
+        public long getTotalUsers() { return totalUsers; }
+        public long getTotalOrganizers() { return totalOrganizers; }
+        public long getActiveEvents() { return activeEvents; }
+    }
+
+    // Callback interface
+    public interface StatsCallback {
+        void onSuccess(PlatformStats stats);
+        void onFailure(String error);
+    }
+}
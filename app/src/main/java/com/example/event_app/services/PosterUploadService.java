@@ -0,0 +1,123 @@
+package com.example.event_app.services;
+
+import android.content.Context;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.example.event_app.utils.PosterProcessor;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.storage.FirebaseStorage;
+import com.google.firebase.storage.StorageMetadata;
+import com.google.firebase.storage.StorageReference;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * PosterUploadService - Processes and uploads event posters
+ *
+ * The picked image is downscaled into WebP thumbnail, card and full
+ * renditions on a worker thread, and the three files are uploaded in
+ * parallel. Lists load the small renditions instead of the original photo.
+ * Each upload gets its own object names, so replacing a poster changes its
+ * URLs and no cache serves the old image under them.
+ */
+public class PosterUploadService {
+
+    private static final String TAG = "PosterUploadService";
+
+    // Safe to cache for a week: every upload is stored under new object names
+    private static final String CACHE_CONTROL = "public, max-age=604800";
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private final Context context;
+    private final FirebaseStorage storage;
+
+    public PosterUploadService(Context context) {
+        this.context = context.getApplicationContext();
+        this.storage = FirebaseStorage.getInstance();
+    }
+
+    /**
+     * Process and upload a poster for an event. The callback runs on the main thread.
+     *
+     * @param eventId event the poster belongs to
+     * @param source  URI of the picked image
+     */
+    public void uploadPoster(String eventId, Uri source, UploadCallback callback) {
+        executor.execute(() -> {
+            try {
+                PosterProcessor.Renditions renditions = PosterProcessor.process(context, source);
+                long version = System.currentTimeMillis();
+
+                StorageReference fullRef = storage.getReference()
+                        .child(ImageIndexService.posterPathFor(eventId, version));
+                StorageReference cardRef = storage.getReference()
+                        .child(ImageIndexService.posterRenditionPathFor(eventId, version, ImageIndexService.RENDITION_CARD));
+                StorageReference thumbRef = storage.getReference()
+                        .child(ImageIndexService.posterRenditionPathFor(eventId, version, ImageIndexService.RENDITION_THUMB));
+
+                Task<Uri> fullUrl = upload(fullRef, renditions.full);
+                Task<Uri> cardUrl = upload(cardRef, renditions.card);
+                Task<Uri> thumbUrl = upload(thumbRef, renditions.thumb);
+                Tasks.await(Tasks.whenAll(fullUrl, cardUrl, thumbUrl));
+
+                PosterUrls urls = new PosterUrls(fullRef.getPath(),
+                        fullUrl.getResult().toString(),
+                        cardUrl.getResult().toString(),
+                        thumbUrl.getResult().toString());
+                mainHandler.post(() -> callback.onSuccess(urls));
+            } catch (Exception e) {
+                Log.e(TAG, "Poster upload failed", e);
+                mainHandler.post(() -> callback.onFailure(e.getMessage()));
+            }
+        });
+    }
+
+    private Task<Uri> upload(StorageReference ref, byte[] data) {
+        StorageMetadata metadata = new StorageMetadata.Builder()
+                .setContentType("image/webp")
+                .setCacheControl(CACHE_CONTROL)
+                .build();
+        return ref.putBytes(data, metadata)
+                .continueWithTask(task -> {
+                    if (!task.isSuccessful()) {
+                        throw task.getException();
+                    }
+                    return ref.getDownloadUrl();
+                });
+    }
+
+    /**
+     * Download URLs of an uploaded poster's renditions
+     */
+    public static class PosterUrls {
+        private final String storagePath;
+        private final String fullUrl;
+        private final String cardUrl;
+        private final String thumbUrl;
+
+        PosterUrls(String storagePath, String fullUrl, String cardUrl, String thumbUrl) {
+            this.storagePath = storagePath;
+            this.fullUrl = fullUrl;
+            this.cardUrl = cardUrl;
+            this.thumbUrl = thumbUrl;
+        }
+
+        public String getStoragePath() { return storagePath; }
+        public String getFullUrl() { return fullUrl; }
+        public String getCardUrl() { return cardUrl; }
+        public String getThumbUrl() { return thumbUrl; }
+    }
+
+    // Callback interface
+    public interface UploadCallback {
+        void onSuccess(PosterUrls urls);
+        void onFailure(String error);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.event_app.utils;
+
+import android.content.Context;
+import android.location.Address;
+import android.location.Geocoder;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * AddressGeocoder - Resolves free-text event locations to coordinates
+ *
+ * Geocoder lookups block on the network, so they run on a background
+ * thread and the result is posted back to the main thread. A location that
+ * cannot be resolved is reported as not found rather than as an error, since
+ * events are still valid without coordinates.
+ */
+public class AddressGeocoder {
+
+    private static final String TAG = "AddressGeocoder";
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private AddressGeocoder() {
+    }
+
+    /**
+     * Look up the coordinates of an address. The callback runs on the main thread.
+     */
+    public static void geocode(Context context, String address, GeocodeCallback callback) {
+        if (address == null || address.trim().isEmpty() || !Geocoder.isPresent()) {
+            callback.onNotFound();
+            return;
+        }
+
+        Geocoder geocoder = new Geocoder(context.getApplicationContext());
+        executor.execute(() -> {
+            try {
+                List<Address> results = geocoder.getFromLocationName(address.trim(), 1);
+                if (results != null && !results.isEmpty()
+                        && results.get(0).hasLatitude() && results.get(0).hasLongitude()) {
+                    double latitude = results.get(0).getLatitude();
+                    double longitude = results.get(0).getLongitude();
+                    mainHandler.post(() -> callback.onFound(latitude, longitude));
+                    return;
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                Log.w(TAG, "Failed to geocode \"" + address + "\"", e);
+            }
+            mainHandler.post(callback::onNotFound);
+        });
+    }
+
+    // Callback interface
+    public interface GeocodeCallback {
+        void onFound(double latitude, double longitude);
+        void onNotFound();
+    }
+}
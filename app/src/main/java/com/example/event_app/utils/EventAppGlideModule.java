@@ -0,0 +1,50 @@
+package com.example.event_app.utils;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.bumptech.glide.GlideBuilder;
+import com.bumptech.glide.annotation.GlideModule;
+import com.bumptech.glide.load.engine.bitmap_recycle.LruBitmapPool;
+import com.bumptech.glide.load.engine.cache.InternalCacheDiskCacheFactory;
+import com.bumptech.glide.load.engine.cache.LruResourceCache;
+import com.bumptech.glide.load.engine.cache.MemorySizeCalculator;
+import com.bumptech.glide.module.AppGlideModule;
+
+/**
+ * EventAppGlideModule - App-wide Glide configuration
+ *
+ * The memory cache and bitmap pool hold a few screens' worth of posters so
+ * scrolling back through a list, or between Home and Browse, does not decode
+ * again. Decoded posters are kept on disk in the app's cache directory.
+ */
+@GlideModule
+public class EventAppGlideModule extends AppGlideModule {
+
+    private static final float MEMORY_CACHE_SCREENS = 3f;
+    private static final float BITMAP_POOL_SCREENS = 4f;
+    private static final long DISK_CACHE_BYTES = 250L * 1024 * 1024;
+
+    @Override
+    public void applyOptions(@NonNull Context context, @NonNull GlideBuilder builder) {
+        MemorySizeCalculator calculator = new MemorySizeCalculator.Builder(context)
+                .setMemoryCacheScreens(MEMORY_CACHE_SCREENS)
+                .setBitmapPoolScreens(BITMAP_POOL_SCREENS)
+                .build();
+
+        builder.setMemoryCache(new LruResourceCache(calculator.getMemoryCacheSize()));
+        builder.setBitmapPool(new LruBitmapPool(calculator.getBitmapPoolSize()));
+        builder.setDiskCache(new InternalCacheDiskCacheFactory(context, DISK_CACHE_BYTES));
+        builder.setLogLevel(Log.ERROR);
+    }
+
+    /**
+     * No library modules are declared in the manifest, so skip parsing it
+     */
+    @Override
+    public boolean isManifestParsingEnabled() {
+        return false;
+    }
+}
@@ -3,7 +3,6 @@ package com.example.event_app.utils;
 import android.util.Log;
 
 import com.google.firebase.auth.FirebaseAuth;
-import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.messaging.FirebaseMessaging;
 
 import java.util.HashMap;
@@ -50,7 +49,7 @@ public class FCMTokenManager {
         Map<String, Object> updates = new HashMap<>();
         updates.put("fcmToken", token);
 
-        FirebaseFirestore.getInstance()
+        FirestoreProvider.get()
                 .collection("users")
                 .document(userId)
                 .update(updates)
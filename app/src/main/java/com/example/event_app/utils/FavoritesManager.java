@@ -23,7 +23,7 @@ public class FavoritesManager {
     private final FirebaseAuth mAuth;
 
     public FavoritesManager() {
-        this.db = FirebaseFirestore.getInstance();
+        this.db = FirestoreProvider.get();
         this.mAuth = FirebaseAuth.getInstance();
     }
 
@@ -0,0 +1,150 @@
+package com.example.event_app.utils;
+
+import android.util.Log;
+
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.FirebaseFirestoreSettings;
+import com.google.firebase.firestore.PersistentCacheIndexManager;
+import com.google.firebase.firestore.PersistentCacheSettings;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.Source;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * FirestoreProvider - The app's single entry point to Firestore
+ *
+ * Settings can only be applied before an instance is first used, so every
+ * class gets Firestore from here rather than FirebaseFirestore.getInstance().
+ * The persistent cache is enlarged to hold the documents repeat visits read,
+ * and the SDK may build local indexes for cached queries.
+ *
+ * getCacheFirst serves a read from the local cache straight away, then asks
+ * the server and reports again only if the data changed.
+ */
+public final class FirestoreProvider {
+
+    private static final String TAG = "FirestoreProvider";
+
+    // Default is 100 MB; full event documents with entrant lists fill that quickly
+    private static final long CACHE_SIZE_BYTES = 200L * 1024 * 1024;
+
+    private static boolean configured;
+
+    private FirestoreProvider() {}
+
+    /**
+     * The configured Firestore instance
+     */
+    public static synchronized FirebaseFirestore get() {
+        FirebaseFirestore db = FirebaseFirestore.getInstance();
+        if (!configured) {
+            configured = true;
+            configure(db);
+        }
+        return db;
+    }
+
+    private static void configure(FirebaseFirestore db) {
+        try {
+            db.setFirestoreSettings(new FirebaseFirestoreSettings.Builder()
+                    .setLocalCacheSettings(PersistentCacheSettings.newBuilder()
+                            .setSizeBytes(CACHE_SIZE_BYTES)
+                            .build())
+                    .build());
+        } catch (IllegalStateException e) {
+            // Something used Firestore before the provider; keep its defaults
+            Log.w(TAG, "Firestore already started, cache settings not applied", e);
+        }
+
+        PersistentCacheIndexManager indexManager = db.getPersistentCacheIndexManager();
+        if (indexManager != null) {
+            indexManager.enableIndexAutoCreation();
+        }
+    }
+
+    /**
+     * Read a document from the cache, then revalidate it with the server.
+     * A cached copy is reported only if the document exists there.
+     */
+    public static void getCacheFirst(DocumentReference document, SnapshotCallback<DocumentSnapshot> callback) {
+        document.get(Source.CACHE)
+                .addOnCompleteListener(cacheTask -> {
+                    DocumentSnapshot cached = cacheTask.isSuccessful() && cacheTask.getResult().exists()
+                            ? cacheTask.getResult() : null;
+                    if (cached != null) {
+                        callback.onSnapshot(cached, true);
+                    }
+
+                    document.get(Source.SERVER)
+                            .addOnSuccessListener(fresh -> {
+                                if (cached == null || !sameDocument(cached, fresh)) {
+                                    callback.onSnapshot(fresh, false);
+                                }
+                            })
+                            .addOnFailureListener(e -> onServerFailure(cached != null, e, callback));
+                });
+    }
+
+    /**
+     * Run a query against the cache, then revalidate it with the server.
+     * A cached result is reported only if it is not empty.
+     */
+    public static void getCacheFirst(Query query, SnapshotCallback<QuerySnapshot> callback) {
+        query.get(Source.CACHE)
+                .addOnCompleteListener(cacheTask -> {
+                    QuerySnapshot cached = cacheTask.isSuccessful() && !cacheTask.getResult().isEmpty()
+                            ? cacheTask.getResult() : null;
+                    if (cached != null) {
+                        callback.onSnapshot(cached, true);
+                    }
+
+                    query.get(Source.SERVER)
+                            .addOnSuccessListener(fresh -> {
+                                if (cached == null || !sameDocuments(cached, fresh)) {
+                                    callback.onSnapshot(fresh, false);
+                                }
+                            })
+                            .addOnFailureListener(e -> onServerFailure(cached != null, e, callback));
+                });
+    }
+
+    private static void onServerFailure(boolean servedFromCache, Exception e, SnapshotCallback<?> callback) {
+        if (servedFromCache) {
+            // Offline or flaky: the cached copy stays on screen
+            Log.w(TAG, "Server revalidation failed", e);
+        } else {
+            callback.onFailure(e.getMessage());
+        }
+    }
+
+    private static boolean sameDocument(DocumentSnapshot a, DocumentSnapshot b) {
+        return a.exists() == b.exists() && Objects.equals(a.getData(), b.getData());
+    }
+
+    private static boolean sameDocuments(QuerySnapshot a, QuerySnapshot b) {
+        List<DocumentSnapshot> first = a.getDocuments();
+        List<DocumentSnapshot> second = b.getDocuments();
+        if (first.size() != second.size()) return false;
+        for (int i = 0; i < first.size(); i++) {
+            if (!first.get(i).getId().equals(second.get(i).getId())
+                    || !sameDocument(first.get(i), second.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Receives a cached snapshot first, if there is one, and the server's
+     * snapshot afterwards unless it matches the cached one.
+     */
+    public interface SnapshotCallback<T> {
+        void onSnapshot(T snapshot, boolean fromCache);
+        void onFailure(String error);
+    }
+}
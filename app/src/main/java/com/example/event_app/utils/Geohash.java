@@ -0,0 +1,181 @@
+package com.example.event_app.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Geohash - Encodes coordinates as geohashes and plans range queries
+ *
+ * A geohash is a base-32 string in which every extra character narrows the
+ * cell, so all points inside a cell share its hash as a prefix. Ordering a
+ * collection by its geohash field therefore lets a bounding box be fetched
+ * with a handful of startAt/endAt range queries, one per covering cell.
+ */
+public class Geohash {
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    public static final int MAX_PRECISION = 9;
+
+    // Appended to a prefix to form the inclusive end of its range
+    private static final String RANGE_END = "~";
+
+    private static final double EARTH_RADIUS_METERS = 6371008.8;
+
+    private Geohash() {
+    }
+
+    /**
+     * Encode a coordinate at the given precision (number of characters)
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Encode a coordinate at {@link #MAX_PRECISION}, roughly 5 metres
+     */
+    public static String encode(double latitude, double longitude) {
+        return encode(latitude, longitude, MAX_PRECISION);
+    }
+
+    /**
+     * Range queries covering a bounding box. The finest precision whose
+     * covering cells number at most maxRanges is used. Boxes crossing the
+     * antimeridian (west greater than east) are split in two.
+     *
+     * @return list of {start, end} pairs for orderBy(geohash).startAt(start).endAt(end)
+     */
+    public static List<String[]> rangesForBox(double south, double west, double north, double east,
+                                              int maxRanges) {
+        if (west > east) {
+            List<String[]> ranges = new ArrayList<>(rangesForBox(south, west, north, 180, maxRanges / 2));
+            ranges.addAll(rangesForBox(south, -180, north, east, maxRanges - maxRanges / 2));
+            return ranges;
+        }
+
+        int precision = 0;
+        for (int p = 1; p <= MAX_PRECISION; p++) {
+            if (cellCount(south, west, north, east, p) > maxRanges) break;
+            precision = p;
+        }
+
+        List<String[]> ranges = new ArrayList<>();
+        if (precision == 0) {
+            // Too large to split usefully: scan everything
+            ranges.add(new String[]{"", RANGE_END});
+            return ranges;
+        }
+
+        for (String cell : coveringCells(south, west, north, east, precision)) {
+            ranges.add(new String[]{cell, cell + RANGE_END});
+        }
+        return ranges;
+    }
+
+    /**
+     * Range queries covering every point within radiusMeters of a center
+     */
+    public static List<String[]> rangesForRadius(double latitude, double longitude, double radiusMeters,
+                                                 int maxRanges) {
+        double latDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        double lngDelta = cosLat < 1e-6 ? 180 : Math.min(180, latDelta / cosLat);
+
+        double south = Math.max(-90, latitude - latDelta);
+        double north = Math.min(90, latitude + latDelta);
+        if (lngDelta >= 180) {
+            return rangesForBox(south, -180, north, 180, maxRanges);
+        }
+        double west = wrapLongitude(longitude - lngDelta);
+        double east = wrapLongitude(longitude + lngDelta);
+        return rangesForBox(south, west, north, east, maxRanges);
+    }
+
+    /**
+     * Great-circle distance between two coordinates, in metres
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static Set<String> coveringCells(double south, double west, double north, double east,
+                                             int precision) {
+        double cellHeight = cellHeight(precision);
+        double cellWidth = cellWidth(precision);
+        Set<String> cells = new LinkedHashSet<>();
+
+        for (double lat = south; ; lat += cellHeight) {
+            double clampedLat = Math.min(lat, north);
+            for (double lng = west; ; lng += cellWidth) {
+                double clampedLng = Math.min(lng, east);
+                cells.add(encode(clampedLat, clampedLng, precision));
+                if (clampedLng >= east) break;
+            }
+            if (clampedLat >= north) break;
+        }
+        return cells;
+    }
+
+    private static long cellCount(double south, double west, double north, double east, int precision) {
+        long rows = (long) Math.ceil((north - south) / cellHeight(precision)) + 1;
+        long cols = (long) Math.ceil((east - west) / cellWidth(precision)) + 1;
+        return rows * cols;
+    }
+
+    private static double cellWidth(int precision) {
+        int lngBits = (5 * precision + 1) / 2;
+        return 360.0 / (1L << lngBits);
+    }
+
+    private static double cellHeight(int precision) {
+        int latBits = (5 * precision) / 2;
+        return 180.0 / (1L << latBits);
+    }
+
+    private static double wrapLongitude(double longitude) {
+        if (longitude > 180) return longitude - 360;
+        if (longitude < -180) return longitude + 360;
+        return longitude;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.event_app.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LocationClusterer - Groups map points into screen-space grid clusters
+ *
+ * Points are projected once into normalized Web Mercator coordinates. For a
+ * given zoom level the world is divided into cells of roughly
+ * {@link #CELL_SIZE_PX} screen pixels and every visible point is assigned to
+ * its cell, so the number of clusters is bounded by how many cells fit on
+ * screen rather than by the number of points. Safe to call from a
+ * background thread; instances are immutable.
+ */
+public class LocationClusterer {
+
+    // Approximate on-screen size of a cluster cell
+    public static final int CELL_SIZE_PX = 96;
+
+    private static final int TILE_SIZE_PX = 256;
+
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double[] mercatorX;
+    private final double[] mercatorY;
+
+    /**
+     * @param latitudes  point latitudes
+     * @param longitudes point longitudes, same length as latitudes
+     */
+    public LocationClusterer(double[] latitudes, double[] longitudes) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("Coordinate arrays differ in length");
+        }
+        this.latitudes = latitudes.clone();
+        this.longitudes = longitudes.clone();
+        this.mercatorX = new double[latitudes.length];
+        this.mercatorY = new double[latitudes.length];
+        for (int i = 0; i < latitudes.length; i++) {
+            mercatorX[i] = (longitudes[i] + 180.0) / 360.0;
+            double sinLat = Math.sin(Math.toRadians(Math.max(-85.0511, Math.min(85.0511, latitudes[i]))));
+            mercatorY[i] = 0.5 - Math.log((1 + sinLat) / (1 - sinLat)) / (4 * Math.PI);
+        }
+    }
+
+    public int size() {
+        return latitudes.length;
+    }
+
+    /**
+     * Cluster the points inside the given bounds for a zoom level.
+     * Bounds whose west edge is east of their east edge cross the antimeridian.
+     *
+     * @return one cluster per occupied cell, positioned at its points' centroid
+     */
+    public List<Cluster> cluster(float zoom, double south, double west, double north, double east) {
+        double cellsPerSide = TILE_SIZE_PX * Math.pow(2, zoom) / CELL_SIZE_PX;
+        boolean crossesAntimeridian = west > east;
+
+        Map<Long, Cluster> cells = new HashMap<>();
+        for (int i = 0; i < latitudes.length; i++) {
+            double lat = latitudes[i];
+            double lng = longitudes[i];
+            if (lat < south || lat > north) continue;
+            boolean inLongitude = crossesAntimeridian
+                    ? (lng >= west || lng <= east)
+                    : (lng >= west && lng <= east);
+            if (!inLongitude) continue;
+
+            long cellX = (long) Math.floor(mercatorX[i] * cellsPerSide);
+            long cellY = (long) Math.floor(mercatorY[i] * cellsPerSide);
+            long key = (cellX << 32) ^ cellY;
+
+            Cluster cluster = cells.get(key);
+            if (cluster == null) {
+                cluster = new Cluster();
+                cells.put(key, cluster);
+            }
+            cluster.add(lat, lng);
+        }
+        return new ArrayList<>(cells.values());
+    }
+
+    /**
+     * A group of nearby points
+     */
+    public static class Cluster {
+        private double latitudeSum;
+        private double longitudeSum;
+        private int count;
+
+        void add(double latitude, double longitude) {
+            latitudeSum += latitude;
+            longitudeSum += longitude;
+            count++;
+        }
+
+        public double getLatitude() { return latitudeSum / count; }
+        public double getLongitude() { return longitudeSum / count; }
+        public int getCount() { return count; }
+    }
+}
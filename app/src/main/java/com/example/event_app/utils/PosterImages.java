@@ -0,0 +1,193 @@
+package com.example.event_app.utils;
+
+import android.content.Context;
+import android.graphics.drawable.Drawable;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.ListPreloader;
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.integration.recyclerview.RecyclerViewPreloader;
+import com.bumptech.glide.load.DecodeFormat;
+import com.bumptech.glide.load.engine.DiskCacheStrategy;
+import com.bumptech.glide.load.model.GlideUrl;
+import com.bumptech.glide.util.FixedPreloadSizeProvider;
+import com.example.event_app.R;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * PosterImages - Shared Glide requests for event posters
+ *
+ * List rows and the preloader build the same request for a card size, so a
+ * poster fetched ahead of scrolling is a memory cache hit when its row binds.
+ * Cards decode as RGB_565 since posters have no transparency. Firebase
+ * download tokens are left out of cache keys, so a re-issued URL for the
+ * same file reuses the cached image. That is only safe because a file never
+ * changes in place: each poster upload gets its own Storage path (see
+ * PosterUploadService), so a replaced poster has a new key.
+ */
+public final class PosterImages {
+
+    // Rows fetched ahead of the last visible one while scrolling
+    private static final int PRELOAD_AHEAD = 6;
+
+    /**
+     * Poster size, in dp, of a list card layout
+     */
+    public enum CardSize {
+        EVENT(100, 100),            // item_event
+        MY_EVENT(100, 100),         // item_my_event
+        ORGANIZER_EVENT(100, 120),  // item_organizer_event
+        FULL_EVENT(120, 160),       // item_event_full
+        HORIZONTAL_EVENT(180, 180); // item_event_horizontal
+
+        private final int widthDp;
+        private final int heightDp;
+
+        CardSize(int widthDp, int heightDp) {
+            this.widthDp = widthDp;
+            this.heightDp = heightDp;
+        }
+
+        public int widthPx(Context context) {
+            return Math.round(widthDp * context.getResources().getDisplayMetrics().density);
+        }
+
+        public int heightPx(Context context) {
+            return Math.round(heightDp * context.getResources().getDisplayMetrics().density);
+        }
+
+        /**
+         * Long edge in pixels, for picking the poster rendition
+         */
+        public int longEdgePx(Context context) {
+            return Math.max(widthPx(context), heightPx(context));
+        }
+    }
+
+    /**
+     * Maps a list item to the poster URL its row shows, or null for none
+     */
+    public interface PosterUrlSource<T> {
+        @Nullable
+        String posterUrlOf(T item);
+    }
+
+    private PosterImages() {}
+
+    /**
+     * Glide model for a poster URL whose cache key ignores the download token
+     */
+    public static GlideUrl modelFor(@NonNull String url) {
+        return new StableKeyUrl(url);
+    }
+
+    /**
+     * Request for a poster shown in a list card of the given size
+     */
+    public static RequestBuilder<Drawable> card(Context context, @NonNull String url, CardSize size) {
+        return Glide.with(context)
+                .load(modelFor(url))
+                .override(size.widthPx(context), size.heightPx(context))
+                .centerCrop()
+                .format(DecodeFormat.PREFER_RGB_565)
+                .diskCacheStrategy(DiskCacheStrategy.ALL);
+    }
+
+    /**
+     * Fetch the posters of the next few rows while a list scrolls. Adapters
+     * call this from onAttachedToRecyclerView. A list keeps one preloader: a
+     * later call replaces it, and it removes itself once the list shows a
+     * different adapter.
+     */
+    public static <T> void preloadWhileAttached(RecyclerView recyclerView, ListAdapter<T, ?> adapter,
+                                                CardSize size, PosterUrlSource<T> urls) {
+        Object previous = recyclerView.getTag(R.id.posterPreloader);
+        if (previous instanceof RecyclerView.OnScrollListener) {
+            recyclerView.removeOnScrollListener((RecyclerView.OnScrollListener) previous);
+        }
+
+        RecyclerViewPreloader<T> preloader = preloader(recyclerView.getContext(), adapter, size, urls);
+        RecyclerView.OnScrollListener listener = new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView view, int dx, int dy) {
+                if (view.getAdapter() != adapter) {
+                    view.removeOnScrollListener(this);
+                    if (view.getTag(R.id.posterPreloader) == this) {
+                        view.setTag(R.id.posterPreloader, null);
+                    }
+                    return;
+                }
+                preloader.onScrolled(view, dx, dy);
+            }
+        };
+        recyclerView.setTag(R.id.posterPreloader, listener);
+        recyclerView.addOnScrollListener(listener);
+    }
+
+    private static <T> RecyclerViewPreloader<T> preloader(Context context, ListAdapter<T, ?> adapter,
+                                                          CardSize size, PosterUrlSource<T> urls) {
+        ListPreloader.PreloadModelProvider<T> models = new ListPreloader.PreloadModelProvider<T>() {
+            @NonNull
+            @Override
+            public List<T> getPreloadItems(int position) {
+                List<T> items = adapter.getCurrentList();
+                if (position >= items.size() || urls.posterUrlOf(items.get(position)) == null) {
+                    return Collections.emptyList();
+                }
+                return Collections.singletonList(items.get(position));
+            }
+
+            @Nullable
+            @Override
+            public RequestBuilder<?> getPreloadRequestBuilder(@NonNull T item) {
+                String url = urls.posterUrlOf(item);
+                return url != null ? card(context, url, size) : null;
+            }
+        };
+
+        return new RecyclerViewPreloader<>(Glide.with(context), models,
+                new FixedPreloadSizeProvider<>(size.widthPx(context), size.heightPx(context)),
+                PRELOAD_AHEAD);
+    }
+
+    /**
+     * Cache key for a download URL: the URL without its token parameter.
+     * The object path stays in the key, and differs between poster uploads.
+     */
+    static String cacheKeyFor(String url) {
+        int queryStart = url.indexOf('?');
+        if (queryStart < 0) {
+            return url;
+        }
+
+        StringBuilder key = new StringBuilder(url.substring(0, queryStart));
+        char separator = '?';
+        for (String param : url.substring(queryStart + 1).split("&")) {
+            if (param.isEmpty() || param.startsWith("token=")) continue;
+            key.append(separator).append(param);
+            separator = '&';
+        }
+        return key.toString();
+    }
+
+    private static class StableKeyUrl extends GlideUrl {
+        private final String cacheKey;
+
+        StableKeyUrl(String url) {
+            super(url);
+            this.cacheKey = cacheKeyFor(url);
+        }
+
+        @Override
+        public String getCacheKey() {
+            return cacheKey;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.event_app.utils;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Matrix;
+import android.media.ExifInterface;
+import android.net.Uri;
+import android.os.Build;
+
+import com.example.event_app.models.Event;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * PosterProcessor - Turns a picked image into WebP poster renditions
+ *
+ * The source is decoded once with inSampleSize so a multi-megabyte camera
+ * photo never has to be fully inflated, rotated according to its EXIF
+ * orientation, and then scaled into thumbnail, card and full renditions.
+ * Must be called from a background thread.
+ */
+public class PosterProcessor {
+
+    private static final int WEBP_QUALITY = 80;
+
+    /**
+     * Encoded poster renditions, largest first
+     */
+    public static class Renditions {
+        public final byte[] full;
+        public final byte[] card;
+        public final byte[] thumb;
+
+        Renditions(byte[] full, byte[] card, byte[] thumb) {
+            this.full = full;
+            this.card = card;
+            this.thumb = thumb;
+        }
+    }
+
+    /**
+     * Decode, orient, downscale and encode the image at the given URI
+     */
+    public static Renditions process(Context context, Uri source) throws IOException {
+        ContentResolver resolver = context.getContentResolver();
+
+        // Read dimensions only
+        BitmapFactory.Options bounds = new BitmapFactory.Options();
+        bounds.inJustDecodeBounds = true;
+        try (InputStream in = resolver.openInputStream(source)) {
+            BitmapFactory.decodeStream(in, null, bounds);
+        }
+        if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
+            throw new IOException("Unsupported image");
+        }
+
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inSampleSize = calculateInSampleSize(
+                Math.max(bounds.outWidth, bounds.outHeight), Event.POSTER_FULL_SIZE_PX);
+        Bitmap decoded;
+        try (InputStream in = resolver.openInputStream(source)) {
+            decoded = BitmapFactory.decodeStream(in, null, options);
+        }
+        if (decoded == null) {
+            throw new IOException("Could not decode image");
+        }
+
+        int rotation;
+        try (InputStream in = resolver.openInputStream(source)) {
+            rotation = readRotation(in);
+        }
+
+        Bitmap full = scaleAndRotate(decoded, Event.POSTER_FULL_SIZE_PX, rotation);
+        Bitmap card = scaleAndRotate(full, Event.POSTER_CARD_SIZE_PX, 0);
+        Bitmap thumb = scaleAndRotate(card, Event.POSTER_THUMB_SIZE_PX, 0);
+
+        Renditions renditions = new Renditions(encode(full), encode(card), encode(thumb));
+        recycle(decoded, full, card, thumb);
+        return renditions;
+    }
+
+    /**
+     * Largest power of two that keeps the decoded long edge at or above the target
+     */
+    static int calculateInSampleSize(int longEdge, int targetLongEdge) {
+        int sampleSize = 1;
+        while (longEdge / (sampleSize * 2) >= targetLongEdge) {
+            sampleSize *= 2;
+        }
+        return sampleSize;
+    }
+
+    private static Bitmap scaleAndRotate(Bitmap source, int maxLongEdge, int rotation) {
+        int longEdge = Math.max(source.getWidth(), source.getHeight());
+        float scale = longEdge > maxLongEdge ? (float) maxLongEdge / longEdge : 1f;
+        if (scale == 1f && rotation == 0) {
+            return source;
+        }
+        Matrix matrix = new Matrix();
+        matrix.postScale(scale, scale);
+        matrix.postRotate(rotation);
+        return Bitmap.createBitmap(source, 0, 0, source.getWidth(), source.getHeight(), matrix, true);
+    }
+
+    private static int readRotation(InputStream in) throws IOException {
+        if (in == null) return 0;
+        switch (new ExifInterface(in).getAttributeInt(
+                ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL)) {
+            case ExifInterface.ORIENTATION_ROTATE_90:
+                return 90;
+            case ExifInterface.ORIENTATION_ROTATE_180:
+                return 180;
+            case ExifInterface.ORIENTATION_ROTATE_270:
+                return 270;
+            default:
+                return 0;
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static byte[] encode(Bitmap bitmap) {
+        Bitmap.CompressFormat format = Build.VERSION.SDK_INT >= Build.VERSION_CODES.R
+                ? Bitmap.CompressFormat.WEBP_LOSSY
+                : Bitmap.CompressFormat.WEBP;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bitmap.compress(format, WEBP_QUALITY, out);
+        return out.toByteArray();
+    }
+
+    private static void recycle(Bitmap... bitmaps) {
+        // Unscaled renditions share a bitmap, so skip ones already recycled
+        for (Bitmap bitmap : bitmaps) {
+            if (!bitmap.isRecycled()) {
+                bitmap.recycle();
+            }
+        }
+    }
+}
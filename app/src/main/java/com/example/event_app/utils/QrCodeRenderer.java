@@ -0,0 +1,132 @@
+package com.example.event_app.utils;
+
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.util.LruCache;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * QrCodeRenderer - Renders event QR codes off the main thread
+ *
+ * The QR only encodes the event ID, so it is cheap to rebuild and never
+ * needs to be downloaded. ZXing encodes at one pixel per module and the
+ * matrix is scaled into a reused pixel buffer, which is written to the
+ * bitmap in a single setPixels call. Rendered bitmaps are kept in a
+ * process-wide LRU cache keyed by event ID and size.
+ */
+public class QrCodeRenderer {
+
+    private static final String TAG = "QrCodeRenderer";
+
+    // Default rendered size in pixels
+    public static final int DEFAULT_SIZE_PX = 512;
+
+    private static final int QUIET_ZONE_MODULES = 2;
+    private static final int CACHE_SIZE_BYTES = 4 * 1024 * 1024;
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private static final LruCache<String, Bitmap> cache = new LruCache<String, Bitmap>(CACHE_SIZE_BYTES) {
+        @Override
+        protected int sizeOf(String key, Bitmap bitmap) {
+            return bitmap.getByteCount();
+        }
+    };
+
+    // Only touched on the executor thread
+    private static final QRCodeWriter writer = new QRCodeWriter();
+    private static int[] pixelBuffer = new int[0];
+
+    private QrCodeRenderer() {
+    }
+
+    /**
+     * Render the QR code for an event. Cached bitmaps are delivered
+     * immediately; otherwise the code is encoded on a background thread.
+     * The callback always runs on the main thread.
+     *
+     * @param eventId event ID to encode
+     * @param sizePx  width and height of the bitmap
+     */
+    public static void render(String eventId, int sizePx, RenderCallback callback) {
+        Bitmap cached = cache.get(cacheKey(eventId, sizePx));
+        if (cached != null) {
+            callback.onRendered(cached);
+            return;
+        }
+
+        executor.execute(() -> {
+            try {
+                Bitmap bitmap = renderNow(eventId, sizePx);
+                mainHandler.post(() -> callback.onRendered(bitmap));
+            } catch (WriterException e) {
+                Log.e(TAG, "Failed to encode QR code", e);
+                mainHandler.post(() -> callback.onFailure(e.getMessage()));
+            }
+        });
+    }
+
+    private static Bitmap renderNow(String eventId, int sizePx) throws WriterException {
+        String key = cacheKey(eventId, sizePx);
+        Bitmap cached = cache.get(key);
+        if (cached != null) return cached;
+
+        Map<EncodeHintType, Object> hints = new EnumMap<>(EncodeHintType.class);
+        hints.put(EncodeHintType.MARGIN, QUIET_ZONE_MODULES);
+        // Width and height of 0 produce one pixel per module
+        BitMatrix modules = writer.encode(eventId, BarcodeFormat.QR_CODE, 0, 0, hints);
+
+        int moduleCount = modules.getWidth();
+        int scale = Math.max(1, sizePx / moduleCount);
+        int offset = Math.max(0, (sizePx - moduleCount * scale) / 2);
+
+        int pixelCount = sizePx * sizePx;
+        if (pixelBuffer.length < pixelCount) {
+            pixelBuffer = new int[pixelCount];
+        }
+        int[] pixels = pixelBuffer;
+        Arrays.fill(pixels, 0, pixelCount, 0xFFFFFFFF);
+
+        for (int my = 0; my < moduleCount; my++) {
+            for (int mx = 0; mx < moduleCount; mx++) {
+                if (!modules.get(mx, my)) continue;
+                int startX = offset + mx * scale;
+                int startY = offset + my * scale;
+                if (startX >= sizePx) continue;
+                for (int y = startY; y < startY + scale && y < sizePx; y++) {
+                    int row = y * sizePx;
+                    Arrays.fill(pixels, row + startX, Math.min(row + startX + scale, row + sizePx), 0xFF000000);
+                }
+            }
+        }
+
+        Bitmap bitmap = Bitmap.createBitmap(sizePx, sizePx, Bitmap.Config.RGB_565);
+        bitmap.setPixels(pixels, 0, sizePx, 0, 0, sizePx, sizePx);
+        cache.put(key, bitmap);
+        return bitmap;
+    }
+
+    private static String cacheKey(String eventId, int sizePx) {
+        return eventId + ":" + sizePx;
+    }
+
+    // Callback interface
+    public interface RenderCallback {
+        void onRendered(Bitmap bitmap);
+        void onFailure(String error);
+    }
+}
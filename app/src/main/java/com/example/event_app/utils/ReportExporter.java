@@ -3,124 +3,254 @@ package com.example.event_app.utils;
 import android.content.Context;
 import android.content.Intent;
 import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 
 import androidx.core.content.FileProvider;
 
 import com.example.event_app.models.Event;
 import com.example.event_app.models.User;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldPath;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QuerySnapshot;
 
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * ReportExporter - Utility for exporting platform reports
  * US 03.13.01: Export platform usage reports
+ *
+ * Reports are generated as a streaming job on a background thread: the
+ * users and events collections are paged through with document cursors,
+ * every aggregate is computed in a single pass per collection, and rows
+ * are written through a buffered writer (optionally gzip-compressed).
  */
 public class ReportExporter {
 
     private static final String TAG = "ReportExporter";
 
-    /**
-     * Export platform statistics to CSV file
-     */
-    public static void exportPlatformReport(Context context,
-                                            List<Event> events,
-                                            List<User> users) {
-        try {
-            // Create file
-            File file = createReportFile(context, "platform_report");
+    // Documents fetched per Firestore page
+    static final int PAGE_SIZE = 300;
 
-            // Write CSV content
-            FileWriter writer = new FileWriter(file);
+    private static final int BUFFER_SIZE = 64 * 1024;
 
-            // Header
-            writer.append("LuckySpot Platform Usage Report\n");
-            writer.append("Generated: ").append(getCurrentDateTime()).append("\n\n");
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
 
-            // Platform Statistics
-            writer.append("=== PLATFORM STATISTICS ===\n");
-            writer.append("Total Users,").append(String.valueOf(users.size())).append("\n");
-            writer.append("Total Events,").append(String.valueOf(events.size())).append("\n");
+    /**
+     * Export platform statistics to a CSV file on a background thread.
+     * Progress and completion are delivered on the main thread.
+     *
+     * @param context  context used for file creation and sharing
+     * @param db       Firestore instance to page through
+     * @param gzip     true to compress the report as .csv.gz
+     * @param listener receives progress, completion and error callbacks
+     */
+    public static void exportPlatformReport(Context context,
+                                            FirebaseFirestore db,
+                                            boolean gzip,
+                                            ReportProgressListener listener) {
+        Context appContext = context.getApplicationContext();
+        executor.execute(() -> {
+            File file = null;
+            try {
+                file = createReportFile(appContext, "platform_report", gzip);
+                writePlatformReport(appContext, db, file, gzip, listener);
 
-            // Count organizers
-            int organizerCount = 0;
-            for (User user : users) {
-                if (user.isOrganizer()) {
-                    organizerCount++;
+                Log.d(TAG, "Report created: " + file.getAbsolutePath());
+                File finished = file;
+                mainHandler.post(() -> listener.onComplete(finished));
+            } catch (Exception e) {
+                Log.e(TAG, "Error creating report", e);
+                if (file != null && file.exists() && !file.delete()) {
+                    Log.w(TAG, "Could not delete partial report " + file.getName());
                 }
+                mainHandler.post(() -> listener.onError(e));
             }
-            writer.append("Total Organizers,").append(String.valueOf(organizerCount)).append("\n");
+        });
+    }
 
-            // Count active events
-            int activeCount = 0;
-            for (Event event : events) {
-                if ("active".equals(event.getStatus())) {
-                    activeCount++;
+    /**
+     * Streams both collections and writes the report. Users are scanned once
+     * for the platform totals; events are scanned once, with the per-event rows
+     * spooled to a temporary file so the summary can still lead the report.
+     */
+    private static void writePlatformReport(Context context,
+                                            FirebaseFirestore db,
+                                            File file,
+                                            boolean gzip,
+                                            ReportProgressListener listener) throws Exception {
+        // Single pass over users
+        int userCount = 0;
+        int organizerCount = 0;
+        DocumentSnapshot cursor = null;
+        while (true) {
+            QuerySnapshot page = fetchPage(db, "users", cursor);
+            for (DocumentSnapshot doc : page.getDocuments()) {
+                User user = doc.toObject(User.class);
+                userCount++;
+                if (user != null && user.isOrganizer()) {
+                    organizerCount++;
                 }
             }
-            writer.append("Active Events,").append(String.valueOf(activeCount)).append("\n\n");
-
-            // Events with high cancellation
-            writer.append("=== HIGH CANCELLATION EVENTS ===\n");
-            writer.append("Event Name,Cancellation Rate,Total Selected,Total Cancelled\n");
-
-            boolean hasHighCancellation = false;
-            for (Event event : events) {
-                if (event.hasHighCancellationRate()) {
-                    hasHighCancellation = true;
-                    writer.append(event.getName()).append(",");
-                    writer.append(String.format("%.1f%%", event.getCancellationRate())).append(",");
-                    writer.append(String.valueOf(event.getTotalSelected())).append(",");
-                    writer.append(String.valueOf(event.getTotalCancelled())).append("\n");
+            postProgress(listener, userCount, 0);
+            if (page.size() < PAGE_SIZE) break;
+            cursor = page.getDocuments().get(page.size() - 1);
+        }
+
+        // Single pass over events
+        int eventCount = 0;
+        int activeCount = 0;
+        StringBuilder highCancellation = new StringBuilder();
+        File eventRows = File.createTempFile("report_events", ".csv", context.getCacheDir());
+        try {
+            try (Writer rows = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(eventRows), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                cursor = null;
+                while (true) {
+                    QuerySnapshot page = fetchPage(db, "events", cursor);
+                    for (DocumentSnapshot doc : page.getDocuments()) {
+                        Event event = doc.toObject(Event.class);
+                        if (event == null) continue;
+                        eventCount++;
+
+                        if ("active".equals(event.getStatus())) {
+                            activeCount++;
+                        }
+
+                        if (event.hasHighCancellationRate()) {
+                            highCancellation.append(event.getName()).append(',');
+                            appendPercent(highCancellation, event.getCancellationRate()).append(',');
+                            highCancellation.append(event.getTotalSelected()).append(',');
+                            highCancellation.append(event.getTotalCancelled()).append('\n');
+                        }
+
+                        rows.append(event.getName()).append(',');
+                        rows.append(event.getStatus()).append(',');
+                        rows.append(String.valueOf(event.getTotalSelected())).append(',');
+                        rows.append(String.valueOf(event.getTotalAttending())).append(',');
+                        rows.append(appendPercent(new StringBuilder(8), event.getCancellationRate()))
+                                .append('\n');
+                    }
+                    postProgress(listener, userCount, eventCount);
+                    if (page.size() < PAGE_SIZE) break;
+                    cursor = page.getDocuments().get(page.size() - 1);
                 }
             }
 
-            if (!hasHighCancellation) {
-                writer.append("No events with high cancellation rate\n");
-            }
+            try (Writer writer = openReportWriter(file, gzip)) {
+                // Header
+                writer.append("LuckySpot Platform Usage Report\n");
+                writer.append("Generated: ").append(getCurrentDateTime()).append("\n\n");
 
-            writer.append("\n");
+                // Platform Statistics
+                writer.append("=== PLATFORM STATISTICS ===\n");
+                writer.append("Total Users,").append(String.valueOf(userCount)).append("\n");
+                writer.append("Total Events,").append(String.valueOf(eventCount)).append("\n");
+                writer.append("Total Organizers,").append(String.valueOf(organizerCount)).append("\n");
+                writer.append("Active Events,").append(String.valueOf(activeCount)).append("\n\n");
 
-            // All Events Summary
-            writer.append("=== ALL EVENTS ===\n");
-            writer.append("Event Name,Status,Total Selected,Total Attending,Cancellation Rate\n");
+                // Events with high cancellation
+                writer.append("=== HIGH CANCELLATION EVENTS ===\n");
+                writer.append("Event Name,Cancellation Rate,Total Selected,Total Cancelled\n");
+                if (highCancellation.length() == 0) {
+                    writer.append("No events with high cancellation rate\n");
+                } else {
+                    writer.append(highCancellation);
+                }
+                writer.append("\n");
 
-            for (Event event : events) {
-                writer.append(event.getName()).append(",");
-                writer.append(event.getStatus()).append(",");
-                writer.append(String.valueOf(event.getTotalSelected())).append(",");
-                writer.append(String.valueOf(event.getTotalAttending())).append(",");
-                writer.append(String.format("%.1f%%", event.getCancellationRate())).append("\n");
+                // All Events Summary
+                writer.append("=== ALL EVENTS ===\n");
+                writer.append("Event Name,Status,Total Selected,Total Attending,Cancellation Rate\n");
+                try (Reader reader = new InputStreamReader(
+                        new FileInputStream(eventRows), StandardCharsets.UTF_8)) {
+                    char[] buffer = new char[BUFFER_SIZE];
+                    int read;
+                    while ((read = reader.read(buffer)) != -1) {
+                        writer.write(buffer, 0, read);
+                    }
+                }
             }
+        } finally {
+            if (!eventRows.delete()) {
+                Log.w(TAG, "Could not delete temporary report rows");
+            }
+        }
+    }
 
-            writer.flush();
-            writer.close();
+    /**
+     * Fetch one page of a collection ordered by document ID, starting after
+     * the given cursor. Must be called from a background thread.
+     */
+    private static QuerySnapshot fetchPage(FirebaseFirestore db,
+                                           String collection,
+                                           DocumentSnapshot cursor) throws Exception {
+        Query query = db.collection(collection)
+                .orderBy(FieldPath.documentId())
+                .limit(PAGE_SIZE);
+        if (cursor != null) {
+            query = query.startAfter(cursor);
+        }
+        return Tasks.await(query.get());
+    }
 
-            Log.d(TAG, "Report created: " + file.getAbsolutePath());
+    /**
+     * Open a buffered UTF-8 writer for the report, optionally gzip-compressed
+     */
+    private static Writer openReportWriter(File file, boolean gzip) throws IOException {
+        OutputStream out = new FileOutputStream(file);
+        if (gzip) {
+            out = new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
 
-            // Share the file
-            shareFile(context, file);
+    /**
+     * Append a percentage with one decimal place (e.g. "42.5%") without
+     * going through String.format for every row
+     */
+    static StringBuilder appendPercent(StringBuilder sb, double rate) {
+        long tenths = Math.round(rate * 10);
+        return sb.append(tenths / 10).append('.').append(tenths % 10).append('%');
+    }
 
-        } catch (IOException e) {
-            Log.e(TAG, "Error creating report", e);
-        }
+    private static void postProgress(ReportProgressListener listener, int users, int events) {
+        mainHandler.post(() -> listener.onProgress(users, events));
     }
 
     /**
      * Create a file for the report
      */
-    private static File createReportFile(Context context, String prefix) throws IOException {
+    private static File createReportFile(Context context, String prefix, boolean gzip) throws IOException {
         String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss", Locale.getDefault())
                 .format(new Date());
-        String fileName = prefix + "_" + timestamp + ".csv";
+        String fileName = prefix + "_" + timestamp + (gzip ? ".csv.gz" : ".csv");
 
         File outputDir = context.getExternalFilesDir(null);
+        if (outputDir == null) {
+            throw new IOException("External files directory unavailable");
+        }
         return new File(outputDir, fileName);
     }
 
@@ -135,7 +265,7 @@ public class ReportExporter {
     /**
      * Share the report file
      */
-    private static void shareFile(Context context, File file) {
+    public static void shareFile(Context context, File file) {
         Uri fileUri = FileProvider.getUriForFile(
                 context,
                 context.getPackageName() + ".fileprovider",
@@ -143,10 +273,19 @@ public class ReportExporter {
         );
 
         Intent shareIntent = new Intent(Intent.ACTION_SEND);
-        shareIntent.setType("text/csv");
+        shareIntent.setType(file.getName().endsWith(".gz") ? "application/gzip" : "text/csv");
         shareIntent.putExtra(Intent.EXTRA_STREAM, fileUri);
         shareIntent.addFlags(Intent.FLAG_GRANT_READ_URI_PERMISSION);
 
         context.startActivity(Intent.createChooser(shareIntent, "Share Report"));
     }
+
+    /**
+     * Callback for streaming report generation. All methods run on the main thread.
+     */
+    public interface ReportProgressListener {
+        void onProgress(int usersScanned, int eventsScanned);
+        void onComplete(File reportFile);
+        void onError(Exception e);
+    }
 }
@@ -0,0 +1,98 @@
+package com.example.event_app.utils;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import com.example.event_app.models.User;
+
+/**
+ * SessionCache - Last known home screen of the signed-in user
+ *
+ * SplashActivity routes from the role stored here without waiting for sign-in
+ * checks or a profile read. The screen it opens reads the profile as usual,
+ * saves the fresh role and reroutes only if the role changed.
+ *
+ * A profile the splash screen did fetch is handed to the next screen in
+ * memory, so it is not read twice.
+ */
+public class SessionCache {
+
+    private static final String PREFS_NAME = "session_cache";
+    private static final String KEY_USER_ID = "user_id";
+    private static final String KEY_ROUTE = "route";
+
+    /**
+     * Home screen a profile leads to
+     */
+    public enum Route {
+        ENTRANT,
+        ADMIN;
+
+        public static Route of(User user) {
+            return user != null && user.isAdmin() ? ADMIN : ENTRANT;
+        }
+    }
+
+    private static String handedOffUserId;
+    private static User handedOffUser;
+
+    private final SharedPreferences prefs;
+
+    public SessionCache(Context context) {
+        this.prefs = context.getApplicationContext().getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+    }
+
+    /**
+     * Route saved for this user, or null if none is known
+     */
+    public Route getRoute(String userId) {
+        if (userId == null || !userId.equals(prefs.getString(KEY_USER_ID, null))) {
+            return null;
+        }
+        String route = prefs.getString(KEY_ROUTE, null);
+        try {
+            return route != null ? Route.valueOf(route) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Remember the route for a freshly loaded profile
+     */
+    public void save(String userId, User user) {
+        prefs.edit()
+                .putString(KEY_USER_ID, userId)
+                .putString(KEY_ROUTE, Route.of(user).name())
+                .apply();
+    }
+
+    /**
+     * Forget the saved route, e.g. after sign out or when the profile is gone
+     */
+    public void clear() {
+        prefs.edit().clear().apply();
+        handOff(null, null);
+    }
+
+    /**
+     * Keep a just-fetched profile for the next screen to pick up
+     */
+    public static synchronized void handOff(String userId, User user) {
+        handedOffUserId = userId;
+        handedOffUser = user;
+    }
+
+    /**
+     * The profile handed off for this user, at most once, or null
+     */
+    public static synchronized User takeHandedOffUser(String userId) {
+        if (userId == null || !userId.equals(handedOffUserId)) {
+            return null;
+        }
+        User user = handedOffUser;
+        handedOffUserId = null;
+        handedOffUser = null;
+        return user;
+    }
+}
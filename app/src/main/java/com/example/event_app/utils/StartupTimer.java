@@ -0,0 +1,58 @@
+package com.example.event_app.utils;
+
+import android.app.Activity;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+/**
+ * StartupTimer - Logs cold start milestones
+ *
+ * Each mark logs the time since the process started, under the
+ * "StartupTiming" tag, so cached and uncached routing can be compared with
+ * logcat. The first home screen drawn also calls reportFullyDrawn() for
+ * the platform's startup metrics.
+ */
+public final class StartupTimer {
+
+    private static final String TAG = "StartupTiming";
+
+    private static boolean firstScreenDrawn;
+
+    private StartupTimer() {}
+
+    /**
+     * Log a milestone with the time elapsed since process start
+     */
+    public static void mark(String milestone) {
+        Log.i(TAG, milestone + ": " + sinceProcessStartMs() + " ms");
+    }
+
+    /**
+     * Log when the activity draws its first frame. Only the first home
+     * screen of the process is reported as fully drawn.
+     */
+    public static void markFirstFrame(Activity activity) {
+        if (firstScreenDrawn) return;
+
+        View decorView = activity.getWindow().getDecorView();
+        decorView.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                decorView.getViewTreeObserver().removeOnPreDrawListener(this);
+                if (!firstScreenDrawn) {
+                    firstScreenDrawn = true;
+                    mark("First frame of " + activity.getClass().getSimpleName());
+                    activity.reportFullyDrawn();
+                }
+                return true;
+            }
+        });
+    }
+
+    private static long sinceProcessStartMs() {
+        return SystemClock.uptimeMillis() - Process.getStartUptimeMillis();
+    }
+}
@@ -40,8 +40,11 @@ import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseUser;
 import com.google.firebase.firestore.CollectionReference;
 import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.ListenerRegistration;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.Source;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -54,6 +57,7 @@ import org.robolectric.annotation.Config;
 import org.robolectric.shadows.ShadowLooper;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 
 @ExtendWith(RobolectricTestRunner.class)
 @Config(sdk = 34)
@@ -88,11 +92,25 @@ class ActivityLifecycleTest {
         when(mockCollection.document()).thenReturn(mockDocument);
         when(mockDocument.getId()).thenReturn("doc-id");
 
-        Task<Object> noopTask = Tasks.forResult(new Object());
-        when(mockDocument.get()).thenReturn(noopTask);
-        when(mockDocument.set(any())).thenReturn(noopTask);
+        // Reads find nothing, so success listeners run against empty snapshots
+        DocumentSnapshot missingDocument = mock(DocumentSnapshot.class, withSettings().lenient());
+        when(missingDocument.exists()).thenReturn(false);
+        when(missingDocument.getId()).thenReturn("doc-id");
+        QuerySnapshot emptyQuery = mock(QuerySnapshot.class, withSettings().lenient());
+        when(emptyQuery.isEmpty()).thenReturn(true);
+        when(emptyQuery.getDocuments()).thenReturn(Collections.emptyList());
+        when(emptyQuery.iterator()).thenReturn(Collections.emptyIterator());
+
+        Task<DocumentSnapshot> documentTask = Tasks.forResult(missingDocument);
+        Task<QuerySnapshot> queryTask = Tasks.forResult(emptyQuery);
+        Task<Void> writeTask = Tasks.forResult(null);
+        when(mockDocument.get()).thenReturn(documentTask);
+        when(mockDocument.get(any(Source.class))).thenReturn(documentTask);
+        when(mockDocument.set(any())).thenReturn(writeTask);
         when(mockDocument.addSnapshotListener(any())).thenReturn(mockRegistration);
-        when(mockCollection.add(any())).thenReturn(noopTask);
+        when(mockCollection.add(any())).thenReturn(Tasks.forResult(mockDocument));
+        when(mockCollection.get()).thenReturn(queryTask);
+        when(mockCollection.get(any(Source.class))).thenReturn(queryTask);
 
         firebaseFirestoreStatic = mockStatic(FirebaseFirestore.class);
         firebaseFirestoreStatic.when(FirebaseFirestore::getInstance).thenReturn(mockFirestore);
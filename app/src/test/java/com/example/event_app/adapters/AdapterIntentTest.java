@@ -14,6 +14,8 @@ import com.example.event_app.activities.admin.AdminEventDetailsActivity;
 import com.example.event_app.activities.entrant.EventDetailsActivity;
 import com.example.event_app.activities.organizer.OrganizerEventDetailsActivity;
 import com.example.event_app.models.Event;
+import com.example.event_app.models.EventSummary;
+import com.example.event_app.services.EventCache;
 import com.example.event_app.utils.Navigator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -52,10 +54,17 @@ class AdapterIntentTest {
         return event;
     }
 
+    private EventSummary buildSummary(String id) {
+        EventSummary summary = new EventSummary();
+        summary.setId(id);
+        summary.setName("Sample");
+        return summary;
+    }
+
     @Test
     @DisplayName("EventAdapter opens EventDetailsActivity with extra")
     void eventAdapter_launchesEventDetails() {
-        Event event = buildEvent("EVT-111");
+        EventSummary event = buildSummary("EVT-111");
         EventAdapter adapter = new EventAdapter(context);
         adapter.setEvents(Collections.singletonList(event));
 
@@ -71,12 +80,13 @@ class AdapterIntentTest {
         assertNotNull(startedIntent);
         assertEquals(EventDetailsActivity.class.getName(), startedIntent.getComponent().getClassName());
         assertEquals("EVT-111", startedIntent.getStringExtra(Navigator.EXTRA_EVENT_ID));
+        assertNotNull(EventCache.getInstance().getSummary("EVT-111"));
     }
 
     @Test
     @DisplayName("FullEventAdapter forwards id to EventDetailsActivity")
     void fullEventAdapter_launchesEventDetails() {
-        Event event = buildEvent("EVT-222");
+        EventSummary event = buildSummary("EVT-222");
         FullEventAdapter adapter = new FullEventAdapter(context);
         adapter.setEvents(Collections.singletonList(event));
 
@@ -97,7 +107,7 @@ class AdapterIntentTest {
     @Test
     @DisplayName("HorizontalEventAdapter passes event id through intent")
     void horizontalEventAdapter_launchesEventDetails() {
-        Event event = buildEvent("EVT-333");
+        EventSummary event = buildSummary("EVT-333");
         HorizontalEventAdapter adapter = new HorizontalEventAdapter(context);
         adapter.setEvents(Collections.singletonList(event));
 
@@ -134,12 +144,13 @@ class AdapterIntentTest {
         assertNotNull(startedIntent);
         assertEquals(EventDetailsActivity.class.getName(), startedIntent.getComponent().getClassName());
         assertEquals("EVT-444", startedIntent.getStringExtra(Navigator.EXTRA_EVENT_ID));
+        assertNotNull(EventCache.getInstance().getEvent("EVT-444"));
     }
 
     @Test
     @DisplayName("OrganizerEventsAdapter targets organizer details activity")
     void organizerEventsAdapter_launchesOrganizerDetails() {
-        Event event = buildEvent("EVT-555");
+        EventSummary event = buildSummary("EVT-555");
         OrganizerEventsAdapter adapter = new OrganizerEventsAdapter(context);
         adapter.setEvents(Collections.singletonList(event));
 
@@ -160,7 +171,7 @@ class AdapterIntentTest {
     @Test
     @DisplayName("Admin event browse flow includes event id extra")
     void adminBrowseEvents_launchesAdminDetails() {
-        Event event = buildEvent("EVT-666");
+        EventSummary event = buildSummary("EVT-666");
         AdminEventAdapter adapter = new AdminEventAdapter();
         adapter.setEvents(Collections.singletonList(event));
 
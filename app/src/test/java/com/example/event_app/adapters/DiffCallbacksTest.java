@@ -0,0 +1,44 @@
+package com.example.event_app.adapters;
+
+import com.example.event_app.models.EventSummary;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiffCallbacksTest {
+
+    private EventSummary summary(String id, String name, int waiting) {
+        EventSummary summary = new EventSummary();
+        summary.setId(id);
+        summary.setName(name);
+        summary.setWaitingListCount(waiting);
+        return summary;
+    }
+
+    @Test
+    @DisplayName("event summaries match on document ID")
+    void eventSummary_matchesOnId() {
+        assertTrue(DiffCallbacks.EVENT_SUMMARY.areItemsTheSame(
+                summary("EVT-1", "Swim", 3), summary("EVT-1", "Swim Lessons", 4)));
+        assertFalse(DiffCallbacks.EVENT_SUMMARY.areItemsTheSame(
+                summary("EVT-1", "Swim", 3), summary("EVT-2", "Swim", 3)));
+    }
+
+    @Test
+    @DisplayName("displayed field changes are detected, identical copies are not")
+    void eventSummary_comparesDisplayedFields() {
+        assertTrue(DiffCallbacks.EVENT_SUMMARY.areContentsTheSame(
+                summary("EVT-1", "Swim", 3), summary("EVT-1", "Swim", 3)));
+        assertFalse(DiffCallbacks.EVENT_SUMMARY.areContentsTheSame(
+                summary("EVT-1", "Swim", 3), summary("EVT-1", "Swim", 4)));
+    }
+
+    @Test
+    @DisplayName("stable IDs are deterministic and distinct per document")
+    void stableId_isDeterministic() {
+        assertEquals(DiffCallbacks.stableId("EVT-1"), DiffCallbacks.stableId("EVT-1"));
+        assertNotEquals(DiffCallbacks.stableId("EVT-1"), DiffCallbacks.stableId("EVT-2"));
+    }
+}
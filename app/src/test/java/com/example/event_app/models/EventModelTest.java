@@ -1,5 +1,7 @@
 package com.example.event_app.models;
 
+import com.example.event_app.utils.Geohash;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -41,6 +43,41 @@ class EventModelTest {
         assertTrue(event.hasHighCancellationRate());
     }
 
+    @Test
+    @DisplayName("stored flag threshold matches the cancellation rate helper")
+    void computeCancellationRate_flagsOnlyAboveThreshold() {
+        assertEquals(0.0, Event.computeCancellationRate(0, 3));
+        assertEquals(30.0, Event.computeCancellationRate(10, 3));
+        assertFalse(Event.isHighCancellationRate(Event.computeCancellationRate(10, 3)));
+        assertTrue(Event.isHighCancellationRate(Event.computeCancellationRate(10, 4)));
+    }
+
+    @Test
+    @DisplayName("poster rendition matches the requested size and falls back to full poster")
+    void posterUrlForSize_picksSmallestCoveringRendition() {
+        Event event = new Event("EVT-1", "Music Night", "", "org-1");
+        event.setPosterUrl("full");
+        assertEquals("full", event.posterUrlForSize(200));
+
+        event.setPosterCardUrl("card");
+        event.setPosterThumbUrl("thumb");
+        assertEquals("thumb", event.posterUrlForSize(Event.POSTER_THUMB_SIZE_PX));
+        assertEquals("card", event.posterUrlForSize(Event.POSTER_THUMB_SIZE_PX + 1));
+        assertEquals("full", event.posterUrlForSize(Event.POSTER_CARD_SIZE_PX + 1));
+    }
+
+    @Test
+    @DisplayName("setting coordinates also records their geohash")
+    void setCoordinates_storesGeohash() {
+        Event event = new Event("EVT-1", "Music Night", "", "org-1");
+        assertFalse(event.hasCoordinates());
+
+        event.setCoordinates(53.5461, -113.4938);
+
+        assertTrue(event.hasCoordinates());
+        assertEquals(Geohash.encode(53.5461, -113.4938), event.getGeohash());
+    }
+
     @Test
     @DisplayName("capacity full guards event enrollment")
     void isCapacityFull_checksAgainstCapacity() {
@@ -0,0 +1,161 @@
+package com.example.event_app.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.example.event_app.models.EventSummary;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Tests for the SQL behind EventCatalogue: delta application, tombstones,
+ * the watermark, and the browse filters and sort orders.
+ */
+@ExtendWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+class EventCatalogueDatabaseTest {
+
+    private static final long DAY_MS = 24L * 60 * 60 * 1000;
+
+    private EventCatalogueDatabase database;
+
+    @BeforeEach
+    void setUp() {
+        database = new EventCatalogueDatabase(ApplicationProvider.getApplicationContext());
+        database.getWritableDatabase().delete("events", null, null);
+        database.getWritableDatabase().delete("sync_state", null, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    private EventSummary summary(String id, String name, String category, long eventDateMs, int waiting) {
+        EventSummary summary = new EventSummary();
+        summary.setId(id);
+        summary.setName(name);
+        summary.setCategory(category);
+        summary.setStatus("active");
+        summary.setEventDate(new Date(eventDateMs));
+        summary.setWaitingListCount(waiting);
+        return summary;
+    }
+
+    private List<String> ids(List<EventSummary> events) {
+        List<String> ids = new ArrayList<>();
+        for (EventSummary event : events) {
+            ids.add(event.getId());
+        }
+        return ids;
+    }
+
+    private EventCatalogue.CatalogueFilter sortedBy(EventCatalogue.Sort sort) {
+        return new EventCatalogue.CatalogueFilter(null, null, null, null, sort, 0);
+    }
+
+    @Test
+    @DisplayName("Upserts replace rows and tombstones delete them")
+    void applyChanges_upsertsAndDeletes() {
+        long now = System.currentTimeMillis();
+        database.applyChanges(Arrays.asList(
+                summary("A", "Jazz Night", "Music", now + DAY_MS, 1),
+                summary("B", "Yoga", "Sports", now + 2 * DAY_MS, 2)), Collections.emptyList(), 100);
+
+        database.applyChanges(Collections.singletonList(summary("A", "Jazz Night Live", "Music", now + DAY_MS, 5)),
+                Collections.singletonList("B"), 200);
+
+        List<EventSummary> events = database.query(sortedBy(EventCatalogue.Sort.DATE_ASC));
+        assertEquals(Collections.singletonList("A"), ids(events));
+        assertEquals("Jazz Night Live", events.get(0).getName());
+        assertEquals(5, events.get(0).getWaitingListCount());
+    }
+
+    @Test
+    @DisplayName("Watermark only moves forward")
+    void applyChanges_keepsNewestWatermark() {
+        assertEquals(0, database.getWatermark());
+
+        database.applyChanges(Collections.emptyList(), Collections.singletonList("X"), 500);
+        database.applyChanges(Collections.emptyList(), Collections.singletonList("Y"), 300);
+
+        assertEquals(500, database.getWatermark());
+    }
+
+    @Test
+    @DisplayName("Only active events are listed")
+    void query_skipsInactiveEvents() {
+        long now = System.currentTimeMillis();
+        EventSummary cancelled = summary("C", "Cancelled", "Music", now, 0);
+        cancelled.setStatus("cancelled");
+        database.applyChanges(Arrays.asList(summary("A", "Open", "Music", now, 0), cancelled),
+                Collections.emptyList(), 1);
+
+        assertEquals(Collections.singletonList("A"), ids(database.query(sortedBy(EventCatalogue.Sort.DATE_ASC))));
+    }
+
+    @Test
+    @DisplayName("Search ignores case and treats LIKE wildcards literally")
+    void query_searchMatchesSubstrings() {
+        long now = System.currentTimeMillis();
+        database.applyChanges(Arrays.asList(
+                summary("A", "Jazz Night", "Music", now, 0),
+                summary("B", "100% Cardio", "Sports", now, 0),
+                summary("C", "Pottery", "Art & Culture", now, 0)), Collections.emptyList(), 1);
+
+        assertEquals(Collections.singletonList("A"), ids(database.query(
+                new EventCatalogue.CatalogueFilter("jAzZ", null, null, null, EventCatalogue.Sort.NAME_ASC, 0))));
+        assertEquals(Collections.singletonList("B"), ids(database.query(
+                new EventCatalogue.CatalogueFilter("0%", null, null, null, EventCatalogue.Sort.NAME_ASC, 0))));
+        // Category text is searched too
+        assertEquals(Collections.singletonList("C"), ids(database.query(
+                new EventCatalogue.CatalogueFilter("culture", null, null, null, EventCatalogue.Sort.NAME_ASC, 0))));
+    }
+
+    @Test
+    @DisplayName("Category and date range filters combine")
+    void query_filtersByCategoryAndDate() {
+        long now = System.currentTimeMillis();
+        database.applyChanges(Arrays.asList(
+                summary("A", "Soon", "Music", now + DAY_MS, 0),
+                summary("B", "Later", "Music", now + 30 * DAY_MS, 0),
+                summary("C", "Soon Sports", "Sports", now + DAY_MS, 0)), Collections.emptyList(), 1);
+
+        List<EventSummary> events = database.query(new EventCatalogue.CatalogueFilter(null, "Music",
+                new Date(now), new Date(now + 7 * DAY_MS), EventCatalogue.Sort.DATE_ASC, 0));
+
+        assertEquals(Collections.singletonList("A"), ids(events));
+    }
+
+    @Test
+    @DisplayName("Sorts by popularity, date and name, with a limit")
+    void query_sortsAndLimits() {
+        long now = System.currentTimeMillis();
+        EventSummary undated = summary("D", "delta", "Music", now, 7);
+        undated.setEventDate(null);
+        database.applyChanges(Arrays.asList(
+                summary("A", "Bravo", "Music", now + 3 * DAY_MS, 2),
+                summary("B", "alpha", "Music", now + DAY_MS, 9),
+                summary("C", "Charlie", "Music", now + 2 * DAY_MS, 4),
+                undated), Collections.emptyList(), 1);
+
+        assertEquals(Arrays.asList("B", "D"), ids(database.query(
+                new EventCatalogue.CatalogueFilter(null, null, null, null, EventCatalogue.Sort.POPULAR, 2))));
+        assertEquals(Arrays.asList("B", "C", "A", "D"), ids(database.query(sortedBy(EventCatalogue.Sort.DATE_ASC))));
+        assertEquals(Arrays.asList("B", "A", "C", "D"), ids(database.query(sortedBy(EventCatalogue.Sort.NAME_ASC))));
+        assertEquals(Arrays.asList("A", "C", "B", "D"), ids(database.query(sortedBy(EventCatalogue.Sort.DATE_DESC))));
+    }
+}
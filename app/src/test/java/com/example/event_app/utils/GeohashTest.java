@@ -0,0 +1,51 @@
+package com.example.event_app.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeohashTest {
+
+    @Test
+    @DisplayName("encode matches reference geohashes")
+    void encode_matchesKnownValues() {
+        assertEquals("ezs42", Geohash.encode(42.6, -5.6, 5));
+        assertEquals("c3x29", Geohash.encode(53.5461, -113.4938, 5));
+    }
+
+    @Test
+    @DisplayName("box ranges cover every point inside the box")
+    void rangesForBox_coverInteriorPoints() {
+        List<String[]> ranges = Geohash.rangesForBox(53.4, -113.7, 53.7, -113.3, 9);
+        assertTrue(ranges.size() <= 9);
+
+        for (double lat = 53.4; lat <= 53.7; lat += 0.05) {
+            for (double lng = -113.7; lng <= -113.3; lng += 0.05) {
+                assertTrue(isCovered(Geohash.encode(lat, lng), ranges),
+                        "Point " + lat + "," + lng + " not covered");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("radius ranges include nearby points and distances are in metres")
+    void rangesForRadius_coverCenterAndNeighbours() {
+        List<String[]> ranges = Geohash.rangesForRadius(51.0447, -114.0719, 5000, 9);
+
+        assertTrue(isCovered(Geohash.encode(51.0447, -114.0719), ranges));
+        assertTrue(isCovered(Geohash.encode(51.08, -114.10), ranges));
+        assertEquals(111195, Geohash.distanceMeters(0, 0, 1, 0), 100);
+    }
+
+    private static boolean isCovered(String hash, List<String[]> ranges) {
+        for (String[] range : ranges) {
+            if (hash.compareTo(range[0]) >= 0 && hash.compareTo(range[1]) <= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.event_app.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocationClustererTest {
+
+    // Two points a few hundred metres apart in Edmonton, one in Calgary
+    private final LocationClusterer clusterer = new LocationClusterer(
+            new double[]{53.5461, 53.5470, 51.0447},
+            new double[]{-113.4938, -113.4950, -114.0719});
+
+    @Test
+    @DisplayName("nearby points merge at low zoom and separate when zoomed in")
+    void cluster_mergesByZoomLevel() {
+        List<LocationClusterer.Cluster> regional = clusterer.cluster(6f, 50, -116, 55, -112);
+        assertEquals(2, regional.size());
+
+        List<LocationClusterer.Cluster> street = clusterer.cluster(18f, 53.54, -113.50, 53.55, -113.49);
+        assertEquals(2, street.size());
+        for (LocationClusterer.Cluster cluster : street) {
+            assertEquals(1, cluster.getCount());
+        }
+    }
+
+    @Test
+    @DisplayName("points outside the visible bounds are skipped")
+    void cluster_ignoresPointsOffScreen() {
+        List<LocationClusterer.Cluster> calgaryOnly = clusterer.cluster(10f, 50.9, -114.3, 51.2, -113.9);
+
+        assertEquals(1, calgaryOnly.size());
+        assertEquals(1, calgaryOnly.get(0).getCount());
+        assertEquals(51.0447, calgaryOnly.get(0).getLatitude(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("bounds crossing the antimeridian include both sides")
+    void cluster_handlesAntimeridian() {
+        LocationClusterer pacific = new LocationClusterer(
+                new double[]{0, 0}, new double[]{179.5, -179.5});
+
+        int total = 0;
+        for (LocationClusterer.Cluster cluster : pacific.cluster(4f, -10, 170, 10, -170)) {
+            total += cluster.getCount();
+        }
+        assertEquals(2, total);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.event_app.utils;
+
+import com.example.event_app.services.ImageIndexService;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PosterImagesTest {
+
+    private static final String BASE =
+            "https://firebasestorage.googleapis.com/v0/b/app/o/event_posters%2Fabc_card.webp";
+
+    @Test
+    @DisplayName("cache key drops the download token and keeps other parameters")
+    void cacheKey_dropsToken() {
+        assertEquals(BASE + "?alt=media",
+                PosterImages.cacheKeyFor(BASE + "?alt=media&token=1111-2222"));
+        assertEquals(BASE + "?alt=media",
+                PosterImages.cacheKeyFor(BASE + "?token=3333&alt=media"));
+    }
+
+    @Test
+    @DisplayName("a replaced poster gets a new cache key even with the token stripped")
+    void cacheKey_differsBetweenUploads() {
+        String first = downloadUrl(ImageIndexService.posterRenditionPathFor("abc", 1000L,
+                ImageIndexService.RENDITION_CARD), "1111");
+        String second = downloadUrl(ImageIndexService.posterRenditionPathFor("abc", 2000L,
+                ImageIndexService.RENDITION_CARD), "1111");
+
+        assertNotEquals(PosterImages.cacheKeyFor(first), PosterImages.cacheKeyFor(second));
+    }
+
+    private static String downloadUrl(String storagePath, String token) {
+        return "https://firebasestorage.googleapis.com/v0/b/app/o/"
+                + storagePath.replace("/", "%2F") + "?alt=media&token=" + token;
+    }
+
+    @Test
+    @DisplayName("URLs without a query are used as-is")
+    void cacheKey_withoutQuery() {
+        assertEquals(BASE, PosterImages.cacheKeyFor(BASE));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.event_app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.example.event_app.models.User;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@ExtendWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+class SessionCacheTest {
+
+    private SessionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SessionCache(ApplicationProvider.getApplicationContext());
+        cache.clear();
+    }
+
+    private User user(boolean admin) {
+        User user = new User("uid-1", "device", "Sam", "sam@example.com");
+        user.addRole(UserRole.ENTRANT);
+        if (admin) {
+            user.addRole(UserRole.ADMIN);
+        }
+        return user;
+    }
+
+    @Test
+    @DisplayName("saved role is returned only for the same user")
+    void getRoute_matchesUser() {
+        cache.save("uid-1", user(true));
+
+        assertEquals(SessionCache.Route.ADMIN, cache.getRoute("uid-1"));
+        assertNull(cache.getRoute("uid-2"));
+    }
+
+    @Test
+    @DisplayName("a later save replaces the role and clear forgets it")
+    void save_replacesAndClearForgets() {
+        cache.save("uid-1", user(true));
+        cache.save("uid-1", user(false));
+        assertEquals(SessionCache.Route.ENTRANT, cache.getRoute("uid-1"));
+
+        cache.clear();
+        assertNull(cache.getRoute("uid-1"));
+    }
+
+    @Test
+    @DisplayName("handed off profile is taken once, by the same user")
+    void takeHandedOffUser_onceForSameUser() {
+        User user = user(false);
+        SessionCache.handOff("uid-1", user);
+
+        assertNull(SessionCache.takeHandedOffUser("uid-2"));
+        assertSame(user, SessionCache.takeHandedOffUser("uid-1"));
+        assertNull(SessionCache.takeHandedOffUser("uid-1"));
+    }
+}
@@ -1,4 +1,6 @@
 const functions = require('firebase-functions');
+const { onDocumentWritten } = require('firebase-functions/v2/firestore');
+const { isDeepStrictEqual } = require('util');
 const admin = require('firebase-admin');
 
 // Initialize Firebase Admin
@@ -135,4 +137,263 @@ exports.sendBulkFCMNotification = functions.https.onCall(async (request) => {
 
     throw new functions.https.HttpsError('internal', 'Failed to send notifications: ' + error.message);
   }
-});
\ No newline at end of file
+});
+
+/**
+ * Event summaries
+ *
+ * List screens read event_summaries instead of events. A summary holds only
+ * the card-level fields and counters, so lists no longer download every
+ * entrant array and the replacement log. Summaries are rebuilt here on every
+ * event write, which keeps them in sync whichever client path changed the
+ * event.
+ *
+ * Every summary write stamps updatedAt with the server time, and a deleted
+ * event leaves a tombstone ({deleted, updatedAt}) instead of removing its
+ * summary, so the app's on-device catalogue can sync only what changed
+ * since its last watermark. Tombstones have no status or organizerId, so
+ * the list queries never match them.
+ */
+const SUMMARY_COLLECTION = 'event_summaries';
+const SUMMARY_DESCRIPTION_LENGTH = 200;
+// Matches Event.HIGH_CANCELLATION_THRESHOLD in the app
+const HIGH_CANCELLATION_THRESHOLD = 30.0;
+
+function sizeOf(list) {
+  return Array.isArray(list) ? list.length : 0;
+}
+
+function valueOrNull(value) {
+  return value === undefined ? null : value;
+}
+
+function stamped(summary) {
+  return { ...summary, updatedAt: admin.firestore.FieldValue.serverTimestamp() };
+}
+
+function buildEventSummary(event) {
+  const totalSelected = typeof event.totalSelected === 'number' ? event.totalSelected : 0;
+  const totalCancelled = typeof event.totalCancelled === 'number' ? event.totalCancelled : 0;
+  const cancellationRate = totalSelected > 0 ? totalCancelled / totalSelected * 100 : 0;
+  const description = typeof event.description === 'string'
+    ? event.description.substring(0, SUMMARY_DESCRIPTION_LENGTH) : null;
+
+  return {
+    name: valueOrNull(event.name),
+    description: description,
+    organizerId: valueOrNull(event.organizerId),
+    organizerName: valueOrNull(event.organizerName),
+    status: valueOrNull(event.status),
+    category: valueOrNull(event.category),
+    location: valueOrNull(event.location),
+    latitude: valueOrNull(event.latitude),
+    longitude: valueOrNull(event.longitude),
+    geohash: valueOrNull(event.geohash),
+    eventDate: valueOrNull(event.eventDate),
+    date: valueOrNull(event.date),
+    createdAt: typeof event.createdAt === 'number' ? event.createdAt : 0,
+    posterUrl: valueOrNull(event.posterUrl),
+    posterCardUrl: valueOrNull(event.posterCardUrl),
+    posterThumbUrl: valueOrNull(event.posterThumbUrl),
+    capacity: valueOrNull(event.capacity),
+    waitingListCount: sizeOf(event.waitingList),
+    selectedCount: totalSelected,
+    attendingCount: sizeOf(event.signedUpUsers),
+    entrantCount: typeof event.entrantCount === 'number' ? event.entrantCount : 0,
+    cancellationRate: cancellationRate,
+    flagged: cancellationRate > HIGH_CANCELLATION_THRESHOLD,
+  };
+}
+
+/**
+ * Keep event_summaries/{eventId} in step with events/{eventId}
+ */
+exports.syncEventSummary = onDocumentWritten('events/{eventId}', async (event) => {
+  const summaryRef = admin.firestore().collection(SUMMARY_COLLECTION).doc(event.params.eventId);
+  const before = event.data.before;
+  const after = event.data.after;
+
+  if (!after.exists) {
+    await summaryRef.set(stamped({ deleted: true }));
+    return;
+  }
+
+  // EventStatsService increments waitingListCount, but on events older than
+  // the counter the first increment starts from zero; reset it to the list
+  // size. The rewrite triggers this function once more, with nothing to fix.
+  if (after.get('waitingListCount') !== sizeOf(after.get('waitingList'))) {
+    await admin.firestore().runTransaction(async (tx) => {
+      const current = await tx.get(after.ref);
+      const size = sizeOf(current.get('waitingList'));
+      if (current.exists && current.get('waitingListCount') !== size) {
+        tx.update(after.ref, { waitingListCount: size });
+      }
+    });
+  }
+
+  const summary = buildEventSummary(after.data());
+  // Most event writes touch entrant lists only; skip the write when no card field changed
+  if (before.exists && isDeepStrictEqual(buildEventSummary(before.data()), summary)) {
+    return;
+  }
+  await summaryRef.set(stamped(summary));
+});
+
+/**
+ * Rebuild every event summary. Admin only; used once after deploying
+ * syncEventSummary or adding updatedAt, and to repair summaries if they
+ * drift.
+ */
+exports.rebuildEventSummaries = functions.https.onCall(async (request) => {
+  if (!request.auth) {
+    throw new functions.https.HttpsError('unauthenticated', 'Sign in required');
+  }
+  const caller = await admin.firestore().collection('users').doc(request.auth.uid).get();
+  const roles = caller.exists ? caller.get('roles') : null;
+  if (!Array.isArray(roles) || !roles.includes('admin')) {
+    throw new functions.https.HttpsError('permission-denied', 'Admin role required');
+  }
+
+  const db = admin.firestore();
+  const writer = db.bulkWriter();
+  let rebuilt = 0;
+  let lastDoc = null;
+
+  while (true) {
+    let query = db.collection('events').orderBy(admin.firestore.FieldPath.documentId()).limit(500);
+    if (lastDoc) {
+      query = query.startAfter(lastDoc);
+    }
+    const page = await query.get();
+    if (page.empty) break;
+
+    page.docs.forEach((doc) => {
+      writer.set(db.collection(SUMMARY_COLLECTION).doc(doc.id), stamped(buildEventSummary(doc.data())));
+    });
+    rebuilt += page.size;
+    lastDoc = page.docs[page.size - 1];
+  }
+
+  await writer.close();
+  console.log('Rebuilt', rebuilt, 'event summaries');
+  return { success: true, rebuilt: rebuilt };
+});
+
+/**
+ * Entrant location extent
+ *
+ * events/{eventId}.locationBounds ({south, west, north, east}) covers every
+ * location in events/{eventId}/locations, so the organizer map can open
+ * fitted to all entrants before it loads any of them. Each new location
+ * widens the box; the first one after deployment scans the subcollection so
+ * locations recorded earlier are covered too. Removing a location never
+ * shrinks the box: it may end up larger than needed but still shows everyone.
+ */
+const LOCATION_BOUNDS_FIELD = 'locationBounds';
+
+function isBounds(bounds) {
+  return bounds != null && ['south', 'west', 'north', 'east'].every((key) => typeof bounds[key] === 'number');
+}
+
+function extendBounds(bounds, latitude, longitude) {
+  if (!bounds) {
+    return { south: latitude, west: longitude, north: latitude, east: longitude };
+  }
+  return {
+    south: Math.min(bounds.south, latitude),
+    west: Math.min(bounds.west, longitude),
+    north: Math.max(bounds.north, latitude),
+    east: Math.max(bounds.east, longitude),
+  };
+}
+
+exports.syncLocationBounds = onDocumentWritten('events/{eventId}/locations/{userId}', async (event) => {
+  const after = event.data.after;
+  if (!after.exists) return;
+  const latitude = after.get('latitude');
+  const longitude = after.get('longitude');
+  if (typeof latitude !== 'number' || typeof longitude !== 'number') return;
+
+  const db = admin.firestore();
+  const eventRef = db.collection('events').doc(event.params.eventId);
+
+  await db.runTransaction(async (tx) => {
+    const eventDoc = await tx.get(eventRef);
+    if (!eventDoc.exists) return;
+
+    const current = eventDoc.get(LOCATION_BOUNDS_FIELD);
+    let next;
+    if (isBounds(current)) {
+      next = extendBounds(current, latitude, longitude);
+    } else {
+      next = null;
+      const locations = await tx.get(eventRef.collection('locations').select('latitude', 'longitude'));
+      locations.forEach((doc) => {
+        const lat = doc.get('latitude');
+        const lng = doc.get('longitude');
+        if (typeof lat === 'number' && typeof lng === 'number') {
+          next = extendBounds(next, lat, lng);
+        }
+      });
+    }
+
+    if (next && !isDeepStrictEqual(current, next)) {
+      tx.update(eventRef, { [LOCATION_BOUNDS_FIELD]: next });
+    }
+  });
+});
+
+/**
+ * Platform stats
+ *
+ * platform_stats/global holds the admin dashboard counters. They change here
+ * from the before/after state of every event and user write, so a counter
+ * moves exactly when the stored document does, whichever client wrote it.
+ * Deltas use update(): until the app's first full recount seeds the document
+ * there is nothing to adjust, and a partial document would be mistaken for
+ * complete totals.
+ */
+const PLATFORM_STATS_DOC = 'platform_stats/global';
+
+async function applyStatsDeltas(deltas) {
+  const changed = Object.keys(deltas).filter((field) => deltas[field] !== 0);
+  if (changed.length === 0) return;
+
+  const update = {};
+  changed.forEach((field) => {
+    update[field] = admin.firestore.FieldValue.increment(deltas[field]);
+  });
+  try {
+    await admin.firestore().doc(PLATFORM_STATS_DOC).update(update);
+  } catch (error) {
+    // NOT_FOUND: not seeded yet, the first recount will count this write
+    if (error.code !== 5) throw error;
+  }
+}
+
+function isActiveEvent(snapshot) {
+  return snapshot.exists && snapshot.get('status') === 'active';
+}
+
+function isOrganizer(snapshot) {
+  const roles = snapshot.exists ? snapshot.get('roles') : null;
+  return Array.isArray(roles) && roles.includes('organizer');
+}
+
+exports.syncPlatformEventStats = onDocumentWritten('events/{eventId}', async (event) => {
+  const before = event.data.before;
+  const after = event.data.after;
+  await applyStatsDeltas({
+    totalEvents: Number(after.exists) - Number(before.exists),
+    activeEvents: Number(isActiveEvent(after)) - Number(isActiveEvent(before)),
+  });
+});
+
+exports.syncPlatformUserStats = onDocumentWritten('users/{userId}', async (event) => {
+  const before = event.data.before;
+  const after = event.data.after;
+  await applyStatsDeltas({
+    totalUsers: Number(after.exists) - Number(before.exists),
+    totalOrganizers: Number(isOrganizer(after)) - Number(isOrganizer(before)),
+  });
+});